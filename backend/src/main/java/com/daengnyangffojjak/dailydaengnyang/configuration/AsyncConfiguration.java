@@ -1,9 +1,12 @@
 package com.daengnyangffojjak.dailydaengnyang.configuration;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
@@ -13,6 +16,7 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 public class AsyncConfiguration {
 
 	@Bean
+	@Primary    //@Async 기본 실행기 (uploadExecutor 와 구분)
 	public Executor threadPoolExecutor(){
 		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
 		int processors = Runtime.getRuntime().availableProcessors();
@@ -26,4 +30,48 @@ public class AsyncConfiguration {
 		return executor;
 	}
 
+	// 파일 업로드 전용 I/O 실행기 - 업로드가 몰려도 스레드/대기 수를 제한
+	// 큐가 가득 차면 요청 스레드에서 직접 업로드 (자연스럽게 요청 속도 제한)
+	@Bean
+	public Executor uploadExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setThreadNamePrefix("Upload-");
+		executor.setCorePoolSize(8);
+		executor.setMaxPoolSize(16);
+		executor.setQueueCapacity(100);
+		executor.setKeepAliveSeconds(60);
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.initialize();
+		return executor;
+	}
+
+	// 이미지 축소본 생성 전용 CPU 실행기 - 디코딩은 CPU/메모리를 많이 쓰므로 코어 수 이하로 제한
+	// 큐가 가득 차면 요청 스레드에서 실행하지 않고 버림 (축소본이 없으면 원본으로 응답)
+	@Bean
+	public Executor imageExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		int processors = Runtime.getRuntime().availableProcessors();
+		executor.setThreadNamePrefix("Image-");
+		executor.setCorePoolSize(Math.max(1, processors / 2));
+		executor.setMaxPoolSize(Math.max(1, processors / 2));
+		executor.setQueueCapacity(200);
+		executor.setRejectedExecutionHandler(
+				(task, pool) -> log.warn("이미지 변환 대기열 초과 - 축소본 생성 생략"));
+		executor.initialize();
+		return executor;
+	}
+
+	// FCM 전송 전용 I/O 실행기 - FcmPushSender 가 동시 요청 수를 제한하므로 그만큼만 둠
+	// 큐가 가득 차면 호출한 스레드에서 직접 전송
+	@Bean
+	public Executor pushExecutor(@Value("${notification.push.max-in-flight:4}") int maxInFlight) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setThreadNamePrefix("Push-");
+		executor.setCorePoolSize(maxInFlight);
+		executor.setMaxPoolSize(maxInFlight);
+		executor.setQueueCapacity(maxInFlight);
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.initialize();
+		return executor;
+	}
 }
@@ -0,0 +1,40 @@
+package com.daengnyangffojjak.dailydaengnyang.configuration;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * OSIV(open-in-view) 를 직접 등록 (이 bean 이 있으면 Spring Boot 기본 OSIV 는 등록되지 않음)
+ * 응답을 오래 붙잡는 요청은 EntityManager(DB 커넥션)를 응답이 끝날 때까지 물고 있지 않도록 제외
+ * 제외한 요청은 repository/@Transactional 안에서만 커넥션을 쓰고 바로 반납
+ **/
+@Configuration
+public class OpenInViewConfiguration {
+
+	private static final String[] EXCLUDED_PATHS = {
+			"/api/v1/notification/stream",  //SSE - 연결이 유지되는 동안 커넥션을 잡고 있게 됨
+			//파일 업로드 - 저장소로 보내는 동안 커넥션을 잡고 있게 됨 (일기는 짧은 트랜잭션에서 조회)
+			"/api/v1/pets/*/records/*/recordFiles/upload",
+			"/api/v1/pets/*/records/*/recordFiles/uploads/**"
+	};
+
+	@Bean
+	public OpenEntityManagerInViewInterceptor openEntityManagerInViewInterceptor() {
+		return new OpenEntityManagerInViewInterceptor();
+	}
+
+	@Bean
+	public WebMvcConfigurer openInViewConfigurer(
+			OpenEntityManagerInViewInterceptor openEntityManagerInViewInterceptor) {
+		return new WebMvcConfigurer() {
+			@Override
+			public void addInterceptors(InterceptorRegistry registry) {
+				registry.addWebRequestInterceptor(openEntityManagerInViewInterceptor)
+						.excludePathPatterns(EXCLUDED_PATHS);
+			}
+		};
+	}
+}
@@ -0,0 +1,31 @@
+package com.daengnyangffojjak.dailydaengnyang.configuration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * @Scheduled 작업 실행기
+ * Spring Boot 기본 scheduler 는 스레드가 1개라 outbox 전송, 삭제 대기열 정리처럼 오래 걸리는 작업이
+ * 돌고 있으면 SSE heartbeat, 블랙리스트 version 확인 같은 짧은 주기 작업이 밀린다.
+ * 작업마다 스레드 하나씩 쓸 수 있도록 작업 수(현재 8개)만큼 둔다.
+ **/
+@Slf4j
+@Configuration
+public class SchedulingConfiguration {
+
+	@Bean
+	public ThreadPoolTaskScheduler taskScheduler(
+			@Value("${scheduling.pool-size:8}") int poolSize) {
+		ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+		scheduler.setThreadNamePrefix("Scheduler-");
+		scheduler.setPoolSize(poolSize);
+		scheduler.setErrorHandler(e -> log.error("scheduled 작업 실패", e));
+		// 종료할 때 진행 중인 작업(lease, 대기열 처리)은 끝내고 내려감
+		scheduler.setWaitForTasksToCompleteOnShutdown(true);
+		scheduler.setAwaitTerminationSeconds(30);
+		return scheduler;
+	}
+}
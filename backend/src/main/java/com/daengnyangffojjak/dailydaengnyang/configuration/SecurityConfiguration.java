@@ -9,10 +9,10 @@ import com.daengnyangffojjak.dailydaengnyang.security.JwtTokenFilter;
 import com.daengnyangffojjak.dailydaengnyang.security.OAuth2AuthenticationFailureHandler;
 import com.daengnyangffojjak.dailydaengnyang.security.OAuth2AuthenticationSuccessHandler;
 import com.daengnyangffojjak.dailydaengnyang.utils.JwtTokenUtil;
+import com.daengnyangffojjak.dailydaengnyang.utils.token.RevokedTokenRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -28,7 +28,7 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 public class SecurityConfiguration {
 
 	private final JwtTokenUtil jwtTokenUtil;
-	private final RedisTemplate redisTemplate;
+	private final RevokedTokenRegistry revokedTokenRegistry;
 	private final CustomOAuth2Service customOAuth2Service;
 	private final OAuth2AuthenticationSuccessHandler OAuth2AuthenticationSuccessHandler;
 	private final OAuth2AuthenticationFailureHandler oAuth2AuthenticationFailureHandler;
@@ -68,7 +68,7 @@ public class SecurityConfiguration {
 				.successHandler(OAuth2AuthenticationSuccessHandler)
 				.failureHandler(oAuth2AuthenticationFailureHandler)
 				.and()
-				.addFilterBefore(new JwtTokenFilter(jwtTokenUtil, redisTemplate),
+				.addFilterBefore(new JwtTokenFilter(jwtTokenUtil, revokedTokenRegistry),
 						UsernamePasswordAuthenticationFilter.class) //UserNamePasswordAuthenticationFilter적용하기 전에 JWTTokenFilter를 적용
 				.addFilterBefore(new JwtExceptionFilter(), JwtTokenFilter.class)
 				.build();
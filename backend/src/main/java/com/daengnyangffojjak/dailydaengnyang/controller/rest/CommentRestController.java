@@ -1,5 +1,6 @@
 package com.daengnyangffojjak.dailydaengnyang.controller.rest;
 
+import com.daengnyangffojjak.dailydaengnyang.domain.dto.CursorResponse;
 import com.daengnyangffojjak.dailydaengnyang.domain.dto.MessageResponse;
 import com.daengnyangffojjak.dailydaengnyang.domain.dto.Response;
 import com.daengnyangffojjak.dailydaengnyang.domain.dto.comment.CommentDeleteResponse;
@@ -24,6 +25,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -47,6 +49,18 @@ public class CommentRestController {
 		return ResponseEntity.ok().body(Response.success(commentResponses));
 	}
 
+	// 댓글 조회 (커서) - 첫 요청은 cursor 없이, 이후 응답의 nextCursor 전달
+	@GetMapping("/{recordsId}/comments/scroll")
+	public Response<CursorResponse<CommentResponse>> scrollComments(
+			@PathVariable Long recordsId,
+			@RequestParam(value = "cursor", required = false) String cursor,
+			@RequestParam(value = "size", required = false) Integer size) {
+
+		CursorResponse<CommentResponse> commentResponses = commentService.scrollComments(recordsId,
+				cursor, size);
+		return Response.success(commentResponses);
+	}
+
 	// 댓글 작성 - 로그인한 사람만
 	@PostMapping("/{recordsId}/comments")
 	public ResponseEntity<Response<CommentResponse>> createComment(
@@ -101,5 +115,15 @@ public class CommentRestController {
 		return Response.success(commentResponses);
 	}
 
+	// 내 댓글 조회 (커서)
+	@GetMapping("/comments/my/scroll")
+	public Response<CursorResponse<CommentResponse>> scrollMyComments(
+			@AuthenticationPrincipal UserDetails user,
+			@RequestParam(value = "cursor", required = false) String cursor,
+			@RequestParam(value = "size", required = false) Integer size) {
 
+		CursorResponse<CommentResponse> commentResponses = commentService.scrollMyComments(
+				user.getUsername(), cursor, size);
+		return Response.success(commentResponses);
+	}
 }
@@ -0,0 +1,70 @@
+package com.daengnyangffojjak.dailydaengnyang.controller.rest;
+
+import com.daengnyangffojjak.dailydaengnyang.exception.ErrorCode;
+import com.daengnyangffojjak.dailydaengnyang.exception.FileException;
+import com.daengnyangffojjak.dailydaengnyang.utils.storage.LocalRecordStorage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * 로컬 저장소 파일 제공 (record.storage.type=local)
+ * Resource 로 반환하면 Range 요청은 스프링이 ResourceRegion 으로 잘라서 206 으로 응답한다. (mp4 탐색)
+ * ETag(크기+수정시각)로 If-None-Match 가 같으면 파일을 읽지 않고 304 응답
+ **/
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "record.storage.type", havingValue = "local")
+public class LocalFileController {
+
+	private static final String SERVED_PREFIX = "records/";
+
+	private final LocalRecordStorage localRecordStorage;
+
+	@GetMapping("/files/{*key}")
+	public ResponseEntity<Resource> getFile(@PathVariable String key, WebRequest webRequest)
+			throws IOException {
+		String storedKey = key.startsWith("/") ? key.substring(1) : key;
+		// 업로드 중인 청크 등 일기 파일이 아닌 경로는 제공하지 않음
+		if (!storedKey.startsWith(SERVED_PREFIX)) {
+			throw new FileException(ErrorCode.RECORDFILE_NOT_FOUND);
+		}
+
+		Path path = localRecordStorage.resolve(storedKey);
+		if (!Files.isRegularFile(path)) {
+			throw new FileException(ErrorCode.RECORDFILE_NOT_FOUND);
+		}
+
+		// 저장된 파일은 같은 key 로 다시 쓰지 않으므로 크기+수정시각이면 충분
+		long lastModified = Files.getLastModifiedTime(path).toMillis();
+		String eTag = "\"" + Long.toHexString(Files.size(path)) + "-"
+				+ Long.toHexString(lastModified) + "\"";
+		if (webRequest.checkNotModified(eTag, lastModified)) {
+			return null;
+		}
+
+		MediaType mediaType = MediaTypeFactory.getMediaType(path.getFileName().toString())
+				.orElse(MediaType.APPLICATION_OCTET_STREAM);
+		return ResponseEntity.ok()
+				.eTag(eTag)
+				.lastModified(lastModified)
+				.cacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic())
+				.header(HttpHeaders.ACCEPT_RANGES, "bytes")
+				.contentType(mediaType)
+				.body(new FileSystemResource(path));
+	}
+}
@@ -4,8 +4,11 @@ import com.daengnyangffojjak.dailydaengnyang.domain.dto.Response;
 import com.daengnyangffojjak.dailydaengnyang.domain.dto.notification.NotificationDeleteResponse;
 import com.daengnyangffojjak.dailydaengnyang.domain.dto.notification.NotificationListResponse;
 import com.daengnyangffojjak.dailydaengnyang.domain.dto.notification.NotificationReadResponse;
+import com.daengnyangffojjak.dailydaengnyang.domain.dto.notification.NotificationUnreadCountResponse;
 import com.daengnyangffojjak.dailydaengnyang.service.NotificationService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -15,9 +18,12 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequiredArgsConstructor
@@ -56,6 +62,31 @@ public class NotificationRestController {
 		return Response.success(notificationListResponse);
 	}
 
+	//안 읽은 알람 수 (헤더 뱃지)
+	//값이 같으면 ETag 로 304 응답
+	@GetMapping("/unread-count")
+	public ResponseEntity<Response<NotificationUnreadCountResponse>> getUnreadCount(
+			@AuthenticationPrincipal UserDetails user, WebRequest webRequest) {
+		NotificationUnreadCountResponse notificationUnreadCountResponse =
+				notificationService.getUnreadCount(user.getUsername());
+		String eTag = "\"unread-" + notificationUnreadCountResponse.getCount() + "\"";
+		if (webRequest.checkNotModified(eTag)) {
+			return null;
+		}
+		return ResponseEntity.ok()
+				.eTag(eTag)
+				.cacheControl(CacheControl.noCache().cachePrivate())
+				.body(Response.success(notificationUnreadCountResponse));
+	}
+
+	//새 알림 실시간 수신 (탭마다 연결 1개)
+	//끊기면 브라우저가 마지막으로 받은 알림 id 를 Last-Event-ID 로 보내서 다시 연결
+	@GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter stream(@AuthenticationPrincipal UserDetails user,
+			@RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+		return notificationService.connectStream(user.getUsername(), lastEventId);
+	}
+
 	@PostMapping
 	public ResponseEntity register(@RequestBody String token,
 			@AuthenticationPrincipal UserDetails user) {
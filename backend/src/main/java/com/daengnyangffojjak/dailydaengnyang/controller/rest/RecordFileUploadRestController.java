@@ -0,0 +1,98 @@
+package com.daengnyangffojjak.dailydaengnyang.controller.rest;
+
+import com.daengnyangffojjak.dailydaengnyang.domain.dto.MessageResponse;
+import com.daengnyangffojjak.dailydaengnyang.domain.dto.Response;
+import com.daengnyangffojjak.dailydaengnyang.domain.dto.record.RecordFileResponse;
+import com.daengnyangffojjak.dailydaengnyang.domain.dto.record.UploadSessionRequest;
+import com.daengnyangffojjak.dailydaengnyang.domain.dto.record.UploadSessionResponse;
+import com.daengnyangffojjak.dailydaengnyang.service.RecordFileUploadService;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 큰 파일(동영상) 이어 올리기 업로드
+ * 1. POST   /uploads                       세션 생성 (chunkSize, partCount 반환)
+ * 2. PUT    /uploads/{uploadId}/chunks/{n}  n 번째 청크 (application/octet-stream, Content-Length 필수)
+ * 3. GET    /uploads/{uploadId}             받은 청크, 이어 올릴 offset 조회
+ * 4. POST   /uploads/{uploadId}/complete    완료
+ **/
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/pets/{petId}/records/{recordId}/recordFiles/uploads")
+public class RecordFileUploadRestController {
+
+	private final RecordFileUploadService recordFileUploadService;
+
+	// 업로드 세션 생성
+	@PostMapping
+	public ResponseEntity<Response<UploadSessionResponse>> createSession(@PathVariable Long petId,
+			@PathVariable Long recordId, @RequestBody UploadSessionRequest uploadSessionRequest,
+			@AuthenticationPrincipal UserDetails user) {
+
+		UploadSessionResponse uploadSessionResponse = recordFileUploadService.createSession(petId,
+				recordId, uploadSessionRequest, user.getUsername());
+		return ResponseEntity.created(
+				URI.create("/api/v1/pets/" + petId + "/records/" + recordId
+						+ "/recordFiles/uploads/" + uploadSessionResponse.getUploadId()))
+				.body(Response.success(uploadSessionResponse));
+	}
+
+	// 청크 업로드 - 요청 본문을 버퍼링하지 않고 저장소로 바로 전달
+	@PutMapping(value = "/{uploadId}/chunks/{partNumber}")
+	public Response<UploadSessionResponse> uploadChunk(@PathVariable Long petId,
+			@PathVariable Long recordId, @PathVariable String uploadId,
+			@PathVariable Integer partNumber, HttpServletRequest request,
+			@AuthenticationPrincipal UserDetails user) throws IOException {
+
+		try (InputStream inputStream = request.getInputStream()) {
+			UploadSessionResponse uploadSessionResponse = recordFileUploadService.uploadChunk(
+					recordId, uploadId, partNumber, inputStream, request.getContentLengthLong(),
+					user.getUsername());
+			return Response.success(uploadSessionResponse);
+		}
+	}
+
+	// 업로드 상태 조회
+	@GetMapping(value = "/{uploadId}")
+	public Response<UploadSessionResponse> getStatus(@PathVariable Long petId,
+			@PathVariable Long recordId, @PathVariable String uploadId,
+			@AuthenticationPrincipal UserDetails user) {
+
+		return Response.success(
+				recordFileUploadService.getStatus(recordId, uploadId, user.getUsername()));
+	}
+
+	// 업로드 완료
+	@PostMapping(value = "/{uploadId}/complete")
+	public Response<RecordFileResponse> complete(@PathVariable Long petId,
+			@PathVariable Long recordId, @PathVariable String uploadId,
+			@AuthenticationPrincipal UserDetails user) {
+
+		return Response.success(
+				recordFileUploadService.complete(recordId, uploadId, user.getUsername()));
+	}
+
+	// 업로드 취소
+	@DeleteMapping(value = "/{uploadId}")
+	public Response<MessageResponse> abort(@PathVariable Long petId,
+			@PathVariable Long recordId, @PathVariable String uploadId,
+			@AuthenticationPrincipal UserDetails user) {
+
+		recordFileUploadService.abort(recordId, uploadId, user.getUsername());
+		return Response.success(new MessageResponse("업로드 취소 완료"));
+	}
+}
@@ -1,10 +1,15 @@
 package com.daengnyangffojjak.dailydaengnyang.controller.rest;
 
+import com.daengnyangffojjak.dailydaengnyang.domain.dto.CursorResponse;
 import com.daengnyangffojjak.dailydaengnyang.domain.dto.Response;
+import com.daengnyangffojjak.dailydaengnyang.domain.dto.record.RecordFeedResponse;
 import com.daengnyangffojjak.dailydaengnyang.domain.dto.record.RecordResponse;
 import com.daengnyangffojjak.dailydaengnyang.domain.dto.record.RecordWorkRequest;
 import com.daengnyangffojjak.dailydaengnyang.domain.dto.record.RecordWorkResponse;
 import com.daengnyangffojjak.dailydaengnyang.service.RecordService;
+import com.daengnyangffojjak.dailydaengnyang.utils.cache.FeedResponseCache;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.net.URI;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -23,6 +28,9 @@ import org.springframework.web.bind.annotation.*;
 public class RecordRestController {
 
 	private final RecordService recordService;
+	private final FeedResponseCache feedResponseCache;
+
+	private static final int FEED_MAX_SIZE = 50;
 
 	// 일기 상세(1개) 조회
 	@GetMapping(value = "/pets/{petId}/records/{recordId}")
@@ -39,12 +47,32 @@ public class RecordRestController {
 	// 전체 피드 조회
 	@GetMapping(value = "/records/feed")
 	public ResponseEntity<Response<Page>> getAllRecords(
-			@PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+			@PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+			HttpServletResponse response) throws IOException {
+
+		// 응답 캐시 모드 - 직렬화된 바이트를 바로 응답에 씀 (null 반환 시 이미 처리된 응답으로 간주)
+		if (feedResponseCache.isEnabled()) {
+			feedResponseCache.write(FeedResponseCache.key(pageable),
+					() -> Response.success(recordService.getAllRecords(pageable)), response);
+			return null;
+		}
 
 		Page<RecordResponse> recordResponses = recordService.getAllRecords(pageable);
 		return ResponseEntity.ok().body(Response.success(recordResponses));
 	}
 
+	// 전체 피드 조회 (무한 스크롤)
+	// lastRecordId 보다 오래된 일기 size 개, 첫 요청은 lastRecordId 없이
+	@GetMapping(value = "/records/feed/scroll")
+	public Response<RecordFeedResponse> getFeed(
+			@RequestParam(value = "lastRecordId", required = false) Long lastRecordId,
+			@RequestParam(value = "size", defaultValue = "20") Integer size) {
+		// 구간 캐시 키가 size 별로 생기므로 최대 크기 제한
+		int feedSize = Math.max(1, Math.min(size, FEED_MAX_SIZE));
+		RecordFeedResponse recordFeedResponse = recordService.getFeed(lastRecordId, feedSize);
+		return Response.success(recordFeedResponse);
+	}
+
 	// 반려동물별 일기 리스트 조회
 	@GetMapping(value = "/pets/{petId}/petRecords")
 	public Response<Page<RecordResponse>> getPetAllRecords(@AuthenticationPrincipal UserDetails user,
@@ -55,6 +83,17 @@ public class RecordRestController {
 		return Response.success(recordResponses);
 	}
 
+	// 반려동물별 일기 리스트 조회 (커서) - 첫 요청은 cursor 없이, 이후 응답의 nextCursor 전달
+	@GetMapping(value = "/pets/{petId}/petRecords/scroll")
+	public Response<CursorResponse<RecordResponse>> scrollPetRecords(
+			@AuthenticationPrincipal UserDetails user, @PathVariable Long petId,
+			@RequestParam(value = "cursor", required = false) String cursor,
+			@RequestParam(value = "size", required = false) Integer size) {
+		CursorResponse<RecordResponse> recordResponses = recordService.scrollPetRecords(petId,
+				user.getUsername(), cursor, size);
+		return Response.success(recordResponses);
+	}
+
 	// 반려동물의 기간별 일기 리스트 조회
 	@GetMapping(value = "/pets/{petId}/records")
 	public Response<List<RecordResponse>> getRecordList(@AuthenticationPrincipal UserDetails user,
@@ -1,5 +1,6 @@
 package com.daengnyangffojjak.dailydaengnyang.controller.rest;
 
+import com.daengnyangffojjak.dailydaengnyang.domain.dto.CursorResponse;
 import com.daengnyangffojjak.dailydaengnyang.domain.dto.MessageResponse;
 import com.daengnyangffojjak.dailydaengnyang.domain.dto.Response;
 import com.daengnyangffojjak.dailydaengnyang.domain.dto.record.RecordResponse;
@@ -114,6 +115,17 @@ public class ScheduleRestController {
 		return ResponseEntity.ok().body(Response.success(scheduleListResponses));
 	}
 
+	//일정 전체 조회 (커서) - 첫 요청은 cursor 없이, 이후 응답의 nextCursor 전달
+	@GetMapping(value = "/pets/{petId}/schedules/scroll")
+	public Response<CursorResponse<ScheduleListResponse>> scrollSchedule(
+			@PathVariable Long petId, @AuthenticationPrincipal UserDetails user,
+			@RequestParam(value = "cursor", required = false) String cursor,
+			@RequestParam(value = "size", required = false) Integer size) {
+		CursorResponse<ScheduleListResponse> scheduleListResponses = scheduleService.scroll(petId,
+				user.getUsername(), cursor, size);
+		return Response.success(scheduleListResponses);
+	}
+
 	// 일정 리스트 기간별 조회
 	@GetMapping(value = "/pets/{petId}/schedules/period")
 	public Response<List<ScheduleListResponse>> getRecordListWithDate(@AuthenticationPrincipal UserDetails user,
@@ -65,7 +65,7 @@ public class UserRestController {
 	public Response<MessageResponse> logout(@RequestBody @Valid TokenRequest tokenRequest, @AuthenticationPrincipal UserDetails user,
 			HttpServletResponse response){
 		MessageResponse messageResponse = userService.logout(tokenRequest);
-		notificationService.deleteToken(user.getUsername());
+		notificationService.deleteToken(user.getUsername(), tokenRequest.getFcmToken());
 		Cookie cookie = new Cookie("refreshToken", null);
 		cookie.setMaxAge(0);
 		cookie.setPath("/");
@@ -0,0 +1,76 @@
+package com.daengnyangffojjak.dailydaengnyang.domain.dto;
+
+import com.daengnyangffojjak.dailydaengnyang.exception.CursorException;
+import com.daengnyangffojjak.dailydaengnyang.exception.ErrorCode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * 키셋(커서) 페이지네이션 위치 - 마지막으로 받은 항목의 정렬 키 + id
+ * 클라이언트에는 base64 문자열(nextCursor)로 전달하고, 다음 요청의 cursor 로 그대로 받는다.
+ * 정렬은 (sortKey desc, id desc) 기준이며 sortKey 가 null 인 항목은 가장 뒤에 온다.
+ **/
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class Cursor {
+
+	public static final int DEFAULT_SIZE = 20;
+	public static final int MAX_SIZE = 50;
+
+	//첫 페이지 - 어떤 항목보다도 뒤에 있는 위치
+	private static final LocalDateTime FIRST_SORT_KEY = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+	private static final String DELIMITER = ",";
+
+	private final LocalDateTime sortKey;
+	private final Long id;
+
+	public static Cursor of(LocalDateTime sortKey, Long id) {
+		return new Cursor(sortKey, id);
+	}
+
+	public static Cursor first() {
+		return new Cursor(FIRST_SORT_KEY, Long.MAX_VALUE);
+	}
+
+	//cursor 가 없으면 첫 페이지
+	public static Cursor decode(String cursor) {
+		if (cursor == null || cursor.isBlank()) {
+			return first();
+		}
+		try {
+			String decoded = new String(Base64.getUrlDecoder().decode(cursor),
+					StandardCharsets.UTF_8);
+			int delimiter = decoded.lastIndexOf(DELIMITER);
+			String sortKey = decoded.substring(0, delimiter);
+			Long id = Long.valueOf(decoded.substring(delimiter + 1));
+			return new Cursor(sortKey.isEmpty() ? null : LocalDateTime.parse(sortKey), id);
+		} catch (RuntimeException e) {
+			throw new CursorException(ErrorCode.INVALID_CURSOR, cursor);
+		}
+	}
+
+	public String encode() {
+		String value = (sortKey == null ? "" : sortKey.toString()) + DELIMITER + id;
+		return Base64.getUrlEncoder().withoutPadding()
+				.encodeToString(value.getBytes(StandardCharsets.UTF_8));
+	}
+
+	//요청 크기 보정 (기본 20, 최대 50)
+	public static int pageSize(Integer size) {
+		if (size == null) {
+			return DEFAULT_SIZE;
+		}
+		return Math.max(1, Math.min(size, MAX_SIZE));
+	}
+
+	//다음 페이지 존재 여부 확인을 위해 하나 더 조회
+	public static Pageable fetchLimit(int pageSize) {
+		return PageRequest.of(0, pageSize + 1);
+	}
+}
@@ -0,0 +1,52 @@
+package com.daengnyangffojjak.dailydaengnyang.domain.dto;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 키셋 페이지네이션 응답 (Slice 형태, count 쿼리 없음)
+ * nextCursor 는 다음 요청의 cursor 파라미터로 그대로 전달, 마지막 페이지면 null
+ **/
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorResponse<T> {
+
+	private List<T> content;
+	private int size;
+	private boolean hasNext;
+	private String nextCursor;
+
+	/**
+	 * @param rows     Cursor.fetchLimit(pageSize) 로 조회한 결과 (최대 pageSize + 1 개)
+	 * @param cursorOf 항목의 정렬 키와 id 로 커서 생성
+	 **/
+	public static <E> CursorResponse<E> of(List<E> rows, int pageSize,
+			Function<E, Cursor> cursorOf) {
+		boolean hasNext = rows.size() > pageSize;
+		List<E> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+		return CursorResponse.<E>builder()
+				.content(page)
+				.size(page.size())
+				.hasNext(hasNext)
+				.nextCursor(hasNext ? cursorOf.apply(page.get(page.size() - 1)).encode() : null)
+				.build();
+	}
+
+	//항목별 변환 (Page.map 과 같은 용도)
+	public <R> CursorResponse<R> map(Function<T, R> converter) {
+		return mapContent(list -> list.stream().map(converter).collect(Collectors.toList()));
+	}
+
+	//목록 단위 변환 - 파일 일괄 조회처럼 한 번에 변환해야 할 때
+	public <R> CursorResponse<R> mapContent(Function<List<T>, List<R>> converter) {
+		return new CursorResponse<>(converter.apply(content), size, hasNext, nextCursor);
+	}
+}
@@ -0,0 +1,37 @@
+package com.daengnyangffojjak.dailydaengnyang.domain.dto.notification;
+
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.User;
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.enums.NotificationType;
+import java.time.Duration;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 저장 대기 중인 알림 (NotificationWriteBuffer 가 모아서 한 번에 저장)
+ **/
+@Getter
+@AllArgsConstructor
+public class NotificationDraft {
+
+	private NotificationType notificationType;
+	private String title;
+	private String body;
+	private List<User> receivers;
+	private String senderName;
+	private String coalesceKey;     //같은 key 의 알림은 delay 동안 모아서 묶음 알림으로 전송 (null 이면 바로)
+	private Duration delay;
+
+	public static NotificationDraft of(NotificationType notificationType, String body,
+			List<User> receivers) {
+		return new NotificationDraft(notificationType, notificationType.getMessageTitle(), body,
+				receivers, null, null, Duration.ZERO);
+	}
+
+	// 그룹 + 알림 종류 기준으로 묶음
+	public static NotificationDraft coalesced(NotificationType notificationType, String body,
+			List<User> receivers, String senderName, Long groupId, Duration window) {
+		return new NotificationDraft(notificationType, notificationType.getMessageTitle(), body,
+				receivers, senderName, groupId + ":" + notificationType.name(), window);
+	}
+}
@@ -1,6 +1,6 @@
 package com.daengnyangffojjak.dailydaengnyang.domain.dto.notification;
 
-import com.daengnyangffojjak.dailydaengnyang.domain.entity.Notification;
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.NotificationInbox;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -14,7 +14,7 @@ import lombok.NoArgsConstructor;
 public class NotificationListResponse {
 	private List<NotificationResponse> notifications;
 
-	public static NotificationListResponse from(List<Notification> notifications) {
+	public static NotificationListResponse from(List<NotificationInbox> notifications) {
 		List<NotificationResponse>  notificationResponses = notifications.stream().map(NotificationResponse::from)
 				.toList();
 		return new NotificationListResponse(notificationResponses);
@@ -1,6 +1,6 @@
 package com.daengnyangffojjak.dailydaengnyang.domain.dto.notification;
 
-import com.daengnyangffojjak.dailydaengnyang.domain.entity.Notification;
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.NotificationInbox;
 import com.daengnyangffojjak.dailydaengnyang.domain.entity.enums.NotificationType;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import java.time.LocalDateTime;
@@ -23,9 +23,9 @@ public class NotificationResponse {
 	@JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "MM월 dd일 HH:mm:ss", timezone = "Asia/Seoul")
 	private LocalDateTime createdAt;
 
-	public static NotificationResponse from(Notification notification) {
+	public static NotificationResponse from(NotificationInbox notification) {
 		return NotificationResponse.builder()
-				.id(notification.getId())
+				.id(notification.getNotificationId())
 				.title(notification.getTitle())
 				.body(notification.getBody())
 				.notificationType(notification.getNotificationType())
@@ -0,0 +1,34 @@
+package com.daengnyangffojjak.dailydaengnyang.domain.dto.notification;
+
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.enums.NotificationType;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 새 알림을 받은 유저에게 SSE 로 보낼 알림 (Redis pub/sub 로 모든 서버에 전달)
+ **/
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class NotificationStreamEvent {
+
+	private String userName;
+	private Long notificationId;
+	private String title;
+	private String body;
+	private NotificationType notificationType;
+	private LocalDateTime createdAt;
+
+	public NotificationResponse toResponse() {
+		return NotificationResponse.builder()
+				.id(notificationId)
+				.title(title)
+				.body(body)
+				.notificationType(notificationType)
+				.checked(false)
+				.createdAt(createdAt)
+				.build();
+	}
+}
@@ -0,0 +1,14 @@
+package com.daengnyangffojjak.dailydaengnyang.domain.dto.notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class NotificationUnreadCountResponse {
+
+	private long count;
+
+}
@@ -0,0 +1,19 @@
+package com.daengnyangffojjak.dailydaengnyang.domain.dto.notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 토큰 1개로 보낼 푸시 메세지 (FcmPushSender)
+ * userName 이 있으면 만료된 토큰을 Redis 에서 지울 때 사용
+ **/
+@Getter
+@AllArgsConstructor
+public class PushMessage {
+
+	private String userName;
+	private String token;
+	private String title;
+	private String body;
+	private String tag;     //webpush tag - 같은 tag 는 브라우저에서 하나로 합쳐짐 (null 이면 생략)
+}
@@ -0,0 +1,25 @@
+package com.daengnyangffojjak.dailydaengnyang.domain.dto.record;
+
+import com.daengnyangffojjak.dailydaengnyang.utils.cache.FeedSegment;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class RecordFeedResponse {
+
+	private List<RecordResponse> records;
+	private Long lastRecordId;      //다음 요청 커서, 마지막이면 null
+
+	public static RecordFeedResponse from(FeedSegment feedSegment) {
+		return RecordFeedResponse.builder()
+				.records(feedSegment.getRecords())
+				.lastRecordId(feedSegment.getNextRecordId())
+				.build();
+	}
+}
@@ -30,6 +30,7 @@ public class RecordResponse {
 	private String tag;
 	private List<RecordFile> recordFiles;
 	private RecordFile recordFile;
+	private String thumbnailUrl;    //피드 카드에 쓸 이미지 (축소본이 없으면 원본)
 
 	@JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss", timezone = "Asia/Seoul")
 	private LocalDateTime createdAt;
@@ -37,6 +38,7 @@ public class RecordResponse {
 	private LocalDateTime lastModifiedAt;
 
 	public static RecordResponse of(Record record, List<RecordFile> recordFiles) {
+		RecordFile thumbNail = selectThumbNail(recordFiles);
 		return RecordResponse.builder()
 				.id(record.getId())
 				.userId(record.getUser().getId())
@@ -45,7 +47,9 @@ public class RecordResponse {
 				.title(record.getTitle())
 				.body(record.getBody())
 				.recordFiles(recordFiles)
-				.recordFile(selectThumbNail(recordFiles))
+				.recordFile(thumbNail)
+				.thumbnailUrl(thumbNail.getThumbnailUrl() != null ? thumbNail.getThumbnailUrl()
+						: thumbNail.getStoredFileUrl())
 				.userName(record.getUser().getUsername())
 				.isPublic(record.getIsPublic())
 				.tag(record.getTag().getName())
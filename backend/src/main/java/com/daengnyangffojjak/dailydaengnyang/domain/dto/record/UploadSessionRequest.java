@@ -0,0 +1,17 @@
+package com.daengnyangffojjak.dailydaengnyang.domain.dto.record;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class UploadSessionRequest {
+
+	private String fileName;        //원본 파일 이름
+	private String contentType;
+	private Long totalSize;         //전체 파일 크기(byte)
+}
@@ -0,0 +1,31 @@
+package com.daengnyangffojjak.dailydaengnyang.domain.dto.record;
+
+import com.daengnyangffojjak.dailydaengnyang.utils.storage.UploadSession;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class UploadSessionResponse {
+
+	private String uploadId;
+	private long chunkSize;             //마지막을 제외한 청크 크기
+	private int partCount;              //전체 청크 수
+	private long offset;                //처음부터 연속으로 받은 바이트 수 - 여기서부터 이어 올리기
+	private List<Integer> uploadedParts;
+
+	public static UploadSessionResponse from(UploadSession session) {
+		return UploadSessionResponse.builder()
+				.uploadId(session.getId())
+				.chunkSize(session.getChunkSize())
+				.partCount(session.getPartCount())
+				.offset(session.getOffset())
+				.uploadedParts(session.getUploadedParts())
+				.build();
+	}
+}
@@ -1,5 +1,6 @@
 package com.daengnyangffojjak.dailydaengnyang.domain.dto.token;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import jakarta.validation.constraints.NotEmpty;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
@@ -14,6 +15,13 @@ public class TokenRequest {
 	@NotEmpty(message = "accessToken은 필수 입력값입니다.")
 	private String accessToken;
 	private String refreshToken;
+	//로그아웃 - 이 기기의 fcm 토큰 (이 기기에만 알림을 보내지 않음)
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	private String fcmToken;
+
+	public TokenRequest(String accessToken, String refreshToken) {
+		this(accessToken, refreshToken, null);
+	}
 
 	//TokenRequest 파싱하기
 	//"refreshToken=" 제거
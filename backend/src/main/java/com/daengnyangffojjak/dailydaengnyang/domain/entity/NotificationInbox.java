@@ -0,0 +1,51 @@
+package com.daengnyangffojjak.dailydaengnyang.domain.entity;
+
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.enums.NotificationType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Where;
+
+/**
+ * 유저별 알림함 (받는 유저 1명당 1행, key: (userId, notificationId))
+ * 목록 조회에 필요한 알림 내용을 함께 저장해서 알림 테이블과 join 하지 않고,
+ * 읽음/삭제도 유저마다 따로 관리한다.
+ * 복합키 컬럼 순서는 JPA 구현체가 정하므로, 목록 keyset 조회용 (userId, notificationId) 인덱스를 따로 둔다.
+ * 안 읽은 알림 수는 (userId, checked, createdAt) 인덱스로 최근 30일의 안 읽은 알림만 범위 조회한다.
+ **/
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@IdClass(NotificationInboxId.class)
+@Where(clause = "deleted_at is NULL")
+@Table(indexes = {
+		@Index(name = "idx_notification_inbox_user", columnList = "userId, notificationId"),
+		@Index(name = "idx_notification_inbox_unread", columnList = "userId, checked, createdAt")})
+public class NotificationInbox extends BaseEntity {
+
+	public static final int LIST_DAYS = 30;    //알림 목록/안 읽은 알림 수는 최근 30일 알림만
+
+	@Id
+	private Long userId;
+	@Id
+	private Long notificationId;    //알림 id 순서 = 등록 순서, 목록은 이 값 기준으로 이어서 조회
+	private String title;
+	private String body;
+	@Enumerated(EnumType.STRING)
+	private NotificationType notificationType;
+	private boolean checked;        //알림 확인 여부
+
+	public void check() {
+		this.checked = true;
+	}
+}
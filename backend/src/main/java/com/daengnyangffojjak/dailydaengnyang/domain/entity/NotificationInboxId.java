@@ -0,0 +1,17 @@
+package com.daengnyangffojjak.dailydaengnyang.domain.entity;
+
+import java.io.Serializable;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class NotificationInboxId implements Serializable {
+
+	private Long userId;
+	private Long notificationId;
+}
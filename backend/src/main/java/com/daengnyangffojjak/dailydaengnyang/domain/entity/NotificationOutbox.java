@@ -0,0 +1,101 @@
+package com.daengnyangffojjak.dailydaengnyang.domain.entity;
+
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.enums.NotificationType;
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.enums.OutboxStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 푸시 알림 전송 대기열 (받는 유저 1명당 1행)
+ * 일정/일기/그룹 변경과 같은 트랜잭션에서 저장되므로 롤백되면 알림도 나가지 않는다.
+ * NotificationOutboxDispatcher 가 lease 를 잡고 전송한 후 상태를 바꾼다.
+ **/
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(indexes = {
+		@Index(name = "idx_notification_outbox_due", columnList = "status, nextAttemptAt"),
+		@Index(name = "idx_notification_outbox_owner", columnList = "lockOwner"),
+		@Index(name = "idx_notification_outbox_coalesce", columnList = "coalesceKey, status")})
+public class NotificationOutbox extends BaseEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	private Long notificationId;
+	@Column(nullable = false)
+	private String userName;        //받는 유저 (토큰은 전송 시점에 조회)
+	@Enumerated(EnumType.STRING)
+	private NotificationType notificationType;
+	private String title;
+	private String body;
+	private String senderName;      //묶음 알림 메세지에 사용
+	private String coalesceKey;     //<groupId>:<알림 종류>, 묶지 않는 알림은 null
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false)
+	private OutboxStatus status;
+	private int attempts;
+	private LocalDateTime nextAttemptAt;
+	private String lockOwner;       //전송 중인 dispatcher 실행 id
+	private LocalDateTime lockedUntil;
+
+	public static NotificationOutbox of(Notification notification, String userName) {
+		return NotificationOutbox.builder()
+				.notificationId(notification.getId())
+				.userName(userName)
+				.notificationType(notification.getNotificationType())
+				.title(notification.getTitle())
+				.body(notification.getBody())
+				.status(OutboxStatus.PENDING)
+				.attempts(0)
+				.nextAttemptAt(LocalDateTime.now())
+				.build();
+	}
+
+	public void markSent() {
+		finish(OutboxStatus.SENT);
+	}
+
+	public void markSkipped() {
+		finish(OutboxStatus.SKIPPED);
+	}
+
+	// 실패 시 10초, 20초, 40초 ... 최대 10분 뒤 재시도, maxAttempts 번 실패하면 포기
+	public void retryLater(LocalDateTime now, int maxAttempts) {
+		this.attempts++;
+		if (attempts >= maxAttempts) {
+			finish(OutboxStatus.FAILED);
+			return;
+		}
+		long seconds = Math.min(600, 10L << Math.min(attempts - 1, 6));
+		this.nextAttemptAt = now.plus(Duration.ofSeconds(seconds));
+		releaseLock();
+	}
+
+	private void finish(OutboxStatus status) {
+		this.status = status;
+		releaseLock();
+	}
+
+	private void releaseLock() {
+		this.lockOwner = null;
+		this.lockedUntil = null;
+	}
+}
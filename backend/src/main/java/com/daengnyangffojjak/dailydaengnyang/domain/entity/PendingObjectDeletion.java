@@ -0,0 +1,63 @@
+package com.daengnyangffojjak.dailydaengnyang.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 저장소에서 지워야 할 객체 (파일 삭제 트랜잭션 안에서 함께 저장)
+ * OrphanObjectReaper 가 모아서 일괄 삭제하고, 실패하면 nextAttemptAt 을 늦춰 다시 시도한다.
+ **/
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(indexes = {
+		@Index(name = "idx_pending_object_deletion_next", columnList = "nextAttemptAt"),
+		@Index(name = "idx_pending_object_deletion_key", columnList = "storedFileKey")})
+public class PendingObjectDeletion extends BaseEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(nullable = false)
+	private String storedFileKey;   //원본 key (축소본은 삭제할 때 함께 지움)
+
+	@Column(nullable = false)
+	private int attempts;
+
+	@Column(nullable = false)
+	private LocalDateTime nextAttemptAt;
+
+	public static PendingObjectDeletion of(String storedFileKey) {
+		return of(storedFileKey, Duration.ZERO);
+	}
+
+	// delay 가 지난 뒤에 삭제 (그 사이 다시 참조되면 삭제하지 않음)
+	public static PendingObjectDeletion of(String storedFileKey, Duration delay) {
+		return PendingObjectDeletion.builder()
+				.storedFileKey(storedFileKey)
+				.attempts(0)
+				.nextAttemptAt(LocalDateTime.now().plus(delay))
+				.build();
+	}
+
+	// 실패할 때마다 1분, 2분, 4분 ... 최대 1시간 뒤에 다시 시도
+	public void retryLater(LocalDateTime now) {
+		this.attempts++;
+		long minutes = Math.min(60, 1L << Math.min(attempts - 1, 6));
+		this.nextAttemptAt = now.plus(Duration.ofMinutes(minutes));
+	}
+}
@@ -9,6 +9,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Transient;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -34,6 +35,24 @@ public class RecordFile extends BaseEntity {
 
 	private String storedFileUrl;
 	private String uploadFilename;
+	@JsonIgnore
+	private String storedFileKey;   //저장소 key (records/<uuid>.<확장자>), 이전 파일은 null
+
+	@JsonIgnore
+	@Column(length = 64)
+	private String contentHash;     //내용 SHA-256 (StoredFile 과 연결), 이어 올리기/이전 파일은 null
+	@JsonIgnore
+	private String thumbnailKey;    //피드 카드용 축소본 key (이미지가 아니거나 변환 전이면 null)
+	@JsonIgnore
+	private String mediumKey;       //상세 화면용 축소본 key
+
+	@Transient
+	@JsonIgnore
+	private String resolvedUrl;     //현재 저장소 기준 url (RecordStorage.resolveUrl)
+	@Transient
+	private String thumbnailUrl;    //축소본 key 의 현재 저장소 기준 url
+	@Transient
+	private String mediumUrl;
 
 	public static RecordFile makeRecordFile(String uploadFilename, String storedFileUrl,
 			Record record) {
@@ -44,6 +63,41 @@ public class RecordFile extends BaseEntity {
 				.build();
 	}
 
+	public static RecordFile makeRecordFile(String uploadFilename, String storedFileKey,
+			String storedFileUrl, Record record) {
+		return RecordFile.builder()
+				.uploadFilename(uploadFilename)
+				.storedFileKey(storedFileKey)
+				.storedFileUrl(storedFileUrl)
+				.record(record)
+				.build();
+	}
+
+	public static RecordFile makeRecordFile(String uploadFilename, String storedFileKey,
+			String storedFileUrl, String contentHash, Record record) {
+		return RecordFile.builder()
+				.uploadFilename(uploadFilename)
+				.storedFileKey(storedFileKey)
+				.storedFileUrl(storedFileUrl)
+				.contentHash(contentHash)
+				.record(record)
+				.build();
+	}
+
+	//저장소가 바뀌어도 key 로 url 을 다시 계산해서 응답
+	public String getStoredFileUrl() {
+		return resolvedUrl != null ? resolvedUrl : storedFileUrl;
+	}
+
+	public void resolveUrl(String resolvedUrl) {
+		this.resolvedUrl = resolvedUrl;
+	}
+
+	public void resolveVariantUrls(String thumbnailUrl, String mediumUrl) {
+		this.thumbnailUrl = thumbnailUrl;
+		this.mediumUrl = mediumUrl;
+	}
+
 	public void changeToDefaultImage(String storedFileUrl){
 		this.storedFileUrl = storedFileUrl;
 	}
@@ -0,0 +1,47 @@
+package com.daengnyangffojjak.dailydaengnyang.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 저장소에 올라간 실제 파일 (내용 SHA-256 기준 1개)
+ * 같은 내용의 RecordFile 들이 하나의 객체를 공유하고, refCount 가 0 이 되면 객체를 삭제한다.
+ **/
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StoredFile extends BaseEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(nullable = false, unique = true, length = 64)
+	private String contentHash;     //SHA-256 hex
+
+	@Column(nullable = false)
+	private String storedFileKey;   //records/<contentHash>.<확장자>
+
+	private String storedFileUrl;
+
+	@Column(nullable = false)
+	private int refCount;           //이 객체를 가리키는 RecordFile 수
+
+	public static StoredFile of(String contentHash, String storedFileKey, String storedFileUrl) {
+		return StoredFile.builder()
+				.contentHash(contentHash)
+				.storedFileKey(storedFileKey)
+				.storedFileUrl(storedFileUrl)
+				.refCount(1)
+				.build();
+	}
+}
@@ -1,5 +1,7 @@
 package com.daengnyangffojjak.dailydaengnyang.domain.entity.enums;
 
+import java.util.List;
+import java.util.stream.Collectors;
 import lombok.Getter;
 
 @Getter
@@ -31,4 +33,18 @@ public enum NotificationType {
 		return notificationMessageGenerator.generateNotificationMessage(title, userName);
 	}
 
+	//연속으로 등록하면 한 번에 묶어서 보내는 알림
+	public boolean isCoalescible() {
+		return this == SCHEDULE_CREATE || this == RECORD_CREATE;
+	}
+
+	//묶음 알림 메세지 ex) 철수님이 일정 4개를 등록했습니다. / 철수님 외 1명이 일기 3개를 등록했습니다.
+	public String generateDigestMessage(List<String> userNames, int count) {
+		String unit = this == RECORD_CREATE ? "일기" : "일정";
+		List<String> distinctNames = userNames.stream().distinct().collect(Collectors.toList());
+		String who = distinctNames.size() == 1 ? distinctNames.get(0) + "님이"
+				: distinctNames.get(0) + "님 외 " + (distinctNames.size() - 1) + "명이";
+		return who + " " + unit + " " + count + "개를 등록했습니다.";
+	}
+
 }
@@ -0,0 +1,8 @@
+package com.daengnyangffojjak.dailydaengnyang.domain.entity.enums;
+
+public enum OutboxStatus {
+	PENDING,    //전송 대기 (재시도 포함)
+	SENT,       //전송 완료
+	SKIPPED,    //받는 유저가 로그아웃 상태 (토큰 없음)
+	FAILED      //재시도 횟수 초과
+}
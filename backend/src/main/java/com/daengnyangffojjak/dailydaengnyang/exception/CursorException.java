@@ -0,0 +1,24 @@
+package com.daengnyangffojjak.dailydaengnyang.exception;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CursorException extends RuntimeException {
+
+	private ErrorCode errorCode;
+	private String message;
+
+	public CursorException(ErrorCode errorCode) {
+		this.errorCode = errorCode;
+	}
+
+	@Override
+	public String toString() {
+		if (message == null) {
+			return errorCode.getMessage();
+		}
+		return String.format("%s %s", errorCode.getMessage(), message);
+	}
+}
@@ -15,6 +15,7 @@ public enum ErrorCode {
 	INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버에러"),
 	INVALID_VALUE(HttpStatus.BAD_REQUEST, "입력값이 잘못되었습니다."),
 	INVALID_REQUEST(HttpStatus.CONFLICT, "잘못된 요청입니다."),
+	INVALID_CURSOR(HttpStatus.BAD_REQUEST, "잘못된 커서입니다."),
 
 	/**
 	 * Security
@@ -90,6 +91,11 @@ public enum ErrorCode {
 	WRONG_FILE_FORMAT(HttpStatus.BAD_REQUEST, "파일의 형식이 잘못되었습니다."),
 	FILE_UPLOAD_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "파일 업로드에 실패했습니다."),
 	FILE_LIMIT_EXCEEDED(HttpStatus.BAD_REQUEST, "업로드 가능한 파일의 개수를 초과했습니다"),
+	FILE_SIZE_EXCEEDED(HttpStatus.BAD_REQUEST, "업로드 가능한 파일 크기를 초과했습니다."),
+	UPLOAD_SESSION_NOT_FOUND(HttpStatus.NOT_FOUND, "업로드 세션이 없거나 만료되었습니다."),
+	INVALID_CHUNK(HttpStatus.BAD_REQUEST, "잘못된 청크입니다."),
+	UPLOAD_INCOMPLETE(HttpStatus.CONFLICT, "아직 업로드되지 않은 청크가 있습니다."),
+	UPLOAD_COMPLETING(HttpStatus.CONFLICT, "이미 완료했거나 완료하는 중인 업로드입니다."),
 
 	/**
 	 * RecordFile
@@ -82,5 +82,15 @@ public class ExceptionManager {
 				.body(Response.error(new ErrorResponse(e.getErrorCode(), e.toString())));
 	}
 
+	@ExceptionHandler(CursorException.class)
+	public ResponseEntity<?> cursorExceptionHandler(CursorException e) {
+		return ResponseEntity.status(e.getErrorCode().getStatus())
+				.body(Response.error(new ErrorResponse(e.getErrorCode(), e.toString())));
+	}
 
+	@ExceptionHandler(FileException.class)
+	public ResponseEntity<?> fileExceptionHandler(FileException e) {
+		return ResponseEntity.status(e.getErrorCode().getStatus())
+				.body(Response.error(new ErrorResponse(e.getErrorCode(), e.toString())));
+	}
 }
@@ -3,13 +3,30 @@ package com.daengnyangffojjak.dailydaengnyang.repository;
 import com.daengnyangffojjak.dailydaengnyang.domain.entity.Comment;
 import com.daengnyangffojjak.dailydaengnyang.domain.entity.Record;
 import com.daengnyangffojjak.dailydaengnyang.domain.entity.User;
+import java.time.LocalDateTime;
+import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
 	Page<Comment> findCommentByRecord(Record record, Pageable pageable);
 	Page<Comment> findCommentByUser(User user, Pageable pageable);
 
+	// 키셋 조회 - (createdAt, id) 커서 이후
+	@Query("select c from Comment c join fetch c.user where c.record = :record "
+			+ "and (c.createdAt < :sortKey or (c.createdAt = :sortKey and c.id < :id)) "
+			+ "order by c.createdAt desc, c.id desc")
+	List<Comment> findSliceByRecord(@Param("record") Record record,
+			@Param("sortKey") LocalDateTime sortKey, @Param("id") Long id, Pageable pageable);
+
+	@Query("select c from Comment c join fetch c.user where c.user = :user "
+			+ "and (c.createdAt < :sortKey or (c.createdAt = :sortKey and c.id < :id)) "
+			+ "order by c.createdAt desc, c.id desc")
+	List<Comment> findSliceByUser(@Param("user") User user,
+			@Param("sortKey") LocalDateTime sortKey, @Param("id") Long id, Pageable pageable);
+
 }
@@ -0,0 +1,49 @@
+package com.daengnyangffojjak.dailydaengnyang.repository;
+
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.NotificationInbox;
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.NotificationInboxId;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface NotificationInboxRepository extends
+		JpaRepository<NotificationInbox, NotificationInboxId> {
+
+	// 첫 페이지
+	List<NotificationInbox> findByUserIdAndCreatedAtAfterOrderByNotificationIdDesc(Long userId,
+			LocalDateTime after, Pageable pageable);
+
+	// 다음 페이지 - 앞 페이지 마지막 알림 id 이후부터 (offset 없이 index 로 바로 찾음)
+	List<NotificationInbox> findByUserIdAndNotificationIdLessThanAndCreatedAtAfterOrderByNotificationIdDesc(
+			Long userId, Long lastNotificationId, LocalDateTime after, Pageable pageable);
+
+	// SSE 재연결 - 마지막으로 받은 알림 id 이후부터 오래된 순
+	List<NotificationInbox> findByUserIdAndNotificationIdGreaterThanAndCreatedAtAfterOrderByNotificationIdAsc(
+			Long userId, Long lastNotificationId, LocalDateTime after, Pageable pageable);
+
+	Optional<NotificationInbox> findByUserIdAndNotificationId(Long userId, Long notificationId);
+
+	long countByUserIdAndCheckedFalseAndCreatedAtAfter(Long userId, LocalDateTime after);
+
+	// [userName, 안 읽은 알림 수] - 안 읽은 알림이 없는 유저는 빠짐
+	@Query("select u.userName, count(i) from NotificationInbox i join User u on u.id = i.userId "
+			+ "where i.checked = false and i.createdAt > :after group by u.userName")
+	List<Object[]> countUnreadGroupByUserName(@Param("after") LocalDateTime after);
+
+	// 알림함 이전에 저장된 알림(notification_user)을 알림함으로 옮김, 이미 옮긴 알림은 건너뜀
+	@Modifying
+	@Query(value = "insert into notification_inbox (user_id, notification_id, title, body, "
+			+ "notification_type, checked, created_at, last_modified_at) "
+			+ "select nu.user_id, n.id, n.title, n.body, n.notification_type, n.checked, "
+			+ "nu.created_at, nu.last_modified_at from notification_user nu "
+			+ "join notification n on n.id = nu.notification_id "
+			+ "where nu.deleted_at is null and n.deleted_at is null and not exists "
+			+ "(select 1 from notification_inbox i where i.user_id = nu.user_id "
+			+ "and i.notification_id = nu.notification_id)", nativeQuery = true)
+	int backfillFromNotificationUser();
+}
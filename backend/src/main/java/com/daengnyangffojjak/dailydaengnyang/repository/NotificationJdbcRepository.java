@@ -0,0 +1,134 @@
+package com.daengnyangffojjak.dailydaengnyang.repository;
+
+import com.daengnyangffojjak.dailydaengnyang.domain.dto.notification.NotificationDraft;
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.User;
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.enums.OutboxStatus;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 알림, 유저별 알림함, 전송 대기열 일괄 저장 (multi-row insert)
+ * 엔티티가 IDENTITY 전략이라 JPA 로는 insert 가 1건씩 나가므로 테이블별로 insert ... values (...), (...) 를 직접 만든다.
+ * MySQL 드라이버는 rewriteBatchedStatements=true 가 없으면 JDBC batch 도 1건씩 보내므로 batch 대신 한 문장으로 보낸다.
+ * 한 문장의 auto increment id 는 연속으로 발급되므로 생성된 id 를 행 순서대로 받을 수 있다.
+ * JPA 트랜잭션의 커넥션을 그대로 사용하므로 같이 커밋/롤백된다.
+ **/
+@Repository
+@RequiredArgsConstructor
+public class NotificationJdbcRepository {
+
+	// 한 문장에 넣는 최대 행 수 (max_allowed_packet, placeholder 수 제한)
+	static final int ROWS_PER_STATEMENT = 500;
+
+	private static final String INSERT_NOTIFICATION =
+			"insert into notification (title, body, notification_type, checked, created_at, "
+					+ "last_modified_at) values ";
+	private static final int NOTIFICATION_COLUMNS = 6;
+	private static final String INSERT_INBOX =
+			"insert into notification_inbox (user_id, notification_id, title, body, "
+					+ "notification_type, checked, created_at, last_modified_at) values ";
+	private static final int INBOX_COLUMNS = 8;
+	private static final String INSERT_OUTBOX =
+			"insert into notification_outbox (notification_id, user_name, notification_type, "
+					+ "title, body, sender_name, coalesce_key, status, attempts, next_attempt_at, "
+					+ "created_at, last_modified_at) values ";
+	private static final int OUTBOX_COLUMNS = 12;
+
+	private final JdbcTemplate jdbcTemplate;
+
+	// 알림 id 를 drafts 순서대로 반환
+	public List<Long> saveAll(List<NotificationDraft> drafts) {
+		if (drafts.isEmpty()) {
+			return List.of();
+		}
+		LocalDateTime createdAt = LocalDateTime.now();
+		Timestamp now = Timestamp.valueOf(createdAt);
+
+		List<Long> notificationIds = new ArrayList<>();
+		for (int from = 0; from < drafts.size(); from += ROWS_PER_STATEMENT) {
+			notificationIds.addAll(insertNotifications(
+					drafts.subList(from, Math.min(from + ROWS_PER_STATEMENT, drafts.size())), now));
+		}
+
+		List<Object[]> inboxes = new ArrayList<>();
+		List<Object[]> outboxes = new ArrayList<>();
+		for (int i = 0; i < drafts.size(); i++) {
+			NotificationDraft draft = drafts.get(i);
+			Long notificationId = notificationIds.get(i);
+			//묶음 알림은 window 동안 기다렸다가 전송
+			Timestamp nextAttemptAt = Timestamp.valueOf(createdAt.plus(draft.getDelay()));
+			for (User receiver : draft.getReceivers()) {
+				inboxes.add(new Object[]{receiver.getId(), notificationId, draft.getTitle(),
+						draft.getBody(), draft.getNotificationType().name(), false, now, now});
+				outboxes.add(new Object[]{notificationId, receiver.getUsername(),
+						draft.getNotificationType().name(), draft.getTitle(), draft.getBody(),
+						draft.getSenderName(), draft.getCoalesceKey(), OutboxStatus.PENDING.name(),
+						0, nextAttemptAt, now, now});
+			}
+		}
+		insertRows(INSERT_INBOX, INBOX_COLUMNS, inboxes);
+		insertRows(INSERT_OUTBOX, OUTBOX_COLUMNS, outboxes);
+		return notificationIds;
+	}
+
+	// 알림을 한 문장으로 insert 후 생성된 id 를 순서대로 받음
+	private List<Long> insertNotifications(List<NotificationDraft> drafts, Timestamp now) {
+		String sql = INSERT_NOTIFICATION + valuesClause(NOTIFICATION_COLUMNS, drafts.size());
+		return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+			try (PreparedStatement statement = connection.prepareStatement(sql,
+					Statement.RETURN_GENERATED_KEYS)) {
+				int index = 1;
+				for (NotificationDraft draft : drafts) {
+					statement.setString(index++, draft.getTitle());
+					statement.setString(index++, draft.getBody());
+					statement.setString(index++, draft.getNotificationType().name());
+					statement.setBoolean(index++, false);
+					statement.setTimestamp(index++, now);
+					statement.setTimestamp(index++, now);
+				}
+				statement.executeUpdate();
+
+				List<Long> ids = new ArrayList<>();
+				try (ResultSet keys = statement.getGeneratedKeys()) {
+					while (keys.next()) {
+						ids.add(keys.getLong(1));
+					}
+				}
+				if (ids.size() != drafts.size()) {
+					throw new InvalidDataAccessApiUsageException(
+							"생성된 알림 id 수가 맞지 않습니다. " + ids.size() + "/" + drafts.size());
+				}
+				return ids;
+			}
+		});
+	}
+
+	// ROWS_PER_STATEMENT 행씩 나눠 한 문장으로 insert
+	private void insertRows(String insert, int columns, List<Object[]> rows) {
+		for (int from = 0; from < rows.size(); from += ROWS_PER_STATEMENT) {
+			List<Object[]> chunk = rows.subList(from, Math.min(from + ROWS_PER_STATEMENT, rows.size()));
+			Object[] args = new Object[chunk.size() * columns];
+			for (int i = 0; i < chunk.size(); i++) {
+				System.arraycopy(chunk.get(i), 0, args, i * columns, columns);
+			}
+			jdbcTemplate.update(insert + valuesClause(columns, chunk.size()), args);
+		}
+	}
+
+	// (?, ?, ...), (?, ?, ...) ...
+	private static String valuesClause(int columns, int rows) {
+		String row = "(" + String.join(", ", Collections.nCopies(columns, "?")) + ")";
+		return String.join(", ", Collections.nCopies(rows, row));
+	}
+}
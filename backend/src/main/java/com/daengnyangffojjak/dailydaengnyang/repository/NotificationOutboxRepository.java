@@ -0,0 +1,63 @@
+package com.daengnyangffojjak.dailydaengnyang.repository;
+
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.NotificationOutbox;
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.enums.OutboxStatus;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+	// 전송할 차례가 됐고 다른 dispatcher 가 잡고 있지 않은 항목
+	// 묶음 알림은 먼저 들어온 항목의 대기 시간이 끝나면 뒤에 들어온 같은 key 항목도 함께 가져감
+	@Query("select o.id from NotificationOutbox o where o.status = :status "
+			+ "and (o.lockedUntil is null or o.lockedUntil < :now) "
+			+ "and (o.nextAttemptAt <= :now or (o.attempts = 0 and o.coalesceKey in "
+			+ "(select d.coalesceKey from NotificationOutbox d where d.status = :status "
+			+ "and d.attempts = 0 and d.nextAttemptAt <= :now))) "
+			+ "order by o.id asc")
+	List<Long> findDueIds(@Param("status") OutboxStatus status, @Param("now") LocalDateTime now,
+			Pageable pageable);
+
+	// 조건부 update 로 lease 획득 - 동시에 실행된 다른 dispatcher 와 같은 항목을 보내지 않음
+	@Modifying
+	@Query("update NotificationOutbox o set o.lockOwner = :owner, o.lockedUntil = :until "
+			+ "where o.id in :ids and o.status = :status "
+			+ "and (o.lockedUntil is null or o.lockedUntil < :now)")
+	int lease(@Param("ids") Collection<Long> ids, @Param("owner") String owner,
+			@Param("until") LocalDateTime until, @Param("now") LocalDateTime now,
+			@Param("status") OutboxStatus status);
+
+	List<NotificationOutbox> findByLockOwnerOrderByIdAsc(String lockOwner);
+
+	// 전송 결과 저장 + lease 해제 - 아직 lease 를 잡고 있는 항목만 (lease 가 끝나 다른 dispatcher 가
+	// 가져간 항목의 상태를 덮어쓰지 않음)
+	@Modifying
+	@Query("update NotificationOutbox o set o.status = :status, o.attempts = :attempts, "
+			+ "o.nextAttemptAt = :nextAttemptAt, o.lockOwner = null, o.lockedUntil = null "
+			+ "where o.id in :ids and o.lockOwner = :owner")
+	int complete(@Param("ids") Collection<Long> ids, @Param("owner") String owner,
+			@Param("status") OutboxStatus status, @Param("attempts") int attempts,
+			@Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+	// 보관 기간이 지난 처리 끝난 항목 - id 순서라 오래된 행부터 PK 로 읽음
+	@Query("select o.id from NotificationOutbox o where o.status in :statuses "
+			+ "and o.createdAt < :before order by o.id asc")
+	List<Long> findFinishedIds(@Param("statuses") Collection<OutboxStatus> statuses,
+			@Param("before") LocalDateTime before, Pageable pageable);
+
+	@Modifying
+	@Query("delete from NotificationOutbox o where o.id in :ids and o.status in :statuses")
+	int deleteFinished(@Param("ids") Collection<Long> ids,
+			@Param("statuses") Collection<OutboxStatus> statuses);
+
+	@Query("select min(o.createdAt) from NotificationOutbox o where o.status = :status")
+	LocalDateTime findOldestCreatedAt(@Param("status") OutboxStatus status);
+}
@@ -1,13 +1,7 @@
 package com.daengnyangffojjak.dailydaengnyang.repository;
 
 import com.daengnyangffojjak.dailydaengnyang.domain.entity.Notification;
-import com.daengnyangffojjak.dailydaengnyang.domain.entity.NotificationUser;
-import java.util.List;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
-
-	Page<Notification> findByIdLessThanAndNotificationUserListInOrderByIdDesc(Long lastNotificationId, List<NotificationUser> notificationUserList, PageRequest pageRequest);
 }
@@ -0,0 +1,28 @@
+package com.daengnyangffojjak.dailydaengnyang.repository;
+
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.PendingObjectDeletion;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PendingObjectDeletionRepository extends
+		JpaRepository<PendingObjectDeletion, Long> {
+
+	// 삭제하는 동안 같은 key 를 다시 올리는 쪽(cancelByStoredFileKey)이 기다리도록 행 잠금
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	List<PendingObjectDeletion> findByNextAttemptAtLessThanEqualOrderByIdAsc(LocalDateTime now,
+			Pageable pageable);
+
+	// 같은 내용을 다시 올리면 삭제 예정을 취소
+	@Modifying
+	@Query("delete from PendingObjectDeletion p where p.storedFileKey = :storedFileKey")
+	int cancelByStoredFileKey(@Param("storedFileKey") String storedFileKey);
+}
@@ -1,12 +1,32 @@
 package com.daengnyangffojjak.dailydaengnyang.repository;
 
 import com.daengnyangffojjak.dailydaengnyang.domain.entity.RecordFile;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface RecordFileRepository extends JpaRepository<RecordFile, Long> {
 
 	List<RecordFile> findByRecord_Id(Long id);
+
+	// 여러 일기의 첨부파일을 IN 쿼리 한 번으로 조회
+	List<RecordFile> findAllByRecord_IdInOrderByIdAsc(Collection<Long> recordIds);
+
+	// 같은 내용으로 이미 만들어진 축소본 재사용
+	Optional<RecordFile> findFirstByContentHashAndThumbnailKeyIsNotNull(String contentHash);
+
+	// 축소본 key 만 갱신 (변환하는 동안 수정/삭제된 파일을 덮어쓰거나 되살리지 않도록)
+	@Transactional
+	@Modifying
+	@Query("update RecordFile f set f.thumbnailKey = :thumbnailKey, f.mediumKey = :mediumKey "
+			+ "where f.id = :id and f.deletedAt is null")
+	int updateVariantKeys(@Param("id") Long id, @Param("thumbnailKey") String thumbnailKey,
+			@Param("mediumKey") String mediumKey);
 }
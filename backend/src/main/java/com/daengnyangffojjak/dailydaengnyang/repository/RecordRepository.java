@@ -2,11 +2,14 @@ package com.daengnyangffojjak.dailydaengnyang.repository;
 
 import com.daengnyangffojjak.dailydaengnyang.domain.entity.Record;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface RecordRepository extends JpaRepository<Record, Long> {
 
@@ -16,5 +19,51 @@ public interface RecordRepository extends JpaRepository<Record, Long> {
 
 	boolean existsByTagId(Long tagId);
 	List<Record> findAllByCreatedAtBetweenAndPetId (Sort sort, LocalDateTime start, LocalDateTime end, Long petId);
-}
 
+	// 피드 조회용 - 작성자, 반려동물, 태그를 한 번에 fetch join
+	@Query(value = "select r from Record r join fetch r.user join fetch r.pet join fetch r.tag "
+			+ "where r.isPublic = true",
+			countQuery = "select count(r) from Record r where r.isPublic = true")
+	Page<Record> findFeedByIsPublicTrue(Pageable pageable);
+
+	@Query(value = "select r from Record r join fetch r.user join fetch r.pet join fetch r.tag "
+			+ "where r.isPublic = true and r.pet.id = :petId",
+			countQuery = "select count(r) from Record r where r.isPublic = true and r.pet.id = :petId")
+	Page<Record> findFeedByIsPublicTrueAndPetId(Pageable pageable, @Param("petId") Long petId);
+
+	@Query("select r from Record r join fetch r.user join fetch r.pet join fetch r.tag "
+			+ "where r.createdAt between :start and :end and r.pet.id = :petId")
+	List<Record> findFeedByCreatedAtBetweenAndPetId(Sort sort, @Param("start") LocalDateTime start,
+			@Param("end") LocalDateTime end, @Param("petId") Long petId);
+
+	// 커서 기반 피드 조회 - lastRecordId 보다 오래된 공개 일기
+	@Query("select r from Record r join fetch r.user join fetch r.pet join fetch r.tag "
+			+ "where r.isPublic = true and r.id < :lastRecordId order by r.id desc")
+	List<Record> findFeedByIsPublicTrueAndIdLessThan(@Param("lastRecordId") Long lastRecordId,
+			Pageable pageable);
+
+	// 반려동물별 일기 키셋 조회 - (createdAt, id) 커서 이후
+	@Query("select r from Record r join fetch r.user join fetch r.pet join fetch r.tag "
+			+ "where r.isPublic = true and r.pet.id = :petId "
+			+ "and (r.createdAt < :sortKey or (r.createdAt = :sortKey and r.id < :id)) "
+			+ "order by r.createdAt desc, r.id desc")
+	List<Record> findFeedSliceByPetId(@Param("petId") Long petId,
+			@Param("sortKey") LocalDateTime sortKey, @Param("id") Long id, Pageable pageable);
+
+	// 피드 타임라인 rebuild 용 - id 순으로 끊어서 읽음
+	@Query("select r.id as id, r.createdAt as createdAt from Record r "
+			+ "where r.isPublic = true and r.id > :lastId order by r.id asc")
+	List<TimelineEntry> findTimelineEntries(@Param("lastId") Long lastId, Pageable pageable);
+
+	// 피드 타임라인의 일기 번호로 한 번에 조회 (순서는 호출하는 쪽에서 맞춤)
+	@Query("select r from Record r join fetch r.user join fetch r.pet join fetch r.tag "
+			+ "where r.isPublic = true and r.id in :ids")
+	List<Record> findFeedByIdIn(@Param("ids") Collection<Long> ids);
+
+	interface TimelineEntry {
+
+		Long getId();
+
+		LocalDateTime getCreatedAt();
+	}
+}
@@ -8,6 +8,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -17,4 +19,12 @@ public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
 	boolean existsByTagId(Long tagId);
 	List<Schedule> findAllByDueDateBetweenAndPetId (Sort sort, LocalDateTime start, LocalDateTime end, Long petId);
 
+	// 키셋 조회 - (dueDate, id) 커서 이후, 예정일이 없는 일정은 마지막
+	@Query("select s from Schedule s where s.pet.id = :petId "
+			+ "and (s.dueDate < :sortKey or (s.dueDate = :sortKey and s.id < :id) "
+			+ "or (s.dueDate is null and (:sortKey is not null or s.id < :id))) "
+			+ "order by s.dueDate desc nulls last, s.id desc")
+	List<Schedule> findSliceByPetId(@Param("petId") Long petId,
+			@Param("sortKey") LocalDateTime sortKey, @Param("id") Long id, Pageable pageable);
+
 }
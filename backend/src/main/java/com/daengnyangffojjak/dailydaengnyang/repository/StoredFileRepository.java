@@ -0,0 +1,34 @@
+package com.daengnyangffojjak.dailydaengnyang.repository;
+
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.StoredFile;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface StoredFileRepository extends JpaRepository<StoredFile, Long> {
+
+	Optional<StoredFile> findByContentHash(String contentHash);
+
+	// 삭제 예정 key 중 그 사이 다시 참조된 key (같은 내용을 다시 올린 경우)
+	@Query("select s.storedFileKey from StoredFile s where s.storedFileKey in :keys")
+	List<String> findReferencedKeys(@Param("keys") Collection<String> keys);
+
+	// 동시에 같은 파일을 올리거나 지워도 갱신이 유실되지 않도록 DB 에서 증감
+	@Modifying
+	@Query("update StoredFile s set s.refCount = s.refCount + 1 where s.contentHash = :contentHash")
+	int increaseRefCount(@Param("contentHash") String contentHash);
+
+	@Modifying
+	@Query("update StoredFile s set s.refCount = s.refCount - 1 where s.contentHash = :contentHash")
+	int decreaseRefCount(@Param("contentHash") String contentHash);
+
+	@Modifying
+	@Query("delete from StoredFile s where s.contentHash = :contentHash and s.refCount <= 0")
+	int deleteIfUnreferenced(@Param("contentHash") String contentHash);
+}
@@ -4,6 +4,7 @@ import com.daengnyangffojjak.dailydaengnyang.domain.dto.user.UserRole;
 import com.daengnyangffojjak.dailydaengnyang.domain.entity.User;
 import com.daengnyangffojjak.dailydaengnyang.exception.OAuthException;
 import com.daengnyangffojjak.dailydaengnyang.repository.UserRepository;
+import com.daengnyangffojjak.dailydaengnyang.utils.cache.UserPrincipalCache;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,6 +22,7 @@ import org.springframework.stereotype.Service;
 public class CustomOAuth2Service implements OAuth2UserService<OAuth2UserRequest, OAuth2User> {
 
 	private final UserRepository userRepository;
+	private final UserPrincipalCache userPrincipalCache;
 
 	@Override
 	public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
@@ -59,7 +61,10 @@ public class CustomOAuth2Service implements OAuth2UserService<OAuth2UserRequest,
 				.map(u -> u.update(userName,
 						(String) user.getAttributes().get("email"))) //OAuth 서비스 유저정보 변경이 있으면 업데이트
 				.orElse(user);          //user가 없으면 새로운 user 생성
-		return userRepository.save(updated);
+		User saved = userRepository.save(updated);
+		//저장(커밋)된 뒤 캐시된 이전 User 정보 무효화 - 먼저 지우면 저장 전에 옛 정보가 다시 캐시될 수 있음
+		userPrincipalCache.evict(userName);
+		return saved;
 	}
 
 }
@@ -0,0 +1,66 @@
+package com.daengnyangffojjak.dailydaengnyang.security;
+
+import java.util.Collection;
+import java.util.List;
+import lombok.EqualsAndHashCode;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * 검증된 access token 의 claim(userName, role)만으로 만든 로그인 유저
+ * 요청마다 DB 에서 User 를 다시 읽지 않기 위해 사용, 전체 User 가 필요하면 Validator 로 조회
+ **/
+@EqualsAndHashCode(of = "userName")
+public class JwtPrincipal implements UserDetails {
+
+	private final String userName;
+	private final List<GrantedAuthority> authorities;
+
+	public JwtPrincipal(String userName, List<String> roles) {
+		this.userName = userName;
+		this.authorities = roles == null ? List.of() : roles.stream()
+				.map(role -> (GrantedAuthority) new SimpleGrantedAuthority(role))
+				.toList();
+	}
+
+	@Override
+	public Collection<? extends GrantedAuthority> getAuthorities() {
+		return authorities;
+	}
+
+	@Override
+	public String getUsername() {
+		return userName;
+	}
+
+	@Override
+	public String getPassword() {
+		return null;
+	}
+
+	@Override
+	public boolean isAccountNonExpired() {
+		return true;
+	}
+
+	@Override
+	public boolean isAccountNonLocked() {
+		return true;
+	}
+
+	@Override
+	public boolean isCredentialsNonExpired() {
+		return true;
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return true;
+	}
+
+	@Override
+	public String toString() {
+		return userName;
+	}
+}
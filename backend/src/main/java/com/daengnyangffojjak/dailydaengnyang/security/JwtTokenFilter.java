@@ -1,6 +1,7 @@
 package com.daengnyangffojjak.dailydaengnyang.security;
 
 import com.daengnyangffojjak.dailydaengnyang.utils.JwtTokenUtil;
+import com.daengnyangffojjak.dailydaengnyang.utils.token.RevokedTokenRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -8,13 +9,11 @@ import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
-import org.springframework.util.ObjectUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 @RequiredArgsConstructor
@@ -22,7 +21,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 public class JwtTokenFilter extends OncePerRequestFilter {
 
 	private final JwtTokenUtil jwtTokenUtil;
-	private final RedisTemplate redisTemplate;
+	private final RevokedTokenRegistry revokedTokenRegistry;
 
 	@Override
 	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
@@ -54,11 +53,11 @@ public class JwtTokenFilter extends OncePerRequestFilter {
 		}
 		log.info("JWT:{}", token);
 
+		//token claim 으로 로그인 유저 생성 (DB 조회 없음)
 		UserDetails userDetails = jwtTokenUtil.getUserDetails(token);
-		// Redis에 해당 accessToken logout 여부 확인
 		// 해당 accssToken은 블랙리스트에 있는지 확인
-		String isLogout = (String) redisTemplate.opsForValue().get(token);
-		if (ObjectUtils.isEmpty(isLogout)) {
+		// 로그아웃된 token filter 에 있을 때만 Redis 에서 확인
+		if (!revokedTokenRegistry.isRevoked(token)) {
 			//문열어주기 >> 허용
 			//Role 바인딩
 			UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
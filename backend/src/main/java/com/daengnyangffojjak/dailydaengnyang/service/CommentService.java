@@ -1,5 +1,7 @@
 package com.daengnyangffojjak.dailydaengnyang.service;
 
+import com.daengnyangffojjak.dailydaengnyang.domain.dto.Cursor;
+import com.daengnyangffojjak.dailydaengnyang.domain.dto.CursorResponse;
 import com.daengnyangffojjak.dailydaengnyang.domain.dto.comment.CommentDeleteResponse;
 import com.daengnyangffojjak.dailydaengnyang.domain.dto.comment.CommentModifyResponse;
 import com.daengnyangffojjak.dailydaengnyang.domain.dto.comment.CommentRequest;
@@ -11,6 +13,7 @@ import com.daengnyangffojjak.dailydaengnyang.exception.CommentException;
 import com.daengnyangffojjak.dailydaengnyang.exception.ErrorCode;
 import com.daengnyangffojjak.dailydaengnyang.repository.CommentRepository;
 import com.daengnyangffojjak.dailydaengnyang.utils.Validator;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
@@ -104,6 +107,22 @@ public class CommentService {
 				.map(CommentResponse::from);
 	}
 
+	// 댓글 조회 (커서) - 작성 최신순
+	@Transactional(readOnly = true)
+	public CursorResponse<CommentResponse> scrollComments(Long recordsId, String cursor,
+			Integer size) {
+
+		// 일기가 없는 경우 예외 발생
+		Record record = validator.getRecordById(recordsId);
+
+		Cursor from = Cursor.decode(cursor);
+		int pageSize = Cursor.pageSize(size);
+		List<Comment> comments = commentRepository.findSliceByRecord(record, from.getSortKey(),
+				from.getId(), Cursor.fetchLimit(pageSize));
+		return CursorResponse.of(comments, pageSize, c -> Cursor.of(c.getCreatedAt(), c.getId()))
+				.map(CommentResponse::from);
+	}
+
 	@Transactional(readOnly = true)
 	public Page<CommentResponse> getMyComments(String userName, Pageable pageable) {
 
@@ -116,4 +135,20 @@ public class CommentService {
 				.map(CommentResponse::from);
 	}
 
+	// 내 댓글 조회 (커서)
+	@Transactional(readOnly = true)
+	public CursorResponse<CommentResponse> scrollMyComments(String userName, String cursor,
+			Integer size) {
+
+		// 유저가 없는 경우 예외 발생
+		User user = validator.getUserByUserName(userName);
+
+		Cursor from = Cursor.decode(cursor);
+		int pageSize = Cursor.pageSize(size);
+		List<Comment> comments = commentRepository.findSliceByUser(user, from.getSortKey(),
+				from.getId(), Cursor.fetchLimit(pageSize));
+		return CursorResponse.of(comments, pageSize, c -> Cursor.of(c.getCreatedAt(), c.getId()))
+				.map(CommentResponse::from);
+	}
+
 }
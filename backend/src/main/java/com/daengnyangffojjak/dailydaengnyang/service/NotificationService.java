@@ -7,50 +7,51 @@ import com.daengnyangffojjak.dailydaengnyang.domain.dto.notification.Notificatio
 import com.daengnyangffojjak.dailydaengnyang.domain.dto.notification.NotificationMultiUserRequest;
 import com.daengnyangffojjak.dailydaengnyang.domain.dto.notification.NotificationOneUserRequest;
 import com.daengnyangffojjak.dailydaengnyang.domain.dto.notification.NotificationReadResponse;
-import com.daengnyangffojjak.dailydaengnyang.domain.entity.Notification;
-import com.daengnyangffojjak.dailydaengnyang.domain.entity.NotificationUser;
+import com.daengnyangffojjak.dailydaengnyang.domain.dto.notification.NotificationResponse;
+import com.daengnyangffojjak.dailydaengnyang.domain.dto.notification.NotificationUnreadCountResponse;
+import com.daengnyangffojjak.dailydaengnyang.domain.dto.notification.PushMessage;
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.NotificationInbox;
 import com.daengnyangffojjak.dailydaengnyang.domain.entity.User;
-import com.daengnyangffojjak.dailydaengnyang.repository.NotificationRepository;
-import com.daengnyangffojjak.dailydaengnyang.repository.NotificationUserRepository;
+import com.daengnyangffojjak.dailydaengnyang.repository.NotificationInboxRepository;
 import com.daengnyangffojjak.dailydaengnyang.utils.Validator;
+import com.daengnyangffojjak.dailydaengnyang.utils.notification.FcmPushSender;
+import com.daengnyangffojjak.dailydaengnyang.utils.notification.FcmTokenResolver;
+import com.daengnyangffojjak.dailydaengnyang.utils.notification.NotificationStreamRegistry;
+import com.daengnyangffojjak.dailydaengnyang.utils.notification.UnreadNotificationCounter;
 import com.google.auth.oauth2.GoogleCredentials;
 import com.google.firebase.FirebaseApp;
 import com.google.firebase.FirebaseOptions;
-import com.google.firebase.messaging.BatchResponse;
-import com.google.firebase.messaging.FirebaseMessaging;
-import com.google.firebase.messaging.FirebaseMessagingException;
-import com.google.firebase.messaging.Message;
-import com.google.firebase.messaging.SendResponse;
-import com.google.firebase.messaging.WebpushConfig;
-import com.google.firebase.messaging.WebpushNotification;
 import jakarta.annotation.PostConstruct;
 import java.io.IOException;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ClassPathResource;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.ObjectUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class NotificationService {
 
+	private static final int DEFAULT_PAGE_SIZE = 20;
+	private static final int STREAM_REPLAY_SIZE = 50;
+
 	@Value("${fcm.key.path}")
 	private String FCM_PRIVATE_KEY_PATH;
-	private final RedisTemplate redisTemplate;
 	private final Validator validator;
-	private final NotificationUserRepository notificationUserRepository;
-	private final NotificationRepository notificationRepository;
+	private final NotificationInboxRepository notificationInboxRepository;
+	private final FcmPushSender fcmPushSender;
+	private final FcmTokenResolver fcmTokenResolver;
+	private final UnreadNotificationCounter unreadNotificationCounter;
+	private final NotificationStreamRegistry notificationStreamRegistry;
 
 
 	// fcm 기본 설정 진행
@@ -74,67 +75,39 @@ public class NotificationService {
 		}
 	}
 
-	public void sendOneUser(NotificationOneUserRequest notificationOneUserRequest)
-			throws ExecutionException, InterruptedException {
-		Message message = Message.builder()
-				.setToken(notificationOneUserRequest.getUserToken())
-				.setWebpushConfig(WebpushConfig.builder().putHeader("ttl", "300")
-						.setNotification(
-								new WebpushNotification(notificationOneUserRequest.getTitle(),
-										notificationOneUserRequest.getBody()))
-						.build())
-				.build();
-
-		String response = FirebaseMessaging.getInstance().sendAsync(message).get();
-		log.info("Sent message: " + response);
-
+	public void sendOneUser(NotificationOneUserRequest notificationOneUserRequest) {
+		sendByUserTokenList(new NotificationMultiUserRequest(
+				List.of(notificationOneUserRequest.getUserToken()),
+				notificationOneUserRequest.getTitle(), notificationOneUserRequest.getBody()));
 	}
 
+	//500건 단위로 나눠 동시에 전송, 일시적인 오류는 재시도 (FcmPushSender)
 	public void sendByUserTokenList(NotificationMultiUserRequest notificationMultiUserRequest) {
-		//메세지
-		List<Message> messages = notificationMultiUserRequest.getUserTokenList().stream()
-				.map(token -> Message.builder()
-						.setToken(token)
-						.setWebpushConfig(WebpushConfig.builder()
-								.putHeader("ttl", "300")
-								.setNotification(new WebpushNotification(
-										notificationMultiUserRequest.getTitle(),
-										notificationMultiUserRequest.getBody()))
-								.build())
-						.build()).collect(Collectors.toList());
-		//response
-		BatchResponse response;
-		try {
-			//메세지 전송
-			response = FirebaseMessaging.getInstance().sendAll(messages);
-
-			//전송 실패한 invalid token log 찍기
-			if (response.getFailureCount() > 0) {
-				List<SendResponse> responses = response.getResponses();
-				List<String> failedTokens = new ArrayList<>();
-
-				for (int i = 0; i < responses.size(); i++) {
-					if (!responses.get(i).isSuccessful()) {
-						failedTokens.add(notificationMultiUserRequest.getUserTokenList().get(i));
-					}
-				}
-				log.error("List of invalid tokens : " + failedTokens);
-			}
-		} catch (FirebaseMessagingException e) {
-			log.error("failed to send to memberList push message. error : " + e.getMessage());
+		List<FcmPushSender.Result> results = fcmPushSender.send(
+				notificationMultiUserRequest.getUserTokenList().stream()
+						.map(token -> new PushMessage(null, token,
+								notificationMultiUserRequest.getTitle(),
+								notificationMultiUserRequest.getBody(), null))
+						.collect(Collectors.toList()));
+		long failed = results.stream().filter(result -> result != FcmPushSender.Result.SENT)
+				.count();
+		if (failed > 0) {
+			log.warn("push message 전송 실패 {}/{}건", failed, results.size());
 		}
 	}
 
 	public void registerFCMToken(String userName, String token) {
-		//fcm 토큰 redis에 저장
-		//key: fcm:userName, value: token
-		redisTemplate.opsForValue()
-				.set("fcm:" + userName, token);
+		//fcm 토큰 redis에 저장 - 기기별로 따로 저장
+		//key: fcm:devices:userName, field: token, value: 마지막 접속 시각
+		fcmTokenResolver.register(userName, token);
 	}
 
-	public void deleteToken(String userName) {
-		//fcm 토큰 redis에서 삭제
-		redisTemplate.delete("fcm:" + userName);
+	public void deleteToken(String userName, String token) {
+		//로그아웃한 기기의 fcm 토큰만 redis에서 삭제 (다른 기기는 계속 알림 받음)
+		//토큰을 보내지 않은 이전 버전 앱은 삭제하지 않음 - 접속하지 않으면 FcmTokenSweeper 가 정리
+		if (!ObjectUtils.isEmpty(token)) {
+			fcmTokenResolver.unregister(userName, token);
+		}
 	}
 
 	@Transactional(readOnly = true)
@@ -143,24 +116,48 @@ public class NotificationService {
 		//user 있는지 검증
 		User user = validator.getUserByUserName(username);
 
-		//로그인 한 유저의 알림 목록
-		//최근 30일 데이터만
-		LocalDateTime now = LocalDateTime.now();
-		LocalDateTime before30days = now.minusDays(30);
-		List<NotificationUser> selectedNotificationUser = notificationUserRepository.findAllByUserAndCreatedAtBetween(
-				user, before30days, now);
-
-
-		Page<Notification> notifications = fetchPages(lastNotificationId, size,selectedNotificationUser);
-		return NotificationListResponse.from(notifications.getContent());
-
+		//로그인 한 유저의 알림함에서 최근 30일 데이터만
+		//(userId, notificationId) 순서로 이어서 조회 - 알림이 많아져도 size 만큼만 읽음
+		LocalDateTime before30days = LocalDateTime.now().minusDays(NotificationInbox.LIST_DAYS);
+		PageRequest pageRequest = PageRequest.of(0, size == null ? DEFAULT_PAGE_SIZE : size);
+		List<NotificationInbox> notifications = lastNotificationId == null
+				? notificationInboxRepository.findByUserIdAndCreatedAtAfterOrderByNotificationIdDesc(
+				user.getId(), before30days, pageRequest)
+				: notificationInboxRepository
+						.findByUserIdAndNotificationIdLessThanAndCreatedAtAfterOrderByNotificationIdDesc(
+								user.getId(), lastNotificationId, before30days, pageRequest);
+		return NotificationListResponse.from(notifications);
+	}
 
+	//새 알림 SSE 연결
+	//Last-Event-ID 가 있으면 끊겨 있는 동안 놓친 알림부터 보냄 (연결을 먼저 등록해서 그 사이 알림도 놓치지 않음)
+	//OSIV 에서 제외된 요청 - 조회할 때만 커넥션을 쓰고 연결이 유지되는 동안에는 잡고 있지 않음 (OpenInViewConfiguration)
+	public SseEmitter connectStream(String username, Long lastEventId) {
+		SseEmitter emitter = notificationStreamRegistry.connect(username);
+		if (lastEventId == null) {
+			return emitter;
+		}
+		User user = validator.getUserByUserName(username);
+		notificationInboxRepository
+				.findByUserIdAndNotificationIdGreaterThanAndCreatedAtAfterOrderByNotificationIdAsc(
+						user.getId(), lastEventId,
+						LocalDateTime.now().minusDays(NotificationInbox.LIST_DAYS),
+						PageRequest.of(0, STREAM_REPLAY_SIZE))
+				.forEach(notification -> notificationStreamRegistry.send(username, emitter,
+						NotificationResponse.from(notification)));
+		return emitter;
 	}
 
-	private Page<Notification> fetchPages(Long lastNotificationId, Integer size, List<NotificationUser> selectedNotificationUser) {
-		PageRequest pageRequest = PageRequest.of(0, size); // 페이지네이션을 위한 PageRequest, 페이지는 0으로 고정한다.
-		return notificationRepository.findByIdLessThanAndNotificationUserListInOrderByIdDesc(lastNotificationId,selectedNotificationUser,
-				pageRequest); // lastNotificationId보다 작은 값의 id의 알람 조회
+	//Redis 에 없을 때만 알림함에서 계산해서 저장
+	public NotificationUnreadCountResponse getUnreadCount(String username) {
+		Long count = unreadNotificationCounter.get(username);
+		if (count == null) {
+			User user = validator.getUserByUserName(username);
+			count = notificationInboxRepository.countByUserIdAndCheckedFalseAndCreatedAtAfter(
+					user.getId(), LocalDateTime.now().minusDays(NotificationInbox.LIST_DAYS));
+			unreadNotificationCounter.initialize(username, count);
+		}
+		return new NotificationUnreadCountResponse(count);
 	}
 
 	@Transactional
@@ -169,16 +166,15 @@ public class NotificationService {
 		//유저가 없는 경우 예외발생
 		User user = validator.getUserByUserName(username);
 
-		//알람이 없는 경우 예외발생
-		Notification notification = validator.getNotificationById(notificationId);
-
-		//로그인유저 != 알람 유저일 경우 예외발생
-		Long loginUserId = user.getId();
-		NotificationUser notificationUser = validator.validateNotificationUser(notificationId,loginUserId);
+		//로그인 유저 알림함에 없는 경우 예외발생
+		NotificationInbox notificationInbox = validator.getNotificationInbox(notificationId,
+				user.getId());
 
-		//알람 삭제
-		notificationUser.deleteSoftly();
-		notification.deleteSoftly();
+		//알람 삭제 - 로그인 유저 알림함에서만 (다른 유저는 그대로)
+		notificationInbox.deleteSoftly();
+		if (!notificationInbox.isChecked()) {
+			unreadNotificationCounter.decrement(username);
+		}
 		String message = "알람이 삭제되었습니다.";
 
 		return new NotificationDeleteResponse(message,notificationId);
@@ -190,17 +186,15 @@ public class NotificationService {
 		//로그인 유저가 없는 경우 예외발생
 		User user = validator.getUserByUserName(username);
 
-		//알람이 없는 경우 예외발생
-		Notification notification = validator.getNotificationById(notificationId);
-
-		//로그인유저 != 알람 유저일 경우 예외발생
-		Long loginUserId = user.getId();
-		NotificationUser notificationUser = validator.validateNotificationUser(notificationId,loginUserId);
+		//로그인 유저 알림함에 없는 경우 예외발생
+		NotificationInbox notificationInbox = validator.getNotificationInbox(notificationId,
+				user.getId());
 
-
-		//수정된 일정 저장
-		notification.changeCheck();
-		notificationRepository.saveAndFlush(notification);
+		//읽음 처리 - 유저마다 따로, 이미 읽은 알람이면 안 읽은 알람 수 그대로
+		if (!notificationInbox.isChecked()) {
+			notificationInbox.check();
+			unreadNotificationCounter.decrement(username);
+		}
 
 		return new NotificationReadResponse("알람을 읽었습니다.",notificationId);
 
@@ -0,0 +1,53 @@
+package com.daengnyangffojjak.dailydaengnyang.service;
+
+import com.daengnyangffojjak.dailydaengnyang.domain.dto.record.RecordResponse;
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.Record;
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.RecordFile;
+import com.daengnyangffojjak.dailydaengnyang.repository.RecordFileRepository;
+import com.daengnyangffojjak.dailydaengnyang.utils.storage.RecordStorage;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+
+/**
+ * 일기 목록을 RecordResponse 로 변환
+ * 일기마다 첨부파일을 조회하지 않고 한 페이지의 첨부파일을 IN 쿼리 한 번으로 가져온다.
+ * user, pet, tag 는 호출하는 쪽에서 fetch join 으로 조회한 일기를 넘겨야 추가 쿼리가 없다.
+ **/
+@Component
+@RequiredArgsConstructor
+public class RecordFeedAssembler {
+
+	private final RecordFileRepository recordFileRepository;
+	private final RecordStorage recordStorage;
+
+	public Page<RecordResponse> assemble(Page<Record> records) {
+		Map<Long, List<RecordFile>> recordFileMap = getRecordFileMap(records.getContent());
+		return records.map(record -> toResponse(record, recordFileMap));
+	}
+
+	public List<RecordResponse> assemble(List<Record> records) {
+		Map<Long, List<RecordFile>> recordFileMap = getRecordFileMap(records);
+		return records.stream().map(record -> toResponse(record, recordFileMap)).toList();
+	}
+
+	private RecordResponse toResponse(Record record, Map<Long, List<RecordFile>> recordFileMap) {
+		return RecordResponse.of(record, recordFileMap.getOrDefault(record.getId(), List.of()));
+	}
+
+	// recordId : 첨부파일 리스트
+	private Map<Long, List<RecordFile>> getRecordFileMap(List<Record> records) {
+		if (records.isEmpty()) {
+			return Map.of();
+		}
+		List<Long> recordIds = records.stream().map(Record::getId).toList();
+		List<RecordFile> recordFiles = recordFileRepository.findAllByRecord_IdInOrderByIdAsc(
+				recordIds);
+		recordFiles.forEach(recordStorage::resolveUrl);
+		return recordFiles.stream()
+				.collect(Collectors.groupingBy(recordFile -> recordFile.getRecord().getId()));
+	}
+}
@@ -2,45 +2,67 @@ package com.daengnyangffojjak.dailydaengnyang.service;
 
 import static com.daengnyangffojjak.dailydaengnyang.exception.ErrorCode.INVALID_PERMISSION;
 
-import com.amazonaws.services.s3.AmazonS3Client;
-import com.amazonaws.services.s3.model.CannedAccessControlList;
-import com.amazonaws.services.s3.model.ObjectMetadata;
-import com.amazonaws.services.s3.model.PutObjectRequest;
 import com.daengnyangffojjak.dailydaengnyang.domain.dto.record.RecordFileResponse;
 import com.daengnyangffojjak.dailydaengnyang.domain.entity.Pet;
 import com.daengnyangffojjak.dailydaengnyang.domain.entity.Record;
 import com.daengnyangffojjak.dailydaengnyang.domain.entity.RecordFile;
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.StoredFile;
 import com.daengnyangffojjak.dailydaengnyang.domain.entity.User;
 import com.daengnyangffojjak.dailydaengnyang.exception.ErrorCode;
 import com.daengnyangffojjak.dailydaengnyang.exception.FileException;
 import com.daengnyangffojjak.dailydaengnyang.exception.RecordException;
 import com.daengnyangffojjak.dailydaengnyang.repository.RecordFileRepository;
 import com.daengnyangffojjak.dailydaengnyang.utils.Validator;
+import com.daengnyangffojjak.dailydaengnyang.utils.event.RecordFileUploadEvent;
+import com.daengnyangffojjak.dailydaengnyang.utils.storage.RecordStorage;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.io.IOException;
 import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.List;
-import java.util.UUID;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class RecordFileService {
 
-	private final AmazonS3Client amazonS3Client;
+	private final RecordStorage recordStorage;
 	private final Validator validator;
 	private final RecordFileRepository recordFileRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final MeterRegistry meterRegistry;
+	private final ApplicationEventPublisher applicationEventPublisher;
+	private final StoredFileService storedFileService;
+	@Qualifier("uploadExecutor")
+	private final Executor uploadExecutor;
 
 	private static final int FILE_UPLOAD_LIMIT = 10;
 
-	@Value("${cloud.aws.s3.bucket}")
-	private String bucket;
-
-	@Transactional
+	// 업로드 중에는 DB 커넥션을 잡지 않도록 트랜잭션 없이 진행
+	// 1. 검증 2. uploadExecutor 에서 병렬 업로드 3. 짧은 트랜잭션으로 RecordFile 일괄 저장
+	// 하나라도 실패하면 이미 올라간 파일은 삭제
+	// 내용(SHA-256)이 같은 파일이 이미 있으면 올리지 않고 기존 객체를 참조
+	// 저장 후 이미지 축소본은 imageExecutor 에서 따로 생성 (RecordImageEventListener)
 	public RecordFileResponse uploadRecordFiles(Long petId, Long recordId,
 			List<MultipartFile> multipartFiles,
 			String userName) {
@@ -48,62 +70,194 @@ public class RecordFileService {
 		// 빈 파일이거나 파일을 업로드 안했을 때 예외 발생
 		validator.validateFile(multipartFiles);
 
-		// 일기가 없는 경우 예외발생
-		Record record = validator.getRecordById(recordId);
+		// 일기가 없는 경우 예외발생 - 업로드하는 동안 커넥션을 잡지 않도록 짧은 트랜잭션에서 조회
+		// (OSIV 에서 제외된 요청, OpenInViewConfiguration)
+		Record record = transactionTemplate.execute(status -> validator.getRecordById(recordId));
 
 		// 파일 갯수 제한 ( 10개 까지 )
 		if (multipartFiles.size() > FILE_UPLOAD_LIMIT) {
 			throw new FileException(ErrorCode.FILE_LIMIT_EXCEEDED);
 		}
 
-		// 원본 파일 이름 리스트
-		List<String> originalFileNameList = new ArrayList<>();
-		/// 저장될 파일 이름 리스트
-		List<String> storedFileNameList = new ArrayList<>();
+		// 업로드 전에 파일 형식 먼저 확인
+		List<String> extensions = multipartFiles.stream()
+				.map(file -> getExtension(file.getOriginalFilename()))
+				.collect(Collectors.toList());
+
+		List<CompletableFuture<UploadedFile>> futures = new ArrayList<>();
+		for (int i = 0; i < multipartFiles.size(); i++) {
+			MultipartFile file = multipartFiles.get(i);
+			String extension = extensions.get(i);
+			futures.add(CompletableFuture.supplyAsync(() -> upload(file, extension),
+					uploadExecutor));
+		}
+
+		List<UploadedFile> uploadedFiles = awaitUploads(futures);
 
-		multipartFiles.forEach(file -> {
-			ObjectMetadata objectMetadata = new ObjectMetadata();
-			objectMetadata.setContentType(file.getContentType());
-			// 파일 사이즈 설정
-			objectMetadata.setContentLength(file.getSize());
+		List<RecordFile> recordFiles;
+		try {
+			recordFiles = saveRecordFiles(uploadedFiles, record);
+		} catch (RuntimeException e) {
+			deleteUploaded(uploadedFiles);
+			throw e;
+		}
+		applicationEventPublisher.publishEvent(new RecordFileUploadEvent(
+				recordFiles.stream().map(RecordFile::getId).collect(Collectors.toList())));
 
-			String originalFilename = file.getOriginalFilename();
+		return RecordFileResponse.ofUpload(
+				uploadedFiles.stream().map(UploadedFile::getOriginalFilename)
+						.collect(Collectors.toList()),
+				uploadedFiles.stream().map(UploadedFile::getStoredFileName)
+						.collect(Collectors.toList()));
+	}
 
-			// file 형식이 잘못된 경우를 확인.
-			int index;
+	private List<RecordFile> saveRecordFiles(List<UploadedFile> uploadedFiles, Record record) {
+		try {
+			return transactionTemplate.execute(status -> save(uploadedFiles, record));
+		} catch (DataIntegrityViolationException e) {
+			// 같은 내용을 동시에 처음 올린 경우 StoredFile 생성이 충돌 - 한 번 더 시도하면 refCount 증가로 처리됨
+			// 실패한 flush 에서 id 가 채워졌을 수 있으므로 RecordFile 은 새로 만든다
+			return transactionTemplate.execute(status -> save(uploadedFiles, record));
+		}
+	}
+
+	private List<RecordFile> save(List<UploadedFile> uploadedFiles, Record record) {
+		for (UploadedFile uploaded : uploadedFiles) {
+			storedFileService.acquire(uploaded.getContentHash(), uploaded.getKey(),
+					uploaded.getStoredFileUrl(), uploaded.isUploaded());
+		}
+		return recordFileRepository.saveAll(uploadedFiles.stream()
+				.map(uploaded -> RecordFile.makeRecordFile(uploaded.getOriginalFilename(),
+						uploaded.getKey(), uploaded.getStoredFileUrl(), uploaded.getContentHash(),
+						record))
+				.collect(Collectors.toList()));
+	}
+
+	// 모든 업로드를 기다린 후, 실패가 있으면 성공한 파일을 정리하고 예외 발생
+	private List<UploadedFile> awaitUploads(List<CompletableFuture<UploadedFile>> futures) {
+		List<UploadedFile> uploadedFiles = new ArrayList<>();
+		RuntimeException failure = null;
+		for (CompletableFuture<UploadedFile> future : futures) {
 			try {
-				index = originalFilename.lastIndexOf(".");
-			} catch (StringIndexOutOfBoundsException e) {
-				throw new FileException(ErrorCode.WRONG_FILE_FORMAT);
+				uploadedFiles.add(future.join());
+			} catch (CompletionException e) {
+				failure = e.getCause() instanceof RuntimeException
+						? (RuntimeException) e.getCause()
+						: new FileException(ErrorCode.FILE_UPLOAD_ERROR);
 			}
+		}
 
-			// 확장자
-			String extension = originalFilename.substring(index + 1);
+		if (failure != null) {
+			deleteUploaded(uploadedFiles);
+			if (failure instanceof FileException) {
+				throw failure;
+			}
+			log.error("파일 업로드 실패", failure);
+			throw new FileException(ErrorCode.FILE_UPLOAD_ERROR);
+		}
+		return uploadedFiles;
+	}
 
-			// 저장될 파일 이름
-			String storedFileName = UUID.randomUUID() + "." + extension;
+	private UploadedFile upload(MultipartFile file, String extension) {
+		Timer.Sample sample = Timer.start(meterRegistry);
+		String result = "success";
+		try {
+			String contentHash = hash(file);
+
+			// 같은 내용이 이미 저장되어 있으면 업로드 생략
+			Optional<StoredFile> storedFile = storedFileService.findByContentHash(contentHash);
+			if (storedFile.isPresent()) {
+				result = "duplicate";
+				String key = storedFile.get().getStoredFileKey();
+				return new UploadedFile(key, storedFile.get().getStoredFileUrl(),
+						file.getOriginalFilename(), key.substring(key.lastIndexOf("/") + 1),
+						contentHash, false);
+			}
+
+			// 저장될 파일 이름 (내용 기준이라 같은 파일은 항상 같은 key)
+			String storedFileName = contentHash + "." + extension;
 
 			// 저장할 디렉토리 경로 + 파일 이름
 			String key = "records/" + storedFileName;
 
+			// 예전에 지워진 같은 내용이 삭제 대기 중이면 취소 (올린 뒤 삭제되지 않도록 업로드 전에)
+			storedFileService.cancelDeletion(key);
 			try (InputStream inputStream = file.getInputStream()) {
-				amazonS3Client.putObject(
-						new PutObjectRequest(bucket, key, inputStream, objectMetadata)
-								.withCannedAcl(CannedAccessControlList.PublicRead));
-			} catch (IOException e) {
-				throw new FileException(ErrorCode.FILE_UPLOAD_ERROR);
+				recordStorage.store(key, inputStream, file.getSize(), file.getContentType());
 			}
+			return new UploadedFile(key, recordStorage.urlOf(key), file.getOriginalFilename(),
+					storedFileName, contentHash, true);
+		} catch (IOException | RuntimeException e) {
+			result = "failure";
+			log.warn("파일 업로드 실패 {}", file.getOriginalFilename(), e);
+			throw new FileException(ErrorCode.FILE_UPLOAD_ERROR);
+		} finally {
+			sample.stop(Timer.builder("record.file.upload")
+					.description("파일 1개당 저장소 업로드 시간")
+					.tag("result", result)
+					.register(meterRegistry));
+		}
+	}
+
+	// 업로드 전에 로컬 임시 파일을 한 번 읽어 SHA-256 계산 (메모리에 전체를 올리지 않음)
+	private String hash(MultipartFile file) throws IOException {
+		MessageDigest digest = newDigest();
+		byte[] buffer = new byte[8192];
+		try (InputStream inputStream = file.getInputStream()) {
+			int read;
+			while ((read = inputStream.read(buffer)) != -1) {
+				digest.update(buffer, 0, read);
+			}
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
 
-			String storeFileUrl = amazonS3Client.getUrl(bucket, key).toString();
-			RecordFile recordFile = RecordFile.makeRecordFile(originalFilename, storeFileUrl,
-					record);
-			recordFileRepository.save(recordFile);
+	private MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	// 이번 요청에서 올린 객체를 삭제 대기열에 추가
+	// 같은 내용을 동시에 올린 요청이 참조할 수 있으므로 바로 지우지 않고,
+	// OrphanObjectReaper 가 참조 여부를 다시 확인한 뒤 삭제한다.
+	private void deleteUploaded(List<UploadedFile> uploadedFiles) {
+		List<String> keys = uploadedFiles.stream()
+				.filter(UploadedFile::isUploaded)
+				.map(UploadedFile::getKey)
+				.collect(Collectors.toList());
+		if (keys.isEmpty()) {
+			return;
+		}
+		try {
+			storedFileService.scheduleDeletion(keys);
+		} catch (RuntimeException e) {
+			log.error("업로드 실패 후 파일 정리 예약 실패 {}", keys, e);
+		}
+	}
+
+	// 확장자
+	private String getExtension(String originalFilename) {
+		// file 형식이 잘못된 경우를 확인.
+		if (originalFilename == null) {
+			throw new FileException(ErrorCode.WRONG_FILE_FORMAT);
+		}
+		int index = originalFilename.lastIndexOf(".");
+		return originalFilename.substring(index + 1);
+	}
 
-			storedFileNameList.add(storedFileName);
-			originalFileNameList.add(originalFilename);
-		});
+	@Getter
+	@AllArgsConstructor
+	private static class UploadedFile {
 
-		return RecordFileResponse.ofUpload(originalFileNameList, storedFileNameList);
+		private final String key;
+		private final String storedFileUrl;
+		private final String originalFilename;
+		private final String storedFileName;
+		private final String contentHash;
+		private final boolean uploaded;     //false 면 기존 객체 재사용
 	}
 
 	@Transactional
@@ -128,6 +282,7 @@ public class RecordFileService {
 		}
 
 		recordFileRepository.delete(recordFile);
+		storedFileService.release(List.of(recordFile));
 		return RecordFileResponse.ofDeleted(recordFileId, "파일 삭제 완료");
 
 	}
@@ -0,0 +1,238 @@
+package com.daengnyangffojjak.dailydaengnyang.service;
+
+import static com.daengnyangffojjak.dailydaengnyang.exception.ErrorCode.INVALID_PERMISSION;
+
+import com.daengnyangffojjak.dailydaengnyang.domain.dto.record.RecordFileResponse;
+import com.daengnyangffojjak.dailydaengnyang.domain.dto.record.UploadSessionRequest;
+import com.daengnyangffojjak.dailydaengnyang.domain.dto.record.UploadSessionResponse;
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.Record;
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.RecordFile;
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.User;
+import com.daengnyangffojjak.dailydaengnyang.exception.ErrorCode;
+import com.daengnyangffojjak.dailydaengnyang.exception.FileException;
+import com.daengnyangffojjak.dailydaengnyang.exception.RecordException;
+import com.daengnyangffojjak.dailydaengnyang.repository.RecordFileRepository;
+import com.daengnyangffojjak.dailydaengnyang.utils.Validator;
+import com.daengnyangffojjak.dailydaengnyang.utils.event.RecordFileUploadEvent;
+import com.daengnyangffojjak.dailydaengnyang.utils.storage.ChunkedUploadStore;
+import com.daengnyangffojjak.dailydaengnyang.utils.storage.UploadSession;
+import com.daengnyangffojjak.dailydaengnyang.utils.storage.UploadSessionStore;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 큰 동영상용 이어 올리기 업로드
+ * 세션 생성 -> 번호별 청크 PUT (끊기면 offset 조회 후 이어서) -> 완료
+ * 청크는 요청 본문 스트림을 그대로 저장소로 보내므로 파일 크기와 관계없이 메모리 사용량이 일정하다.
+ **/
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecordFileUploadService {
+
+	private final Validator validator;
+	private final RecordFileRepository recordFileRepository;
+	private final ChunkedUploadStore chunkedUploadStore;
+	private final UploadSessionStore uploadSessionStore;
+	private final TransactionTemplate transactionTemplate;
+	private final StoredFileService storedFileService;
+	private final ApplicationEventPublisher applicationEventPublisher;
+
+	//S3 multipart 는 마지막을 제외한 part 가 5MB 이상이어야 함
+	private static final long MIN_CHUNK_SIZE = 5L * 1024 * 1024;
+
+	@Value("${record.upload.chunk-size:8388608}")
+	private long chunkSize;
+
+	@Value("${record.upload.max-size:2147483648}")
+	private long maxSize;
+
+	// 업로드 세션 생성
+	public UploadSessionResponse createSession(Long petId, Long recordId,
+			UploadSessionRequest request, String userName) {
+
+		// 권한 확인은 짧은 트랜잭션에서 (OSIV 에서 제외된 요청, 저장소 요청 중에 커넥션을 잡지 않음)
+		transactionTemplate.executeWithoutResult(status -> {
+			//유저가 없는 경우 예외발생
+			User user = validator.getUserByUserName(userName);
+
+			//Pet과 userName인 User가 같은 그룹이 아니면 예외 발생
+			validator.getPetWithUsername(petId, user.getUsername());
+
+			// 일기가 없는 경우 예외발생
+			Record record = validator.getRecordById(recordId);
+
+			// 일기 작성 유저와 로그인 유저가 같지 않을 경우 예외발생
+			if (!record.getUser().getId().equals(user.getId())) {
+				throw new RecordException(INVALID_PERMISSION);
+			}
+		});
+
+		if (request.getTotalSize() == null || request.getTotalSize() <= 0) {
+			throw new FileException(ErrorCode.FILE_NOT_FOUND);
+		}
+		if (request.getTotalSize() > maxSize) {
+			throw new FileException(ErrorCode.FILE_SIZE_EXCEEDED);
+		}
+
+		String key = "records/" + UUID.randomUUID() + "." + getExtension(request.getFileName());
+		String storeUploadId = chunkedUploadStore.begin(key, request.getContentType());
+
+		UploadSession session = UploadSession.builder()
+				.id(UUID.randomUUID().toString())
+				.recordId(recordId)
+				.userName(userName)
+				.key(key)
+				.storeUploadId(storeUploadId)
+				.fileName(request.getFileName())
+				.contentType(request.getContentType())
+				.totalSize(request.getTotalSize())
+				.chunkSize(Math.max(chunkSize, MIN_CHUNK_SIZE))
+				.partETags(new HashMap<>())
+				.build();
+		uploadSessionStore.save(session);
+
+		return UploadSessionResponse.from(session);
+	}
+
+	// 청크 업로드 - 같은 번호를 다시 보내면 덮어씀
+	public UploadSessionResponse uploadChunk(Long recordId, String uploadId, int partNumber,
+			InputStream inputStream, long contentLength, String userName) {
+
+		UploadSession session = getSession(recordId, uploadId, userName);
+		checkUploading(session);
+
+		if (partNumber < 1 || partNumber > session.getPartCount()) {
+			throw new FileException(ErrorCode.INVALID_CHUNK, "part 번호: " + partNumber);
+		}
+		// 청크 크기가 맞지 않으면 저장소에 보내기 전에 거절 (Content-Length 필수)
+		if (contentLength != session.expectedPartSize(partNumber)) {
+			throw new FileException(ErrorCode.INVALID_CHUNK,
+					"기대 크기: " + session.expectedPartSize(partNumber));
+		}
+
+		String eTag = chunkedUploadStore.uploadPart(session.getKey(), session.getStoreUploadId(),
+				partNumber, inputStream, contentLength);
+		// 업로드 중에 세션이 만료됐으면 기록하지 않음
+		if (!uploadSessionStore.savePart(uploadId, partNumber, eTag)) {
+			throw new FileException(ErrorCode.UPLOAD_SESSION_NOT_FOUND);
+		}
+		session.getPartETags().put(partNumber, eTag);
+
+		return UploadSessionResponse.from(session);
+	}
+
+	// 업로드 상태(이어 올릴 위치) 조회
+	public UploadSessionResponse getStatus(Long recordId, String uploadId, String userName) {
+		return UploadSessionResponse.from(getSession(recordId, uploadId, userName));
+	}
+
+	// 업로드 완료 - 청크를 합치고 RecordFile 저장
+	// 응답을 못 받아 다시 보낸 완료 요청에는 RecordFile 을 또 만들지 않고 같은 결과로 응답
+	public RecordFileResponse complete(Long recordId, String uploadId, String userName) {
+
+		UploadSession session = getSession(recordId, uploadId, userName);
+		if (session.getState() == UploadSession.State.COMPLETED) {
+			return completedResponse(session);
+		}
+		if (!session.isComplete()) {
+			throw new FileException(ErrorCode.UPLOAD_INCOMPLETE,
+					"받은 청크: " + session.getUploadedParts());
+		}
+
+		// 일기가 없는 경우 예외발생 - 청크를 합치는 동안 커넥션을 잡지 않도록 짧은 트랜잭션에서 조회
+		Record record = transactionTemplate.execute(status -> validator.getRecordById(recordId));
+
+		// 동시에 온 완료 요청 중 하나만 진행
+		if (!uploadSessionStore.startCompletion(uploadId)) {
+			UploadSession current = getSession(recordId, uploadId, userName);
+			if (current.getState() == UploadSession.State.COMPLETED) {
+				return completedResponse(current);
+			}
+			throw new FileException(ErrorCode.UPLOAD_COMPLETING);
+		}
+
+		String storedFileUrl;
+		try {
+			storedFileUrl = chunkedUploadStore.complete(session.getKey(),
+					session.getStoreUploadId(), session.orderedETags());
+		} catch (RuntimeException e) {
+			// 청크를 합치지 못했으면 다시 완료 요청할 수 있도록 되돌림
+			uploadSessionStore.cancelCompletion(uploadId);
+			throw e;
+		}
+
+		RecordFile recordFile;
+		try {
+			recordFile = transactionTemplate.execute(status -> recordFileRepository.save(
+					RecordFile.makeRecordFile(session.getFileName(), session.getKey(),
+							storedFileUrl, record)));
+		} catch (RuntimeException e) {
+			// 합쳐진 객체를 참조하는 RecordFile 이 없으므로 삭제 대기열에 추가 (세션도 다시 쓸 수 없음)
+			deleteCompleted(session);
+			throw e;
+		}
+		uploadSessionStore.finishCompletion(uploadId);
+
+		// 다른 업로드와 같이 저장이 끝난 후 이벤트 발행 (이미지면 축소본 생성)
+		applicationEventPublisher.publishEvent(
+				new RecordFileUploadEvent(List.of(recordFile.getId())));
+
+		return completedResponse(session);
+	}
+
+	// 업로드 취소
+	public void abort(Long recordId, String uploadId, String userName) {
+		UploadSession session = getSession(recordId, uploadId, userName);
+		checkUploading(session);
+		chunkedUploadStore.abort(session.getKey(), session.getStoreUploadId());
+		uploadSessionStore.delete(uploadId);
+	}
+
+	private RecordFileResponse completedResponse(UploadSession session) {
+		String storedFileName = session.getKey().substring(session.getKey().lastIndexOf("/") + 1);
+		return RecordFileResponse.ofUpload(List.of(session.getFileName()),
+				List.of(storedFileName));
+	}
+
+	private void deleteCompleted(UploadSession session) {
+		try {
+			storedFileService.scheduleDeletion(List.of(session.getKey()));
+			uploadSessionStore.delete(session.getId());
+		} catch (RuntimeException e) {
+			log.error("업로드 완료 실패 후 파일 정리 예약 실패 {}", session.getKey(), e);
+		}
+	}
+
+	// 완료했거나 완료하는 중인 세션에는 청크 업로드/취소 불가
+	private void checkUploading(UploadSession session) {
+		if (session.getState() != UploadSession.State.UPLOADING) {
+			throw new FileException(ErrorCode.UPLOAD_COMPLETING);
+		}
+	}
+
+	private UploadSession getSession(Long recordId, String uploadId, String userName) {
+		UploadSession session = uploadSessionStore.find(uploadId)
+				.orElseThrow(() -> new FileException(ErrorCode.UPLOAD_SESSION_NOT_FOUND));
+		if (!session.getRecordId().equals(recordId) || !session.getUserName().equals(userName)) {
+			throw new FileException(INVALID_PERMISSION);
+		}
+		return session;
+	}
+
+	// 확장자
+	private String getExtension(String originalFilename) {
+		if (originalFilename == null || !originalFilename.contains(".")) {
+			throw new FileException(ErrorCode.WRONG_FILE_FORMAT);
+		}
+		return originalFilename.substring(originalFilename.lastIndexOf(".") + 1);
+	}
+}
@@ -0,0 +1,206 @@
+package com.daengnyangffojjak.dailydaengnyang.service;
+
+import static com.daengnyangffojjak.dailydaengnyang.utils.storage.ImageVariant.MEDIUM;
+import static com.daengnyangffojjak.dailydaengnyang.utils.storage.ImageVariant.THUMBNAIL;
+
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.RecordFile;
+import com.daengnyangffojjak.dailydaengnyang.repository.RecordFileRepository;
+import com.daengnyangffojjak.dailydaengnyang.utils.storage.ImageVariant;
+import com.daengnyangffojjak.dailydaengnyang.utils.storage.RecordStorage;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 업로드된 이미지의 축소본(썸네일, 중간 크기) 생성
+ * 원본은 한 번만 디코딩하고, 썸네일은 중간 크기 이미지에서 다시 줄인다.
+ * RecordImageEventListener 를 통해 imageExecutor 에서만 실행된다.
+ * 디코딩 전에 헤더의 가로/세로만 읽어 maxPixels 를 넘는 이미지는 변환하지 않는다. (원본으로 응답)
+ **/
+@Slf4j
+@Service
+public class RecordImageService {
+
+	private final RecordStorage recordStorage;
+	private final RecordFileRepository recordFileRepository;
+	private final MeterRegistry meterRegistry;
+	//디코딩하면 가로 x 세로 x 4byte 를 메모리에 올리므로 이보다 큰 이미지는 변환하지 않음
+	private final long maxPixels;
+
+	private static final Set<String> IMAGE_EXTENSIONS = Set.of("jpg", "jpeg", "png", "gif", "bmp");
+	private static final float JPEG_QUALITY = 0.85f;
+
+	public RecordImageService(RecordStorage recordStorage,
+			RecordFileRepository recordFileRepository, MeterRegistry meterRegistry,
+			@Value("${record.image.max-pixels:40000000}") long maxPixels) {
+		this.recordStorage = recordStorage;
+		this.recordFileRepository = recordFileRepository;
+		this.meterRegistry = meterRegistry;
+		this.maxPixels = maxPixels;
+	}
+
+	// 변환이 끝난 파일마다 축소본 key 컬럼만 갱신 (엔티티 전체를 다시 저장하지 않음)
+	public void createVariants(List<Long> recordFileIds) {
+		for (RecordFile recordFile : recordFileRepository.findAllById(recordFileIds)) {
+			// 동영상, 이전 방식으로 저장된 파일은 원본 그대로 사용
+			if (!isImage(recordFile.getStoredFileKey())) {
+				continue;
+			}
+			Timer.Sample sample = Timer.start(meterRegistry);
+			String result = "success";
+			try {
+				if (!createVariants(recordFile)) {
+					result = "skipped";
+				}
+			} catch (IOException | RuntimeException e) {
+				// 축소본이 없으면 원본 url 로 응답하므로 실패해도 업로드는 유지
+				result = "failure";
+				log.warn("이미지 축소본 생성 실패 {}", recordFile.getStoredFileKey(), e);
+			} finally {
+				sample.stop(Timer.builder("record.image.variant")
+						.description("이미지 1개당 축소본 생성 시간")
+						.tag("result", result)
+						.register(meterRegistry));
+			}
+		}
+	}
+
+	private boolean createVariants(RecordFile recordFile) throws IOException {
+		String key = recordFile.getStoredFileKey();
+		// 같은 내용의 파일이 이미 변환되어 있으면 디코딩 없이 재사용 (축소본 key 도 같음)
+		if (recordFile.getContentHash() != null) {
+			Optional<RecordFile> converted = recordFileRepository
+					.findFirstByContentHashAndThumbnailKeyIsNotNull(recordFile.getContentHash());
+			if (converted.isPresent()) {
+				recordFileRepository.updateVariantKeys(recordFile.getId(),
+						converted.get().getThumbnailKey(), converted.get().getMediumKey());
+				return true;
+			}
+		}
+
+		BufferedImage original;
+		try (InputStream inputStream = recordStorage.open(key);
+				ImageInputStream imageInputStream = ImageIO.createImageInputStream(inputStream)) {
+			original = decode(key, imageInputStream);
+		}
+		// ImageIO 가 읽지 못하는 형식이거나 너무 큰 이미지
+		if (original == null) {
+			return false;
+		}
+
+		BufferedImage medium = resize(original, MEDIUM.getMaxWidth());
+		BufferedImage thumbnail = resize(medium, THUMBNAIL.getMaxWidth());
+
+		String mediumKey = store(key, MEDIUM, medium);
+		String thumbnailKey = store(key, THUMBNAIL, thumbnail);
+		recordFileRepository.updateVariantKeys(recordFile.getId(), thumbnailKey, mediumKey);
+		return true;
+	}
+
+	// 헤더에서 가로/세로를 먼저 읽고 maxPixels 이하일 때만 디코딩 - 읽지 못하거나 너무 크면 null
+	private BufferedImage decode(String key, ImageInputStream imageInputStream)
+			throws IOException {
+		if (imageInputStream == null) {
+			return null;
+		}
+		Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInputStream);
+		if (!readers.hasNext()) {
+			return null;
+		}
+		ImageReader reader = readers.next();
+		try {
+			reader.setInput(imageInputStream, true, true);
+			long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+			if (pixels > maxPixels) {
+				log.info("이미지가 너무 커서 축소본 생성 생략 {} ({}px)", key, pixels);
+				return null;
+			}
+			return reader.read(0);
+		} finally {
+			reader.dispose();
+		}
+	}
+
+	// 가로 maxWidth 이하로 축소 (확대하지 않음)
+	// 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 줄인 후 마지막에 맞춘다
+	// jpeg 로 저장하므로 투명한 부분은 흰색으로 채움
+	static BufferedImage resize(BufferedImage source, int maxWidth) {
+		int targetWidth = Math.min(source.getWidth(), maxWidth);
+		BufferedImage current = source;
+		do {
+			int width = Math.max(targetWidth, current.getWidth() / 2);
+			int height = Math.max(1,
+					(int) Math.round((double) source.getHeight() * width / source.getWidth()));
+			current = draw(current, width, height);
+		} while (current.getWidth() > targetWidth);
+		return current;
+	}
+
+	private static BufferedImage draw(BufferedImage source, int width, int height) {
+		BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = resized.createGraphics();
+		try {
+			graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+					RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+			graphics.setRenderingHint(RenderingHints.KEY_RENDERING,
+					RenderingHints.VALUE_RENDER_QUALITY);
+			graphics.drawImage(source, 0, 0, width, height, Color.WHITE, null);
+		} finally {
+			graphics.dispose();
+		}
+		return resized;
+	}
+
+	private String store(String originalKey, ImageVariant variant, BufferedImage image)
+			throws IOException {
+		byte[] bytes = encodeJpeg(image);
+		String key = variant.keyOf(originalKey);
+		recordStorage.store(key, new ByteArrayInputStream(bytes), bytes.length, "image/jpeg");
+		return key;
+	}
+
+	private byte[] encodeJpeg(BufferedImage image) throws IOException {
+		ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+		ImageWriteParam param = writer.getDefaultWriteParam();
+		param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+		param.setCompressionQuality(JPEG_QUALITY);
+
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		try (ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(outputStream)) {
+			writer.setOutput(imageOutputStream);
+			writer.write(null, new IIOImage(image, null, null), param);
+		} finally {
+			writer.dispose();
+		}
+		return outputStream.toByteArray();
+	}
+
+	private boolean isImage(String key) {
+		if (key == null) {
+			return false;
+		}
+		String extension = key.substring(key.lastIndexOf(".") + 1);
+		return IMAGE_EXTENSIONS.contains(extension.toLowerCase());
+	}
+}
@@ -1,5 +1,8 @@
 package com.daengnyangffojjak.dailydaengnyang.service;
 
+import com.daengnyangffojjak.dailydaengnyang.domain.dto.Cursor;
+import com.daengnyangffojjak.dailydaengnyang.domain.dto.CursorResponse;
+import com.daengnyangffojjak.dailydaengnyang.domain.dto.record.RecordFeedResponse;
 import com.daengnyangffojjak.dailydaengnyang.domain.dto.record.RecordResponse;
 import com.daengnyangffojjak.dailydaengnyang.domain.dto.record.RecordWorkRequest;
 import com.daengnyangffojjak.dailydaengnyang.domain.dto.record.RecordWorkResponse;
@@ -14,16 +17,28 @@ import com.daengnyangffojjak.dailydaengnyang.repository.RecordFileRepository;
 import com.daengnyangffojjak.dailydaengnyang.repository.RecordRepository;
 
 import com.daengnyangffojjak.dailydaengnyang.utils.Validator;
+import com.daengnyangffojjak.dailydaengnyang.utils.cache.FeedSegment;
+import com.daengnyangffojjak.dailydaengnyang.utils.cache.FeedSegmentCache;
+import com.daengnyangffojjak.dailydaengnyang.utils.cache.FeedTimeline;
 import com.daengnyangffojjak.dailydaengnyang.utils.event.RecordCreateEvent;
+import com.daengnyangffojjak.dailydaengnyang.utils.storage.RecordStorage;
+import com.daengnyangffojjak.dailydaengnyang.utils.event.RecordDeleteEvent;
+import com.daengnyangffojjak.dailydaengnyang.utils.event.RecordModifyEvent;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
@@ -32,6 +47,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import static com.daengnyangffojjak.dailydaengnyang.exception.ErrorCode.*;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class RecordService {
@@ -40,6 +56,13 @@ public class RecordService {
 	private final RecordFileRepository recordFileRepository;
 	private final Validator validator;
 	private final ApplicationEventPublisher applicationEventPublisher;
+	private final RecordFeedAssembler recordFeedAssembler;
+	private final FeedSegmentCache feedSegmentCache;
+	private final FeedTimeline feedTimeline;
+	private final RecordStorage recordStorage;
+	private final StoredFileService storedFileService;
+
+	private static final Sort TIMELINE_SORT = Sort.by(Direction.DESC, "createdAt");
 
 
 	// 일기 상세(1개) 조회
@@ -60,17 +83,69 @@ public class RecordService {
 
 		// 같은 recordId에 해당하는 recordFiles
 		List<RecordFile> recordFiles = recordFileRepository.findByRecord_Id(recordId);
+		recordFiles.forEach(recordStorage::resolveUrl);
 
 		return RecordResponse.of(record, recordFiles);
 	}
 
 	// 전체 피드 조회
-	@Cacheable(cacheNames = "feed")
+	// 응답 캐시 모드(feed.response-cache.enabled)에서는 직렬화된 바이트만 캐시하므로 feed 캐시 사용 안 함
+	@Cacheable(cacheNames = "feed", condition = "!@feedResponseCache.enabled")
 	@Transactional(readOnly = true)
 	public Page<RecordResponse> getAllRecords(Pageable pageable) {
 
-		Page<Record> records = recordRepository.findAllByIsPublicTrue(pageable);
-		return records.map(this::toResponse);
+		// 기본 정렬(최신순)은 Redis 타임라인에서 id 구간을 읽어 한 번에 조회 (offset/count 쿼리 없음)
+		if (TIMELINE_SORT.equals(pageable.getSort())) {
+			Page<RecordResponse> timelinePage = getAllRecordsFromTimeline(pageable);
+			if (timelinePage != null) {
+				return timelinePage;
+			}
+		}
+		Page<Record> records = recordRepository.findFeedByIsPublicTrue(pageable);
+		return recordFeedAssembler.assemble(records);
+	}
+
+	// 타임라인이 비어있거나(flush 후 rebuild 전) Redis 장애면 null -> DB 조회
+	private Page<RecordResponse> getAllRecordsFromTimeline(Pageable pageable) {
+		long total;
+		List<Long> ids;
+		try {
+			total = feedTimeline.size();
+			if (total == 0) {
+				return null;
+			}
+			ids = feedTimeline.range(pageable.getOffset(), pageable.getPageSize());
+		} catch (DataAccessException e) {
+			log.warn("피드 타임라인 조회 실패, DB 로 조회", e);
+			return null;
+		}
+		if (ids.isEmpty()) {
+			return new PageImpl<>(List.of(), pageable, total);
+		}
+
+		// in 조회는 순서가 보장되지 않으므로 타임라인 순서로 정렬, 그 사이 삭제/비공개된 일기는 제외
+		Map<Long, Record> recordMap = recordRepository.findFeedByIdIn(ids).stream()
+				.collect(Collectors.toMap(Record::getId, Function.identity()));
+		List<Record> records = ids.stream()
+				.map(recordMap::get)
+				.filter(Objects::nonNull)
+				.collect(Collectors.toList());
+		return new PageImpl<>(recordFeedAssembler.assemble(records), pageable, total);
+	}
+
+	// 전체 피드 조회 (커서) - lastRecordId 보다 오래된 일기 size 개
+	// 캐시 hit 시 DB 커넥션을 잡지 않도록 트랜잭션을 걸지 않음 (fetch join 이라 지연 로딩 없음)
+	public RecordFeedResponse getFeed(Long lastRecordId, int size) {
+		FeedSegment feedSegment = feedSegmentCache.get(lastRecordId, size,
+				() -> loadFeedSegment(lastRecordId, size));
+		return RecordFeedResponse.from(feedSegment);
+	}
+
+	private FeedSegment loadFeedSegment(Long lastRecordId, int size) {
+		Long cursor = lastRecordId == null ? Long.MAX_VALUE : lastRecordId;
+		List<Record> records = recordRepository.findFeedByIsPublicTrueAndIdLessThan(cursor,
+				PageRequest.of(0, size));
+		return FeedSegment.of(lastRecordId, size, recordFeedAssembler.assemble(records));
 	}
 
 	// 펫별로 전체 피드 조회
@@ -79,13 +154,23 @@ public class RecordService {
 		User user = validator.getUserByUserName(username);
 		Pet pet = validator.getPetWithUsername(petId, username);
 
-		Page<Record> records = recordRepository.findAllByIsPublicTrueAndPetId(pageable, petId);
-		return records.map(this::toResponse);
+		Page<Record> records = recordRepository.findFeedByIsPublicTrueAndPetId(pageable, petId);
+		return recordFeedAssembler.assemble(records);
 	}
 
-	private RecordResponse toResponse(Record record) {
-		List<RecordFile> recordFiles = recordFileRepository.findByRecord_Id(record.getId());
-		return RecordResponse.of(record, recordFiles);
+	// 펫별로 전체 피드 조회 (커서) - 작성 최신순
+	@Transactional(readOnly = true)
+	public CursorResponse<RecordResponse> scrollPetRecords(Long petId, String username,
+			String cursor, Integer size) {
+		User user = validator.getUserByUserName(username);
+		Pet pet = validator.getPetWithUsername(petId, username);
+
+		Cursor from = Cursor.decode(cursor);
+		int pageSize = Cursor.pageSize(size);
+		List<Record> records = recordRepository.findFeedSliceByPetId(petId, from.getSortKey(),
+				from.getId(), Cursor.fetchLimit(pageSize));
+		return CursorResponse.of(records, pageSize, r -> Cursor.of(r.getCreatedAt(), r.getId()))
+				.mapContent(recordFeedAssembler::assemble);
 	}
 
 	// 일기 작성
@@ -113,7 +198,9 @@ public class RecordService {
 						Collectors.toList());
 		//이벤트 발생
 		applicationEventPublisher.publishEvent(
-				new RecordCreateEvent(userList, recordWorkRequest.getTitle(), userName));
+				new RecordCreateEvent(userList, recordWorkRequest.getTitle(), userName,
+						savedRecord.getId(), Boolean.TRUE.equals(savedRecord.getIsPublic()),
+						savedRecord.getCreatedAt(), pet.getGroup().getId()));
 
 		return RecordWorkResponse.builder()
 				.message("일기 작성 완료")
@@ -143,9 +230,14 @@ public class RecordService {
 			throw new RecordException(INVALID_PERMISSION);
 		}
 
+		boolean wasPublic = Boolean.TRUE.equals(record.getIsPublic());
 		record.modifyRecord(recordWorkRequest, tag);
 		Record updated = recordRepository.saveAndFlush(record);
 
+		applicationEventPublisher.publishEvent(
+				new RecordModifyEvent(updated.getId(), wasPublic,
+						Boolean.TRUE.equals(updated.getIsPublic()), updated.getCreatedAt()));
+
 		return RecordWorkResponse.builder()
 				.message("일기 수정 완료")
 				.id(updated.getId())
@@ -169,8 +261,12 @@ public class RecordService {
 
 		List<RecordFile> recordFiles = recordFileRepository.findByRecord_Id(recordId);
 		recordFileRepository.deleteAll(recordFiles);
+		storedFileService.release(recordFiles);
 		record.deleteSoftly();
 
+		applicationEventPublisher.publishEvent(
+				new RecordDeleteEvent(recordId, Boolean.TRUE.equals(record.getIsPublic())));
+
 		return RecordWorkResponse.builder()
 				.message("일기 삭제 완료")
 				.id(recordId)
@@ -187,10 +283,10 @@ public class RecordService {
 		LocalDateTime start = getLocalDateFromString(fromDate);
 		LocalDateTime end = getLocalDateFromString(toDate);
 
-		List<Record> records = recordRepository.findAllByCreatedAtBetweenAndPetId(
+		List<Record> records = recordRepository.findFeedByCreatedAtBetweenAndPetId(
 				Sort.by(Direction.DESC, "createdAt"), start, end, petId);
 
-		return records.stream().map(this::toResponse).toList();
+		return recordFeedAssembler.assemble(records);
 	}
 
 	private LocalDateTime getLocalDateFromString(String date) {
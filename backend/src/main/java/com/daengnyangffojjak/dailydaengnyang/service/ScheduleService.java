@@ -1,5 +1,7 @@
 package com.daengnyangffojjak.dailydaengnyang.service;
 
+import com.daengnyangffojjak.dailydaengnyang.domain.dto.Cursor;
+import com.daengnyangffojjak.dailydaengnyang.domain.dto.CursorResponse;
 import com.daengnyangffojjak.dailydaengnyang.domain.dto.MessageResponse;
 import com.daengnyangffojjak.dailydaengnyang.domain.dto.schedule.*;
 import com.daengnyangffojjak.dailydaengnyang.domain.entity.Pet;
@@ -64,13 +66,15 @@ public class ScheduleService {
 				.map(UserGroup::getUser).collect(
 						Collectors.toList());
 
-		applicationEventPublisher.publishEvent(
-				new ScheduleCreateEvent(userList, scheduleCreateRequest.getTitle(), userName));
-
 		//일정 저장
 		Schedule savedSchedule = scheduleRepository.save(
 				scheduleCreateRequest.toEntity(pet, user, tag));
 
+		//저장 후 발행 - 알림은 같은 트랜잭션에서 outbox 에 기록되고 커밋 후 전송
+		applicationEventPublisher.publishEvent(
+				new ScheduleCreateEvent(userList, scheduleCreateRequest.getTitle(), userName,
+						pet.getGroup().getId()));
+
 		String message = "일정 등록 완료";
 
 		return ScheduleCreateResponse.toResponse(message, savedSchedule);
@@ -191,6 +195,29 @@ public class ScheduleService {
 
 	}
 
+	//개체별 일정 전체 보기 (커서) - 예정일 최신순
+	@Transactional(readOnly = true)
+	public CursorResponse<ScheduleListResponse> scroll(Long petId, String userName, String cursor,
+			Integer size) {
+
+		//Pet과 userName인 User가 같은 그룹이면 Pet을 반환
+		Pet pet = validator.getPetWithUsername(petId, userName);
+
+		//그룹 내 멤버 리스트 반환
+		List<UserGroup> userGroupList = validator.getUserGroupListByUsername(
+				pet.getGroup(), userName);
+
+		//유저아이디 : 그룹 내 역할 -> 맵 반환
+		Map<Long, String> getRoleInGroup = validator.makeMapWithRoleAndId(userGroupList);
+
+		Cursor from = Cursor.decode(cursor);
+		int pageSize = Cursor.pageSize(size);
+		List<Schedule> schedules = scheduleRepository.findSliceByPetId(pet.getId(),
+				from.getSortKey(), from.getId(), Cursor.fetchLimit(pageSize));
+		return CursorResponse.of(schedules, pageSize, s -> Cursor.of(s.getDueDate(), s.getId()))
+				.map(s -> ScheduleListResponse.toResponse(s, getRoleInGroup));
+	}
+
 	//일정 책임자 수정 알람
 	@Transactional
 	public MessageResponse assign(Long petId, Long scheduleId,
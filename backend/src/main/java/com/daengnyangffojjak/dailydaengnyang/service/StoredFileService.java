@@ -0,0 +1,102 @@
+package com.daengnyangffojjak.dailydaengnyang.service;
+
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.PendingObjectDeletion;
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.RecordFile;
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.StoredFile;
+import com.daengnyangffojjak.dailydaengnyang.exception.ErrorCode;
+import com.daengnyangffojjak.dailydaengnyang.exception.FileException;
+import com.daengnyangffojjak.dailydaengnyang.repository.PendingObjectDeletionRepository;
+import com.daengnyangffojjak.dailydaengnyang.repository.StoredFileRepository;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 내용이 같은 파일은 저장소 객체 하나를 공유 (StoredFile.refCount 로 참조 수 관리)
+ **/
+@Service
+@RequiredArgsConstructor
+public class StoredFileService {
+
+	private final StoredFileRepository storedFileRepository;
+	private final PendingObjectDeletionRepository pendingObjectDeletionRepository;
+
+	private static final String LEGACY_KEY_PREFIX = "/records/";
+	private static final Duration UPLOAD_CLEANUP_DELAY = Duration.ofMinutes(10);
+
+	@Transactional(readOnly = true)
+	public Optional<StoredFile> findByContentHash(String contentHash) {
+		return storedFileRepository.findByContentHash(contentHash);
+	}
+
+	// 업로드 후 저장에 실패한 객체 정리 - 같은 내용을 동시에 올린 요청이 참조를 마칠 때까지
+	// 기다렸다가 OrphanObjectReaper 가 참조 여부를 다시 확인하고 삭제
+	@Transactional
+	public void scheduleDeletion(List<String> storedFileKeys) {
+		pendingObjectDeletionRepository.saveAll(storedFileKeys.stream()
+				.map(key -> PendingObjectDeletion.of(key, UPLOAD_CLEANUP_DELAY))
+				.collect(Collectors.toList()));
+	}
+
+	// 같은 key 로 다시 올리기 전에 삭제 예정을 취소
+	// OrphanObjectReaper 가 이 key 를 삭제하는 중이면 끝날 때까지 기다린 뒤 올리게 된다.
+	@Transactional
+	public void cancelDeletion(String storedFileKey) {
+		pendingObjectDeletionRepository.cancelByStoredFileKey(storedFileKey);
+	}
+
+	// 새 RecordFile 이 객체를 참조 - 있으면 refCount 증가, 없으면 생성
+	// uploaded : 이번 요청에서 직접 올렸는지 (false 면 기존 객체를 재사용한 경우)
+	@Transactional
+	public void acquire(String contentHash, String storedFileKey, String storedFileUrl,
+			boolean uploaded) {
+		if (storedFileRepository.increaseRefCount(contentHash) > 0) {
+			return;
+		}
+		// 재사용하려던 객체가 그 사이 마지막 참조 삭제로 지워진 경우 - 다시 올리도록 실패 처리
+		if (!uploaded) {
+			throw new FileException(ErrorCode.FILE_UPLOAD_ERROR);
+		}
+		// 올린 뒤 생긴 삭제 예정도 같은 트랜잭션에서 취소
+		pendingObjectDeletionRepository.cancelByStoredFileKey(storedFileKey);
+		storedFileRepository.saveAndFlush(
+				StoredFile.of(contentHash, storedFileKey, storedFileUrl));
+	}
+
+	// RecordFile 삭제 시 참조 해제 - 마지막 참조였던 객체는 같은 트랜잭션에서 삭제 대기열에 추가
+	// (커밋되면 OrphanObjectReaper 가 저장소에서 삭제, 롤백되면 대기열도 함께 롤백)
+	@Transactional
+	public void release(List<RecordFile> recordFiles) {
+		List<PendingObjectDeletion> deletions = new ArrayList<>();
+		for (RecordFile recordFile : recordFiles) {
+			if (recordFile.getContentHash() != null) {
+				storedFileRepository.decreaseRefCount(recordFile.getContentHash());
+				if (storedFileRepository.deleteIfUnreferenced(recordFile.getContentHash()) > 0) {
+					deletions.add(PendingObjectDeletion.of(recordFile.getStoredFileKey()));
+				}
+			} else if (recordFile.getStoredFileKey() != null) {
+				// 이어 올리기로 저장된 파일은 공유되지 않으므로 바로 삭제 대상
+				deletions.add(PendingObjectDeletion.of(recordFile.getStoredFileKey()));
+			} else if (legacyKeyOf(recordFile.getStoredFileUrl()) != null) {
+				// key 컬럼이 생기기 전 파일 (records/<uuid>.<확장자> 를 url 에서 추출)
+				deletions.add(PendingObjectDeletion.of(legacyKeyOf(recordFile.getStoredFileUrl())));
+			}
+		}
+		if (!deletions.isEmpty()) {
+			pendingObjectDeletionRepository.saveAll(deletions);
+		}
+	}
+
+	private String legacyKeyOf(String storedFileUrl) {
+		if (storedFileUrl == null) {
+			return null;
+		}
+		int idx = storedFileUrl.indexOf(LEGACY_KEY_PREFIX);
+		return idx < 0 ? null : storedFileUrl.substring(idx + 1);
+	}
+}
@@ -12,11 +12,11 @@ import com.daengnyangffojjak.dailydaengnyang.exception.SecurityCustomException;
 import com.daengnyangffojjak.dailydaengnyang.exception.UserException;
 import com.daengnyangffojjak.dailydaengnyang.repository.UserRepository;
 import com.daengnyangffojjak.dailydaengnyang.utils.JwtTokenUtil;
-import java.util.Objects;
-import java.util.concurrent.TimeUnit;
+import com.daengnyangffojjak.dailydaengnyang.utils.token.RefreshTokenStore;
+import com.daengnyangffojjak.dailydaengnyang.utils.token.RefreshTokenStore.Rotation;
+import com.daengnyangffojjak.dailydaengnyang.utils.token.RevokedTokenRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.core.Authentication;
@@ -33,7 +33,8 @@ public class UserService {
 	private final BCryptPasswordEncoder encoder;
 	private final AuthenticationManagerBuilder authenticationManagerBuilder;
 	private final JwtTokenUtil jwtTokenUtil;
-	private final RedisTemplate redisTemplate;
+	private final RefreshTokenStore refreshTokenStore;
+	private final RevokedTokenRegistry revokedTokenRegistry;
 
 
 	public UserJoinResponse join(UserJoinRequest userJoinRequest) {
@@ -84,11 +85,12 @@ public class UserService {
 		log.info("authentication getAuthorities" + authentication.getAuthorities());
 
 		//4.인증 정보 기반으로 JWT 토큰 생성 >> refresh, access token 둘 다 생성
-		TokenInfo tokenInfo = jwtTokenUtil.createToken(authentication);
-		//5.RefreshToken Redis에 저장
-		redisTemplate.opsForValue()
-				.set(authentication.getName(), tokenInfo.getRefreshToken(),
-						tokenInfo.getRefreshTokenExpireTime(), TimeUnit.MILLISECONDS);
+		// 로그인(기기)마다 새 refresh token family
+		String familyId = jwtTokenUtil.newFamilyId();
+		TokenInfo tokenInfo = jwtTokenUtil.createToken(authentication, familyId);
+		//5.RefreshToken Redis에 저장 (key: rt:userName:familyId, value: refreshToken digest)
+		refreshTokenStore.save(authentication.getName(), familyId, tokenInfo.getRefreshToken(),
+				tokenInfo.getRefreshTokenExpireTime());
 
 		return tokenInfo;
 
@@ -104,28 +106,39 @@ public class UserService {
 		//2. refresh Token 검증
 		boolean isvalidToken = jwtTokenUtil.validateToken(refreshToken);
 
-		//Redis에서 userName이 key인 refreshToken(value)를 가져오기
-		String selectedToken = (String) redisTemplate.opsForValue().get(authentication.getName());
-
 		//2-1. 로그아웃되어 Redis 에 RefreshToken 이 존재하지 않는 경우 처리
 		if(ObjectUtils.isEmpty(refreshToken)) {
 			throw new SecurityCustomException(ErrorCode.INVALID_REQUEST);
 		}
 
-		//2-2. refreshToken이 유효하지 않거나 입력받은 refreshToken과 redis 저장된게 일치하지 않으면
-		// 토큰 탈취되었다고 판단
-		// redis에서 refreshToken 삭제하고 예외처리
-		if (!isvalidToken || !Objects.equals(selectedToken, refreshToken)) {
-			redisTemplate.delete(authentication.getName());
+		//2-2. refreshToken이 유효하지 않으면 redis에서 이 세션의 refreshToken 삭제하고 예외처리
+		if (!isvalidToken) {
+			refreshTokenStore.delete(authentication.getName(), jwtTokenUtil.getFamilyId(accessToken));
 			throw new SecurityCustomException(ErrorCode.INVALID_TOKEN, "재로그인 하세요.");
 		}
-		//3. 새로운 accessToken, refreshToken 생성
-		TokenInfo tokenInfo = jwtTokenUtil.createToken(authentication);
 
-		//4. redis에 새로운 refreshToken 저장
-		redisTemplate.opsForValue()
-				.set(authentication.getName(), tokenInfo.getRefreshToken(),
-						tokenInfo.getRefreshTokenExpireTime(), TimeUnit.MILLISECONDS);
+		//3. 같은 family 로 새로운 accessToken, refreshToken 생성
+		String familyId = jwtTokenUtil.getFamilyId(refreshToken);
+		TokenInfo tokenInfo = jwtTokenUtil.createToken(authentication, familyId);
+
+		//4. redis에 저장된 refreshToken과 일치할 때만 새 refreshToken으로 교체 (비교+교체 한 번에)
+		Rotation rotation = refreshTokenStore.rotate(authentication.getName(), familyId,
+				refreshToken, tokenInfo.getRefreshToken(), tokenInfo.getRefreshTokenExpireTime());
+
+		//4-1. 다른 탭에서 방금 재발급한 경우 - 새로 저장된 토큰으로 다시 요청
+		if (rotation == Rotation.STALE) {
+			throw new SecurityCustomException(ErrorCode.INVALID_TOKEN, "이미 재발급된 토큰입니다.");
+		}
+		//4-2. 이미 교체된 refreshToken 재사용 >> 토큰 탈취되었다고 판단
+		// 이 family 의 refreshToken 은 script 에서 삭제, 요청한 accessToken 도 블랙리스트에 저장
+		if (rotation == Rotation.REUSED) {
+			log.warn("refresh token 재사용 감지 : {}", authentication.getName());
+			revokedTokenRegistry.revoke(accessToken, jwtTokenUtil.getRemainingTime(accessToken));
+		}
+		//4-3. 로그아웃되어 Redis 에 RefreshToken 이 존재하지 않는 경우 포함
+		if (rotation != Rotation.ROTATED) {
+			throw new SecurityCustomException(ErrorCode.INVALID_TOKEN, "재로그인 하세요.");
+		}
 		return tokenInfo;
 	}
 
@@ -135,17 +148,14 @@ public class UserService {
 		//1. AccessToken에서 userName 가져오기 >> accessToken 유효성도 검사
 		String userName = jwtTokenUtil.getUserName(accessToken);
 
-		//2. Redis에서 해당 userName(key)으로 저장된 refreshToken(value) 있는지 확인
-		if(redisTemplate.opsForValue().get(userName) != null){
-			//2-1. 있으면 삭제
-			redisTemplate.delete(userName);
-		}
+		//2. Redis에서 이 세션(family)의 refreshToken 만 삭제 (다른 기기는 로그인 유지, 없으면 그대로)
+		refreshTokenStore.delete(userName, jwtTokenUtil.getFamilyId(accessToken));
 
 		//3. 해당 accessToken 남은 유효시간 가지고 와서 redis BlackList에 저장
-		// key : accesstoken, value: logout
+		// key : bl:accessToken digest (모든 서버의 로그아웃 token filter 에도 반영)
 		Long expiration = jwtTokenUtil.getExpiration(accessToken);
 		log.info("남은 만료 시간: " + expiration);
-		redisTemplate.opsForValue().set(accessToken,"logout",expiration,TimeUnit.MILLISECONDS);
+		revokedTokenRegistry.revoke(accessToken, expiration);
 
 		return new MessageResponse("로그아웃이 되었습니다.");
 
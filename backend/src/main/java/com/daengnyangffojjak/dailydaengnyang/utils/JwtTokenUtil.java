@@ -3,15 +3,18 @@ package com.daengnyangffojjak.dailydaengnyang.utils;
 import com.daengnyangffojjak.dailydaengnyang.domain.dto.token.TokenInfo;
 import com.daengnyangffojjak.dailydaengnyang.exception.ErrorCode;
 import com.daengnyangffojjak.dailydaengnyang.exception.SecurityCustomException;
+import com.daengnyangffojjak.dailydaengnyang.security.JwtPrincipal;
+import com.daengnyangffojjak.dailydaengnyang.utils.cache.TokenClaimsCache;
+import com.daengnyangffojjak.dailydaengnyang.utils.cache.UserPrincipalCache;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
 import java.util.List;
 import java.util.stream.Collectors;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -24,36 +27,57 @@ import org.springframework.stereotype.Component;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.util.Date;
+import java.util.UUID;
 
-@RequiredArgsConstructor
 @Slf4j
 @Component
 public class JwtTokenUtil {
 
 	private final UserDetailsService userDetailsService;
+	private final UserPrincipalCache userPrincipalCache;
+	private final TokenClaimsCache tokenClaimsCache;
 
-	@Value("${jwt.token.secret}")
-	private String secretKey;
+	//서명 key 와 parser 는 한 번만 만들어서 재사용 (thread-safe)
+	private final Key key;
+	private final JwtParser jwtParser;
 
+	//true 면 요청마다 DB 조회 없이 token claim 으로 로그인 유저를 만듦
+	private final boolean claimsPrincipal;
+
+	private final static String FAMILY_ID = "fid";
 	private final static long ACCESS_TOKEN_EXPIRE_TIME = 1000 * 60 * 60; //1시간
 	private final static long REFRESH_TOKEN_EXPIRE_TIME = 1000 * 60 * 60 * 24 * 7; //7일
 
-
-	//secretKey는 256bit보다 커야 한다. 영어 한단어당 8bit 이므로 32글자 이상이어야 한다는 뜻이다.
-	private Key makeKey() {
-		return Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+	public JwtTokenUtil(UserDetailsService userDetailsService,
+			UserPrincipalCache userPrincipalCache, TokenClaimsCache tokenClaimsCache,
+			@Value("${jwt.token.secret}") String secretKey,
+			@Value("${jwt.claims-principal:true}") boolean claimsPrincipal) {
+		this.userDetailsService = userDetailsService;
+		this.userPrincipalCache = userPrincipalCache;
+		this.tokenClaimsCache = tokenClaimsCache;
+		this.claimsPrincipal = claimsPrincipal;
+		//secretKey는 256bit보다 커야 한다. 영어 한단어당 8bit 이므로 32글자 이상이어야 한다는 뜻이다.
+		this.key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+		this.jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
 	}
 
+	//새 로그인 - 새 refresh token family
 	public TokenInfo createToken(Authentication authentication) {
+		return createToken(authentication, newFamilyId());
+	}
+
+	//familyId : 로그인 세션(기기)별 refresh token family, 재발급할 때는 같은 family 유지
+	//null 이면 family 가 생기기 전에 발급된 세션 (fid claim 없음)
+	public TokenInfo createToken(Authentication authentication, String familyId) {
 		String userName = authentication.getName();
 		List<String> authorities = authentication.getAuthorities().stream()
 				.map(GrantedAuthority::getAuthority)
 				.collect(Collectors.toList());
 		//access token 생성
-		String accessToken = generateAccessToken(userName, authorities);
+		String accessToken = generateAccessToken(userName, authorities, familyId);
 
 		//Refresh Token 생성
-		String refreshToken = generateRefreshToken();
+		String refreshToken = generateRefreshToken(familyId);
 
 		return TokenInfo.builder()
 				.accessToken(accessToken)
@@ -62,26 +86,41 @@ public class JwtTokenUtil {
 				.build();
 	}
 
+	//로그인(기기)마다 새 family
+	public String newFamilyId() {
+		return UUID.randomUUID().toString();
+	}
+
 	public String generateAccessToken(String userName, List<String> authorities) {
+		return generateAccessToken(userName, authorities, null);
+	}
+
+	public String generateAccessToken(String userName, List<String> authorities,
+			String familyId) {
 		//Access Token 생성
 		Claims claims = Jwts.claims();
 		claims.put("userName", userName);
 		claims.put("role", authorities);
+		if (familyId != null) {
+			claims.put(FAMILY_ID, familyId);   //로그아웃할 때 이 기기의 refresh token 만 지우기 위해
+		}
 
 		return Jwts.builder()
 				.setClaims(claims)
 				.setIssuedAt(new Date(System.currentTimeMillis()))
 				.setExpiration(
 						new Date(System.currentTimeMillis() + ACCESS_TOKEN_EXPIRE_TIME)) //토큰 만료 시간
-				.signWith(makeKey(), SignatureAlgorithm.HS256)
+				.signWith(key, SignatureAlgorithm.HS256)
 				.compact();
 	}
 
-	public String generateRefreshToken() {
-
+	public String generateRefreshToken(String familyId) {
+		//매번 다른 token 이 되도록 id 부여 (같은 초에 발급해도 재사용 감지가 가능)
 		return Jwts.builder()
+				.setId(UUID.randomUUID().toString())
+				.claim(FAMILY_ID, familyId)
 				.setExpiration(new Date(System.currentTimeMillis() + REFRESH_TOKEN_EXPIRE_TIME))
-				.signWith(makeKey(), SignatureAlgorithm.HS256)
+				.signWith(key, SignatureAlgorithm.HS256)
 				.compact();
 	}
 
@@ -99,10 +138,14 @@ public class JwtTokenUtil {
 	}
 
 
+	//한 번 검증한 token 은 만료 전까지 캐시된 claim 사용
 	private Claims extractClaims(String token) {
+		return tokenClaimsCache.get(token, this::verifyClaims);
+	}
+
+	private Claims verifyClaims(String token) {
 		try {
-			return Jwts.parserBuilder().setSigningKey(makeKey()).build().parseClaimsJws(token)
-					.getBody();
+			return jwtParser.parseClaimsJws(token).getBody();
 		} catch (IllegalArgumentException e) {
 			throw new SecurityCustomException(ErrorCode.INVALID_TOKEN);
 		} catch (
@@ -116,26 +159,34 @@ public class JwtTokenUtil {
 		}
 	}
 
+	@SuppressWarnings("unchecked")
 	public UserDetails getUserDetails(String token) {
-		String userName = getUserName(token);
+		Claims claims = extractClaims(token);
 		//UserName Token에서 꺼내기
-		log.info("userName : {}", userName);
-		return userDetailsService.loadUserByUsername(userName);
+		String userName = claims.get("userName", String.class);
+		if (claimsPrincipal) {
+			return new JwtPrincipal(userName, claims.get("role", List.class));
+		}
+		return loadUser(userName);
 	}
 
 	//만료된 accesstoken에서도 보유한 사용자 정보를 이용하여 Authentication을 생성하기 위해 parse 따로 함
 	public Authentication getAuthentication(String token) {
 		Claims claims = parseClaims(token);
 		String userName = claims.get("userName", String.class);
-		UserDetails userDetails = userDetailsService.loadUserByUsername(userName);
+		UserDetails userDetails = loadUser(userName);
 		return new UsernamePasswordAuthenticationToken(userDetails, "",
 				userDetails.getAuthorities());
 	}
 
+	//전체 User 가 필요한 경우 - 캐시에 없을 때만 DB 조회
+	private UserDetails loadUser(String userName) {
+		return userPrincipalCache.get(userName, userDetailsService::loadUserByUsername);
+	}
+
 	private Claims parseClaims(String accessToken) {
 		try {
-			return Jwts.parserBuilder().setSigningKey(makeKey()).build().parseClaimsJws(accessToken)
-					.getBody();
+			return jwtParser.parseClaimsJws(accessToken).getBody();
 		} catch (SignatureException e) {
 			log.info("서명이 일치하지 않습니다.");
 			throw new SecurityCustomException(ErrorCode.INVALID_TOKEN, "서명 불일치");
@@ -146,6 +197,17 @@ public class JwtTokenUtil {
 		}
 	}
 
+	// refresh token family id (access/refresh token 모두, 만료된 token 도 가능) - 없으면 null
+	public String getFamilyId(String token) {
+		return parseClaims(token).get(FAMILY_ID, String.class);
+	}
+
+	// 만료된 token 이면 0
+	public long getRemainingTime(String accessToken) {
+		Date expiration = parseClaims(accessToken).getExpiration();
+		return Math.max(0, expiration.getTime() - System.currentTimeMillis());
+	}
+
 	public Long getExpiration(String accessToken) {
 		// accessToken 남은 유효시간
 		Date expiration = extractClaims(accessToken).getExpiration();
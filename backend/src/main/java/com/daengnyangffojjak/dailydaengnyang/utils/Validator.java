@@ -5,7 +5,7 @@ import com.daengnyangffojjak.dailydaengnyang.domain.entity.Disease;
 import com.daengnyangffojjak.dailydaengnyang.domain.entity.Group;
 import com.daengnyangffojjak.dailydaengnyang.domain.entity.Monitoring;
 import com.daengnyangffojjak.dailydaengnyang.domain.entity.Notification;
-import com.daengnyangffojjak.dailydaengnyang.domain.entity.NotificationUser;
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.NotificationInbox;
 import com.daengnyangffojjak.dailydaengnyang.domain.entity.Pet;
 import com.daengnyangffojjak.dailydaengnyang.domain.entity.Record;
 import com.daengnyangffojjak.dailydaengnyang.domain.entity.RecordFile;
@@ -28,8 +28,8 @@ import com.daengnyangffojjak.dailydaengnyang.repository.CommentRepository;
 import com.daengnyangffojjak.dailydaengnyang.repository.DiseaseRepository;
 import com.daengnyangffojjak.dailydaengnyang.repository.GroupRepository;
 import com.daengnyangffojjak.dailydaengnyang.repository.MonitoringRepository;
+import com.daengnyangffojjak.dailydaengnyang.repository.NotificationInboxRepository;
 import com.daengnyangffojjak.dailydaengnyang.repository.NotificationRepository;
-import com.daengnyangffojjak.dailydaengnyang.repository.NotificationUserRepository;
 import com.daengnyangffojjak.dailydaengnyang.repository.PetRepository;
 import com.daengnyangffojjak.dailydaengnyang.repository.RecordFileRepository;
 import com.daengnyangffojjak.dailydaengnyang.repository.RecordRepository;
@@ -61,7 +61,7 @@ public class Validator {
 
 	private final CommentRepository commentRepository;
 	private final NotificationRepository notificationRepository;
-	private final NotificationUserRepository notificationUserRepository;
+	private final NotificationInboxRepository notificationInboxRepository;
 
 	public User getUserById(Long userId) {
 		return userRepository.findById(userId)
@@ -162,10 +162,11 @@ public class Validator {
 				.orElseThrow(() -> new NotificationException(ErrorCode.NOTIFICATION_NOT_FOUND));
 	}
 
-	public NotificationUser validateNotificationUser(Long notificationId, Long loginUserId){
-		return notificationUserRepository.findByNotificationIdAndUserId(
-						notificationId, loginUserId)
-				.orElseThrow(() -> new NotificationException(ErrorCode.INVALID_PERMISSION));
+	//로그인 유저 알림함에 없으면 (다른 유저 알림이어도) 없는 알림으로 처리
+	public NotificationInbox getNotificationInbox(Long notificationId, Long loginUserId) {
+		return notificationInboxRepository.findByUserIdAndNotificationId(
+						loginUserId, notificationId)
+				.orElseThrow(() -> new NotificationException(ErrorCode.NOTIFICATION_NOT_FOUND));
 	}
 
 
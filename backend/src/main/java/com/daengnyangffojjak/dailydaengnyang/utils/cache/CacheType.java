@@ -6,7 +6,9 @@ import lombok.Getter;
 @Getter
 @AllArgsConstructor
 public enum CacheType {
-	CACHE_STORE("feed", 5 * 60, 10000);
+	CACHE_STORE("feed", 5 * 60, 10000),
+	FEED_SEGMENT("feedSegment", 5 * 60, 10000),
+	USER_PRINCIPAL("userPrincipal", 10 * 60, 1000);
 
 	private final String cacheName;		//캐시 이름
 	private final int expireAfterWrite;	//만료 시간
@@ -0,0 +1,114 @@
+package com.daengnyangffojjak.dailydaengnyang.utils.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+/**
+ * 직렬화된 JSON 바이트로 저장하는 피드 페이지 응답 캐시
+ * 엔티티 그래프 대신 byte[] 를 저장하고, 개수가 아닌 바이트 크기(weigher)로 제한한다.
+ * hit 시 Jackson 을 거치지 않고 servlet output stream 에 바로 쓴다.
+ * feed.response-cache.enabled=true 일 때만 사용 (기본은 기존 feed 캐시)
+ **/
+@Component
+public class FeedResponseCache {
+
+	private static final String CACHE_NAME = "feedResponse";
+
+	@Getter
+	private final boolean enabled;
+	private final ObjectMapper objectMapper;
+	private final Cache<String, byte[]> cache;
+	private final Timer hitTimer;
+
+	public FeedResponseCache(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+			@Value("${feed.response-cache.enabled:false}") boolean enabled,
+			@Value("${feed.response-cache.max-bytes:33554432}") long maxBytes,
+			@Value("${feed.response-cache.expire-after-write:300}") long expireAfterWrite) {
+		this.enabled = enabled;
+		this.objectMapper = objectMapper;
+		this.cache = Caffeine.newBuilder()
+				.recordStats()
+				.expireAfterWrite(Duration.ofSeconds(expireAfterWrite))
+				.maximumWeight(maxBytes)
+				.weigher((String key, byte[] value) -> key.length() * 2 + value.length)
+				.build();
+
+		// hit/miss - cache.gets{cache=feedResponse}
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+		Gauge.builder("feed.response.cache.size", cache, FeedResponseCache::weightedSize)
+				.description("피드 응답 캐시가 차지하는 바이트")
+				.baseUnit("bytes")
+				.register(meterRegistry);
+		Gauge.builder("feed.response.cache.max", () -> maxBytes)
+				.description("피드 응답 캐시 최대 바이트")
+				.baseUnit("bytes")
+				.register(meterRegistry);
+		this.hitTimer = Timer.builder("feed.response.cache.hit")
+				.description("캐시 hit 시 조회부터 응답 쓰기까지 걸린 시간")
+				.publishPercentiles(0.5, 0.99)
+				.register(meterRegistry);
+	}
+
+	public static String key(Pageable pageable) {
+		return pageable.getPageNumber() + ":" + pageable.getPageSize() + ":" + pageable.getSort();
+	}
+
+	/**
+	 * 캐시된 바이트를 응답에 쓴다. 없으면 loader 결과를 직렬화해서 저장 후 쓴다.
+	 * 같은 키에 대한 동시 miss 는 Caffeine 이 한 번만 로드한다.
+	 **/
+	public void write(String key, Supplier<Object> loader, HttpServletResponse response)
+			throws IOException {
+		long start = System.nanoTime();
+		AtomicBoolean loaded = new AtomicBoolean(false);
+		byte[] body = cache.get(key, k -> {
+			loaded.set(true);
+			return serialize(loader.get());
+		});
+
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		response.setContentLength(body.length);
+		response.getOutputStream().write(body);
+		response.flushBuffer();
+
+		if (!loaded.get()) {
+			hitTimer.record(Duration.ofNanos(System.nanoTime() - start));
+		}
+	}
+
+	//공개 일기가 추가/수정/삭제되면 offset 페이지가 모두 밀리므로 전체 무효화
+	public void invalidateAll() {
+		cache.invalidateAll();
+	}
+
+	private byte[] serialize(Object value) {
+		try {
+			return objectMapper.writeValueAsBytes(value);
+		} catch (JsonProcessingException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static long weightedSize(Cache<String, byte[]> cache) {
+		return cache.policy().eviction()
+				.map(eviction -> eviction.weightedSize().orElse(0L))
+				.orElse(0L);
+	}
+}
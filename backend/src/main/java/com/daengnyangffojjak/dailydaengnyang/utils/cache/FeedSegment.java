@@ -0,0 +1,50 @@
+package com.daengnyangffojjak.dailydaengnyang.utils.cache;
+
+import com.daengnyangffojjak.dailydaengnyang.domain.dto.record.RecordResponse;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 피드 커서 구간 - "lastRecordId 보다 오래된 일기 size 개"
+ * 일기 id 는 증가만 하므로 커서가 같으면 구간이 바뀌지 않는다.
+ * 새 일기는 항상 head 구간(lastRecordId == null)에만 들어간다.
+ **/
+@Getter
+@AllArgsConstructor
+public class FeedSegment {
+
+	private final Long lastRecordId;    //구간 상한 (null 이면 head)
+	private final int size;
+	private final List<RecordResponse> records;
+
+	public static FeedSegment of(Long lastRecordId, int size, List<RecordResponse> records) {
+		return new FeedSegment(lastRecordId, size, records);
+	}
+
+	public static String key(Long lastRecordId, int size) {
+		return (lastRecordId == null ? "head" : lastRecordId) + ":" + size;
+	}
+
+	public boolean isHead() {
+		return lastRecordId == null;
+	}
+
+	//다음 구간 커서, 마지막 구간이면 null
+	public Long getNextRecordId() {
+		if (records.size() < size) {
+			return null;
+		}
+		return records.get(records.size() - 1).getId();
+	}
+
+	//recordId 가 이 구간 범위 [하한, 상한) 안에 있는지
+	//마지막 구간(size 미만)은 하한이 없다.
+	public boolean contains(Long recordId) {
+		if (lastRecordId != null && recordId >= lastRecordId) {
+			return false;
+		}
+		Long lowerBound = getNextRecordId();
+		return lowerBound == null || recordId >= lowerBound;
+	}
+}
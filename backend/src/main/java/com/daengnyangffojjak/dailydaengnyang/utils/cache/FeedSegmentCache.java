@@ -0,0 +1,42 @@
+package com.daengnyangffojjak.dailydaengnyang.utils.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+
+/**
+ * 커서 구간 단위 피드 캐시
+ * 새 공개 일기는 head 구간만, 수정/삭제는 해당 일기를 포함한 구간만 무효화한다.
+ * hit/miss 는 CacheConfig 의 recordStats 로 기록되어 cache.gets{cache=feedSegment} 로 노출된다.
+ **/
+@Slf4j
+@Component
+public class FeedSegmentCache {
+
+	private final Cache<Object, Object> cache;
+
+	@SuppressWarnings("unchecked")
+	public FeedSegmentCache(CacheManager cacheManager) {
+		CaffeineCache caffeineCache = (CaffeineCache) cacheManager.getCache(
+				CacheType.FEED_SEGMENT.getCacheName());
+		this.cache = caffeineCache.getNativeCache();
+	}
+
+	public FeedSegment get(Long lastRecordId, int size, Supplier<FeedSegment> loader) {
+		return (FeedSegment) cache.get(FeedSegment.key(lastRecordId, size), key -> loader.get());
+	}
+
+	//새 공개 일기 작성 시 - head 구간만 무효화
+	public void evictHead() {
+		cache.asMap().values().removeIf(value -> ((FeedSegment) value).isHead());
+	}
+
+	//일기 수정/삭제 시 - 해당 일기가 포함된 구간만 무효화
+	public void evictContaining(Long recordId) {
+		cache.asMap().values().removeIf(value -> ((FeedSegment) value).contains(recordId));
+		log.debug("recordId {} 가 포함된 피드 구간 무효화", recordId);
+	}
+}
@@ -0,0 +1,141 @@
+package com.daengnyangffojjak.dailydaengnyang.utils.cache;
+
+import com.daengnyangffojjak.dailydaengnyang.repository.RecordRepository;
+import com.daengnyangffojjak.dailydaengnyang.repository.RecordRepository.TimelineEntry;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 공개 피드 타임라인 (Redis sorted set)
+ * member = 일기 번호, score = 작성 시각(epoch millis)
+ * createdAt 은 한국 시간 LocalDateTime 이므로 서버 기본 시간대와 상관없이 ZONE 으로 변환한다.
+ * 일기 작성/수정/삭제 커밋 후 RecordFeedEventListener 에서 갱신한다.
+ **/
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedTimeline {
+
+	public static final String KEY = "feed:timeline";
+	private static final String REBUILD_KEY = "feed:timeline:rebuild";
+	private static final int REBUILD_CHUNK_SIZE = 1000;
+	static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+	// rebuild 중(임시 키가 있을 때)에만 임시 키에도 추가 - 없는 임시 키를 새로 만들지 않음
+	private static final RedisScript<Long> ADD_IF_REBUILDING = new DefaultRedisScript<>(
+			"if redis.call('exists', KEYS[1]) == 0 then return 0 end "
+					+ "return redis.call('zadd', KEYS[1], ARGV[1], ARGV[2])", Long.class);
+
+	private final RedisTemplate redisTemplate;
+	private final RecordRepository recordRepository;
+
+	//커밋 이후에 호출되므로 Redis 장애가 요청 실패로 이어지지 않도록 로그만 남김 (rebuild 로 복구)
+	//rebuild 중이면 임시 키에도 반영 (이미 읽은 일기가 그 사이 공개로 바뀌어도 rename 후 남도록)
+	@SuppressWarnings("unchecked")
+	public void add(Long recordId, LocalDateTime createdAt) {
+		try {
+			double score = toScore(createdAt);
+			zSet().add(KEY, String.valueOf(recordId), score);
+			redisTemplate.execute(ADD_IF_REBUILDING, List.of(REBUILD_KEY), String.valueOf(score),
+					String.valueOf(recordId));
+		} catch (DataAccessException e) {
+			log.warn("피드 타임라인 추가 실패 recordId={}", recordId, e);
+		}
+	}
+
+	public void remove(Long recordId) {
+		try {
+			zSet().remove(KEY, String.valueOf(recordId));
+			zSet().remove(REBUILD_KEY, String.valueOf(recordId));   //없는 키면 아무것도 안 함
+		} catch (DataAccessException e) {
+			log.warn("피드 타임라인 삭제 실패 recordId={}", recordId, e);
+		}
+	}
+
+	//최신순 offset 부터 size 개의 일기 번호
+	public List<Long> range(long offset, int size) {
+		Set<String> ids = zSet().reverseRange(KEY, offset, offset + size - 1);
+		if (ids == null || ids.isEmpty()) {
+			return Collections.emptyList();
+		}
+		return ids.stream().map(Long::valueOf).collect(Collectors.toList());
+	}
+
+	public long size() {
+		Long size = zSet().zCard(KEY);
+		return size == null ? 0 : size;
+	}
+
+	/**
+	 * DB 의 공개 일기로 타임라인을 다시 만든다. (Redis flush 후 복구용)
+	 * 임시 키에 채운 뒤 rename 으로 교체하므로 rebuild 중에도 기존 타임라인으로 조회 가능하다.
+	 * rebuild 중의 작성/수정/삭제는 add/remove 가 임시 키에도 반영한다.
+	 * 마지막 묶음을 읽은 뒤 rename 전에 커밋된 작성은 기존 키에만 들어가 rename 으로 사라지므로,
+	 * rename 후 마지막으로 읽은 번호보다 큰 일기를 다시 읽어 추가한다.
+	 * 남은 경합(이미 읽은 일기가 그 사이 삭제/비공개)은 조회 시 DB 에서 다시 걸러진다.
+	 **/
+	public long rebuild() {
+		redisTemplate.delete(REBUILD_KEY);
+		Copied copied = copyAfter(0L, REBUILD_KEY);
+
+		if (copied.count() == 0) {
+			redisTemplate.delete(KEY);
+		} else {
+			redisTemplate.rename(REBUILD_KEY, KEY);
+		}
+		Copied caughtUp = copyAfter(copied.lastId(), KEY);
+
+		long count = copied.count() + caughtUp.count();
+		log.info("피드 타임라인 rebuild 완료 {}건 (rename 후 추가 {}건)", count, caughtUp.count());
+		return count;
+	}
+
+	// lastId 보다 큰 공개 일기를 묶음 단위로 key 에 추가
+	private Copied copyAfter(Long lastId, String key) {
+		long count = 0;
+		while (true) {
+			List<TimelineEntry> entries = recordRepository.findTimelineEntries(lastId,
+					PageRequest.of(0, REBUILD_CHUNK_SIZE));
+			if (entries.isEmpty()) {
+				return new Copied(count, lastId);
+			}
+			Set<TypedTuple<String>> tuples = entries.stream()
+					.map(entry -> new DefaultTypedTuple<>(String.valueOf(entry.getId()),
+							toScore(entry.getCreatedAt())))
+					.collect(Collectors.toCollection(LinkedHashSet::new));
+			zSet().add(key, tuples);
+			count += entries.size();
+			lastId = entries.get(entries.size() - 1).getId();
+		}
+	}
+
+	private record Copied(long count, Long lastId) {
+
+	}
+
+	@SuppressWarnings("unchecked")
+	private ZSetOperations<String, String> zSet() {
+		return redisTemplate.opsForZSet();
+	}
+
+	private double toScore(LocalDateTime createdAt) {
+		LocalDateTime time = createdAt == null ? LocalDateTime.now(ZONE) : createdAt;
+		return time.atZone(ZONE).toInstant().toEpochMilli();
+	}
+}
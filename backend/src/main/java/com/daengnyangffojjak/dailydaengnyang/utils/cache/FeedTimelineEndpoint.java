@@ -0,0 +1,32 @@
+package com.daengnyangffojjak.dailydaengnyang.utils.cache;
+
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * 피드 타임라인 관리용 actuator endpoint
+ * GET  /actuator/feedtimeline : 타임라인 크기
+ * POST /actuator/feedtimeline : DB 로부터 rebuild
+ * management.endpoints.web.exposure.include 에 feedtimeline 을 추가해야 노출된다.
+ **/
+@Component
+@Endpoint(id = "feedtimeline")
+@RequiredArgsConstructor
+public class FeedTimelineEndpoint {
+
+	private final FeedTimeline feedTimeline;
+
+	@ReadOperation
+	public Map<String, Long> size() {
+		return Map.of("size", feedTimeline.size());
+	}
+
+	@WriteOperation
+	public Map<String, Long> rebuild() {
+		return Map.of("rebuilt", feedTimeline.rebuild());
+	}
+}
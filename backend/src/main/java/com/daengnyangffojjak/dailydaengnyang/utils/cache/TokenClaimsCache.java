@@ -0,0 +1,85 @@
+package com.daengnyangffojjak.dailydaengnyang.utils.cache;
+
+import com.daengnyangffojjak.dailydaengnyang.utils.token.TokenDigest;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검증이 끝난 access token 의 claim 캐시 (key: token 의 SHA-256)
+ * 같은 token 으로 다시 요청하면 서명 검증과 JSON 파싱을 건너뛴다.
+ * token 만료 시각이 지나면 같이 만료되고, 검증에 실패한 token 은 저장하지 않는다.
+ * 로그아웃은 JwtTokenFilter 의 블랙리스트 확인으로 처리되므로 캐시와 관계없다.
+ **/
+@Component
+public class TokenClaimsCache {
+
+	private final Cache<String, Claims> cache;
+
+	public TokenClaimsCache(MeterRegistry meterRegistry,
+			@Value("${jwt.claims-cache.maximum-size:10000}") long maximumSize,
+			@Value("${jwt.claims-cache.max-ttl-seconds:300}") long maxTtlSeconds) {
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(maximumSize)
+				.expireAfter(new UntilTokenExpiry(Duration.ofSeconds(maxTtlSeconds)))
+				.recordStats()
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, "tokenClaims");
+	}
+
+	// 캐시에 없으면 verifier 로 검증 (실패하면 verifier 의 예외 그대로)
+	public Claims get(String token, Function<String, Claims> verifier) {
+		String key = TokenDigest.encode(TokenDigest.of(token));
+		Claims claims = cache.getIfPresent(key);
+		if (claims != null) {
+			return claims;
+		}
+		claims = verifier.apply(token);
+		cache.put(key, claims);
+		return claims;
+	}
+
+	long size() {
+		cache.cleanUp();
+		return cache.estimatedSize();
+	}
+
+	// token 만료 시각과 최대 보관 시간 중 먼저 오는 시각에 만료
+	private static class UntilTokenExpiry implements Expiry<String, Claims> {
+
+		private final long maxTtlNanos;
+
+		UntilTokenExpiry(Duration maxTtl) {
+			this.maxTtlNanos = maxTtl.toNanos();
+		}
+
+		@Override
+		public long expireAfterCreate(String key, Claims claims, long currentTime) {
+			if (claims.getExpiration() == null) {
+				return maxTtlNanos;
+			}
+			long untilExpiry = Duration.ofMillis(
+					claims.getExpiration().getTime() - System.currentTimeMillis()).toNanos();
+			return Math.max(0, Math.min(maxTtlNanos, untilExpiry));
+		}
+
+		@Override
+		public long expireAfterUpdate(String key, Claims claims, long currentTime,
+				long currentDuration) {
+			return expireAfterCreate(key, claims, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(String key, Claims claims, long currentTime,
+				long currentDuration) {
+			return currentDuration;
+		}
+	}
+}
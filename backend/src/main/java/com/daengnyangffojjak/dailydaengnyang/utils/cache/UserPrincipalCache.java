@@ -0,0 +1,33 @@
+package com.daengnyangffojjak.dailydaengnyang.utils.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import java.util.function.Function;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+/**
+ * userName 별 전체 User (UserDetails) 캐시
+ * 토큰 재발급처럼 claim 만으로는 부족한 경로에서만 사용하고, User.update 가 호출되면 무효화한다.
+ **/
+@Component
+public class UserPrincipalCache {
+
+	private final Cache<Object, Object> cache;
+
+	@SuppressWarnings("unchecked")
+	public UserPrincipalCache(CacheManager cacheManager) {
+		CaffeineCache caffeineCache = (CaffeineCache) cacheManager.getCache(
+				CacheType.USER_PRINCIPAL.getCacheName());
+		this.cache = caffeineCache.getNativeCache();
+	}
+
+	public UserDetails get(String userName, Function<String, UserDetails> loader) {
+		return (UserDetails) cache.get(userName, key -> loader.apply(userName));
+	}
+
+	public void evict(String userName) {
+		cache.invalidate(userName);
+	}
+}
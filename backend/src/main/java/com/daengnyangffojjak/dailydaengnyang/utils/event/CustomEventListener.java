@@ -1,212 +1,89 @@
 package com.daengnyangffojjak.dailydaengnyang.utils.event;
 
-import com.daengnyangffojjak.dailydaengnyang.domain.dto.notification.NotificationMultiUserRequest;
-import com.daengnyangffojjak.dailydaengnyang.domain.dto.notification.NotificationOneUserRequest;
-import com.daengnyangffojjak.dailydaengnyang.domain.entity.Notification;
-import com.daengnyangffojjak.dailydaengnyang.domain.entity.NotificationUser;
+import com.daengnyangffojjak.dailydaengnyang.domain.dto.notification.NotificationDraft;
 import com.daengnyangffojjak.dailydaengnyang.domain.entity.User;
 import com.daengnyangffojjak.dailydaengnyang.domain.entity.enums.NotificationType;
-import com.daengnyangffojjak.dailydaengnyang.repository.NotificationRepository;
-import com.daengnyangffojjak.dailydaengnyang.repository.NotificationUserRepository;
-import com.daengnyangffojjak.dailydaengnyang.service.NotificationService;
+import com.daengnyangffojjak.dailydaengnyang.utils.notification.NotificationWriteBuffer;
+import java.time.Duration;
 import java.util.List;
-import java.util.concurrent.ExecutionException;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.event.EventListener;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.ObjectUtils;
 
+/**
+ * 일정/일기/그룹 이벤트의 알림 기록과 전송 대기열(outbox)을 저장
+ * 이벤트를 발행한 트랜잭션의 커밋 직전에 함께 저장되므로 롤백되면 알림도 남지 않는다. (NotificationWriteBuffer)
+ * 실제 푸시 전송은 NotificationOutboxDispatcher 가 커밋된 outbox 를 읽어서 진행
+ **/
 @Component
-@Transactional
 @RequiredArgsConstructor
-@Async
-@Slf4j
 public class CustomEventListener {
 
-	private final NotificationService notificationService;
-	private final NotificationRepository notificationRepository;
-	private final NotificationUserRepository notificationUserRepository;
-	private final RedisTemplate redisTemplate;
+	private final NotificationWriteBuffer notificationWriteBuffer;
+
+	//묶음 알림 대기 시간 - 처음 등록된 알림도 이 시간 이상 늦어지지 않음
+	@Value("${notification.coalesce.window-seconds:30}")
+	private long coalesceWindowSeconds;
 
 	@EventListener
 	public void handleScheduleCompleteEvent(ScheduleCompleteEvent scheduleCompleteEvent) {
-		List<String> loginUserTokenList = getLoginUserFcmToken(
-				scheduleCompleteEvent.getUserList());
-
-		//receiver가 로그아웃했으면 알림 보내기 X
-		if (loginUserTokenList.size() == 0) {
-			return;
-		}
-
-		//로그인한 유저에게 알림 보내기
 		String message = NotificationType.SCHEDULE_COMPLETE.generateNotificationMessage(
 				scheduleCompleteEvent.getTitle(), scheduleCompleteEvent.getUserName());
 
-		NotificationMultiUserRequest notificationMultiUserRequest = NotificationMultiUserRequest.toRequest(
-				loginUserTokenList, NotificationType.SCHEDULE_COMPLETE, message);
-
-		notificationService.sendByUserTokenList(notificationMultiUserRequest);
-
-		log.info("알람 전송");
-
-		//알림 기록 db에 저장
-		Notification savedNotification = notificationRepository.saveAndFlush(
-				Notification.from(NotificationType.SCHEDULE_COMPLETE.getMessageTitle(),
-						message, NotificationType.SCHEDULE_COMPLETE, false));
-		//알람받을 유저 저장
-		scheduleCompleteEvent.getUserList().forEach(
-				user -> notificationUserRepository.save(NotificationUser.from(savedNotification,
-						user)));
-		log.info("알람 저장");
-
+		saveNotification(NotificationType.SCHEDULE_COMPLETE, message,
+				scheduleCompleteEvent.getUserList());
 	}
 
-
 	@EventListener
-	public void handleScheduleAssignEvent(ScheduleAssignEvent scheduleAssignEvent)
-			throws ExecutionException, InterruptedException {
-
-		String loginUserToken = (String) redisTemplate.opsForValue()
-				.get("fcm:" + scheduleAssignEvent.getReceiver().getUsername());
-
-		//receiver가 로그아웃했으면 알림 보내기 X
-		if (ObjectUtils.isEmpty(loginUserToken)) {
-			return;
-		}
-
+	public void handleScheduleAssignEvent(ScheduleAssignEvent scheduleAssignEvent) {
 		String body = NotificationType.SCHEDULE_ASSIGN.generateNotificationMessage(
 				scheduleAssignEvent.getScheduleTitle(), scheduleAssignEvent.getSenderName())
 				+ scheduleAssignEvent.getMessage();
 
-		NotificationOneUserRequest notificationOneUserRequest = NotificationOneUserRequest.toRequest(
-				loginUserToken, NotificationType.SCHEDULE_ASSIGN,
-				body);
-
-		notificationService.sendOneUser(notificationOneUserRequest);
-		log.info("알람 전송");
-
-		//알림 기록 db에 저장
-		Notification savedNotification = notificationRepository.saveAndFlush(
-				Notification.from(NotificationType.SCHEDULE_ASSIGN.getMessageTitle(),
-						body, NotificationType.SCHEDULE_ASSIGN, false));
-		//알람받을 유저 저장 >> 로그인 안한 유저도 저장
-		notificationUserRepository.save(NotificationUser.from(savedNotification,
-				scheduleAssignEvent.getReceiver()));
-
-
+		saveNotification(NotificationType.SCHEDULE_ASSIGN, body,
+				List.of(scheduleAssignEvent.getReceiver()));
 	}
 
 	@EventListener
 	public void handleScheduleCreateEvent(ScheduleCreateEvent scheduleCreateEvent) {
-		List<String> loginUserTokenList = getLoginUserFcmToken(
-				scheduleCreateEvent.getUserList());
-
-		//receiver가 로그아웃했으면 알림 보내기 X
-		if (loginUserTokenList.size() == 0) {
-			return;
-		}
-
-		//로그인한 유저에게 알림 보내기
 		String message = NotificationType.SCHEDULE_CREATE.generateNotificationMessage(
 				scheduleCreateEvent.getTitle(), scheduleCreateEvent.getUserName());
 
-		NotificationMultiUserRequest notificationMultiUserRequest = NotificationMultiUserRequest.toRequest(
-				loginUserTokenList, NotificationType.SCHEDULE_CREATE, message);
-
-		notificationService.sendByUserTokenList(notificationMultiUserRequest);
-
-		log.info("알람 전송");
-
-		//알림 기록 db에 저장
-		Notification savedNotification = notificationRepository.saveAndFlush(
-				Notification.from(NotificationType.SCHEDULE_CREATE.getMessageTitle(),
-						message, NotificationType.SCHEDULE_CREATE, false));
-		//알람받을 유저 저장
-		scheduleCreateEvent.getUserList().forEach(
-				user -> notificationUserRepository.save(NotificationUser.from(savedNotification,
-						user)));
-		log.info("알람 저장");
-
+		//연속 등록은 묶어서 전송 (알림 기록은 이벤트마다 남김)
+		notificationWriteBuffer.add(NotificationDraft.coalesced(NotificationType.SCHEDULE_CREATE,
+				message, scheduleCreateEvent.getUserList(), scheduleCreateEvent.getUserName(),
+				scheduleCreateEvent.getGroupId(), coalesceWindow()));
 	}
 
 	@EventListener
 	public void handleRecordCreateEvent(RecordCreateEvent recordCreateEvent) {
-		List<String> loginUserTokenList = getLoginUserFcmToken(
-				recordCreateEvent.getUserList());
-
-		//receiver가 로그아웃했으면 알림 보내기 X
-		if (loginUserTokenList.size() == 0) {
-			return;
-		}
-
-		//로그인한 유저에게 알림 보내기
 		String message = NotificationType.RECORD_CREATE.generateNotificationMessage(
 				recordCreateEvent.getTitle(), recordCreateEvent.getUserName());
-		NotificationMultiUserRequest notificationMultiUserRequest = NotificationMultiUserRequest.toRequest(
-				loginUserTokenList, NotificationType.RECORD_CREATE, message);
-
-		notificationService.sendByUserTokenList(notificationMultiUserRequest);
-
-		log.info("알람 전송");
-
-		//알림 기록 db에 저장
-		Notification savedNotification = notificationRepository.saveAndFlush(
-				Notification.from(NotificationType.RECORD_CREATE.getMessageTitle(),
-						message, NotificationType.RECORD_CREATE, false));
-		//알람받을 유저 저장
-		recordCreateEvent.getUserList().forEach(
-				user -> notificationUserRepository.save(NotificationUser.from(savedNotification,
-						user)));
-		log.info("알람 저장");
 
+		//연속 등록은 묶어서 전송 (알림 기록은 이벤트마다 남김)
+		notificationWriteBuffer.add(NotificationDraft.coalesced(NotificationType.RECORD_CREATE,
+				message, recordCreateEvent.getUserList(), recordCreateEvent.getUserName(),
+				recordCreateEvent.getGroupId(), coalesceWindow()));
 	}
 
 	@EventListener
-	public void handleGroupInviteEvent(GroupInviteEvent groupInviteEvent)
-			throws ExecutionException, InterruptedException {
-		String loginUserToken = (String) redisTemplate.opsForValue()
-				.get("fcm:" + groupInviteEvent.getReceiver().getUsername());
-
-		//receiver가 로그아웃했으면 알림 보내기 X
-		if (ObjectUtils.isEmpty(loginUserToken)) {
-			return;
-		}
-
+	public void handleGroupInviteEvent(GroupInviteEvent groupInviteEvent) {
 		String message = NotificationType.GROUP_INVITE.generateNotificationMessage(
 				groupInviteEvent.getTitle(), groupInviteEvent.getSenderName());
 
-		NotificationOneUserRequest notificationOneUserRequest = NotificationOneUserRequest.toRequest(
-				loginUserToken, NotificationType.GROUP_INVITE, message);
-
-		notificationService.sendOneUser(notificationOneUserRequest);
-
-		log.info("알람 전송");
-
-		//알림 기록 db에 저장
-		Notification savedNotification = notificationRepository.saveAndFlush(
-				Notification.from(NotificationType.GROUP_INVITE.getMessageTitle(),
-						message, NotificationType.GROUP_INVITE, false));
-		//알람받을 유저 저장
-		notificationUserRepository.save(NotificationUser.from(savedNotification,
-				groupInviteEvent.getReceiver()));
-
+		saveNotification(NotificationType.GROUP_INVITE, message,
+				List.of(groupInviteEvent.getReceiver()));
 	}
 
-	//알람 보낼 멤버 목록 중 로그인한 유저의 fcmToken 뽑기
-	private List<String> getLoginUserFcmToken(List<User> userList) {
-		// 로그인한 유저의 fcmToken 뽑기
-		// 로그아웃한 회원들은 redis에 저장 x
-		return userList
-				.stream()
-				.map(User::getUsername)
-				.filter(userName -> redisTemplate.hasKey("fcm:" + userName))
-				.map(userName -> (String) redisTemplate.opsForValue().get("fcm:" + userName))
-				.collect(Collectors.toList());
+	//알림 기록, 받을 유저, 유저별 전송 대기열은 커밋 직전에 모아서 한 번에 저장
+	//로그아웃한 유저도 기록은 남기고, 전송 여부는 dispatcher 가 토큰을 보고 결정
+	private void saveNotification(NotificationType notificationType, String message,
+			List<User> receivers) {
+		notificationWriteBuffer.add(NotificationDraft.of(notificationType, message, receivers));
 	}
 
+	private Duration coalesceWindow() {
+		return Duration.ofSeconds(coalesceWindowSeconds);
+	}
 }
@@ -1,6 +1,7 @@
 package com.daengnyangffojjak.dailydaengnyang.utils.event;
 
 import com.daengnyangffojjak.dailydaengnyang.domain.entity.User;
+import java.time.LocalDateTime;
 import java.util.List;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -12,4 +13,8 @@ public class RecordCreateEvent {
 	private final List<User> userList;
 	private final String title;
 	private final String userName;
+	private final Long recordId;
+	private final boolean isPublic;
+	private final LocalDateTime createdAt;
+	private final Long groupId;     //같은 그룹의 연속 등록 알림을 묶는 기준
 }
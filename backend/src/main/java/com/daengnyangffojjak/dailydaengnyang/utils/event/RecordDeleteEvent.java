@@ -0,0 +1,12 @@
+package com.daengnyangffojjak.dailydaengnyang.utils.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class RecordDeleteEvent {
+
+	private final Long recordId;
+	private final boolean wasPublic;
+}
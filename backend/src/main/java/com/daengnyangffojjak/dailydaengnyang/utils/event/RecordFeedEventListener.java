@@ -0,0 +1,52 @@
+package com.daengnyangffojjak.dailydaengnyang.utils.event;
+
+import com.daengnyangffojjak.dailydaengnyang.utils.cache.FeedResponseCache;
+import com.daengnyangffojjak.dailydaengnyang.utils.cache.FeedSegmentCache;
+import com.daengnyangffojjak.dailydaengnyang.utils.cache.FeedTimeline;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 일기 작성/수정/삭제가 커밋된 후 피드 캐시 반영
+ **/
+@Component
+@RequiredArgsConstructor
+public class RecordFeedEventListener {
+
+	private final FeedSegmentCache feedSegmentCache;
+	private final FeedTimeline feedTimeline;
+	private final FeedResponseCache feedResponseCache;
+
+	@TransactionalEventListener
+	public void handleRecordCreateEvent(RecordCreateEvent recordCreateEvent) {
+		if (recordCreateEvent.isPublic()) {
+			feedTimeline.add(recordCreateEvent.getRecordId(), recordCreateEvent.getCreatedAt());
+			feedSegmentCache.evictHead();
+			feedResponseCache.invalidateAll();
+		}
+	}
+
+	@TransactionalEventListener
+	public void handleRecordModifyEvent(RecordModifyEvent recordModifyEvent) {
+		//비공개 -> 비공개 수정은 피드와 무관
+		if (recordModifyEvent.isWasPublic() || recordModifyEvent.isPublic()) {
+			if (!recordModifyEvent.isWasPublic()) {
+				feedTimeline.add(recordModifyEvent.getRecordId(), recordModifyEvent.getCreatedAt());
+			} else if (!recordModifyEvent.isPublic()) {
+				feedTimeline.remove(recordModifyEvent.getRecordId());
+			}
+			feedSegmentCache.evictContaining(recordModifyEvent.getRecordId());
+			feedResponseCache.invalidateAll();
+		}
+	}
+
+	@TransactionalEventListener
+	public void handleRecordDeleteEvent(RecordDeleteEvent recordDeleteEvent) {
+		if (recordDeleteEvent.isWasPublic()) {
+			feedTimeline.remove(recordDeleteEvent.getRecordId());
+			feedSegmentCache.evictContaining(recordDeleteEvent.getRecordId());
+			feedResponseCache.invalidateAll();
+		}
+	}
+}
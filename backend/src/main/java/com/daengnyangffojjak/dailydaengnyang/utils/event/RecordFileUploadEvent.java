@@ -0,0 +1,12 @@
+package com.daengnyangffojjak.dailydaengnyang.utils.event;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class RecordFileUploadEvent {
+
+	private final List<Long> recordFileIds;
+}
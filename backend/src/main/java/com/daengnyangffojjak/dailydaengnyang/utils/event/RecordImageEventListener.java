@@ -0,0 +1,23 @@
+package com.daengnyangffojjak.dailydaengnyang.utils.event;
+
+import com.daengnyangffojjak.dailydaengnyang.service.RecordImageService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+/**
+ * 파일 업로드 응답 후 imageExecutor 에서 축소본 생성 (요청 스레드는 디코딩하지 않음)
+ **/
+@Component
+@RequiredArgsConstructor
+public class RecordImageEventListener {
+
+	private final RecordImageService recordImageService;
+
+	@Async("imageExecutor")
+	@EventListener
+	public void handleRecordFileUploadEvent(RecordFileUploadEvent recordFileUploadEvent) {
+		recordImageService.createVariants(recordFileUploadEvent.getRecordFileIds());
+	}
+}
@@ -0,0 +1,15 @@
+package com.daengnyangffojjak.dailydaengnyang.utils.event;
+
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class RecordModifyEvent {
+
+	private final Long recordId;
+	private final boolean wasPublic;    //수정 전 공개 여부
+	private final boolean isPublic;     //수정 후 공개 여부
+	private final LocalDateTime createdAt;
+}
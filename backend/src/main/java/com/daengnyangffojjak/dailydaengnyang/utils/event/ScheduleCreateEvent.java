@@ -11,5 +11,6 @@ public class ScheduleCreateEvent {
 	private final List<User> userList;
 	private final String title;
 	private final String userName;
+	private final Long groupId;     //같은 그룹의 연속 등록 알림을 묶는 기준
 
 }
@@ -0,0 +1,16 @@
+package com.daengnyangffojjak.dailydaengnyang.utils.notification;
+
+import com.daengnyangffojjak.dailydaengnyang.domain.dto.notification.PushMessage;
+import com.google.firebase.messaging.MessagingErrorCode;
+import java.util.List;
+
+/**
+ * FCM 전송 요청 1회 (최대 500건)
+ * 테스트에서는 가짜 FCM 으로 바꿔서 재시도/토큰 정리 동작을 확인한다.
+ **/
+public interface FcmClient {
+
+	// 메세지 순서대로 결과 반환 - 성공은 null, 실패는 FCM 에러 코드
+	// 요청 자체가 실패하면 FcmRequestException
+	List<MessagingErrorCode> sendAll(List<PushMessage> messages);
+}
@@ -0,0 +1,190 @@
+package com.daengnyangffojjak.dailydaengnyang.utils.notification;
+
+import com.daengnyangffojjak.dailydaengnyang.domain.dto.notification.PushMessage;
+import com.google.firebase.messaging.MessagingErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * FCM 푸시 전송
+ * 1. 메세지를 chunkSize(최대 500, FCM 제한) 단위로 나눠 pushExecutor 에서 동시에 전송 (동시 요청 수 제한)
+ * 2. 전송 전 초당 전송량(token bucket) 만큼만 보내고, 일시적인 오류는 점점 늦춰서 재시도
+ * 3. 만료/잘못된 토큰은 Redis 에서 삭제해서 다음 전송부터 제외 (메세지별 응답의 에러 코드만 사용)
+ *    INVALID_ARGUMENT 는 메세지가 잘못되거나 너무 큰 경우에도 오므로 토큰을 지우지 않고 실패로 처리
+ **/
+@Slf4j
+@Component
+public class FcmPushSender {
+
+	public enum Result {SENT, INVALID_TOKEN, FAILED}
+
+	private static final int FCM_MAX_BATCH = 500;
+	private static final Set<MessagingErrorCode> RETRYABLE = EnumSet.of(
+			MessagingErrorCode.UNAVAILABLE, MessagingErrorCode.INTERNAL,
+			MessagingErrorCode.QUOTA_EXCEEDED);
+	// 앱 삭제 등으로 등록 해제된 토큰 / 다른 프로젝트의 토큰 - 다시 보내도 안 되므로 삭제
+	private static final Set<MessagingErrorCode> INVALID_TOKEN = EnumSet.of(
+			MessagingErrorCode.UNREGISTERED, MessagingErrorCode.SENDER_ID_MISMATCH);
+
+	private final FcmClient fcmClient;
+	private final FcmTokenResolver fcmTokenResolver;
+	private final Executor pushExecutor;
+	private final Semaphore inFlight;
+	private final TokenBucket rateLimiter;
+	private final int chunkSize;
+	private final int maxRetries;
+	private final long backoffMillis;
+	private final Counter sent;
+	private final Counter invalid;
+	private final Counter failed;
+	private final Counter retried;
+
+	public FcmPushSender(FcmClient fcmClient, FcmTokenResolver fcmTokenResolver,
+			@Qualifier("pushExecutor") Executor pushExecutor, MeterRegistry meterRegistry,
+			@Value("${notification.push.chunk-size:500}") int chunkSize,
+			@Value("${notification.push.max-in-flight:4}") int maxInFlight,
+			@Value("${notification.push.max-retries:3}") int maxRetries,
+			@Value("${notification.push.backoff-millis:200}") long backoffMillis,
+			@Value("${notification.push.rate-per-second:1000}") double ratePerSecond) {
+		this.fcmClient = fcmClient;
+		this.fcmTokenResolver = fcmTokenResolver;
+		this.pushExecutor = pushExecutor;
+		this.inFlight = new Semaphore(maxInFlight);
+		this.rateLimiter = new TokenBucket(ratePerSecond);
+		this.chunkSize = Math.min(chunkSize, FCM_MAX_BATCH);
+		this.maxRetries = maxRetries;
+		this.backoffMillis = backoffMillis;
+
+		this.sent = counter(meterRegistry, "sent");
+		this.invalid = counter(meterRegistry, "invalid");
+		this.failed = counter(meterRegistry, "failed");
+		this.retried = Counter.builder("notification.push.retry")
+				.description("일시적인 오류로 다시 보낸 메세지 수")
+				.register(meterRegistry);
+	}
+
+	// 메세지 순서대로 결과 반환
+	public List<Result> send(List<PushMessage> messages) {
+		Result[] results = new Result[messages.size()];
+		List<CompletableFuture<Void>> chunks = new ArrayList<>();
+		for (int from = 0; from < messages.size(); from += chunkSize) {
+			int start = from;
+			int end = Math.min(from + chunkSize, messages.size());
+			try {
+				inFlight.acquire();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+			chunks.add(CompletableFuture.runAsync(
+							() -> sendChunk(messages, start, end, results), pushExecutor)
+					.whenComplete((ignored, e) -> inFlight.release()));
+		}
+		CompletableFuture.allOf(chunks.toArray(new CompletableFuture[0])).join();
+
+		// 중단돼서 보내지 못한 메세지는 실패
+		for (int i = 0; i < results.length; i++) {
+			if (results[i] == null) {
+				results[i] = Result.FAILED;
+			}
+		}
+		pruneInvalidTokens(messages, results);
+		return Arrays.asList(results);
+	}
+
+	private void sendChunk(List<PushMessage> messages, int start, int end, Result[] results) {
+		List<Integer> pending = IntStream.range(start, end).boxed().collect(Collectors.toList());
+		try {
+			for (int attempt = 0; !pending.isEmpty(); attempt++) {
+				if (attempt > 0) {
+					retried.increment(pending.size());
+					Thread.sleep(backoff(attempt));
+				}
+				rateLimiter.acquire(pending.size());
+				List<MessagingErrorCode> codes;
+				try {
+					codes = fcmClient.sendAll(pending.stream()
+							.map(messages::get).collect(Collectors.toList()));
+				} catch (FcmRequestException e) {
+					// 요청 단위 실패는 토큰 문제인지 알 수 없으므로 재시도하거나 실패로 처리
+					if (RETRYABLE.contains(e.getErrorCode()) && attempt < maxRetries) {
+						continue;
+					}
+					pending.forEach(index -> results[index] = Result.FAILED);
+					return;
+				}
+
+				List<Integer> retry = new ArrayList<>();
+				for (int i = 0; i < pending.size(); i++) {
+					int index = pending.get(i);
+					MessagingErrorCode code = codes.get(i);
+					if (code == null) {
+						results[index] = Result.SENT;
+					} else if (INVALID_TOKEN.contains(code)) {
+						results[index] = Result.INVALID_TOKEN;
+					} else if (RETRYABLE.contains(code) && attempt < maxRetries) {
+						retry.add(index);
+					} else {
+						results[index] = Result.FAILED;
+					}
+				}
+				pending = retry;
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (RuntimeException e) {
+			log.error("FCM 전송 중 오류 {}건", pending.size(), e);
+		}
+	}
+
+	// 200ms, 400ms, 800ms ... (최대 32배) + 같은 시점에 몰리지 않도록 jitter
+	private long backoff(int attempt) {
+		long base = backoffMillis << Math.min(attempt - 1, 5);
+		return base + ThreadLocalRandom.current().nextLong(backoffMillis + 1);
+	}
+
+	private void pruneInvalidTokens(List<PushMessage> messages, Result[] results) {
+		Map<String, List<String>> invalidTokens = new LinkedHashMap<>();
+		for (int i = 0; i < results.length; i++) {
+			switch (results[i]) {
+				case SENT -> sent.increment();
+				case FAILED -> failed.increment();
+				case INVALID_TOKEN -> {
+					invalid.increment();
+					if (messages.get(i).getUserName() != null) {
+						invalidTokens.computeIfAbsent(messages.get(i).getUserName(),
+								userName -> new ArrayList<>()).add(messages.get(i).getToken());
+					}
+				}
+			}
+		}
+		if (!invalidTokens.isEmpty()) {
+			log.info("만료된 fcm 토큰 삭제 {}건", invalidTokens.size());
+			fcmTokenResolver.evict(invalidTokens);
+		}
+	}
+
+	private static Counter counter(MeterRegistry meterRegistry, String result) {
+		return Counter.builder("notification.push")
+				.description("FCM 푸시 전송 결과")
+				.tag("result", result)
+				.register(meterRegistry);
+	}
+}
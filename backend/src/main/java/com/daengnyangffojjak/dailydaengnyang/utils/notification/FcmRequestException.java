@@ -0,0 +1,19 @@
+package com.daengnyangffojjak.dailydaengnyang.utils.notification;
+
+import com.google.firebase.messaging.MessagingErrorCode;
+import lombok.Getter;
+
+/**
+ * FCM 요청 자체가 실패 (메세지별 응답을 받지 못함)
+ * 어떤 토큰이 문제인지 알 수 없으므로 토큰 정리에 쓰지 않고 재시도하거나 실패로 처리한다.
+ **/
+@Getter
+public class FcmRequestException extends RuntimeException {
+
+	private final MessagingErrorCode errorCode;
+
+	public FcmRequestException(MessagingErrorCode errorCode, Throwable cause) {
+		super(cause.getMessage(), cause);
+		this.errorCode = errorCode;
+	}
+}
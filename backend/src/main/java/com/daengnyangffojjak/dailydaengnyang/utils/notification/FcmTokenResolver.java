@@ -0,0 +1,165 @@
+package com.daengnyangffojjak.dailydaengnyang.utils.notification;
+
+import com.daengnyangffojjak.dailydaengnyang.utils.redis.RedisKeys;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * 유저별 fcm 기기 토큰 (key: fcm:devices:userName, hash field: 토큰, value: 마지막 접속 시각 epoch millis)
+ * 기기 1대만 저장하던 이전 형식(fcm:userName)은 다시 등록하거나 RedisKeyMigration 을 실행하면 옮겨진다.
+ * 기기마다 따로 저장하므로 휴대폰과 노트북 토큰이 서로 덮어쓰지 않는다.
+ * 앱을 열 때마다 토큰을 다시 등록하므로 그때 마지막 접속 시각과 key 만료 시간(tokenTtl)을 갱신하고,
+ * tokenTtl 동안 접속하지 않은 기기는 조회에서 빼고 FcmTokenSweeper 가 삭제한다.
+ * 인원 수와 관계없이 pipeline 1번 (Redis 왕복 1회)으로 조회한다.
+ **/
+@Component
+public class FcmTokenResolver {
+
+	// 그 사이 다시 로그인해서 토큰이 바뀌었으면 지우지 않음
+	private static final RedisScript<Long> DELETE_IF_EQUALS = new DefaultRedisScript<>(
+			"if redis.call('get', KEYS[1]) == ARGV[1] then "
+					+ "return redis.call('del', KEYS[1]) else return 0 end", Long.class);
+
+	private final RedisTemplate redisTemplate;
+	private final Duration tokenTtl;
+
+	public FcmTokenResolver(RedisTemplate redisTemplate,
+			@Value("${notification.fcm.token-ttl-days:30}") long tokenTtlDays) {
+		this.redisTemplate = redisTemplate;
+		this.tokenTtl = Duration.ofDays(tokenTtlDays);
+	}
+
+	// 토큰 등록 = 이 기기 마지막 접속 시각 갱신
+	public void register(String userName, String token) {
+		String key = RedisKeys.fcmDevices(userName);
+		Object legacyToken = redisTemplate.opsForValue()
+				.getAndDelete(RedisKeys.legacyFcm(userName));
+		String now = String.valueOf(System.currentTimeMillis());
+		if (!ObjectUtils.isEmpty(legacyToken) && !legacyToken.equals(token)) {
+			redisTemplate.opsForHash().put(key, legacyToken, now);
+		}
+		redisTemplate.opsForHash().put(key, token, now);
+		redisTemplate.expire(key, tokenTtl.toSeconds(), TimeUnit.SECONDS);
+	}
+
+	// 로그아웃 - 이 기기 토큰만 삭제 (이전 형식 key 는 같은 토큰일 때만)
+	public void unregister(String userName, String token) {
+		evict(Map.of(userName, List.of(token)));
+	}
+
+	// 계정 단위 해제 (탈퇴, 전체 기기 로그아웃 등) - 모든 기기 토큰 삭제
+	public void unregisterAll(String userName) {
+		redisTemplate.delete(
+				List.of(RedisKeys.fcmDevices(userName), RedisKeys.legacyFcm(userName)));
+	}
+
+	// userName -> 살아있는 기기 토큰들 (요청 순서 유지, 토큰이 없는 유저는 제외)
+	public Map<String, List<String>> resolve(Collection<String> userNames) {
+		List<String> names = new ArrayList<>(new LinkedHashSet<>(userNames));
+		if (names.isEmpty()) {
+			return Map.of();
+		}
+
+		List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+			@Override
+			public Object execute(RedisOperations operations) throws DataAccessException {
+				for (String name : names) {
+					operations.opsForHash().entries(RedisKeys.fcmDevices(name));
+					operations.opsForValue().get(RedisKeys.legacyFcm(name));
+				}
+				return null;
+			}
+		});
+		if (results == null) {
+			return Map.of();
+		}
+
+		long staleBefore = System.currentTimeMillis() - tokenTtl.toMillis();
+		Map<String, List<String>> tokensByName = new LinkedHashMap<>();
+		for (int i = 0; i < names.size(); i++) {
+			List<String> tokens = liveTokens((Map<Object, Object>) results.get(i * 2), staleBefore);
+			Object legacyToken = results.get(i * 2 + 1);
+			if (!ObjectUtils.isEmpty(legacyToken) && !tokens.contains(legacyToken)) {
+				tokens.add((String) legacyToken);
+			}
+			if (!tokens.isEmpty()) {
+				tokensByName.put(names.get(i), tokens);
+			}
+		}
+		return tokensByName;
+	}
+
+	// 한 명 조회 - 토큰이 없으면 빈 목록
+	public List<String> resolve(String userName) {
+		return resolve(List.of(userName)).getOrDefault(userName, List.of());
+	}
+
+	// FCM 이 만료/잘못됐다고 알려준 토큰 삭제 (userName -> tokens)
+	public void evict(Map<String, List<String>> tokensByName) {
+		tokensByName.forEach((userName, tokens) -> {
+			redisTemplate.opsForHash().delete(RedisKeys.fcmDevices(userName), tokens.toArray());
+			tokens.forEach(token -> redisTemplate.execute(DELETE_IF_EQUALS,
+					List.of(RedisKeys.legacyFcm(userName)), token));
+		});
+	}
+
+	// tokenTtl 동안 접속하지 않은 기기 토큰 삭제, 삭제한 토큰 수 반환
+	public long sweep(long nowMillis) {
+		long staleBefore = nowMillis - tokenTtl.toMillis();
+		long removed = 0;
+		try (Cursor<Object> keys = redisTemplate.scan(ScanOptions.scanOptions()
+				.match(RedisKeys.FCM_DEVICES_PREFIX + "*").count(500).build())) {
+			while (keys.hasNext()) {
+				String key = (String) keys.next();
+				Map<Object, Object> devices = redisTemplate.opsForHash().entries(key);
+				List<Object> staleTokens = devices.entrySet().stream()
+						.filter(device -> lastSeen(device.getValue()) < staleBefore)
+						.map(Map.Entry::getKey)
+						.collect(Collectors.toList());
+				if (!staleTokens.isEmpty()) {
+					removed += redisTemplate.opsForHash().delete(key, staleTokens.toArray());
+				}
+			}
+		}
+		return removed;
+	}
+
+	private static List<String> liveTokens(Map<Object, Object> devices, long staleBefore) {
+		List<String> tokens = new ArrayList<>();
+		if (devices == null) {
+			return tokens;
+		}
+		devices.forEach((token, lastSeen) -> {
+			if (lastSeen(lastSeen) >= staleBefore) {
+				tokens.add((String) token);
+			}
+		});
+		return tokens;
+	}
+
+	private static long lastSeen(Object value) {
+		try {
+			return Long.parseLong(String.valueOf(value));
+		} catch (NumberFormatException e) {
+			return 0;
+		}
+	}
+}
@@ -0,0 +1,34 @@
+package com.daengnyangffojjak.dailydaengnyang.utils.notification;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 오래 접속하지 않은 기기의 fcm 토큰 정리
+ * 유저가 한 기기라도 계속 쓰면 key 가 만료되지 않으므로, 쓰지 않는 기기 토큰은 따로 지워야
+ * 전송할 때마다 FCM 에서 실패하지 않는다.
+ **/
+@Slf4j
+@Component
+public class FcmTokenSweeper {
+
+	private final FcmTokenResolver fcmTokenResolver;
+	private final Counter swept;
+
+	public FcmTokenSweeper(FcmTokenResolver fcmTokenResolver, MeterRegistry meterRegistry) {
+		this.fcmTokenResolver = fcmTokenResolver;
+		this.swept = Counter.builder("notification.fcm.token.swept")
+				.description("오래 접속하지 않아 삭제한 fcm 토큰 수")
+				.register(meterRegistry);
+	}
+
+	@Scheduled(cron = "${notification.fcm.sweep-cron:0 30 4 * * *}")
+	public void sweep() {
+		long removed = fcmTokenResolver.sweep(System.currentTimeMillis());
+		swept.increment(removed);
+		log.info("오래된 fcm 토큰 {}건 삭제", removed);
+	}
+}
@@ -0,0 +1,63 @@
+package com.daengnyangffojjak.dailydaengnyang.utils.notification;
+
+import com.daengnyangffojjak.dailydaengnyang.domain.dto.notification.PushMessage;
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.SendResponse;
+import com.google.firebase.messaging.WebpushConfig;
+import com.google.firebase.messaging.WebpushNotification;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Firebase Admin SDK 로 전송 (FirebaseApp 초기화는 NotificationService)
+ * 요청 자체가 실패하면 메세지별 에러 코드 대신 FcmRequestException 을 던진다.
+ **/
+@Slf4j
+@Component
+public class FirebaseFcmClient implements FcmClient {
+
+	@Override
+	public List<MessagingErrorCode> sendAll(List<PushMessage> messages) {
+		try {
+			BatchResponse response = FirebaseMessaging.getInstance().sendAll(
+					messages.stream().map(FirebaseFcmClient::toMessage)
+							.collect(Collectors.toList()));
+			List<MessagingErrorCode> results = new ArrayList<>(messages.size());
+			for (SendResponse sendResponse : response.getResponses()) {
+				results.add(sendResponse.isSuccessful() ? null
+						: errorCode(sendResponse.getException()));
+			}
+			return results;
+		} catch (FirebaseMessagingException e) {
+			log.warn("FCM 요청 실패 {}건 : {}", messages.size(), e.getMessage());
+			throw new FcmRequestException(errorCode(e), e);
+		}
+	}
+
+	private static Message toMessage(PushMessage pushMessage) {
+		return Message.builder()
+				.setToken(pushMessage.getToken())
+				.setWebpushConfig(WebpushConfig.builder()
+						.putHeader("ttl", "300")
+						.setNotification(WebpushNotification.builder()
+								.setTitle(pushMessage.getTitle())
+								.setBody(pushMessage.getBody())
+								.setTag(pushMessage.getTag())
+								.build())
+						.build())
+				.build();
+	}
+
+	// 코드가 없는 실패(네트워크 오류 등)는 일시적인 오류로 보고 재시도
+	private static MessagingErrorCode errorCode(FirebaseMessagingException e) {
+		return e == null || e.getMessagingErrorCode() == null ? MessagingErrorCode.UNAVAILABLE
+				: e.getMessagingErrorCode();
+	}
+}
@@ -0,0 +1,30 @@
+package com.daengnyangffojjak.dailydaengnyang.utils.notification;
+
+import com.daengnyangffojjak.dailydaengnyang.repository.NotificationInboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 알림함 도입 전 알림(notification_user)을 알림함으로 옮김 - 배포 후 한 번만 켜서 실행
+ * 여러 번 실행해도 이미 옮긴 알림은 건너뛴다.
+ **/
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "notification.inbox.backfill", havingValue = "true")
+public class NotificationInboxBackfill implements ApplicationRunner {
+
+	private final NotificationInboxRepository notificationInboxRepository;
+
+	@Override
+	@Transactional
+	public void run(ApplicationArguments args) {
+		int moved = notificationInboxRepository.backfillFromNotificationUser();
+		log.info("알림함으로 옮긴 알림 {}건", moved);
+	}
+}
@@ -0,0 +1,233 @@
+package com.daengnyangffojjak.dailydaengnyang.utils.notification;
+
+import com.daengnyangffojjak.dailydaengnyang.domain.dto.notification.PushMessage;
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.NotificationOutbox;
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.enums.OutboxStatus;
+import com.daengnyangffojjak.dailydaengnyang.repository.NotificationOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 알림 outbox 전송
+ * 1. 전송할 차례인 항목을 batchSize 만큼 골라 조건부 update 로 lease 획득 (다른 서버와 중복 전송 방지)
+ * 2. 받는 유저의 기기 토큰을 Redis 왕복 한 번으로 조회하고, batch 전체를 FcmPushSender 로 한 번에 전송
+ *    같은 그룹에서 연속으로 등록된 일정/일기는 유저별로 묶음 알림 하나로 전송 (알림 기록은 각각 남아 있음)
+ * 3. 성공/실패 상태 저장 - 실패하면 점점 늦춰서 재시도
+ *    아직 lease 를 잡고 있는 항목만 조건부 update 로 저장 (전송이 lease 시간보다 오래 걸려
+ *    다른 dispatcher 가 가져간 항목은 그쪽 결과를 덮어쓰지 않음)
+ * 전송 후 상태 저장 전에 서버가 죽으면 lease 가 끝난 뒤 다시 보내지만 (최소 1회 전송),
+ * 같은 알림은 webpush tag 가 같아 브라우저에 한 번만 표시된다.
+ **/
+@Slf4j
+@Component
+public class NotificationOutboxDispatcher {
+
+	private final NotificationOutboxRepository notificationOutboxRepository;
+	private final FcmPushSender fcmPushSender;
+	private final FcmTokenResolver fcmTokenResolver;
+	private final TransactionTemplate transactionTemplate;
+	private final Timer dispatchLag;
+	private final Counter coalesced;
+	private final Counter leaseLost;
+	private final int batchSize;
+	private final int maxAttempts;
+	private final Duration leaseTime;
+
+	public NotificationOutboxDispatcher(NotificationOutboxRepository notificationOutboxRepository,
+			FcmPushSender fcmPushSender, FcmTokenResolver fcmTokenResolver,
+			TransactionTemplate transactionTemplate, MeterRegistry meterRegistry,
+			@Value("${notification.outbox.batch-size:500}") int batchSize,
+			@Value("${notification.outbox.max-attempts:8}") int maxAttempts,
+			@Value("${notification.outbox.lease-seconds:60}") long leaseSeconds) {
+		this.notificationOutboxRepository = notificationOutboxRepository;
+		this.fcmPushSender = fcmPushSender;
+		this.fcmTokenResolver = fcmTokenResolver;
+		this.transactionTemplate = transactionTemplate;
+		this.batchSize = batchSize;
+		this.maxAttempts = maxAttempts;
+		this.leaseTime = Duration.ofSeconds(leaseSeconds);
+
+		this.dispatchLag = Timer.builder("notification.outbox.dispatch.lag")
+				.description("알림 저장부터 전송까지 걸린 시간")
+				.register(meterRegistry);
+		this.coalesced = Counter.builder("notification.outbox.coalesced")
+				.description("묶음 알림으로 합쳐져 따로 보내지 않은 알림 수")
+				.register(meterRegistry);
+		this.leaseLost = Counter.builder("notification.outbox.lease.lost")
+				.description("결과 저장 전에 lease 를 잃어 저장하지 않은 알림 수")
+				.register(meterRegistry);
+		Gauge.builder("notification.outbox.lag", this,
+						NotificationOutboxDispatcher::oldestPendingSeconds)
+				.description("가장 오래 기다리고 있는 알림의 대기 시간(초)")
+				.baseUnit("seconds")
+				.register(meterRegistry);
+	}
+
+	@Scheduled(fixedDelayString = "${notification.outbox.interval:1000}")
+	public void dispatch() {
+		// 한 번에 batchSize 보다 많이 쌓였으면 이어서 처리
+		while (dispatchBatch(LocalDateTime.now()) == batchSize) {
+			log.debug("알림 outbox 이어서 전송");
+		}
+	}
+
+	// lease 를 잡은 항목 수 반환
+	int dispatchBatch(LocalDateTime now) {
+		List<Long> dueIds = notificationOutboxRepository.findDueIds(OutboxStatus.PENDING, now,
+				PageRequest.of(0, batchSize));
+		if (dueIds.isEmpty()) {
+			return 0;
+		}
+
+		String owner = UUID.randomUUID().toString();
+		Integer leased = transactionTemplate.execute(status -> notificationOutboxRepository.lease(
+				dueIds, owner, now.plus(leaseTime), now, OutboxStatus.PENDING));
+		if (leased == null || leased == 0) {
+			return 0;
+		}
+
+		List<NotificationOutbox> outboxes = notificationOutboxRepository
+				.findByLockOwnerOrderByIdAsc(owner);
+		Map<String, List<String>> tokensByName = fcmTokenResolver.resolve(outboxes.stream()
+				.map(NotificationOutbox::getUserName).collect(Collectors.toList()));
+
+		// 같은 알림은 유저별로 한 건씩, 묶음 알림은 유저별로 하나로 합쳐서
+		// 유저의 모든 기기에 한 번에 전송
+		List<PushMessage> messages = new ArrayList<>();
+		List<Integer> deliveryByMessage = new ArrayList<>();
+		List<List<NotificationOutbox>> deliveries = new ArrayList<>(outboxes.stream()
+				.collect(Collectors.groupingBy(NotificationOutboxDispatcher::deliveryKey,
+						LinkedHashMap::new, Collectors.toList())).values());
+		for (int i = 0; i < deliveries.size(); i++) {
+			List<NotificationOutbox> group = deliveries.get(i);
+			List<String> tokens = tokensByName.getOrDefault(group.get(0).getUserName(),
+					List.of());
+			if (tokens.isEmpty()) {
+				//로그아웃한 유저는 알림 기록만 남기고 전송하지 않음
+				group.forEach(NotificationOutbox::markSkipped);
+				continue;
+			}
+			for (String token : tokens) {
+				messages.add(toMessage(group, token));
+				deliveryByMessage.add(i);
+			}
+		}
+
+		if (!messages.isEmpty()) {
+			List<FcmPushSender.Result> results = fcmPushSender.send(messages);
+			// 기기 하나라도 받았으면 전송 완료 (받은 기기에 다시 보내지 않음)
+			FcmPushSender.Result[] resultByDelivery = new FcmPushSender.Result[deliveries.size()];
+			for (int i = 0; i < results.size(); i++) {
+				int delivery = deliveryByMessage.get(i);
+				resultByDelivery[delivery] = merge(resultByDelivery[delivery], results.get(i));
+			}
+			for (int i = 0; i < deliveries.size(); i++) {
+				if (resultByDelivery[i] != null) {
+					complete(deliveries.get(i), resultByDelivery[i], now);
+				}
+			}
+		}
+
+		Integer recorded = transactionTemplate.execute(status -> record(outboxes, owner));
+		int lost = outboxes.size() - (recorded == null ? 0 : recorded);
+		if (lost > 0) {
+			log.warn("lease 가 끝나 결과를 저장하지 못한 알림 {}건", lost);
+			leaseLost.increment(lost);
+		}
+		return outboxes.size();
+	}
+
+	// 같은 결과(상태, 시도 횟수, 다음 시도 시각)끼리 묶어 update - 저장한 항목 수 반환
+	private int record(List<NotificationOutbox> outboxes, String owner) {
+		Map<Outcome, List<Long>> idsByOutcome = outboxes.stream().collect(Collectors.groupingBy(
+				outbox -> new Outcome(outbox.getStatus(), outbox.getAttempts(),
+						outbox.getNextAttemptAt()),
+				LinkedHashMap::new, Collectors.mapping(NotificationOutbox::getId,
+						Collectors.toList())));
+		int recorded = 0;
+		for (Map.Entry<Outcome, List<Long>> entry : idsByOutcome.entrySet()) {
+			Outcome outcome = entry.getKey();
+			recorded += notificationOutboxRepository.complete(entry.getValue(), owner,
+					outcome.status(), outcome.attempts(), outcome.nextAttemptAt());
+		}
+		return recorded;
+	}
+
+	private record Outcome(OutboxStatus status, int attempts, LocalDateTime nextAttemptAt) {
+
+	}
+
+	// 받는 유저 1명당 한 건, 묶음 알림은 (그룹, 알림 종류, 유저) 당 한 건
+	private static String deliveryKey(NotificationOutbox outbox) {
+		String key = outbox.getCoalesceKey() == null ? "notification:" + outbox.getNotificationId()
+				: "digest:" + outbox.getCoalesceKey();
+		return key + ":" + outbox.getUserName();
+	}
+
+	private static PushMessage toMessage(List<NotificationOutbox> group, String token) {
+		NotificationOutbox first = group.get(0);
+		if (group.size() == 1) {
+			// 재전송돼도 같은 알림이면 tag 가 같음
+			return new PushMessage(first.getUserName(), token, first.getTitle(),
+					first.getBody(), "notification-" + first.getNotificationId());
+		}
+		// 한 유저에게 쌓인 같은 그룹의 일정/일기 등록 알림 여러 개 -> 하나로
+		String body = first.getNotificationType().generateDigestMessage(group.stream()
+				.map(NotificationOutbox::getSenderName).collect(Collectors.toList()), group.size());
+		return new PushMessage(first.getUserName(), token, first.getTitle(), body,
+				"digest-" + first.getCoalesceKey() + "-" + first.getId());
+	}
+
+	// SENT > FAILED(재시도) > INVALID_TOKEN(전송 생략)
+	private static FcmPushSender.Result merge(FcmPushSender.Result current,
+			FcmPushSender.Result result) {
+		if (current == null || current == FcmPushSender.Result.INVALID_TOKEN) {
+			return result;
+		}
+		return current == FcmPushSender.Result.FAILED && result == FcmPushSender.Result.SENT
+				? result : current;
+	}
+
+	private void complete(List<NotificationOutbox> group, FcmPushSender.Result result,
+			LocalDateTime now) {
+		switch (result) {
+			case SENT -> {
+				group.forEach(outbox -> {
+					outbox.markSent();
+					if (outbox.getCreatedAt() != null) {
+						dispatchLag.record(Duration.between(outbox.getCreatedAt(), now));
+					}
+				});
+				coalesced.increment(group.size() - 1);
+			}
+			//만료된 토큰은 FcmPushSender 가 삭제, 다시 로그인할 때까지 전송 생략
+			case INVALID_TOKEN -> group.forEach(NotificationOutbox::markSkipped);
+			case FAILED -> {
+				log.warn("알림 전송 실패 user={}, {}건", group.get(0).getUserName(), group.size());
+				group.forEach(outbox -> outbox.retryLater(now, maxAttempts));
+			}
+		}
+	}
+
+	private double oldestPendingSeconds() {
+		LocalDateTime oldest = notificationOutboxRepository.findOldestCreatedAt(
+				OutboxStatus.PENDING);
+		return oldest == null ? 0 : Duration.between(oldest, LocalDateTime.now()).toSeconds();
+	}
+}
@@ -0,0 +1,78 @@
+package com.daengnyangffojjak.dailydaengnyang.utils.notification;
+
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.enums.OutboxStatus;
+import com.daengnyangffojjak.dailydaengnyang.repository.NotificationOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 처리가 끝난(SENT/SKIPPED/FAILED) outbox 항목 중 보관 기간이 지난 것을 삭제
+ * 한 번에 batchSize 개씩 짧은 트랜잭션으로 지우고, 한 번 실행에 maxBatchesPerRun 번까지만 지움
+ * (전송 대기 중인 PENDING 항목은 지우지 않음)
+ **/
+@Slf4j
+@Component
+public class NotificationOutboxPurger {
+
+	private static final Set<OutboxStatus> FINISHED = EnumSet.of(OutboxStatus.SENT,
+			OutboxStatus.SKIPPED, OutboxStatus.FAILED);
+
+	private final NotificationOutboxRepository notificationOutboxRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final Counter purgedCounter;
+	private final int retentionDays;
+	private final int batchSize;
+	private final int maxBatchesPerRun;
+
+	public NotificationOutboxPurger(NotificationOutboxRepository notificationOutboxRepository,
+			TransactionTemplate transactionTemplate, MeterRegistry meterRegistry,
+			@Value("${notification.outbox.retention-days:7}") int retentionDays,
+			@Value("${notification.outbox.purge.batch-size:1000}") int batchSize,
+			@Value("${notification.outbox.purge.max-batches-per-run:50}") int maxBatchesPerRun) {
+		this.notificationOutboxRepository = notificationOutboxRepository;
+		this.transactionTemplate = transactionTemplate;
+		this.retentionDays = retentionDays;
+		this.batchSize = batchSize;
+		this.maxBatchesPerRun = maxBatchesPerRun;
+
+		this.purgedCounter = Counter.builder("notification.outbox.purged")
+				.description("보관 기간이 지나 삭제한 outbox 항목 수")
+				.register(meterRegistry);
+	}
+
+	@Scheduled(fixedDelayString = "${notification.outbox.purge.interval:3600000}",
+			initialDelayString = "${notification.outbox.purge.initial-delay:300000}")
+	public void purge() {
+		LocalDateTime before = LocalDateTime.now().minusDays(retentionDays);
+		for (int i = 0; i < maxBatchesPerRun; i++) {
+			if (purgeBatch(before) < batchSize) {
+				return;
+			}
+		}
+		log.info("알림 outbox 정리 - 남은 항목은 다음 실행에서 삭제");
+	}
+
+	// 보관 기간이 지난 항목을 한 묶음 삭제 - 조회한 항목 수 반환
+	int purgeBatch(LocalDateTime before) {
+		Integer rows = transactionTemplate.execute(status -> {
+			List<Long> ids = notificationOutboxRepository.findFinishedIds(FINISHED, before,
+					PageRequest.of(0, batchSize));
+			if (ids.isEmpty()) {
+				return 0;
+			}
+			purgedCounter.increment(notificationOutboxRepository.deleteFinished(ids, FINISHED));
+			return ids.size();
+		});
+		return rows == null ? 0 : rows;
+	}
+}
@@ -0,0 +1,127 @@
+package com.daengnyangffojjak.dailydaengnyang.utils.notification;
+
+import com.daengnyangffojjak.dailydaengnyang.domain.dto.notification.NotificationResponse;
+import com.daengnyangffojjak.dailydaengnyang.domain.dto.notification.NotificationStreamEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 이 서버에 연결된 알림 SSE 연결 (로그인한 탭마다 1개)
+ * 1. 유저당 연결 수를 제한하고 넘치면 가장 오래된 연결을 닫음
+ * 2. 일정 시간이 지나면 연결을 닫음 - 브라우저가 Last-Event-ID 로 다시 연결해서 놓친 알림을 받음
+ * 3. heartbeat 로 프록시가 연결을 끊지 않게 하고, 보내지 못한 (끊어진) 연결은 정리
+ **/
+@Slf4j
+@Component
+public class NotificationStreamRegistry {
+
+	private static final String EVENT_NAME = "notification";
+
+	private final Map<String, List<SseEmitter>> emittersByName = new ConcurrentHashMap<>();
+	private final AtomicInteger connections = new AtomicInteger();
+	private final Timer sendLatency;
+	private final long timeoutMillis;
+	private final int maxConnectionsPerUser;
+
+	public NotificationStreamRegistry(MeterRegistry meterRegistry,
+			@Value("${notification.stream.timeout-minutes:30}") long timeoutMinutes,
+			@Value("${notification.stream.max-connections-per-user:5}") int maxConnectionsPerUser) {
+		this.timeoutMillis = Duration.ofMinutes(timeoutMinutes).toMillis();
+		this.maxConnectionsPerUser = maxConnectionsPerUser;
+		this.sendLatency = Timer.builder("notification.stream.send.latency")
+				.description("알림 저장부터 SSE 전송까지 걸린 시간")
+				.register(meterRegistry);
+		Gauge.builder("notification.stream.connections", connections, AtomicInteger::get)
+				.description("이 서버에 연결된 알림 SSE 수")
+				.register(meterRegistry);
+	}
+
+	public SseEmitter connect(String userName) {
+		SseEmitter emitter = new SseEmitter(timeoutMillis);
+		emitter.onCompletion(() -> remove(userName, emitter));
+		emitter.onTimeout(emitter::complete);
+		emitter.onError(e -> remove(userName, emitter));
+
+		List<SseEmitter> emitters = emittersByName.compute(userName, (name, current) -> {
+			List<SseEmitter> list = current == null ? new CopyOnWriteArrayList<>() : current;
+			list.add(emitter);
+			return list;
+		});
+		connections.incrementAndGet();
+
+		// 탭이 너무 많으면 가장 오래된 연결부터 닫음
+		while (emitters.size() > maxConnectionsPerUser) {
+			SseEmitter oldest = emitters.get(0);
+			remove(userName, oldest);
+			oldest.complete();
+		}
+		return emitter;
+	}
+
+	// 다른 서버에서 저장한 알림도 Redis pub/sub 로 받아서 전달 (NotificationStreamRelay)
+	public void deliver(NotificationStreamEvent event) {
+		List<SseEmitter> emitters = emittersByName.get(event.getUserName());
+		if (emitters == null) {
+			return;
+		}
+		NotificationResponse response = event.toResponse();
+		for (SseEmitter emitter : emitters) {
+			if (send(event.getUserName(), emitter, response) && event.getCreatedAt() != null) {
+				sendLatency.record(Duration.between(event.getCreatedAt(), LocalDateTime.now()));
+			}
+		}
+	}
+
+	// 전송 성공 여부 반환, 실패하면 끊어진 연결로 보고 정리
+	public boolean send(String userName, SseEmitter emitter, NotificationResponse response) {
+		try {
+			emitter.send(SseEmitter.event()
+					.id(String.valueOf(response.getId()))
+					.name(EVENT_NAME)
+					.data(response, MediaType.APPLICATION_JSON));
+			return true;
+		} catch (IOException | IllegalStateException e) {
+			remove(userName, emitter);
+			return false;
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${notification.stream.heartbeat-millis:15000}")
+	public void heartbeat() {
+		emittersByName.forEach((userName, emitters) -> emitters.forEach(emitter -> {
+			try {
+				emitter.send(SseEmitter.event().comment("heartbeat"));
+			} catch (IOException | IllegalStateException e) {
+				remove(userName, emitter);
+			}
+		}));
+	}
+
+	int connectionCount() {
+		return connections.get();
+	}
+
+	private void remove(String userName, SseEmitter emitter) {
+		emittersByName.computeIfPresent(userName, (name, emitters) -> {
+			if (emitters.remove(emitter)) {
+				connections.decrementAndGet();
+			}
+			return emitters.isEmpty() ? null : emitters;
+		});
+	}
+}
@@ -0,0 +1,67 @@
+package com.daengnyangffojjak.dailydaengnyang.utils.notification;
+
+import com.daengnyangffojjak.dailydaengnyang.domain.dto.notification.NotificationStreamEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 새 알림을 Redis pub/sub 로 모든 서버에 전달
+ * 유저의 SSE 연결이 어느 서버에 있든 받을 수 있도록, 커밋마다 한 번 publish 하고
+ * 각 서버는 자기에게 연결된 유저에게만 보낸다.
+ **/
+@Slf4j
+@Component
+public class NotificationStreamRelay implements MessageListener {
+
+	static final String CHANNEL = "notification:stream";
+	private static final TypeReference<List<NotificationStreamEvent>> EVENTS_TYPE =
+			new TypeReference<>() {
+			};
+
+	private final RedisTemplate redisTemplate;
+	private final ObjectMapper objectMapper;
+	private final NotificationStreamRegistry notificationStreamRegistry;
+
+	public NotificationStreamRelay(RedisTemplate redisTemplate, ObjectMapper objectMapper,
+			NotificationStreamRegistry notificationStreamRegistry,
+			RedisMessageListenerContainer redisMessageListenerContainer) {
+		this.redisTemplate = redisTemplate;
+		this.objectMapper = objectMapper;
+		this.notificationStreamRegistry = notificationStreamRegistry;
+		redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+	}
+
+	// 한 커밋에서 저장한 알림을 묶어서 publish 1번
+	public void publish(List<NotificationStreamEvent> events) {
+		if (events.isEmpty()) {
+			return;
+		}
+		try {
+			redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(events));
+		} catch (JsonProcessingException | RuntimeException e) {
+			// 실시간 전달만 못할 뿐 알림함/푸시에는 남아 있음
+			log.warn("알림 stream publish 실패 {}건", events.size(), e);
+		}
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		try {
+			List<NotificationStreamEvent> events = objectMapper.readValue(message.getBody(),
+					EVENTS_TYPE);
+			events.forEach(notificationStreamRegistry::deliver);
+		} catch (IOException e) {
+			log.warn("알림 stream 메세지를 읽을 수 없습니다.", e);
+		}
+	}
+}
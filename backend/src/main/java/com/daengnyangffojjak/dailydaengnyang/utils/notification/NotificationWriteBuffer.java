@@ -0,0 +1,94 @@
+package com.daengnyangffojjak.dailydaengnyang.utils.notification;
+
+import com.daengnyangffojjak.dailydaengnyang.domain.dto.notification.NotificationDraft;
+import com.daengnyangffojjak.dailydaengnyang.domain.dto.notification.NotificationStreamEvent;
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.User;
+import com.daengnyangffojjak.dailydaengnyang.repository.NotificationJdbcRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 한 트랜잭션에서 발생한 알림을 모아 커밋 직전에 한 번에 저장
+ * 이벤트가 여러 개여도 테이블별 multi-row insert 로 끝나고, 롤백되면 저장하지 않는다.
+ * 커밋되면 받은 유저들의 안 읽은 알림 수를 올리고, 연결된 SSE 로 새 알림을 보낸다.
+ **/
+@Component
+@RequiredArgsConstructor
+public class NotificationWriteBuffer {
+
+	private static final Object RESOURCE_KEY = NotificationWriteBuffer.class.getName();
+
+	private final NotificationJdbcRepository notificationJdbcRepository;
+	private final UnreadNotificationCounter unreadNotificationCounter;
+	private final NotificationStreamRelay notificationStreamRelay;
+
+	public void add(NotificationDraft draft) {
+		if (draft.getReceivers().isEmpty()) {
+			return;
+		}
+		// 트랜잭션 밖이면 바로 저장
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			notificationStreamRelay.publish(save(List.of(draft)));
+			return;
+		}
+		pendingDrafts().add(draft);
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<NotificationDraft> pendingDrafts() {
+		List<NotificationDraft> drafts = (List<NotificationDraft>) TransactionSynchronizationManager
+				.getResource(RESOURCE_KEY);
+		if (drafts != null) {
+			return drafts;
+		}
+
+		List<NotificationDraft> newDrafts = new ArrayList<>();
+		TransactionSynchronizationManager.bindResource(RESOURCE_KEY, newDrafts);
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			private List<NotificationStreamEvent> saved = List.of();
+
+			@Override
+			public void beforeCommit(boolean readOnly) {
+				saved = save(newDrafts);
+			}
+
+			@Override
+			public void afterCommit() {
+				notificationStreamRelay.publish(saved);
+			}
+
+			@Override
+			public void afterCompletion(int status) {
+				TransactionSynchronizationManager.unbindResourceIfPossible(RESOURCE_KEY);
+			}
+		});
+		return newDrafts;
+	}
+
+	// 안 읽은 알림 수는 커밋된 뒤 받은 유저별로 증가
+	// 저장한 알림을 받은 유저별 SSE 알림으로 반환
+	private List<NotificationStreamEvent> save(List<NotificationDraft> drafts) {
+		List<Long> notificationIds = notificationJdbcRepository.saveAll(drafts);
+		unreadNotificationCounter.increment(drafts.stream()
+				.flatMap(draft -> draft.getReceivers().stream())
+				.collect(Collectors.groupingBy(User::getUsername, Collectors.counting())));
+
+		LocalDateTime createdAt = LocalDateTime.now();
+		List<NotificationStreamEvent> events = new ArrayList<>();
+		for (int i = 0; i < drafts.size(); i++) {
+			NotificationDraft draft = drafts.get(i);
+			for (User receiver : draft.getReceivers()) {
+				events.add(new NotificationStreamEvent(receiver.getUsername(),
+						notificationIds.get(i), draft.getTitle(), draft.getBody(),
+						draft.getNotificationType(), createdAt));
+			}
+		}
+		return events;
+	}
+}
@@ -0,0 +1,45 @@
+package com.daengnyangffojjak.dailydaengnyang.utils.notification;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 초당 전송량 제한 (token bucket)
+ * 가진 토큰보다 많이 요청하면 모자란 만큼 채워질 때까지 기다린다. (여러 스레드가 나눠 씀)
+ **/
+public class TokenBucket {
+
+	private final double capacity;
+	private final double permitsPerNano;
+	private final LongSupplier nanoClock;
+	private double available;
+	private long lastRefill;
+
+	public TokenBucket(double permitsPerSecond) {
+		this(permitsPerSecond, System::nanoTime);
+	}
+
+	TokenBucket(double permitsPerSecond, LongSupplier nanoClock) {
+		this.capacity = permitsPerSecond;   //최대 1초 분량까지 모아둘 수 있음
+		this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+		this.nanoClock = nanoClock;
+		this.available = capacity;
+		this.lastRefill = nanoClock.getAsLong();
+	}
+
+	public void acquire(int permits) throws InterruptedException {
+		long waitNanos = reserve(permits);
+		if (waitNanos > 0) {
+			TimeUnit.NANOSECONDS.sleep(waitNanos);
+		}
+	}
+
+	// 토큰을 먼저 가져가고(모자라면 빚), 빚을 갚을 때까지 기다릴 시간 반환
+	synchronized long reserve(int permits) {
+		long now = nanoClock.getAsLong();
+		available = Math.min(capacity, available + (now - lastRefill) * permitsPerNano);
+		lastRefill = now;
+		available -= permits;
+		return available >= 0 ? 0 : (long) Math.ceil(-available / permitsPerNano);
+	}
+}
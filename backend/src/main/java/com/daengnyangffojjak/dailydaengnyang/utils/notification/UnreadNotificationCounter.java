@@ -0,0 +1,149 @@
+package com.daengnyangffojjak.dailydaengnyang.utils.notification;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 유저별 안 읽은 알림 수 (key: notification:unread:userName)
+ * 헤더 알림 뱃지용 - 알림함을 조회하지 않고 Redis GET 한 번으로 응답한다.
+ * key 가 없으면 모르는 상태로 보고 증감하지 않는다. (다음 조회 때 MySQL 에서 다시 계산)
+ * 증감은 커밋된 뒤에 반영하고, 어긋난 값은 UnreadNotificationReconciler 가 주기적으로 맞춘다.
+ * 다시 계산한 값은 계산 전에 읽어 둔 값(snapshot)과 그대로일 때만 덮어쓰므로
+ * 계산하는 동안 반영된 증감은 잃지 않는다. (바뀐 key 는 다음 계산 때 맞춤)
+ **/
+@Component
+@RequiredArgsConstructor
+public class UnreadNotificationCounter {
+
+	private static final String KEY_PREFIX = "notification:unread:";
+	private static final byte[] INCREMENT_IF_EXISTS = (
+			"if redis.call('exists', KEYS[1]) == 1 then "
+					+ "return redis.call('incrby', KEYS[1], ARGV[1]) end return -1")
+			.getBytes(StandardCharsets.UTF_8);
+	// 0 아래로 내려가지 않음
+	private static final byte[] DECREMENT_IF_EXISTS = (
+			"if redis.call('exists', KEYS[1]) == 0 then return -1 end "
+					+ "local count = redis.call('decr', KEYS[1]) "
+					+ "if count < 0 then redis.call('set', KEYS[1], 0) return 0 end return count")
+			.getBytes(StandardCharsets.UTF_8);
+	// 읽어 둔 값(ARGV[1])과 같을 때만 새 값(ARGV[2])으로 교체, 새 값이 0 이면 삭제
+	private static final byte[] REPLACE_IF_UNCHANGED = (
+			"if redis.call('get', KEYS[1]) ~= ARGV[1] then return 0 end "
+					+ "if ARGV[2] == '0' then redis.call('del', KEYS[1]) "
+					+ "else redis.call('set', KEYS[1], ARGV[2]) end return 1")
+			.getBytes(StandardCharsets.UTF_8);
+	private static final int BATCH_SIZE = 500;
+
+	private final RedisTemplate redisTemplate;
+
+	// 없으면 null
+	public Long get(String userName) {
+		Object count = redisTemplate.opsForValue().get(KEY_PREFIX + userName);
+		return count == null ? null : Long.valueOf(String.valueOf(count));
+	}
+
+	// MySQL 에서 계산한 값으로 초기화 - 그 사이 다른 요청이 먼저 넣었으면 그대로 둠
+	public void initialize(String userName, long count) {
+		redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + userName, String.valueOf(count));
+	}
+
+	// 알림 받은 유저들 (userName -> 받은 알림 수), 왕복 1회
+	public void increment(Map<String, Long> countsByName) {
+		if (countsByName.isEmpty()) {
+			return;
+		}
+		afterCommit(() -> redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			countsByName.forEach((userName, count) -> eval(connection, INCREMENT_IF_EXISTS,
+					userName, String.valueOf(count)));
+			return null;
+		}));
+	}
+
+	public void decrement(String userName) {
+		afterCommit(() -> redisTemplate.execute((RedisCallback<Object>) connection ->
+				eval(connection, DECREMENT_IF_EXISTS, userName)));
+	}
+
+	// 다시 계산하기 전에 지금 값 읽어 두기 (userName -> 값), BATCH_SIZE 개씩 MGET
+	@SuppressWarnings("unchecked")
+	public Map<String, String> snapshot() {
+		List<String> keys = new ArrayList<>();
+		try (Cursor<Object> cursor = redisTemplate.scan(
+				ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(BATCH_SIZE).build())) {
+			while (cursor.hasNext()) {
+				keys.add((String) cursor.next());
+			}
+		}
+		Map<String, String> snapshot = new HashMap<>();
+		for (int from = 0; from < keys.size(); from += BATCH_SIZE) {
+			List<String> batch = keys.subList(from, Math.min(from + BATCH_SIZE, keys.size()));
+			List<Object> values = redisTemplate.opsForValue().multiGet(batch);
+			for (int i = 0; i < batch.size(); i++) {
+				if (values != null && values.get(i) != null) {
+					snapshot.put(batch.get(i).substring(KEY_PREFIX.length()),
+							String.valueOf(values.get(i)));
+				}
+			}
+		}
+		return snapshot;
+	}
+
+	// MySQL 에서 다시 계산한 값으로 교체 - snapshot 이후 바뀌지 않은 key 만, 안 읽은 알림이 없으면 삭제
+	// key 가 없던 유저는 만들지 않음 (다음 조회 때 initialize), BATCH_SIZE 개씩 pipeline
+	// 교체한 key 수 반환
+	public long replaceAll(Map<String, String> snapshot, Map<String, Long> countsByName) {
+		List<Map.Entry<String, String>> entries = new ArrayList<>(snapshot.entrySet());
+		long replaced = 0;
+		for (int from = 0; from < entries.size(); from += BATCH_SIZE) {
+			List<Map.Entry<String, String>> batch = entries.subList(from,
+					Math.min(from + BATCH_SIZE, entries.size()));
+			List<Object> results = redisTemplate.executePipelined(
+					(RedisCallback<Object>) connection -> {
+						batch.forEach(entry -> eval(connection, REPLACE_IF_UNCHANGED,
+								entry.getKey(), entry.getValue(),
+								String.valueOf(countsByName.getOrDefault(entry.getKey(), 0L))));
+						return null;
+					});
+			replaced += results.stream().filter(result -> Long.valueOf(1L).equals(result))
+					.count();
+		}
+		return replaced;
+	}
+
+	private Object eval(RedisConnection connection, byte[] script, String userName,
+			String... args) {
+		byte[][] keysAndArgs = new byte[args.length + 1][];
+		keysAndArgs[0] = (KEY_PREFIX + userName).getBytes(StandardCharsets.UTF_8);
+		for (int i = 0; i < args.length; i++) {
+			keysAndArgs[i + 1] = args[i].getBytes(StandardCharsets.UTF_8);
+		}
+		return connection.scriptingCommands().eval(script, ReturnType.INTEGER, 1, keysAndArgs);
+	}
+
+	// 롤백된 알림/읽음은 반영하지 않음
+	private static void afterCommit(Runnable task) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			task.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				task.run();
+			}
+		});
+	}
+}
@@ -0,0 +1,37 @@
+package com.daengnyangffojjak.dailydaengnyang.utils.notification;
+
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.NotificationInbox;
+import com.daengnyangffojjak.dailydaengnyang.repository.NotificationInboxRepository;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 안 읽은 알림 수를 MySQL 알림함 기준으로 다시 계산
+ * Redis 반영 전에 서버가 죽거나, 30일이 지나 목록에서 빠진 알림이 남아 있는 경우를 바로잡는다.
+ **/
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UnreadNotificationReconciler {
+
+	private final NotificationInboxRepository notificationInboxRepository;
+	private final UnreadNotificationCounter unreadNotificationCounter;
+
+	@Scheduled(cron = "${notification.unread.reconcile-cron:0 0 5 * * *}")
+	public void reconcile() {
+		// 계산하는 동안 바뀐 key 는 덮어쓰지 않도록 계산 전에 읽어 둠
+		Map<String, String> snapshot = unreadNotificationCounter.snapshot();
+		Map<String, Long> countsByName = new HashMap<>();
+		notificationInboxRepository.countUnreadGroupByUserName(
+						LocalDateTime.now().minusDays(NotificationInbox.LIST_DAYS))
+				.forEach(row -> countsByName.put((String) row[0], (Long) row[1]));
+		long replaced = unreadNotificationCounter.replaceAll(snapshot, countsByName);
+		log.info("안 읽은 알림 수 다시 계산 - 유저 {}명, 교체 {}/{}건", countsByName.size(), replaced,
+				snapshot.size());
+	}
+}
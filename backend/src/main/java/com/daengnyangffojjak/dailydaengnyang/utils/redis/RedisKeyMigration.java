@@ -0,0 +1,253 @@
+package com.daengnyangffojjak.dailydaengnyang.utils.redis;
+
+import com.daengnyangffojjak.dailydaengnyang.utils.notification.FcmTokenResolver;
+import com.daengnyangffojjak.dailydaengnyang.utils.token.RevokedTokenRegistry;
+import com.daengnyangffojjak.dailydaengnyang.utils.token.TokenDigest;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이전 형식 Redis key 를 RedisKeys 형식으로 옮기고, 두 형식의 메모리 사용량을 비교
+ * 1. 블랙리스트  : access token 원문 -> bl:digest (+ bl:index)
+ * 2. refresh token : userName -> rt:userName (value 도 token 원문 -> digest)
+ * 3. fcm 토큰    : fcm:userName -> fcm:devices:userName
+ * 남은 만료 시간은 그대로 유지하고, 이미 새 형식 key 가 있으면 (더 최근 값) 덮어쓰지 않는다.
+ * 블랙리스트는 로그아웃과 같은 경로(RevokedTokenRegistry.revoke)로 옮겨서 모든 서버의 filter 에 반영한 뒤 이전 key 를 지운다.
+ * 사용량은 두 가지로 보여준다.
+ * - *PayloadBytes : key + value 길이(byte) 합 (Redis 내부 overhead 제외 추정치)
+ * - *MemoryBytesPerKey : 형식별로 최대 MEMORY_SAMPLE_SIZE 개 key 의 MEMORY USAGE 평균
+ **/
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisKeyMigration {
+
+	private static final Pattern JWT = Pattern.compile(
+			"^[A-Za-z0-9_-]+\\.[A-Za-z0-9_-]+\\.[A-Za-z0-9_-]+$");
+	private static final int DIGEST_LENGTH = 22;        // 16 byte digest base64
+	private static final int SCORE_LENGTH = 8;          // zset score (double)
+	private static final int LAST_SEEN_LENGTH = 13;     // epoch millis
+	private static final int MEMORY_SAMPLE_SIZE = 100;
+
+	private final RedisTemplate redisTemplate;
+	private final FcmTokenResolver fcmTokenResolver;
+	private final RevokedTokenRegistry revokedTokenRegistry;
+
+	public enum Category {
+		BLACKLIST, REFRESH_TOKEN, FCM
+	}
+
+	// 카테고리별 {legacyKeys, legacyPayloadBytes, legacyMemoryBytesPerKey,
+	//           compactKeys, compactPayloadBytes, compactMemoryBytesPerKey}
+	// compactPayloadBytes 는 지금 있는 새 형식 key 와 이전 형식을 옮겼을 때의 크기 합
+	public Map<Category, Map<String, Long>> report() {
+		Map<Category, long[]> totals = new EnumMap<>(Category.class);
+		for (Category category : Category.values()) {
+			// {legacyKeys, legacyPayload, legacySampled, legacyMemory,
+			//  compactKeys, compactPayload, compactSampled, compactMemory}
+			totals.put(category, new long[8]);
+		}
+		scan(key -> {
+			Category compact = compactCategory(key);
+			if (compact != null) {
+				long[] total = totals.get(compact);
+				total[4]++;
+				total[5] += compactSize(compact, key);
+				sampleMemory(total, 6, key);
+				return;
+			}
+			LegacyEntry legacy = legacyEntry(key);
+			if (legacy != null) {
+				long[] total = totals.get(legacy.category);
+				total[0]++;
+				total[1] += bytes(key) + bytes(legacy.value);
+				total[5] += migratedSize(legacy.category, key, legacy.value);
+				sampleMemory(total, 2, key);
+			}
+		});
+
+		Map<Category, Map<String, Long>> report = new EnumMap<>(Category.class);
+		totals.forEach((category, total) -> {
+			Map<String, Long> row = new LinkedHashMap<>();
+			row.put("legacyKeys", total[0]);
+			row.put("legacyPayloadBytes", total[1]);
+			row.put("legacyMemoryBytesPerKey", total[2] == 0 ? 0 : total[3] / total[2]);
+			row.put("compactKeys", total[4]);
+			row.put("compactPayloadBytes", total[5]);
+			row.put("compactMemoryBytesPerKey", total[6] == 0 ? 0 : total[7] / total[6]);
+			report.put(category, row);
+		});
+		return report;
+	}
+
+	// total[index] : 잰 key 수, total[index + 1] : MEMORY USAGE 합
+	private void sampleMemory(long[] total, int index, String key) {
+		if (total[index] >= MEMORY_SAMPLE_SIZE) {
+			return;
+		}
+		Long usage = memoryUsage(key);
+		if (usage != null) {
+			total[index]++;
+			total[index + 1] += usage;
+		}
+	}
+
+	// MEMORY USAGE 를 막아둔 Redis 면 null
+	@SuppressWarnings("unchecked")
+	private Long memoryUsage(String key) {
+		try {
+			return (Long) redisTemplate.execute((RedisCallback<Object>) connection ->
+					connection.execute("MEMORY", "USAGE".getBytes(StandardCharsets.UTF_8),
+							key.getBytes(StandardCharsets.UTF_8)));
+		} catch (RuntimeException e) {
+			log.debug("MEMORY USAGE 실패 {}", key, e);
+			return null;
+		}
+	}
+
+	// 옮긴 key 수 반환
+	public Map<Category, Long> migrate() {
+		Map<Category, Long> migrated = new EnumMap<>(Category.class);
+		for (Category category : Category.values()) {
+			migrated.put(category, 0L);
+		}
+		scan(key -> {
+			LegacyEntry legacy = legacyEntry(key);
+			if (legacy != null && migrate(key, legacy)) {
+				migrated.merge(legacy.category, 1L, Long::sum);
+			}
+		});
+		// 블랙리스트를 모두 옮겼으므로 이전 index 는 필요 없음
+		redisTemplate.delete(RedisKeys.LEGACY_BLACKLIST_INDEX);
+		log.info("Redis key 마이그레이션 완료 {}", migrated);
+		return migrated;
+	}
+
+	private boolean migrate(String key, LegacyEntry legacy) {
+		Long ttl = redisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+		switch (legacy.category) {
+			case BLACKLIST -> {
+				if (ttl == null || ttl <= 0) {
+					return false;
+				}
+				// bl:version 증가 + pub/sub 로 다른 서버 filter 에도 넣음
+				revokedTokenRegistry.revoke(key, ttl);
+			}
+			case REFRESH_TOKEN -> {
+				if (ttl == null || ttl <= 0) {
+					return false;
+				}
+				// 옮기는 사이 로그인/재발급으로 새 형식 key 가 생겼으면 그 값이 최신 - 이전 key 만 지움
+				Boolean moved = redisTemplate.opsForValue().setIfAbsent(
+						RedisKeys.refreshToken(key),
+						TokenDigest.encode(TokenDigest.shortOf(legacy.value)), ttl,
+						TimeUnit.MILLISECONDS);
+				if (!Boolean.TRUE.equals(moved)) {
+					redisTemplate.delete(key);
+					return false;
+				}
+			}
+			case FCM -> {
+				// 이전 key 를 읽어서 옮기고 지움
+				fcmTokenResolver.register(key.substring(RedisKeys.LEGACY_FCM_PREFIX.length()),
+						legacy.value);
+				return true;
+			}
+		}
+		redisTemplate.delete(key);
+		return true;
+	}
+
+	private void scan(Consumer<String> consumer) {
+		try (Cursor<Object> keys = redisTemplate.scan(
+				ScanOptions.scanOptions().count(1000).build())) {
+			while (keys.hasNext()) {
+				consumer.accept((String) keys.next());
+			}
+		}
+	}
+
+	private static Category compactCategory(String key) {
+		if (key.equals(RedisKeys.BLACKLIST_INDEX) || key.equals(RedisKeys.BLACKLIST_VERSION)) {
+			return null;
+		}
+		if (key.startsWith(RedisKeys.BLACKLIST_PREFIX)) {
+			return Category.BLACKLIST;
+		}
+		if (key.startsWith(RedisKeys.REFRESH_TOKEN_PREFIX)) {
+			return Category.REFRESH_TOKEN;
+		}
+		if (key.startsWith(RedisKeys.FCM_DEVICES_PREFIX)) {
+			return Category.FCM;
+		}
+		return null;
+	}
+
+	// 이전 형식이면 카테고리와 value, 아니면 null
+	private LegacyEntry legacyEntry(String key) {
+		boolean legacyFcm = key.startsWith(RedisKeys.LEGACY_FCM_PREFIX)
+				&& !key.startsWith(RedisKeys.FCM_DEVICES_PREFIX);
+		boolean jwtKey = JWT.matcher(key).matches();
+		if (!legacyFcm && !jwtKey && key.contains(":")) {
+			return null;
+		}
+		if (redisTemplate.type(key) != DataType.STRING) {
+			return null;
+		}
+		Object value = redisTemplate.opsForValue().get(key);
+		if (!(value instanceof String stringValue)) {
+			return null;
+		}
+		if (legacyFcm) {
+			return new LegacyEntry(Category.FCM, stringValue);
+		}
+		if (jwtKey) {
+			return new LegacyEntry(Category.BLACKLIST, stringValue);
+		}
+		// refresh token - key 는 userName, value 는 token 원문
+		return JWT.matcher(stringValue).matches()
+				? new LegacyEntry(Category.REFRESH_TOKEN, stringValue) : null;
+	}
+
+	private long compactSize(Category category, String key) {
+		return switch (category) {
+			case BLACKLIST -> bytes(key) + 1 + DIGEST_LENGTH + SCORE_LENGTH;
+			case REFRESH_TOKEN -> bytes(key) + DIGEST_LENGTH;
+			case FCM -> redisTemplate.opsForHash().entries(key).keySet().stream()
+					.mapToLong(token -> bytes((String) token) + LAST_SEEN_LENGTH)
+					.sum() + bytes(key);
+		};
+	}
+
+	private static long migratedSize(Category category, String key, String value) {
+		return switch (category) {
+			case BLACKLIST -> RedisKeys.BLACKLIST_PREFIX.length() + DIGEST_LENGTH + 1
+					+ DIGEST_LENGTH + SCORE_LENGTH;
+			case REFRESH_TOKEN -> bytes(RedisKeys.refreshToken(key)) + DIGEST_LENGTH;
+			case FCM -> bytes(RedisKeys.fcmDevices(
+					key.substring(RedisKeys.LEGACY_FCM_PREFIX.length()))) + bytes(value)
+					+ LAST_SEEN_LENGTH;
+		};
+	}
+
+	private static long bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8).length;
+	}
+
+	private record LegacyEntry(Category category, String value) {
+
+	}
+}
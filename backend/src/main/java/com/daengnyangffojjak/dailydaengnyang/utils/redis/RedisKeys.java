@@ -0,0 +1,65 @@
+package com.daengnyangffojjak.dailydaengnyang.utils.redis;
+
+import com.daengnyangffojjak.dailydaengnyang.utils.token.TokenDigest;
+
+/**
+ * 인증/푸시 관련 Redis key 모음
+ * rt:  refresh token (로그인 세션별 rt:userName:familyId, value 는 token digest / :prev 는 직전 token digest)
+ *      family 가 생기기 전에 발급된 세션은 rt:userName
+ * bl:  로그아웃한 access token (token digest 별, bl:index 는 만료 시각 index, bl:version 은 로그아웃 횟수)
+ * fcm: 기기별 fcm 토큰
+ * token 으로 만드는 key 는 token 원문(수백 byte) 대신 고정 길이 digest(16 byte, base64 22자)를 쓴다.
+ * legacy* 는 이전 형식 - redis.keys.legacy-read 동안 같이 읽고, RedisKeyMigration 으로 옮긴다.
+ **/
+public final class RedisKeys {
+
+	public static final String REFRESH_TOKEN_PREFIX = "rt:";
+	public static final String BLACKLIST_PREFIX = "bl:";
+	public static final String BLACKLIST_INDEX = BLACKLIST_PREFIX + "index";
+	public static final String BLACKLIST_VERSION = BLACKLIST_PREFIX + "version";
+	public static final String FCM_DEVICES_PREFIX = "fcm:devices:";
+	public static final String LEGACY_FCM_PREFIX = "fcm:";
+	public static final String LEGACY_BLACKLIST_INDEX = "blacklist:index";
+
+	private RedisKeys() {
+	}
+
+	public static String refreshToken(String userName) {
+		return REFRESH_TOKEN_PREFIX + userName;
+	}
+
+	// familyId : 로그인 세션(기기)별 refresh token family (null 이면 family 없는 이전 세션)
+	public static String refreshToken(String userName, String familyId) {
+		return familyId == null ? refreshToken(userName) : refreshToken(userName) + ":" + familyId;
+	}
+
+	// 바로 전에 교체된 refresh token - 여러 탭이 동시에 재발급할 때 탈취로 오인하지 않기 위해 잠시 보관
+	public static String previousRefreshToken(String userName, String familyId) {
+		return refreshToken(userName, familyId) + ":prev";
+	}
+
+	public static String blacklist(String accessToken) {
+		return blacklist(TokenDigest.shortOf(accessToken));
+	}
+
+	public static String blacklist(byte[] digest) {
+		return BLACKLIST_PREFIX + TokenDigest.encode(digest);
+	}
+
+	public static String fcmDevices(String userName) {
+		return FCM_DEVICES_PREFIX + userName;
+	}
+
+	// 이전 형식 - refresh token 은 userName 그대로, 블랙리스트는 access token 원문이 key
+	public static String legacyRefreshToken(String userName) {
+		return userName;
+	}
+
+	public static String legacyBlacklist(String accessToken) {
+		return accessToken;
+	}
+
+	public static String legacyFcm(String userName) {
+		return LEGACY_FCM_PREFIX + userName;
+	}
+}
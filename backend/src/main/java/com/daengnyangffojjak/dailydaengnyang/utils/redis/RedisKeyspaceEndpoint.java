@@ -0,0 +1,33 @@
+package com.daengnyangffojjak.dailydaengnyang.utils.redis;
+
+import com.daengnyangffojjak.dailydaengnyang.utils.redis.RedisKeyMigration.Category;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인증/푸시 Redis key 관리용 actuator endpoint
+ * GET  /actuator/rediskeyspace : 이전 형식과 새 형식(RedisKeys)의 key 수와 사용량(payload 추정치, MEMORY USAGE 표본) 비교
+ * POST /actuator/rediskeyspace : 이전 형식 key 를 새 형식으로 옮김
+ * management.endpoints.web.exposure.include 에 rediskeyspace 를 추가해야 노출된다.
+ **/
+@Component
+@Endpoint(id = "rediskeyspace")
+@RequiredArgsConstructor
+public class RedisKeyspaceEndpoint {
+
+	private final RedisKeyMigration redisKeyMigration;
+
+	@ReadOperation
+	public Map<Category, Map<String, Long>> report() {
+		return redisKeyMigration.report();
+	}
+
+	@WriteOperation
+	public Map<Category, Long> migrate() {
+		return redisKeyMigration.migrate();
+	}
+}
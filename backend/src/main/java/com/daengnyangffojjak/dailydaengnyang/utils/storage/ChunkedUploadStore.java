@@ -0,0 +1,24 @@
+package com.daengnyangffojjak.dailydaengnyang.utils.storage;
+
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * 이어 올리기(청크) 업로드 저장소
+ * 청크는 받은 즉시 저장소로 흘려보내고 JVM 에 파일 전체를 모으지 않는다.
+ * record.storage.type 으로 선택 (s3 - 기본, local - 로컬 디스크)
+ **/
+public interface ChunkedUploadStore {
+
+	//업로드 시작 - 저장소의 업로드 id 반환
+	String begin(String key, String contentType);
+
+	//partNumber 는 1부터, 반환값은 완료 시 필요한 part 식별값(etag)
+	String uploadPart(String key, String uploadId, int partNumber, InputStream inputStream,
+			long length);
+
+	//part 를 순서대로 합쳐 파일 완성 - 저장된 파일 url 반환
+	String complete(String key, String uploadId, List<String> partETags);
+
+	void abort(String key, String uploadId);
+}
@@ -0,0 +1,25 @@
+package com.daengnyangffojjak.dailydaengnyang.utils.storage;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 업로드 이미지의 축소본 종류
+ * 원본 key 에서 항상 같은 key 가 나오므로 다시 변환해도 같은 파일을 덮어쓴다.
+ * records/<uuid>.png -> records/<uuid>_thumb.jpg, records/<uuid>_medium.jpg
+ **/
+@Getter
+@RequiredArgsConstructor
+public enum ImageVariant {
+	THUMBNAIL("thumb", 320),    //피드 카드
+	MEDIUM("medium", 1080);     //상세 화면
+
+	private final String suffix;
+	private final int maxWidth;
+
+	public String keyOf(String originalKey) {
+		int idx = originalKey.lastIndexOf(".");
+		String base = idx < 0 ? originalKey : originalKey.substring(0, idx);
+		return base + "_" + suffix + ".jpg";
+	}
+}
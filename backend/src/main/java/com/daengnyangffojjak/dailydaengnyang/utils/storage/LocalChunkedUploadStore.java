@@ -0,0 +1,109 @@
+package com.daengnyangffojjak.dailydaengnyang.utils.storage;
+
+import com.daengnyangffojjak.dailydaengnyang.exception.ErrorCode;
+import com.daengnyangffojjak.dailydaengnyang.exception.FileException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로컬 디스크 청크 저장 (S3 대신 개발/단일 서버용)
+ * part 는 <local-dir>/parts/<uploadId>/<partNumber>.part 로 스트리밍 저장,
+ * 완료 시 FileChannel.transferTo 로 이어 붙여 LocalRecordStorage 의 <local-dir>/<key> 에 저장한다.
+ **/
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "record.storage.type", havingValue = "local")
+public class LocalChunkedUploadStore implements ChunkedUploadStore {
+
+	private final LocalRecordStorage localRecordStorage;
+
+	@Override
+	public String begin(String key, String contentType) {
+		String uploadId = UUID.randomUUID().toString();
+		try {
+			Files.createDirectories(partDir(uploadId));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return uploadId;
+	}
+
+	@Override
+	public String uploadPart(String key, String uploadId, int partNumber,
+			InputStream inputStream, long length) {
+		Path part = partDir(uploadId).resolve(partNumber + ".part");
+		try {
+			long copied = Files.copy(inputStream, part, StandardCopyOption.REPLACE_EXISTING);
+			if (copied != length) {
+				Files.deleteIfExists(part);
+				throw new FileException(ErrorCode.INVALID_CHUNK);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return String.valueOf(length);
+	}
+
+	@Override
+	public String complete(String key, String uploadId, List<String> partETags) {
+		Path target = localRecordStorage.resolve(key);
+		try {
+			Files.createDirectories(target.getParent());
+			try (FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE,
+					StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+				for (int partNumber = 1; partNumber <= partETags.size(); partNumber++) {
+					try (FileChannel in = FileChannel.open(
+							partDir(uploadId).resolve(partNumber + ".part"))) {
+						long position = 0;
+						long size = in.size();
+						while (position < size) {
+							position += in.transferTo(position, size - position, out);
+						}
+					}
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		deletePartDir(uploadId);
+		return localRecordStorage.urlOf(key);
+	}
+
+	@Override
+	public void abort(String key, String uploadId) {
+		deletePartDir(uploadId);
+	}
+
+	private Path partDir(String uploadId) {
+		return localRecordStorage.getRootDir().resolve("parts").resolve(uploadId);
+	}
+
+	private void deletePartDir(String uploadId) {
+		Path dir = partDir(uploadId);
+		if (!Files.exists(dir)) {
+			return;
+		}
+		try (Stream<Path> parts = Files.list(dir)) {
+			for (Path part : parts.toList()) {
+				Files.deleteIfExists(part);
+			}
+			Files.deleteIfExists(dir);
+		} catch (IOException e) {
+			log.warn("업로드 임시 파일 삭제 실패 {}", dir, e);
+		}
+	}
+}
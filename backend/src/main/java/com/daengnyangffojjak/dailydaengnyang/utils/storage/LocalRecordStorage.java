@@ -0,0 +1,91 @@
+package com.daengnyangffojjak.dailydaengnyang.utils.storage;
+
+import com.daengnyangffojjak.dailydaengnyang.exception.ErrorCode;
+import com.daengnyangffojjak.dailydaengnyang.exception.FileException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로컬 디스크 저장소 - <local-dir>/<key> 에 저장하고 LocalFileController 가 <url-prefix><key> 로 제공
+ **/
+@Component
+@ConditionalOnProperty(name = "record.storage.type", havingValue = "local")
+public class LocalRecordStorage implements RecordStorage {
+
+	@Getter
+	private final Path rootDir;
+	private final String urlPrefix;
+
+	public LocalRecordStorage(
+			@Value("${record.storage.local-dir:${java.io.tmpdir}/daengnyang-files}") String rootDir,
+			@Value("${record.storage.local-url-prefix:/files/}") String urlPrefix) {
+		this.rootDir = Path.of(rootDir).toAbsolutePath().normalize();
+		this.urlPrefix = urlPrefix;
+	}
+
+	@Override
+	public void store(String key, InputStream inputStream, long length, String contentType) {
+		Path path = resolve(key);
+		try {
+			Files.createDirectories(path.getParent());
+			Files.copy(inputStream, path, StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Override
+	public void delete(String key) {
+		try {
+			Files.deleteIfExists(resolve(key));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Override
+	public List<String> deleteAll(List<String> keys) {
+		List<String> failedKeys = new ArrayList<>();
+		for (String key : keys) {
+			try {
+				delete(key);
+			} catch (RuntimeException e) {
+				failedKeys.add(key);
+			}
+		}
+		return failedKeys;
+	}
+
+	@Override
+	public InputStream open(String key) {
+		try {
+			return Files.newInputStream(resolve(key));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Override
+	public String urlOf(String key) {
+		return urlPrefix + key;
+	}
+
+	//key 가 rootDir 밖을 가리키지 않도록 확인
+	public Path resolve(String key) {
+		Path path = rootDir.resolve(key).normalize();
+		if (!path.startsWith(rootDir) || path.equals(rootDir)) {
+			throw new FileException(ErrorCode.WRONG_FILE_FORMAT);
+		}
+		return path;
+	}
+}
@@ -0,0 +1,160 @@
+package com.daengnyangffojjak.dailydaengnyang.utils.storage;
+
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.PendingObjectDeletion;
+import com.daengnyangffojjak.dailydaengnyang.repository.PendingObjectDeletionRepository;
+import com.daengnyangffojjak.dailydaengnyang.repository.StoredFileRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 삭제 대기열(PendingObjectDeletion)의 객체를 저장소에서 일괄 삭제
+ * 1. 원본 + 축소본 key 를 모아 요청 1번에 최대 1000개씩 삭제 (S3 DeleteObjects)
+ * 2. 실패한 항목은 점점 늦춰서 다시 시도, 한 번 실행에 maxBatchesPerRun 번, 초당 maxKeysPerSecond 개까지만 삭제
+ * 3. 그 사이 같은 내용이 다시 올라와 참조 중인 key 는 지우지 않고 대기열에서만 제거
+ * 대기열 행을 잠근 트랜잭션 안에서 참조 여부 확인 → 삭제 → 대기열 제거까지 처리하므로,
+ * 같은 key 를 다시 올리는 쪽(StoredFileService.cancelDeletion)은 삭제가 끝난 뒤에 올리게 된다.
+ **/
+@Slf4j
+@Component
+public class OrphanObjectReaper {
+
+	private static final int MAX_KEYS_PER_REQUEST = 1000;
+	private static final int KEYS_PER_ROW = 1 + ImageVariant.values().length;
+	static final int ROWS_PER_BATCH = MAX_KEYS_PER_REQUEST / KEYS_PER_ROW;
+
+	private final RecordStorage recordStorage;
+	private final PendingObjectDeletionRepository pendingObjectDeletionRepository;
+	private final StoredFileRepository storedFileRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final Counter deletedCounter;
+	private final Counter failedCounter;
+	private final int maxBatchesPerRun;
+	private final long maxKeysPerSecond;
+
+	public OrphanObjectReaper(RecordStorage recordStorage,
+			PendingObjectDeletionRepository pendingObjectDeletionRepository,
+			StoredFileRepository storedFileRepository, TransactionTemplate transactionTemplate,
+			MeterRegistry meterRegistry,
+			@Value("${record.storage.reaper.max-batches-per-run:10}") int maxBatchesPerRun,
+			@Value("${record.storage.reaper.max-keys-per-second:3000}") long maxKeysPerSecond) {
+		this.recordStorage = recordStorage;
+		this.pendingObjectDeletionRepository = pendingObjectDeletionRepository;
+		this.storedFileRepository = storedFileRepository;
+		this.transactionTemplate = transactionTemplate;
+		this.maxBatchesPerRun = maxBatchesPerRun;
+		this.maxKeysPerSecond = maxKeysPerSecond;
+
+		Gauge.builder("record.storage.orphan.backlog", pendingObjectDeletionRepository,
+						PendingObjectDeletionRepository::count)
+				.description("저장소 삭제 대기 중인 파일 수")
+				.register(meterRegistry);
+		this.deletedCounter = Counter.builder("record.storage.orphan.deleted")
+				.description("저장소에서 삭제한 객체 수 (축소본 포함)")
+				.register(meterRegistry);
+		this.failedCounter = Counter.builder("record.storage.orphan.failed")
+				.description("삭제 실패 후 다시 시도할 객체 수")
+				.register(meterRegistry);
+	}
+
+	@Scheduled(fixedDelayString = "${record.storage.reaper.interval:60000}",
+			initialDelayString = "${record.storage.reaper.initial-delay:60000}")
+	public void reap() {
+		for (int i = 0; i < maxBatchesPerRun; i++) {
+			long started = System.currentTimeMillis();
+			int rows = reapBatch(LocalDateTime.now());
+			if (rows < ROWS_PER_BATCH || !throttle(rows * KEYS_PER_ROW, started)) {
+				return;
+			}
+		}
+	}
+
+	// 대기열에서 한 묶음을 꺼내 삭제 - 처리한 항목 수 반환
+	int reapBatch(LocalDateTime now) {
+		Integer rows = transactionTemplate.execute(status -> reapLocked(now));
+		return rows == null ? 0 : rows;
+	}
+
+	private int reapLocked(LocalDateTime now) {
+		List<PendingObjectDeletion> pending = pendingObjectDeletionRepository
+				.findByNextAttemptAtLessThanEqualOrderByIdAsc(now,
+						PageRequest.of(0, ROWS_PER_BATCH));
+		if (pending.isEmpty()) {
+			return 0;
+		}
+
+		Set<String> referenced = new HashSet<>(storedFileRepository.findReferencedKeys(
+				pending.stream().map(PendingObjectDeletion::getStoredFileKey)
+						.collect(Collectors.toList())));
+
+		List<String> keys = new ArrayList<>();
+		for (PendingObjectDeletion deletion : pending) {
+			if (!referenced.contains(deletion.getStoredFileKey())) {
+				keys.addAll(keysOf(deletion.getStoredFileKey()));
+			}
+		}
+
+		Set<String> failed = new HashSet<>();
+		if (!keys.isEmpty()) {
+			try {
+				failed.addAll(recordStorage.deleteAll(keys));
+			} catch (RuntimeException e) {
+				log.warn("저장소 일괄 삭제 실패 {}건", keys.size(), e);
+				failed.addAll(keys);
+			}
+		}
+
+		List<PendingObjectDeletion> done = new ArrayList<>();
+		List<PendingObjectDeletion> retry = new ArrayList<>();
+		for (PendingObjectDeletion deletion : pending) {
+			if (keysOf(deletion.getStoredFileKey()).stream().anyMatch(failed::contains)) {
+				deletion.retryLater(now);
+				retry.add(deletion);
+			} else {
+				done.add(deletion);
+			}
+		}
+		pendingObjectDeletionRepository.deleteAllInBatch(done);
+		pendingObjectDeletionRepository.saveAll(retry);
+
+		deletedCounter.increment(keys.size() - failed.size());
+		failedCounter.increment(failed.size());
+		return pending.size();
+	}
+
+	private List<String> keysOf(String storedFileKey) {
+		List<String> keys = new ArrayList<>();
+		keys.add(storedFileKey);
+		for (ImageVariant variant : ImageVariant.values()) {
+			keys.add(variant.keyOf(storedFileKey));
+		}
+		return keys;
+	}
+
+	// 초당 maxKeysPerSecond 를 넘지 않도록 대기 - 중단되면 false
+	private boolean throttle(int keys, long started) {
+		long wait = keys * 1000L / maxKeysPerSecond - (System.currentTimeMillis() - started);
+		if (wait <= 0) {
+			return true;
+		}
+		try {
+			Thread.sleep(wait);
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+}
@@ -0,0 +1,36 @@
+package com.daengnyangffojjak.dailydaengnyang.utils.storage;
+
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.RecordFile;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * 일기 파일 저장소
+ * record.storage.type 으로 선택 (s3 - 기본, local - 로컬 디스크 + /files/** 로 직접 제공)
+ **/
+public interface RecordStorage {
+
+	void store(String key, InputStream inputStream, long length, String contentType);
+
+	void delete(String key);
+
+	//여러 객체 일괄 삭제 - 실패한 key 목록 반환 (S3 는 요청 1번에 최대 1000개)
+	List<String> deleteAll(List<String> keys);
+
+	//저장된 파일 읽기 (이미지 변환용) - 호출한 쪽에서 close
+	InputStream open(String key);
+
+	//현재 저장소 기준 접근 url
+	String urlOf(String key);
+
+	//key 가 있는 파일은 현재 저장소 기준 url 로 응답 (이전 파일은 저장된 url 그대로)
+	default void resolveUrl(RecordFile recordFile) {
+		if (recordFile.getStoredFileKey() != null) {
+			recordFile.resolveUrl(urlOf(recordFile.getStoredFileKey()));
+		}
+		if (recordFile.getThumbnailKey() != null) {
+			recordFile.resolveVariantUrls(urlOf(recordFile.getThumbnailKey()),
+					urlOf(recordFile.getMediumKey()));
+		}
+	}
+}
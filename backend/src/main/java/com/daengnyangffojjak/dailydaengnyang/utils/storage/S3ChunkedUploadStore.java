@@ -0,0 +1,69 @@
+package com.daengnyangffojjak.dailydaengnyang.utils.storage;
+
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * S3 multipart upload 로 청크 저장
+ * part 는 요청 본문 스트림을 그대로 전송한다. (마지막 part 를 제외하면 5MB 이상이어야 함)
+ **/
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "record.storage.type", havingValue = "s3", matchIfMissing = true)
+public class S3ChunkedUploadStore implements ChunkedUploadStore {
+
+	private final AmazonS3Client amazonS3Client;
+
+	@Value("${cloud.aws.s3.bucket}")
+	private String bucket;
+
+	@Override
+	public String begin(String key, String contentType) {
+		ObjectMetadata objectMetadata = new ObjectMetadata();
+		objectMetadata.setContentType(contentType);
+		return amazonS3Client.initiateMultipartUpload(
+				new InitiateMultipartUploadRequest(bucket, key, objectMetadata)
+						.withCannedACL(CannedAccessControlList.PublicRead)).getUploadId();
+	}
+
+	@Override
+	public String uploadPart(String key, String uploadId, int partNumber,
+			InputStream inputStream, long length) {
+		return amazonS3Client.uploadPart(new UploadPartRequest()
+				.withBucketName(bucket)
+				.withKey(key)
+				.withUploadId(uploadId)
+				.withPartNumber(partNumber)
+				.withInputStream(inputStream)
+				.withPartSize(length)).getETag();
+	}
+
+	@Override
+	public String complete(String key, String uploadId, List<String> partETags) {
+		List<PartETag> parts = new ArrayList<>();
+		for (int i = 0; i < partETags.size(); i++) {
+			parts.add(new PartETag(i + 1, partETags.get(i)));
+		}
+		amazonS3Client.completeMultipartUpload(
+				new CompleteMultipartUploadRequest(bucket, key, uploadId, parts));
+		return amazonS3Client.getUrl(bucket, key).toString();
+	}
+
+	@Override
+	public void abort(String key, String uploadId) {
+		amazonS3Client.abortMultipartUpload(new AbortMultipartUploadRequest(bucket, key, uploadId));
+	}
+}
@@ -0,0 +1,67 @@
+package com.daengnyangffojjak.dailydaengnyang.utils.storage;
+
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException.DeleteError;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import java.io.InputStream;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "record.storage.type", havingValue = "s3", matchIfMissing = true)
+public class S3RecordStorage implements RecordStorage {
+
+	private final AmazonS3Client amazonS3Client;
+
+	@Value("${cloud.aws.s3.bucket}")
+	private String bucket;
+
+	@Override
+	public void store(String key, InputStream inputStream, long length, String contentType) {
+		ObjectMetadata objectMetadata = new ObjectMetadata();
+		objectMetadata.setContentType(contentType);
+		// 파일 사이즈 설정
+		objectMetadata.setContentLength(length);
+
+		amazonS3Client.putObject(new PutObjectRequest(bucket, key, inputStream, objectMetadata)
+				.withCannedAcl(CannedAccessControlList.PublicRead));
+	}
+
+	@Override
+	public void delete(String key) {
+		amazonS3Client.deleteObject(bucket, key);
+	}
+
+	@Override
+	public List<String> deleteAll(List<String> keys) {
+		try {
+			amazonS3Client.deleteObjects(new DeleteObjectsRequest(bucket)
+					.withKeys(keys.toArray(new String[0]))
+					.withQuiet(true));     //성공한 key 는 응답에서 생략
+			return List.of();
+		} catch (MultiObjectDeleteException e) {
+			return e.getErrors().stream()
+					.map(DeleteError::getKey)
+					.collect(Collectors.toList());
+		}
+	}
+
+	@Override
+	public InputStream open(String key) {
+		return amazonS3Client.getObject(bucket, key).getObjectContent();
+	}
+
+	@Override
+	public String urlOf(String key) {
+		return amazonS3Client.getUrl(bucket, key).toString();
+	}
+}
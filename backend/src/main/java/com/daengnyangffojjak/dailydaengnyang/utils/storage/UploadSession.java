@@ -0,0 +1,75 @@
+package com.daengnyangffojjak.dailydaengnyang.utils.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 이어 올리기 업로드 세션 상태 (Redis hash 로 저장)
+ **/
+@Getter
+@Builder
+@AllArgsConstructor
+public class UploadSession {
+
+	public enum State {
+		UPLOADING,      //청크 받는 중
+		COMPLETING,     //완료 요청 처리 중 (청크 합치고 RecordFile 저장)
+		COMPLETED       //완료 - 같은 완료 요청이 다시 오면 이 세션으로 응답
+	}
+
+	private String id;
+	private Long recordId;
+	private String userName;
+	private String key;             //저장소 key (records/<uuid>.<확장자>)
+	private String storeUploadId;   //저장소의 업로드 id (S3 uploadId)
+	private String fileName;        //원본 파일 이름
+	private String contentType;
+	private long totalSize;
+	private long chunkSize;
+	private Map<Integer, String> partETags;   //받은 part 번호 -> etag
+	@Builder.Default
+	private State state = State.UPLOADING;
+
+	public int getPartCount() {
+		return (int) ((totalSize + chunkSize - 1) / chunkSize);
+	}
+
+	//part 별 크기 - 마지막 part 만 작을 수 있음
+	public long expectedPartSize(int partNumber) {
+		if (partNumber < getPartCount()) {
+			return chunkSize;
+		}
+		return totalSize - chunkSize * (getPartCount() - 1);
+	}
+
+	//처음부터 연속으로 받은 바이트 수 (이어 올리기 시작 위치)
+	public long getOffset() {
+		long offset = 0;
+		for (int partNumber = 1; partETags.containsKey(partNumber); partNumber++) {
+			offset += expectedPartSize(partNumber);
+		}
+		return offset;
+	}
+
+	public List<Integer> getUploadedParts() {
+		List<Integer> parts = new ArrayList<>(partETags.keySet());
+		parts.sort(null);
+		return parts;
+	}
+
+	public boolean isComplete() {
+		return partETags.size() == getPartCount();
+	}
+
+	public List<String> orderedETags() {
+		List<String> eTags = new ArrayList<>();
+		for (int partNumber = 1; partNumber <= getPartCount(); partNumber++) {
+			eTags.add(partETags.get(partNumber));
+		}
+		return eTags;
+	}
+}
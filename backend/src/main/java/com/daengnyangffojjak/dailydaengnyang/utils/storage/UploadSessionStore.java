@@ -0,0 +1,138 @@
+package com.daengnyangffojjak.dailydaengnyang.utils.storage;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 업로드 세션을 Redis hash(upload:session:<id>)에 저장
+ * 받은 part 는 part:<번호> 필드로 기록하므로 청크가 동시에 와도 서로 덮어쓰지 않는다.
+ * 마지막 청크 이후 SESSION_TTL 동안 이어 올리지 않으면 만료된다.
+ * 만료된 세션에 늦게 도착한 청크는 hash 를 다시 만들지 않고 세션 없음으로 처리한다.
+ * 완료 요청은 state 필드를 HSETNX 로 먼저 잡은 요청 하나만 처리하고, 완료된 세션은 만료될 때까지 남겨
+ * 같은 완료 요청이 다시 오면 저장된 결과로 응답한다.
+ **/
+@Component
+@RequiredArgsConstructor
+public class UploadSessionStore {
+
+	private static final String KEY_PREFIX = "upload:session:";
+	private static final String PART_PREFIX = "part:";
+	private static final String STATE = "state";
+	public static final Duration SESSION_TTL = Duration.ofHours(24);
+	private static final List<String> REQUIRED_FIELDS = List.of("recordId", "userName", "key",
+			"storeUploadId", "totalSize", "chunkSize");
+
+	// 세션 hash 가 남아 있을 때만 필드(part, state) 기록 + 만료 시간 연장
+	private static final RedisScript<Long> SET_IF_EXISTS = new DefaultRedisScript<>(
+			"if redis.call('exists', KEYS[1]) == 0 then return 0 end "
+					+ "redis.call('hset', KEYS[1], ARGV[1], ARGV[2]) "
+					+ "redis.call('pexpire', KEYS[1], ARGV[3]) "
+					+ "return 1", Long.class);
+
+	// 세션 hash 가 남아 있고 아직 아무도 완료하지 않았을 때만 완료 시작
+	private static final RedisScript<Long> START_COMPLETION = new DefaultRedisScript<>(
+			"if redis.call('exists', KEYS[1]) == 0 then return 0 end "
+					+ "return redis.call('hsetnx', KEYS[1], ARGV[1], ARGV[2])", Long.class);
+
+	private final RedisTemplate redisTemplate;
+
+	public void save(UploadSession session) {
+		Map<String, String> fields = new HashMap<>();
+		putIfNotNull(fields, "recordId", session.getRecordId());
+		putIfNotNull(fields, "userName", session.getUserName());
+		putIfNotNull(fields, "key", session.getKey());
+		putIfNotNull(fields, "storeUploadId", session.getStoreUploadId());
+		putIfNotNull(fields, "fileName", session.getFileName());
+		putIfNotNull(fields, "contentType", session.getContentType());   //없으면 필드를 만들지 않음
+		putIfNotNull(fields, "totalSize", session.getTotalSize());
+		putIfNotNull(fields, "chunkSize", session.getChunkSize());
+		hash().putAll(key(session.getId()), fields);
+		redisTemplate.expire(key(session.getId()), SESSION_TTL);
+	}
+
+	public Optional<UploadSession> find(String id) {
+		Map<String, String> fields = hash().entries(key(id));
+		// 필수 필드가 없으면 (만료 후 part 만 남은 hash 등) 세션 없음
+		if (fields == null || !fields.keySet().containsAll(REQUIRED_FIELDS)) {
+			return Optional.empty();
+		}
+
+		Map<Integer, String> partETags = new HashMap<>();
+		fields.forEach((field, value) -> {
+			if (field.startsWith(PART_PREFIX)) {
+				partETags.put(Integer.valueOf(field.substring(PART_PREFIX.length())), value);
+			}
+		});
+
+		return Optional.of(UploadSession.builder()
+				.id(id)
+				.recordId(Long.valueOf(fields.get("recordId")))
+				.userName(fields.get("userName"))
+				.key(fields.get("key"))
+				.storeUploadId(fields.get("storeUploadId"))
+				.fileName(fields.get("fileName"))
+				.contentType(fields.get("contentType"))
+				.totalSize(Long.parseLong(fields.get("totalSize")))
+				.chunkSize(Long.parseLong(fields.get("chunkSize")))
+				.partETags(partETags)
+				.state(fields.containsKey(STATE) ? UploadSession.State.valueOf(fields.get(STATE))
+						: UploadSession.State.UPLOADING)
+				.build());
+	}
+
+	//part 기록 + 만료 시간 연장, 세션이 이미 만료됐으면 false
+	@SuppressWarnings("unchecked")
+	public boolean savePart(String id, int partNumber, String eTag) {
+		Long saved = (Long) redisTemplate.execute(SET_IF_EXISTS, List.of(key(id)),
+				PART_PREFIX + partNumber, eTag, String.valueOf(SESSION_TTL.toMillis()));
+		return saved != null && saved == 1L;
+	}
+
+	//완료 시작 - 세션이 없거나 다른 요청이 이미 완료 중/완료했으면 false
+	@SuppressWarnings("unchecked")
+	public boolean startCompletion(String id) {
+		Long started = (Long) redisTemplate.execute(START_COMPLETION, List.of(key(id)), STATE,
+				UploadSession.State.COMPLETING.name());
+		return started != null && started == 1L;
+	}
+
+	//완료 전에 실패 (청크를 합치지 못함) - 다시 완료 요청할 수 있도록 되돌림
+	public void cancelCompletion(String id) {
+		hash().delete(key(id), STATE);
+	}
+
+	//완료 - 만료될 때까지 남겨서 같은 완료 요청에 같은 결과로 응답
+	@SuppressWarnings("unchecked")
+	public void finishCompletion(String id) {
+		redisTemplate.execute(SET_IF_EXISTS, List.of(key(id)), STATE,
+				UploadSession.State.COMPLETED.name(), String.valueOf(SESSION_TTL.toMillis()));
+	}
+
+	public void delete(String id) {
+		redisTemplate.delete(key(id));
+	}
+
+	@SuppressWarnings("unchecked")
+	private HashOperations<String, String, String> hash() {
+		return redisTemplate.opsForHash();
+	}
+
+	private void putIfNotNull(Map<String, String> fields, String field, Object value) {
+		if (value != null) {
+			fields.put(field, String.valueOf(value));
+		}
+	}
+
+	private String key(String id) {
+		return KEY_PREFIX + id;
+	}
+}
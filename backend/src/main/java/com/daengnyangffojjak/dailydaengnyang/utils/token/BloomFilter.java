@@ -0,0 +1,89 @@
+package com.daengnyangffojjak.dailydaengnyang.utils.token;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * token digest 용 Bloom filter (thread-safe)
+ * mightContain 이 false 면 확실히 없음, true 면 오탐(false positive) 가능성이 있으므로 원본에서 확인해야 한다.
+ * 삭제가 안 되므로 만료된 항목은 새로 만들어서 교체 (RevokedTokenRegistry.rebuild)
+ **/
+public class BloomFilter {
+
+	private final AtomicLongArray bits;
+	private final long bitSize;
+	private final int hashCount;
+	private final AtomicLong bitCount = new AtomicLong();
+	private final AtomicLong entries = new AtomicLong();
+
+	// 예상 개수와 목표 오탐률로 bit 수와 hash 수 결정
+	public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+		long size = (long) Math.ceil(
+				-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+		this.bitSize = Math.max(64, size);
+		this.hashCount = Math.max(1,
+				(int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+		this.bits = new AtomicLongArray((int) ((bitSize + 63) / 64));
+	}
+
+	// digest 는 SHA-256 결과 (16 byte 이상)
+	// 새로 켜진 bit 가 있을 때만 true - 같은 digest 를 다시 넣으면 entries 가 늘지 않음
+	public boolean put(byte[] digest) {
+		ByteBuffer buffer = ByteBuffer.wrap(digest);
+		long hash1 = buffer.getLong();
+		long hash2 = buffer.getLong();
+		boolean changed = false;
+		for (int i = 0; i < hashCount; i++) {
+			if (set(Math.floorMod(hash1 + i * hash2, bitSize))) {
+				bitCount.incrementAndGet();
+				changed = true;
+			}
+		}
+		if (changed) {
+			entries.incrementAndGet();
+		}
+		return changed;
+	}
+
+	public boolean mightContain(byte[] digest) {
+		ByteBuffer buffer = ByteBuffer.wrap(digest);
+		long hash1 = buffer.getLong();
+		long hash2 = buffer.getLong();
+		for (int i = 0; i < hashCount; i++) {
+			long index = Math.floorMod(hash1 + i * hash2, bitSize);
+			if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	// 지금 채워진 bit 비율로 계산한 오탐률
+	public double expectedFalsePositiveRate() {
+		return Math.pow((double) bitCount.get() / bitSize, hashCount);
+	}
+
+	// 넣은 digest 수 (이미 있던 것과 bit 가 모두 겹친 digest 는 빠지므로 근사값)
+	public long entries() {
+		return entries.get();
+	}
+
+	public long bitSize() {
+		return bitSize;
+	}
+
+	private boolean set(long index) {
+		int word = (int) (index >>> 6);
+		long mask = 1L << index;
+		while (true) {
+			long current = bits.get(word);
+			if ((current & mask) != 0) {
+				return false;
+			}
+			if (bits.compareAndSet(word, current, current | mask)) {
+				return true;
+			}
+		}
+	}
+}
@@ -0,0 +1,109 @@
+package com.daengnyangffojjak.dailydaengnyang.utils.token;
+
+import com.daengnyangffojjak.dailydaengnyang.utils.redis.RedisKeys;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그인 세션별 refresh token (key: rt:userName:familyId, value: token digest)
+ * 로그인할 때마다 새 family 를 만들고 재발급해도 family 는 유지하므로, 기기마다 따로 교체/재사용 감지/로그아웃 된다.
+ * (다른 기기에서 로그인해도 이 기기의 token 이 재사용으로 처리되지 않음)
+ * token 원문 대신 digest 만 저장하고, 요청으로 받은 token 의 digest 와 비교한다.
+ * family 가 생기기 전에 발급된 세션(familyId null)은 rt:userName 을 쓰고,
+ * 이전 형식(key: userName, value: token 원문)도 legacy-read 동안 같이 읽는다.
+ * 재발급(rotate)은 비교와 교체를 Lua script 한 번으로 처리해서, 동시에 요청해도 한 요청만 성공한다.
+ **/
+@Component
+public class RefreshTokenStore {
+
+	// KEYS: rt:userName:familyId, rt:userName:familyId:prev, userName(이전 형식)
+	// ARGV: 받은 token digest, 새 token digest, 만료(ms), 직전 token 보관(ms, 0 이면 보관 안 함), legacy-read, 받은 token 원문
+	// 0: 저장된 token 없음, 1: 교체 성공, 2: 재사용 감지 - family 삭제, 3: 방금 교체된 token (다른 탭)
+	private static final RedisScript<Long> ROTATE = new DefaultRedisScript<>(
+			"local stored = redis.call('get', KEYS[1]) "
+					+ "if not stored and ARGV[5] == '1' then "
+					+ "  local legacy = redis.call('get', KEYS[3]) "
+					+ "  if legacy then "
+					+ "    redis.call('del', KEYS[3]) "
+					+ "    if legacy == ARGV[6] then stored = ARGV[1] else stored = '' end "
+					+ "  end "
+					+ "end "
+					+ "if not stored then return 0 end "
+					+ "if stored == ARGV[1] then "
+					+ "  redis.call('set', KEYS[1], ARGV[2], 'PX', ARGV[3]) "
+					+ "  if tonumber(ARGV[4]) > 0 then "
+					+ "    redis.call('set', KEYS[2], ARGV[1], 'PX', ARGV[4]) "
+					+ "  end "
+					+ "  return 1 "
+					+ "end "
+					+ "if redis.call('get', KEYS[2]) == ARGV[1] then return 3 end "
+					+ "redis.call('del', KEYS[1], KEYS[2]) "
+					+ "return 2", Long.class);
+
+	private final RedisTemplate redisTemplate;
+	private final boolean legacyRead;
+	private final long reuseGraceMillis;
+
+	public RefreshTokenStore(RedisTemplate redisTemplate,
+			@Value("${redis.keys.legacy-read:true}") boolean legacyRead,
+			@Value("${jwt.refresh.reuse-grace-seconds:10}") long reuseGraceSeconds) {
+		this.redisTemplate = redisTemplate;
+		this.legacyRead = legacyRead;
+		this.reuseGraceMillis = TimeUnit.SECONDS.toMillis(reuseGraceSeconds);
+	}
+
+	public enum Rotation {
+		ROTATED,    // 교체 성공
+		MISSING,    // 로그아웃/만료로 저장된 token 없음
+		REUSED,     // 같은 family 에서 이미 교체된 token 재사용 - 탈취로 보고 family 삭제
+		STALE       // 다른 탭이 방금 교체함 - 삭제하지 않음
+	}
+
+	// 받은 refresh token 이 저장된 것과 같을 때만 새 token 으로 교체 (Redis 왕복 1회)
+	public Rotation rotate(String userName, String familyId, String refreshToken,
+			String newRefreshToken, long ttlMillis) {
+		// 이전 형식 key 는 family 없는 세션의 것
+		boolean readLegacy = legacyRead && familyId == null;
+		Long status = (Long) redisTemplate.execute(ROTATE,
+				List.of(RedisKeys.refreshToken(userName, familyId),
+						RedisKeys.previousRefreshToken(userName, familyId),
+						RedisKeys.legacyRefreshToken(userName)),
+				digest(refreshToken), digest(newRefreshToken), String.valueOf(ttlMillis),
+				String.valueOf(reuseGraceMillis), readLegacy ? "1" : "0",
+				readLegacy ? refreshToken : "");
+		if (status == null) {
+			return Rotation.MISSING;
+		}
+		return switch (status.intValue()) {
+			case 1 -> Rotation.ROTATED;
+			case 2 -> Rotation.REUSED;
+			case 3 -> Rotation.STALE;
+			default -> Rotation.MISSING;
+		};
+	}
+
+	// 로그인 - 새 family 저장 (다른 기기의 family 는 그대로)
+	public void save(String userName, String familyId, String refreshToken, long ttlMillis) {
+		redisTemplate.opsForValue().set(RedisKeys.refreshToken(userName, familyId),
+				digest(refreshToken), ttlMillis, TimeUnit.MILLISECONDS);
+	}
+
+	// 로그아웃 - 이 세션의 family 만 삭제
+	public void delete(String userName, String familyId) {
+		redisTemplate.delete(familyId == null
+				? List.of(RedisKeys.refreshToken(userName),
+				RedisKeys.previousRefreshToken(userName, null),
+				RedisKeys.legacyRefreshToken(userName))
+				: List.of(RedisKeys.refreshToken(userName, familyId),
+						RedisKeys.previousRefreshToken(userName, familyId)));
+	}
+
+	private static String digest(String refreshToken) {
+		return TokenDigest.encode(TokenDigest.shortOf(refreshToken));
+	}
+}
@@ -0,0 +1,238 @@
+package com.daengnyangffojjak.dailydaengnyang.utils.token;
+
+import com.daengnyangffojjak.dailydaengnyang.utils.redis.RedisKeys;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * 로그아웃한 access token 블랙리스트 (key: bl:token digest, index: bl:index)
+ * 1. 서버마다 로그아웃된 token digest 의 Bloom filter 를 들고 있어서, 대부분의 요청은 Redis 조회 없이 통과
+ * 2. filter 에 있다고 나올 때만 Redis 블랙리스트에서 확인 (오탐 가능)
+ * 3. 로그아웃은 Redis pub/sub 로 모든 서버의 filter 에 반영, 시작할 때와 주기적으로 Redis index(ZSET)에서 다시 만듦
+ * 4. pub/sub 는 재연결 중에 보낸 메세지를 잃으므로, 로그아웃마다 올리는 bl:version 을 몇 초마다 확인해서
+ *    받은 메세지 수보다 앞서 있으면 filter 를 다시 만든다.
+ * filter 를 아직 만들지 못했으면 (Redis 장애 등) 매 요청 Redis 에서 확인한다.
+ * redis.keys.legacy-read 동안에도 filter 를 쓰지 않고 매 요청 Redis 에서 확인한다.
+ * 이전 형식(access token 원문 key, value "logout")은 index 없이 저장되어 filter 에 넣을 수 없고,
+ * 배포 중에는 이전 버전 서버가 계속 이 형식으로 저장하기 때문이다.
+ **/
+@Slf4j
+@Component
+public class RevokedTokenRegistry implements MessageListener {
+
+	static final String CHANNEL = "token:revoked";
+	private static final String LOGOUT = "1";
+
+	private final RedisTemplate redisTemplate;
+	private final boolean legacyRead;
+	private final long expectedInsertions;
+	private final double falsePositiveRate;
+	private final Counter redisSkipped;
+	private final Counter revokedHits;
+	private final Counter falsePositives;
+
+	private volatile BloomFilter filter;
+	private volatile boolean ready;
+	private BloomFilter rebuilding;
+	// filter 에 반영된 bl:version = 만들 때 읽은 version + 그 뒤로 받은 메세지 수
+	private long baseVersion;
+	private long received;
+	private long rebuildingBaseVersion;
+	private long rebuildingReceived;
+	private Long missingSince;     //지난 확인에서 아직 받지 못한 version (다음 확인까지 안 오면 다시 만듦)
+
+	public RevokedTokenRegistry(RedisTemplate redisTemplate,
+			RedisMessageListenerContainer redisMessageListenerContainer,
+			MeterRegistry meterRegistry,
+			@Value("${token.revocation.expected-insertions:100000}") long expectedInsertions,
+			@Value("${token.revocation.false-positive-rate:0.001}") double falsePositiveRate,
+			@Value("${redis.keys.legacy-read:true}") boolean legacyRead) {
+		this.redisTemplate = redisTemplate;
+		this.legacyRead = legacyRead;
+		this.expectedInsertions = expectedInsertions;
+		this.falsePositiveRate = falsePositiveRate;
+		this.filter = new BloomFilter(expectedInsertions, falsePositiveRate);
+		this.redisSkipped = Counter.builder("token.revocation.redis.skipped")
+				.description("filter 에 없어서 Redis 블랙리스트 조회를 생략한 요청 수")
+				.register(meterRegistry);
+		this.revokedHits = Counter.builder("token.revocation.redis.checked")
+				.description("filter 에 있어서 Redis 에서 확인한 요청 수")
+				.tag("result", "revoked")
+				.register(meterRegistry);
+		this.falsePositives = Counter.builder("token.revocation.redis.checked")
+				.description("filter 에 있어서 Redis 에서 확인한 요청 수")
+				.tag("result", "false_positive")
+				.register(meterRegistry);
+		Gauge.builder("token.revocation.filter.entries", this, registry -> registry.filter.entries())
+				.description("filter 에 들어있는 로그아웃 token 수")
+				.register(meterRegistry);
+		Gauge.builder("token.revocation.filter.bits", this, registry -> registry.filter.bitSize())
+				.description("filter 크기 (bit)")
+				.register(meterRegistry);
+		Gauge.builder("token.revocation.filter.fpp", this,
+						registry -> registry.filter.expectedFalsePositiveRate())
+				.description("filter 예상 오탐률")
+				.register(meterRegistry);
+		redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+	}
+
+	// 남은 유효시간 동안만 블랙리스트에 보관
+	public void revoke(String token, long expirationMillis) {
+		if (expirationMillis <= 0) {
+			return;
+		}
+		byte[] digest = TokenDigest.shortOf(token);
+		String encoded = TokenDigest.encode(digest);
+		redisTemplate.opsForValue().set(RedisKeys.blacklist(digest), LOGOUT, expirationMillis,
+				TimeUnit.MILLISECONDS);
+		// index member: token digest, score: token 만료 시각
+		redisTemplate.opsForZSet().add(RedisKeys.BLACKLIST_INDEX, encoded,
+				System.currentTimeMillis() + expirationMillis);
+		Long version = redisTemplate.opsForValue().increment(RedisKeys.BLACKLIST_VERSION);
+		// 자기 메세지도 다시 받지만 같은 digest 는 filter 에 한 번만 들어감
+		put(digest, null);
+		redisTemplate.convertAndSend(CHANNEL, version + ":" + encoded);
+	}
+
+	@SuppressWarnings("unchecked")
+	public boolean isRevoked(String token) {
+		boolean filtered = ready && !legacyRead;
+		byte[] digest = TokenDigest.shortOf(token);
+		if (filtered && !filter.mightContain(digest)) {
+			redisSkipped.increment();
+			return false;
+		}
+		boolean revoked = legacyRead
+				? ((List<Object>) redisTemplate.opsForValue().multiGet(List.of(
+				RedisKeys.blacklist(digest), RedisKeys.legacyBlacklist(token))))
+				.stream().anyMatch(value -> !ObjectUtils.isEmpty(value))
+				: !ObjectUtils.isEmpty(redisTemplate.opsForValue().get(RedisKeys.blacklist(digest)));
+		if (filtered) {
+			(revoked ? revokedHits : falsePositives).increment();
+		}
+		return revoked;
+	}
+
+	// 메세지: <bl:version>:<token digest> (version 없는 이전 형식도 처리)
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		int idx = body.indexOf(':');
+		Long version = idx < 0 ? null : Long.valueOf(body.substring(0, idx));
+		put(TokenDigest.decode(body.substring(idx + 1)), version);
+	}
+
+	// 받지 못한 로그아웃이 있으면 다시 만듦 - 메세지가 늦게 올 수 있으므로 두 번 연속 모자랄 때만
+	@Scheduled(fixedDelayString = "${token.revocation.version-check-interval:5000}")
+	public void checkVersion() {
+		if (!ready) {
+			return;
+		}
+		long current;
+		try {
+			current = currentVersion();
+		} catch (RuntimeException e) {
+			log.debug("bl:version 확인 실패", e);
+			return;
+		}
+		boolean missed;
+		synchronized (this) {
+			long applied = baseVersion + received;
+			// Redis 가 초기화되어 version 이 줄어든 경우도 다시 만듦
+			missed = current < baseVersion
+					|| (current > applied && missingSince != null && applied < missingSince);
+			missingSince = current > applied ? Long.valueOf(current) : null;
+		}
+		if (missed) {
+			log.info("받지 못한 로그아웃 메세지가 있어 filter 를 다시 만듭니다. (version={})", current);
+			rebuild();
+		}
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void load() {
+		rebuild();
+	}
+
+	// 만료된 token 은 filter 에서 지울 수 없으므로 index 에서 정리한 뒤 새 filter 로 교체
+	// 만드는 동안 들어온 로그아웃은 기존/새 filter 모두에 반영
+	@Scheduled(cron = "${token.revocation.rebuild-cron:0 0 * * * *}")
+	public void rebuild() {
+		BloomFilter next = new BloomFilter(expectedInsertions, falsePositiveRate);
+		try {
+			// index 를 읽기 전의 version - 이후 로그아웃은 메세지로 받아서 센다
+			long version = currentVersion();
+			synchronized (this) {
+				rebuilding = next;
+				rebuildingBaseVersion = version;
+				rebuildingReceived = 0;
+			}
+			List<String> indexKeys = legacyRead
+					? List.of(RedisKeys.BLACKLIST_INDEX, RedisKeys.LEGACY_BLACKLIST_INDEX)
+					: List.of(RedisKeys.BLACKLIST_INDEX);
+			for (String indexKey : indexKeys) {
+				redisTemplate.opsForZSet()
+						.removeRangeByScore(indexKey, 0, System.currentTimeMillis());
+				Set<String> digests = redisTemplate.opsForZSet().range(indexKey, 0, -1);
+				if (digests != null) {
+					// 이전 index 는 32 byte digest - filter 는 앞 16 byte 만 사용하므로 그대로 넣음
+					digests.forEach(encoded -> next.put(TokenDigest.decode(encoded)));
+				}
+			}
+			synchronized (this) {
+				filter = next;
+				baseVersion = rebuildingBaseVersion;
+				received = rebuildingReceived;
+				missingSince = null;
+				ready = true;
+			}
+			log.info("로그아웃 token filter 갱신 {}건", next.entries());
+		} catch (RuntimeException e) {
+			log.warn("로그아웃 token filter 를 만들지 못했습니다. (ready={})", ready, e);
+		} finally {
+			synchronized (this) {
+				rebuilding = null;
+			}
+		}
+	}
+
+	boolean isReady() {
+		return ready;
+	}
+
+	private long currentVersion() {
+		Object version = redisTemplate.opsForValue().get(RedisKeys.BLACKLIST_VERSION);
+		return version == null ? 0 : Long.parseLong(version.toString());
+	}
+
+	// version : 메세지로 받은 로그아웃의 bl:version (직접 로그아웃 처리한 경우 null)
+	private synchronized void put(byte[] digest, Long version) {
+		filter.put(digest);
+		if (version != null && version > baseVersion) {
+			received++;
+		}
+		if (rebuilding != null) {
+			rebuilding.put(digest);
+			if (version != null && version > rebuildingBaseVersion) {
+				rebuildingReceived++;
+			}
+		}
+	}
+}
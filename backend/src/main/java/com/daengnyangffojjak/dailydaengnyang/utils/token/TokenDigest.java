@@ -0,0 +1,41 @@
+package com.daengnyangffojjak.dailydaengnyang.utils.token;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * token 원문 대신 쓰는 SHA-256 digest
+ * 캐시/Redis key 와 pub/sub 메세지에 token 원문이 남지 않게 한다.
+ **/
+public final class TokenDigest {
+
+	// Redis key 와 Bloom filter 에 쓰는 길이 (SHA-256 앞 16 byte)
+	public static final int SHORT_LENGTH = 16;
+
+	private TokenDigest() {
+	}
+
+	public static byte[] shortOf(String token) {
+		return Arrays.copyOf(of(token), SHORT_LENGTH);
+	}
+
+	public static byte[] of(String token) {
+		try {
+			return MessageDigest.getInstance("SHA-256")
+					.digest(token.getBytes(StandardCharsets.UTF_8));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	public static String encode(byte[] digest) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+	}
+
+	public static byte[] decode(String encoded) {
+		return Base64.getUrlDecoder().decode(encoded);
+	}
+}
@@ -12,10 +12,12 @@ import static org.springframework.restdocs.payload.PayloadDocumentation.requestF
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
 import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.restdocs.request.RequestDocumentation.queryParameters;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.daengnyangffojjak.dailydaengnyang.domain.dto.CursorResponse;
 import com.daengnyangffojjak.dailydaengnyang.domain.dto.comment.CommentDeleteResponse;
 import com.daengnyangffojjak.dailydaengnyang.domain.dto.comment.CommentModifyResponse;
 import com.daengnyangffojjak.dailydaengnyang.domain.dto.comment.CommentRequest;
@@ -217,6 +219,48 @@ class CommentRestControllerTest extends ControllerTest{
 		}
 	}
 
+	@Nested
+	@DisplayName("댓글 커서 조회")
+	class ScrollComment {
+
+		CursorResponse<CommentResponse> commentResponses = new CursorResponse<>(
+				Arrays.asList(new CommentResponse(1L, "user", "댓글", createdAt)), 1, true,
+				"MjAyMy0wMi0xMVQxMDoyMCwx");
+
+		@Test
+		@DisplayName("성공")
+		void success() throws Exception {
+			given(commentService.scrollComments(1L, null, 1))
+					.willReturn(commentResponses);
+
+			mockMvc.perform(
+							get("/api/v1/records/{recordsId}/comments/scroll", 1L)
+									.param("size", "1"))
+					.andExpect(status().isOk())
+					.andExpect(jsonPath("$.resultCode").value("SUCCESS"))
+					.andExpect(jsonPath("$.result.hasNext").value(true))
+					.andExpect(jsonPath("$.result.nextCursor").value("MjAyMy0wMi0xMVQxMDoyMCwx"))
+					.andDo(restDocs.document(
+							pathParameters(
+									parameterWithName("recordsId").description("일기 번호")),
+							queryParameters(
+									parameterWithName("cursor").optional()
+											.description("이전 응답의 nextCursor (첫 요청은 생략)"),
+									parameterWithName("size").optional()
+											.description("조회할 댓글 수 (기본 20, 최대 50)")),
+							responseFields(fieldWithPath("resultCode").description("결과코드"),
+									fieldWithPath("result.content[].id").description("댓글 등록 번호"),
+									fieldWithPath("result.content[].userName").description("댓글 작성자"),
+									fieldWithPath("result.content[].comment").description("댓글 내용"),
+									fieldWithPath("result.content[].createdAt").description("등록 날짜"),
+									fieldWithPath("result.size").description("실제 데이터 개수"),
+									fieldWithPath("result.hasNext").description("다음 페이지 존재 여부"),
+									fieldWithPath("result.nextCursor").description(
+											"다음 요청에 사용할 커서 (마지막 페이지면 null)"))));
+			verify(commentService).scrollComments(1L, null, 1);
+		}
+	}
+
 	@Nested
 	@DisplayName("댓글 전체 조회")
 	class GetAllComment {
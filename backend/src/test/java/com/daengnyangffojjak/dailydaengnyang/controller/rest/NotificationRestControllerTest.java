@@ -9,6 +9,7 @@ import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWit
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
 import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -16,6 +17,7 @@ import com.daengnyangffojjak.dailydaengnyang.domain.dto.notification.Notificatio
 import com.daengnyangffojjak.dailydaengnyang.domain.dto.notification.NotificationListResponse;
 import com.daengnyangffojjak.dailydaengnyang.domain.dto.notification.NotificationReadResponse;
 import com.daengnyangffojjak.dailydaengnyang.domain.dto.notification.NotificationResponse;
+import com.daengnyangffojjak.dailydaengnyang.domain.dto.notification.NotificationUnreadCountResponse;
 import com.daengnyangffojjak.dailydaengnyang.domain.entity.enums.NotificationType;
 import com.daengnyangffojjak.dailydaengnyang.service.NotificationService;
 import java.time.LocalDateTime;
@@ -25,6 +27,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 
 @WebMvcTest(NotificationRestController.class)
 public class NotificationRestControllerTest extends ControllerTest {
@@ -140,5 +143,39 @@ public class NotificationRestControllerTest extends ControllerTest {
 
 		}
 	}
-}
 
+	@Nested
+	@DisplayName("안 읽은 알람 수")
+	class NotificationUnreadCount {
+
+		@Test
+		@DisplayName("성공")
+		void success() throws Exception {
+			given(notificationService.getUnreadCount("user"))
+					.willReturn(new NotificationUnreadCountResponse(3));
+
+			mockMvc.perform(
+							get("/api/v1/notification/unread-count"))
+					.andExpect(status().isOk())
+					.andExpect(header().string(HttpHeaders.ETAG, "\"unread-3\""))
+					.andExpect(jsonPath("$.resultCode").value("SUCCESS"))
+					.andExpect(jsonPath("$.result.count").value(3))
+					.andDo(restDocs.document(
+							responseFields(fieldWithPath("resultCode").description("결과코드"),
+									fieldWithPath("result.count").description("안 읽은 알람 수"))));
+			verify(notificationService).getUnreadCount("user");
+		}
+
+		@Test
+		@DisplayName("성공 - 바뀌지 않았으면 304")
+		void not_modified() throws Exception {
+			given(notificationService.getUnreadCount("user"))
+					.willReturn(new NotificationUnreadCountResponse(3));
+
+			mockMvc.perform(
+							get("/api/v1/notification/unread-count")
+									.header(HttpHeaders.IF_NONE_MATCH, "\"unread-3\""))
+					.andExpect(status().isNotModified());
+		}
+	}
+}
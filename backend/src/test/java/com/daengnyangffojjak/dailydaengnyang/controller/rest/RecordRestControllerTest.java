@@ -5,19 +5,23 @@ import static org.mockito.Mockito.verify;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.post;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.restdocs.payload.PayloadDocumentation.relaxedResponseFields;
 import static org.springframework.restdocs.payload.PayloadDocumentation.requestFields;
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
 import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.restdocs.request.RequestDocumentation.queryParameters;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.daengnyangffojjak.dailydaengnyang.domain.dto.record.RecordFeedResponse;
 import com.daengnyangffojjak.dailydaengnyang.domain.dto.record.RecordResponse;
 import com.daengnyangffojjak.dailydaengnyang.domain.dto.record.RecordWorkRequest;
 import com.daengnyangffojjak.dailydaengnyang.domain.dto.record.RecordWorkResponse;
 import com.daengnyangffojjak.dailydaengnyang.domain.entity.RecordFile;
 import com.daengnyangffojjak.dailydaengnyang.service.RecordService;
+import com.daengnyangffojjak.dailydaengnyang.utils.cache.FeedResponseCache;
 import java.time.LocalDateTime;
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
@@ -39,10 +43,14 @@ class RecordRestControllerTest extends ControllerTest {
 	@MockBean
 	RecordService recordService;
 
+	@MockBean
+	FeedResponseCache feedResponseCache;
+
 	LocalDateTime createdAt = LocalDateTime.of(2023, 1, 1, 11, 11);
 	LocalDateTime lastmodifiedAt = LocalDateTime.of(2023, 1, 2, 22, 22);
 	RecordResponse recordResponse = new RecordResponse(1L, 1L, 1L, "멍멍", "제목", "본문", "user", true,
-			"산책", List.of(), new RecordFile(), createdAt, lastmodifiedAt);
+			"산책", List.of(), new RecordFile(), "https://bucket/records/dog_thumb.jpg",
+			createdAt, lastmodifiedAt);
 
 	@Nested
 	@DisplayName("일기 상세(1개) 조회")
@@ -54,7 +62,8 @@ class RecordRestControllerTest extends ControllerTest {
 
 			// 일기 상세(1개) 조회
 			RecordResponse recordResponse = new RecordResponse(1L, 1L, 1L, "훈이", "제목", "본문", "user", true,
-					"산책", List.of(), new RecordFile(), createdAt, lastmodifiedAt);
+					"산책", List.of(), new RecordFile(),
+					"https://bucket/records/dog_thumb.jpg", createdAt, lastmodifiedAt);
 
 			given(recordService.getOneRecord(1L, 1L, "user"))
 					.willReturn(recordResponse);
@@ -71,6 +80,8 @@ class RecordRestControllerTest extends ControllerTest {
 					.andExpect(jsonPath("$.result.userName").value("user"))
 					.andExpect(jsonPath("$.result.isPublic").value(true))
 					.andExpect(jsonPath("$.result.tag").value("산책"))
+					.andExpect(jsonPath("$.result.thumbnailUrl").value(
+							"https://bucket/records/dog_thumb.jpg"))
 					.andExpect(jsonPath("$.result.createdAt").value("2023-01-01 11:11:00"))
 					.andExpect(jsonPath("$.result.lastModifiedAt").value("2023-01-02 22:22:00"))
 					.andDo(
@@ -118,7 +129,16 @@ class RecordRestControllerTest extends ControllerTest {
 													"파일이름"),
 											fieldWithPath(
 													"result.recordFile.deleted").description(
-													"삭제여부"))));
+													"삭제여부"),
+											fieldWithPath(
+													"result.recordFile.thumbnailUrl").description(
+													"썸네일 축소본 경로"),
+											fieldWithPath(
+													"result.recordFile.mediumUrl").description(
+													"중간 크기 축소본 경로"),
+											fieldWithPath(
+													"result.thumbnailUrl").description(
+													"피드 카드 이미지 (축소본이 없으면 원본)"))));
 			verify(recordService).getOneRecord(1L, 1L, "user");
 		}
 	}
@@ -191,6 +211,9 @@ class RecordRestControllerTest extends ControllerTest {
 											fieldWithPath(
 													"['result']['content'][0].['recordFiles']").description(
 													"일기에 업로드 된 파일"),
+											fieldWithPath(
+													"['result']['content'][0].['thumbnailUrl']").description(
+													"피드 카드 이미지 (축소본이 없으면 원본)"),
 											fieldWithPath("result.last").description(
 													"마지막 페이지인지 확인"),
 											fieldWithPath("result.totalPages").description(
@@ -220,6 +243,49 @@ class RecordRestControllerTest extends ControllerTest {
 	}
 
 
+	@Nested
+	@DisplayName("전체 피드 무한 스크롤 조회")
+	class RecordGetFeed {
+
+		@Test
+		@DisplayName("전체 피드 무한 스크롤 조회 성공")
+		void success_get_feed() throws Exception {
+
+			RecordFeedResponse recordFeedResponse = new RecordFeedResponse(
+					List.of(recordResponse), 1L);
+
+			given(recordService.getFeed(10L, 1)).willReturn(recordFeedResponse);
+
+			mockMvc.perform(
+							RestDocumentationRequestBuilders.get("/api/v1/records/feed/scroll")
+									.param("lastRecordId", "10")
+									.param("size", "1"))
+					.andExpect(status().isOk())
+					.andExpect(jsonPath("$.result.records[0].id").value(1L))
+					.andExpect(jsonPath("$.result.lastRecordId").value(1L))
+					.andDo(
+							restDocs.document(
+									queryParameters(
+											parameterWithName("lastRecordId").optional()
+													.description("이전 응답의 마지막 일기 번호 (첫 요청은 생략)"),
+											parameterWithName("size").optional()
+													.description("조회할 일기 수 (기본 20, 최대 50)")
+									),
+									relaxedResponseFields(
+											fieldWithPath("resultCode").description("결과코드"),
+											fieldWithPath("result.records[].id").description("일기 번호"),
+											fieldWithPath("result.records[].title").description("제목"),
+											fieldWithPath("result.records[].body").description("내용"),
+											fieldWithPath("result.lastRecordId").description(
+													"다음 요청에 사용할 일기 번호 (마지막 페이지면 null)")
+									)
+							)
+					);
+
+			verify(recordService).getFeed(10L, 1);
+		}
+	}
+
 	@Nested
 	@DisplayName("기간별 일기 조회")
 	class RecordGetPeriod {
@@ -297,7 +363,16 @@ class RecordRestControllerTest extends ControllerTest {
 													"파일이름"),
 											fieldWithPath(
 													"result[].recordFile.deleted").description(
-													"삭제여부"))));
+													"삭제여부"),
+											fieldWithPath(
+													"result[].recordFile.thumbnailUrl").description(
+													"썸네일 축소본 경로"),
+											fieldWithPath(
+													"result[].recordFile.mediumUrl").description(
+													"중간 크기 축소본 경로"),
+											fieldWithPath(
+													"result[].thumbnailUrl").description(
+													"피드 카드 이미지 (축소본이 없으면 원본)"))));
 		}
 	}
 
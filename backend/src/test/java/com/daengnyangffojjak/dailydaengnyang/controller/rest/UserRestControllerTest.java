@@ -215,13 +215,14 @@ class UserRestControllerTest extends ControllerTest {
 		@Test
 		@DisplayName("로그아웃 성공")
 		void logout_success() throws Exception {
-
-			given(userService.logout(tokenRequest)).willReturn(
+			TokenRequest logoutRequest = new TokenRequest("accesstokenalskdjf",
+					"refreshToken=eyJhbGciOiefJIUzI", "fcm-token");
+			given(userService.logout(logoutRequest)).willReturn(
 					new MessageResponse("로그아웃이 되었습니다."));
 
 			mockMvc.perform(
 							post("/api/v1/users/logout")
-									.content(objectMapper.writeValueAsBytes(tokenRequest))
+									.content(objectMapper.writeValueAsBytes(logoutRequest))
 									.contentType(MediaType.APPLICATION_JSON))
 					.andExpect(status().isOk())
 					.andExpect(jsonPath("$.result.msg").value("로그아웃이 되었습니다."))
@@ -229,7 +230,9 @@ class UserRestControllerTest extends ControllerTest {
 							restDocs.document(
 									requestFields(
 											fieldWithPath("accessToken").description("엑세스토큰"),
-											fieldWithPath("refreshToken").description("리프레쉬토큰")
+											fieldWithPath("refreshToken").description("리프레쉬토큰"),
+											fieldWithPath("fcmToken").description(
+													"이 기기의 fcm 토큰 (이 기기만 알림 해제)").optional()
 									),
 									responseFields(
 											fieldWithPath("resultCode").description("결과코드"),
@@ -238,7 +241,8 @@ class UserRestControllerTest extends ControllerTest {
 													"결과메세지")
 									)
 							));
-			verify(userService).logout(tokenRequest);
+			verify(userService).logout(logoutRequest);
+			verify(notificationService).deleteToken("user", "fcm-token");
 		}
 	}
 
@@ -0,0 +1,57 @@
+package com.daengnyangffojjak.dailydaengnyang.domain.dto;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.daengnyangffojjak.dailydaengnyang.exception.CursorException;
+import com.daengnyangffojjak.dailydaengnyang.exception.ErrorCode;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CursorTest {
+
+	@Test
+	@DisplayName("인코딩한 커서를 그대로 복원")
+	void encode_decode() {
+		LocalDateTime sortKey = LocalDateTime.of(2023, 1, 1, 11, 11, 11, 123000000);
+
+		Cursor cursor = Cursor.decode(Cursor.of(sortKey, 15L).encode());
+
+		assertEquals(sortKey, cursor.getSortKey());
+		assertEquals(15L, cursor.getId());
+	}
+
+	@Test
+	@DisplayName("정렬 키가 없는 커서")
+	void encode_decode_null_sort_key() {
+		Cursor cursor = Cursor.decode(Cursor.of(null, 3L).encode());
+
+		assertNull(cursor.getSortKey());
+		assertEquals(3L, cursor.getId());
+	}
+
+	@Test
+	@DisplayName("커서가 없으면 첫 페이지")
+	void decode_empty() {
+		assertEquals(Long.MAX_VALUE, Cursor.decode(null).getId());
+		assertEquals(Long.MAX_VALUE, Cursor.decode("").getId());
+	}
+
+	@Test
+	@DisplayName("잘못된 커서")
+	void decode_invalid() {
+		CursorException e = assertThrows(CursorException.class, () -> Cursor.decode("not-a-cursor"));
+
+		assertEquals(ErrorCode.INVALID_CURSOR, e.getErrorCode());
+	}
+
+	@Test
+	@DisplayName("요청 크기 보정")
+	void page_size() {
+		assertEquals(Cursor.DEFAULT_SIZE, Cursor.pageSize(null));
+		assertEquals(1, Cursor.pageSize(0));
+		assertEquals(Cursor.MAX_SIZE, Cursor.pageSize(1000));
+	}
+}
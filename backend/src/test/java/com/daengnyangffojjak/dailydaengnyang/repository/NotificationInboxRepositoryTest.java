@@ -0,0 +1,76 @@
+package com.daengnyangffojjak.dailydaengnyang.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.daengnyangffojjak.dailydaengnyang.configuration.JpaAuditingConfiguraion;
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.NotificationInbox;
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.enums.NotificationType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.auto_quote_keyword=true")
+@Import(JpaAuditingConfiguraion.class)
+class NotificationInboxRepositoryTest {
+
+	@Autowired
+	private NotificationInboxRepository notificationInboxRepository;
+
+	LocalDateTime before30days = LocalDateTime.now().minusDays(30);
+
+	@BeforeEach
+	void setUp() {
+		// 유저 1은 알림 1~5, 유저 2는 알림 3만
+		LongStream.rangeClosed(1, 5).forEach(id -> notificationInboxRepository.save(inbox(1L, id)));
+		notificationInboxRepository.save(inbox(2L, 3L));
+	}
+
+	@Test
+	@DisplayName("마지막으로 본 알림 다음부터 로그인 유저 알림만 최신순으로 조회")
+	void keyset_page() {
+		List<NotificationInbox> first = notificationInboxRepository
+				.findByUserIdAndCreatedAtAfterOrderByNotificationIdDesc(1L, before30days,
+						PageRequest.of(0, 2));
+		assertEquals(List.of(5L, 4L), ids(first));
+
+		List<NotificationInbox> next = notificationInboxRepository
+				.findByUserIdAndNotificationIdLessThanAndCreatedAtAfterOrderByNotificationIdDesc(
+						1L, 4L, before30days, PageRequest.of(0, 2));
+		assertEquals(List.of(3L, 2L), ids(next));
+	}
+
+	@Test
+	@DisplayName("읽음/삭제는 로그인 유저 알림함에만 반영")
+	void read_delete_own_row() {
+		NotificationInbox mine = notificationInboxRepository.findByUserIdAndNotificationId(1L, 3L)
+				.orElseThrow();
+		mine.check();
+		mine.deleteSoftly();
+		notificationInboxRepository.flush();
+
+		assertTrue(notificationInboxRepository.findByUserIdAndNotificationId(1L, 3L).isEmpty());
+		NotificationInbox other = notificationInboxRepository.findByUserIdAndNotificationId(2L, 3L)
+				.orElseThrow();
+		assertEquals(false, other.isChecked());
+	}
+
+	private NotificationInbox inbox(Long userId, Long notificationId) {
+		return NotificationInbox.builder().userId(userId).notificationId(notificationId)
+				.title("일정등록").body("알림" + notificationId)
+				.notificationType(NotificationType.SCHEDULE_CREATE).build();
+	}
+
+	private List<Long> ids(List<NotificationInbox> inboxes) {
+		return inboxes.stream().map(NotificationInbox::getNotificationId)
+				.collect(Collectors.toList());
+	}
+}
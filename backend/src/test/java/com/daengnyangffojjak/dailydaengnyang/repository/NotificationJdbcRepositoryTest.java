@@ -0,0 +1,117 @@
+package com.daengnyangffojjak.dailydaengnyang.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.daengnyangffojjak.dailydaengnyang.domain.dto.notification.NotificationDraft;
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.Notification;
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.NotificationOutbox;
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.User;
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.enums.NotificationType;
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.enums.OutboxStatus;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.auto_quote_keyword=true")
+@Import(NotificationJdbcRepository.class)
+class NotificationJdbcRepositoryTest {
+
+	@Autowired
+	private NotificationJdbcRepository notificationJdbcRepository;
+	@Autowired
+	private NotificationRepository notificationRepository;
+	@Autowired
+	private NotificationInboxRepository notificationInboxRepository;
+	@Autowired
+	private NotificationOutboxRepository notificationOutboxRepository;
+	@Autowired
+	private UserRepository userRepository;
+
+	@Test
+	@DisplayName("여러 이벤트의 알림, 유저별 알림함, 전송 대기열을 한 번에 저장")
+	void save_all() {
+		User user1 = userRepository.save(
+				User.builder().userName("user1").email("user1@test.com").build());
+		User user2 = userRepository.save(
+				User.builder().userName("user2").email("user2@test.com").build());
+
+		notificationJdbcRepository.saveAll(List.of(
+				NotificationDraft.of(NotificationType.SCHEDULE_CREATE, "일정 등록",
+						List.of(user1, user2)),
+				NotificationDraft.of(NotificationType.GROUP_INVITE, "그룹 초대", List.of(user2))));
+
+		List<Notification> notifications = notificationRepository.findAll();
+		assertEquals(2, notifications.size());
+		assertEquals(3, notificationInboxRepository.count());
+		assertEquals(2, notificationInboxRepository.findByUserIdAndCreatedAtAfterOrderByNotificationIdDesc(
+				user2.getId(), LocalDateTime.now().minusDays(1), PageRequest.of(0, 10)).size());
+
+		List<NotificationOutbox> outboxes = notificationOutboxRepository.findAll();
+		assertEquals(3, outboxes.size());
+		assertTrue(outboxes.stream().allMatch(o -> o.getStatus() == OutboxStatus.PENDING));
+		assertEquals(2, outboxes.stream()
+				.filter(o -> o.getNotificationId().equals(notifications.get(0).getId())).count());
+	}
+
+	@Test
+	@DisplayName("한 문장 행 수를 넘겨도 생성된 알림 id 를 drafts 순서대로 반환")
+	void save_all_ids_in_order() {
+		User user1 = userRepository.save(
+				User.builder().userName("user1").email("user1@test.com").build());
+		int size = NotificationJdbcRepository.ROWS_PER_STATEMENT + 1;
+		List<NotificationDraft> drafts = new ArrayList<>();
+		for (int i = 0; i < size; i++) {
+			drafts.add(NotificationDraft.of(NotificationType.SCHEDULE_CREATE, "알림" + i,
+					List.of(user1)));
+		}
+
+		List<Long> ids = notificationJdbcRepository.saveAll(drafts);
+
+		assertEquals(size, ids.size());
+		Map<Long, Notification> saved = notificationRepository.findAllById(ids).stream()
+				.collect(Collectors.toMap(Notification::getId, Function.identity()));
+		assertEquals(size, saved.size());
+		for (int i = 0; i < size; i++) {
+			assertEquals("알림" + i, saved.get(ids.get(i)).getTitle());
+		}
+		assertEquals(size, notificationInboxRepository.count());
+		assertEquals(size, notificationOutboxRepository.count());
+	}
+
+	@Test
+	@DisplayName("묶음 알림은 window 뒤에 전송, 먼저 들어온 알림이 차례가 되면 같은 key 알림도 함께 조회")
+	void save_coalesced() {
+		User user1 = userRepository.save(
+				User.builder().userName("user1").email("user1@test.com").build());
+		Duration window = Duration.ofSeconds(30);
+
+		notificationJdbcRepository.saveAll(List.of(NotificationDraft.coalesced(
+				NotificationType.SCHEDULE_CREATE, "일정 등록1", List.of(user1), "user2", 1L, window)));
+		LocalDateTime firstDue = LocalDateTime.now().plus(window);
+		notificationJdbcRepository.saveAll(List.of(
+				NotificationDraft.coalesced(NotificationType.SCHEDULE_CREATE, "일정 등록2",
+						List.of(user1), "user2", 1L, window),
+				NotificationDraft.coalesced(NotificationType.SCHEDULE_CREATE, "다른 그룹",
+						List.of(user1), "user2", 2L, window)));
+
+		assertTrue(notificationOutboxRepository.findDueIds(OutboxStatus.PENDING,
+				LocalDateTime.now(), PageRequest.of(0, 10)).isEmpty());
+
+		List<Long> dueIds = notificationOutboxRepository.findDueIds(OutboxStatus.PENDING,
+				firstDue, PageRequest.of(0, 10));
+		List<NotificationOutbox> due = notificationOutboxRepository.findAllById(dueIds);
+		assertEquals(2, due.size());
+		assertTrue(due.stream().allMatch(o -> "1:SCHEDULE_CREATE".equals(o.getCoalesceKey())));
+	}
+}
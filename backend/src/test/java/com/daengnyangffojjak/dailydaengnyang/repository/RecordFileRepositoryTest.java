@@ -0,0 +1,52 @@
+package com.daengnyangffojjak.dailydaengnyang.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.RecordFile;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.auto_quote_keyword=true")
+class RecordFileRepositoryTest {
+
+	@Autowired
+	private TestEntityManager em;
+	@Autowired
+	private RecordFileRepository recordFileRepository;
+
+	@Test
+	@DisplayName("축소본 key 만 갱신하고 삭제된 파일은 건드리지 않음")
+	void update_variant_keys() {
+		RecordFile live = em.persist(RecordFile.makeRecordFile("dog.png", "records/dog.png",
+				"/files/records/dog.png", null));
+		RecordFile deleted = RecordFile.makeRecordFile("cat.png", "records/cat.png",
+				"/files/records/cat.png", null);
+		deleted.deleteSoftly();
+		em.persist(deleted);
+		em.flush();
+		em.clear();
+
+		assertEquals(1, recordFileRepository.updateVariantKeys(live.getId(),
+				"records/dog_thumb.jpg", "records/dog_medium.jpg"));
+		assertEquals(0, recordFileRepository.updateVariantKeys(deleted.getId(),
+				"records/cat_thumb.jpg", "records/cat_medium.jpg"));
+
+		assertEquals(List.of("records/dog_thumb.jpg", "dog.png"),
+				columns(live.getId(), "thumbnail_key", "upload_filename"));
+		assertNull(columns(deleted.getId(), "thumbnail_key", "upload_filename").get(0));
+	}
+
+	private List<Object> columns(Long id, String... columns) {
+		Object[] row = (Object[]) em.getEntityManager().createNativeQuery(
+						"select " + String.join(", ", columns) + " from record_file where id = :id")
+				.setParameter("id", id)
+				.getSingleResult();
+		return Arrays.asList(row);
+	}
+}
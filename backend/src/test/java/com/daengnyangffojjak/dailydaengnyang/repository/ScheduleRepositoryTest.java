@@ -0,0 +1,62 @@
+package com.daengnyangffojjak.dailydaengnyang.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.daengnyangffojjak.dailydaengnyang.domain.dto.Cursor;
+import com.daengnyangffojjak.dailydaengnyang.domain.dto.CursorResponse;
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.Group;
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.Pet;
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.Schedule;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.auto_quote_keyword=true")
+class ScheduleRepositoryTest {
+
+	@Autowired
+	private ScheduleRepository scheduleRepository;
+	@Autowired
+	private PetRepository petRepository;
+	@Autowired
+	private GroupRepository groupRepository;
+
+	@Test
+	@DisplayName("커서 조회 - 예정일 최신순, 같은 예정일은 id 역순, 예정일 없는 일정은 마지막")
+	void find_slice_by_pet_id() {
+		Group group = groupRepository.save(Group.builder().name("그룹이름").build());
+		Pet pet = petRepository.save(Pet.builder().name("hoon").group(group).build());
+
+		Schedule first = save(pet, LocalDateTime.of(2023, 1, 3, 10, 0));
+		Schedule second = save(pet, LocalDateTime.of(2023, 1, 2, 10, 0));
+		Schedule third = save(pet, LocalDateTime.of(2023, 1, 2, 10, 0));
+		Schedule noDueDate1 = save(pet, null);
+		Schedule noDueDate2 = save(pet, null);
+
+		CursorResponse<Schedule> page1 = scroll(pet, Cursor.first());
+		CursorResponse<Schedule> page2 = scroll(pet, Cursor.decode(page1.getNextCursor()));
+		CursorResponse<Schedule> page3 = scroll(pet, Cursor.decode(page2.getNextCursor()));
+
+		assertEquals(List.of(first, third), page1.getContent());
+		assertTrue(page1.isHasNext());
+		assertEquals(List.of(second, noDueDate2), page2.getContent());
+		assertEquals(List.of(noDueDate1), page3.getContent());
+		assertFalse(page3.isHasNext());
+	}
+
+	private Schedule save(Pet pet, LocalDateTime dueDate) {
+		return scheduleRepository.save(
+				Schedule.builder().pet(pet).title("일정").dueDate(dueDate).build());
+	}
+
+	private CursorResponse<Schedule> scroll(Pet pet, Cursor cursor) {
+		List<Schedule> schedules = scheduleRepository.findSliceByPetId(pet.getId(),
+				cursor.getSortKey(), cursor.getId(), Cursor.fetchLimit(2));
+		return CursorResponse.of(schedules, 2, s -> Cursor.of(s.getDueDate(), s.getId()));
+	}
+}
@@ -2,60 +2,166 @@ package com.daengnyangffojjak.dailydaengnyang.service;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 import com.daengnyangffojjak.dailydaengnyang.domain.dto.notification.NotificationDeleteResponse;
+import com.daengnyangffojjak.dailydaengnyang.domain.dto.notification.NotificationListResponse;
 import com.daengnyangffojjak.dailydaengnyang.domain.dto.notification.NotificationReadResponse;
-import com.daengnyangffojjak.dailydaengnyang.domain.entity.Notification;
-import com.daengnyangffojjak.dailydaengnyang.domain.entity.NotificationUser;
+import com.daengnyangffojjak.dailydaengnyang.domain.dto.notification.NotificationUnreadCountResponse;
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.NotificationInbox;
 import com.daengnyangffojjak.dailydaengnyang.domain.entity.User;
-import com.daengnyangffojjak.dailydaengnyang.fixture.NotificationFixture;
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.enums.NotificationType;
 import com.daengnyangffojjak.dailydaengnyang.fixture.UserFixture;
-import com.daengnyangffojjak.dailydaengnyang.repository.NotificationRepository;
-import com.daengnyangffojjak.dailydaengnyang.repository.NotificationUserRepository;
+import com.daengnyangffojjak.dailydaengnyang.repository.NotificationInboxRepository;
 import com.daengnyangffojjak.dailydaengnyang.utils.Validator;
-
+import com.daengnyangffojjak.dailydaengnyang.utils.notification.FcmPushSender;
+import com.daengnyangffojjak.dailydaengnyang.utils.notification.FcmTokenResolver;
+import com.daengnyangffojjak.dailydaengnyang.utils.notification.NotificationStreamRegistry;
+import com.daengnyangffojjak.dailydaengnyang.utils.notification.UnreadNotificationCounter;
+import java.time.LocalDateTime;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 public class NotificationServiceTest {
 
-	private final RedisTemplate redisTemplate = mock(RedisTemplate.class);
 	private final Validator validator = mock(Validator.class);
-	private final NotificationUserRepository notificationUserRepository = mock(
-			NotificationUserRepository.class);
-	private final NotificationRepository notificationRepository = mock(
-			NotificationRepository.class);
+	private final NotificationInboxRepository notificationInboxRepository = mock(
+			NotificationInboxRepository.class);
 	User user = UserFixture.get();
-	Notification notification = NotificationFixture.get();
+	NotificationInbox notificationInbox = NotificationInbox.builder().userId(user.getId())
+			.notificationId(1L).title("제목").body("내용")
+			.notificationType(NotificationType.SCHEDULE_CREATE).build();
 
+	private final UnreadNotificationCounter unreadNotificationCounter = mock(
+			UnreadNotificationCounter.class);
 
+	private final NotificationStreamRegistry notificationStreamRegistry = mock(
+			NotificationStreamRegistry.class);
 
 	private NotificationService notificationService
-			= new NotificationService(redisTemplate, validator, notificationUserRepository,
-			notificationRepository);
+			= new NotificationService(validator, notificationInboxRepository,
+			mock(FcmPushSender.class), mock(FcmTokenResolver.class), unreadNotificationCounter,
+			notificationStreamRegistry);
+
+	@Nested
+	@DisplayName("알람 목록")
+	class NotificationList {
+
+		@Test
+		@DisplayName("성공 - 마지막으로 본 알람 다음부터 로그인 유저 알림함만 조회")
+		void success() {
+			given(validator.getUserByUserName("user")).willReturn(user);
+			given(notificationInboxRepository
+					.findByUserIdAndNotificationIdLessThanAndCreatedAtAfterOrderByNotificationIdDesc(
+							eq(user.getId()), eq(4L), any(LocalDateTime.class),
+							eq(PageRequest.of(0, 2)))).willReturn(List.of(notificationInbox));
+
+			NotificationListResponse response = assertDoesNotThrow(
+					() -> notificationService.getAllNotification(4L, 2, "user"));
+			assertEquals(1, response.getNotifications().size());
+			assertEquals(1L, response.getNotifications().get(0).getId());
+		}
+
+		@Test
+		@DisplayName("성공 - 첫 페이지")
+		void success_first_page() {
+			given(validator.getUserByUserName("user")).willReturn(user);
+			given(notificationInboxRepository.findByUserIdAndCreatedAtAfterOrderByNotificationIdDesc(
+					eq(user.getId()), any(LocalDateTime.class), eq(PageRequest.of(0, 20))))
+					.willReturn(List.of(notificationInbox));
+
+			NotificationListResponse response = assertDoesNotThrow(
+					() -> notificationService.getAllNotification(null, null, "user"));
+			assertEquals(1, response.getNotifications().size());
+		}
+	}
+
+	@Nested
+	@DisplayName("안 읽은 알람 수")
+	class UnreadCount {
+
+		@Test
+		@DisplayName("성공 - Redis 에 있으면 DB 조회 안 함")
+		void success_cached() {
+			given(unreadNotificationCounter.get("user")).willReturn(3L);
+
+			NotificationUnreadCountResponse response = notificationService.getUnreadCount("user");
+			assertEquals(3, response.getCount());
+			verify(validator, never()).getUserByUserName(any());
+		}
+
+		@Test
+		@DisplayName("성공 - Redis 에 없으면 알림함에서 계산해서 저장")
+		void success_miss() {
+			given(validator.getUserByUserName("user")).willReturn(user);
+			given(notificationInboxRepository.countByUserIdAndCheckedFalseAndCreatedAtAfter(
+					eq(user.getId()), any(LocalDateTime.class))).willReturn(2L);
+
+			NotificationUnreadCountResponse response = notificationService.getUnreadCount("user");
+			assertEquals(2, response.getCount());
+			verify(unreadNotificationCounter).initialize("user", 2L);
+		}
+	}
+
+	@Nested
+	@DisplayName("알람 stream 연결")
+	class ConnectStream {
+
+		private final SseEmitter emitter = new SseEmitter();
+
+		@Test
+		@DisplayName("성공 - Last-Event-ID 이후 알림을 다시 보냄")
+		void success_replay() {
+			given(notificationStreamRegistry.connect("user")).willReturn(emitter);
+			given(validator.getUserByUserName("user")).willReturn(user);
+			given(notificationInboxRepository
+					.findByUserIdAndNotificationIdGreaterThanAndCreatedAtAfterOrderByNotificationIdAsc(
+							eq(user.getId()), eq(0L), any(LocalDateTime.class),
+							eq(PageRequest.of(0, 50)))).willReturn(List.of(notificationInbox));
+
+			assertEquals(emitter, notificationService.connectStream("user", 0L));
+			verify(notificationStreamRegistry).send(eq("user"), eq(emitter),
+					argThat(response -> response.getId().equals(1L)));
+		}
+
+		@Test
+		@DisplayName("성공 - 처음 연결이면 다시 보낼 알림 없음")
+		void success_first_connect() {
+			given(notificationStreamRegistry.connect("user")).willReturn(emitter);
+
+			assertEquals(emitter, notificationService.connectStream("user", null));
+			verify(notificationStreamRegistry, never()).send(any(), any(), any());
+		}
+	}
 
 	@Nested
 	@DisplayName("알람 삭제")
 	class DeleteNotification {
 
-		NotificationUser notificationUser = new NotificationUser(1L,notification,user);
-
 		@Test
 		@DisplayName("성공")
 		void success() {
 
 			given(validator.getUserByUserName("user")).willReturn(user);
-			given(validator.getNotificationById(1L)).willReturn(notification);
-			given(validator.validateNotificationUser(1L,user.getId())).willReturn(notificationUser);
+			given(validator.getNotificationInbox(1L,user.getId())).willReturn(notificationInbox);
 
 			NotificationDeleteResponse response = assertDoesNotThrow(
 					() -> notificationService.delete(1L, "user"));
 			assertEquals(1L, response.getId());
 			assertEquals("알람이 삭제되었습니다.", response.getMessage());
+			assertTrue(notificationInbox.isDeleted());
+			verify(unreadNotificationCounter).decrement("user");
 		}
 	}
 
@@ -67,16 +173,26 @@ public class NotificationServiceTest {
 		@Test
 		@DisplayName("성공")
 		void success() {
-			NotificationUser notificationUser = new NotificationUser(1L,notification,user);
-
 			given(validator.getUserByUserName("user")).willReturn(user);
-			given(validator.getNotificationById(1L)).willReturn(notification);
-			given(validator.validateNotificationUser(1L,user.getId())).willReturn(notificationUser);
+			given(validator.getNotificationInbox(1L,user.getId())).willReturn(notificationInbox);
 
 			NotificationReadResponse response = assertDoesNotThrow(
 					() -> notificationService.checkTrue(1L, "user"));
 			assertEquals(1L, response.getId());
 			assertEquals("알람을 읽었습니다.", response.getMessage());
+			assertTrue(notificationInbox.isChecked());
+			verify(unreadNotificationCounter).decrement("user");
+		}
+
+		@Test
+		@DisplayName("성공 - 이미 읽은 알람은 안 읽은 알람 수 그대로")
+		void success_already_read() {
+			notificationInbox.check();
+			given(validator.getUserByUserName("user")).willReturn(user);
+			given(validator.getNotificationInbox(1L,user.getId())).willReturn(notificationInbox);
+
+			assertDoesNotThrow(() -> notificationService.checkTrue(1L, "user"));
+			verify(unreadNotificationCounter, never()).decrement(any());
 		}
 	}
 
@@ -0,0 +1,102 @@
+package com.daengnyangffojjak.dailydaengnyang.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.daengnyangffojjak.dailydaengnyang.domain.dto.record.RecordResponse;
+import com.daengnyangffojjak.dailydaengnyang.domain.dto.user.UserRole;
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.Group;
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.Pet;
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.Record;
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.RecordFile;
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.Tag;
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.User;
+import com.daengnyangffojjak.dailydaengnyang.repository.RecordRepository;
+import com.daengnyangffojjak.dailydaengnyang.utils.storage.RecordStorage;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+
+@DataJpaTest(properties = {
+		"spring.jpa.properties.hibernate.generate_statistics=true",
+		"spring.jpa.properties.hibernate.auto_quote_keyword=true"})
+@Import(RecordFeedAssembler.class)
+class RecordFeedAssemblerTest {
+
+	@MockBean
+	private RecordStorage recordStorage;
+
+	@Autowired
+	private TestEntityManager em;
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+	@Autowired
+	private RecordRepository recordRepository;
+	@Autowired
+	private RecordFeedAssembler recordFeedAssembler;
+
+	@BeforeEach
+	void setUp() {
+		User user = em.persist(User.builder().userName("user").password("password")
+				.email("user@gmail.com").role(UserRole.ROLE_USER).build());
+		Group group = em.persist(Group.builder().name("그룹이름").user(user).build());
+		Pet pet = em.persist(Pet.builder().name("hoon").group(group).build());
+		Tag tag = em.persist(Tag.builder().name("산책").group(group).build());
+
+		for (int i = 0; i < 30; i++) {
+			Record record = em.persist(Record.builder().user(user).pet(pet).tag(tag)
+					.title("제목" + i).body("본문").isPublic(true).build());
+			em.persist(RecordFile.makeRecordFile("file" + i + ".png",
+					"https://bucket/records/file" + i + ".png", record));
+			em.persist(RecordFile.makeRecordFile("file" + i + ".mp4",
+					"https://bucket/records/file" + i + ".mp4", record));
+		}
+		em.flush();
+		em.clear();
+	}
+
+	@Test
+	@DisplayName("페이지 크기와 상관없이 쿼리 수 고정 (일기 + count + 첨부파일)")
+	void fixed_statement_count_per_page() {
+		assertEquals(3, countStatements(5));
+		assertEquals(3, countStatements(20));
+	}
+
+	@Test
+	@DisplayName("일기별 첨부파일 묶기")
+	void group_record_files_by_record() {
+		Page<RecordResponse> responses = recordFeedAssembler.assemble(
+				recordRepository.findFeedByIsPublicTrue(
+						PageRequest.of(0, 20, Sort.by(Direction.DESC, "id"))));
+
+		assertEquals(20, responses.getContent().size());
+		responses.forEach(response -> {
+			assertEquals(2, response.getRecordFiles().size());
+			assertEquals("user", response.getUserName());
+			assertEquals("hoon", response.getPetName());
+			assertEquals("산책", response.getTag());
+		});
+	}
+
+	private long countStatements(int size) {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		em.clear();
+		statistics.clear();
+
+		recordFeedAssembler.assemble(recordRepository.findFeedByIsPublicTrue(
+				PageRequest.of(0, size, Sort.by(Direction.DESC, "id"))));
+
+		return statistics.getPrepareStatementCount();
+	}
+}
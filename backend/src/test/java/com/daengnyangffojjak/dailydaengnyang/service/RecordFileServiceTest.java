@@ -0,0 +1,193 @@
+package com.daengnyangffojjak.dailydaengnyang.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.daengnyangffojjak.dailydaengnyang.domain.dto.record.RecordFileResponse;
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.Record;
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.RecordFile;
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.StoredFile;
+import com.daengnyangffojjak.dailydaengnyang.exception.ErrorCode;
+import com.daengnyangffojjak.dailydaengnyang.exception.FileException;
+import com.daengnyangffojjak.dailydaengnyang.repository.RecordFileRepository;
+import com.daengnyangffojjak.dailydaengnyang.utils.Validator;
+import com.daengnyangffojjak.dailydaengnyang.utils.event.RecordFileUploadEvent;
+import com.daengnyangffojjak.dailydaengnyang.utils.storage.RecordStorage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.Parameter;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+class RecordFileServiceTest {
+
+	private final RecordStorage recordStorage = mock(RecordStorage.class);
+	private final Validator validator = mock(Validator.class);
+	private final RecordFileRepository recordFileRepository = mock(RecordFileRepository.class);
+	private final PlatformTransactionManager transactionManager = mock(
+			PlatformTransactionManager.class);
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final ApplicationEventPublisher applicationEventPublisher = mock(
+			ApplicationEventPublisher.class);
+	private final StoredFileService storedFileService = mock(StoredFileService.class);
+
+	// 테스트에서는 호출 스레드에서 바로 실행
+	private final RecordFileService recordFileService = new RecordFileService(recordStorage,
+			validator, recordFileRepository, new TransactionTemplate(transactionManager),
+			meterRegistry, applicationEventPublisher, storedFileService, Runnable::run);
+
+	Record record = Record.builder().id(1L).title("제목").isPublic(true).build();
+
+	List<MultipartFile> files = List.of(
+			new MockMultipartFile("multipartFiles", "dog.jpg", "image/jpeg", new byte[]{1}),
+			new MockMultipartFile("multipartFiles", "cat.png", "image/png", new byte[]{1, 2}));
+
+	@BeforeEach
+	void setUp() {
+		given(validator.getRecordById(1L)).willReturn(record);
+		given(recordStorage.urlOf(anyString()))
+				.willReturn("https://bucket.s3.amazonaws.com/records/file");
+		given(recordFileRepository.saveAll(anyList())).willAnswer(
+				invocation -> invocation.getArgument(0));
+	}
+
+	@Test
+	@DisplayName("업로드 성공 - 한 번에 저장, 파일별 업로드 시간 기록")
+	void upload_success() {
+		RecordFileResponse response = recordFileService.uploadRecordFiles(1L, 1L, files, "user");
+
+		assertEquals(List.of("dog.jpg", "cat.png"), response.getUploadFileName());
+		verify(storedFileService, times(2)).cancelDeletion(anyString());
+		verify(recordStorage, times(2)).store(anyString(), any(), anyLong(), anyString());
+		verify(recordFileRepository).saveAll(argThat(recordFiles ->
+				((List<?>) recordFiles).size() == 2));
+		assertEquals(2, meterRegistry.get("record.file.upload").tag("result", "success")
+				.timer().count());
+		verify(applicationEventPublisher).publishEvent(any(RecordFileUploadEvent.class));
+		verify(storedFileService, times(2)).acquire(anyString(), anyString(), anyString(),
+				eq(true));
+	}
+
+	@Test
+	@DisplayName("일기는 업로드 전에 짧은 트랜잭션에서 조회하고 커밋 (업로드 중에는 커넥션을 잡지 않음)")
+	void upload_record_loaded_in_transaction() {
+		recordFileService.uploadRecordFiles(1L, 1L, files, "user");
+
+		InOrder inOrder = inOrder(transactionManager, validator, recordStorage);
+		inOrder.verify(transactionManager).getTransaction(any());
+		inOrder.verify(validator).getRecordById(1L);
+		inOrder.verify(transactionManager).commit(any());
+		inOrder.verify(recordStorage).store(anyString(), any(), anyLong(), anyString());
+	}
+
+	@Test
+	@DisplayName("같은 내용의 파일은 다시 올리지 않고 기존 객체 참조")
+	void upload_duplicate() {
+		given(storedFileService.findByContentHash(anyString())).willReturn(Optional.empty());
+		// {1} 의 SHA-256
+		String dogHash = "4bf5122f344554c53bde2ebb8cd2b7e3d1600ad631c385a5d7cce23c7785459a";
+		given(storedFileService.findByContentHash(dogHash)).willReturn(Optional.of(
+				StoredFile.of(dogHash, "records/" + dogHash + ".jpg", "https://bucket/dog.jpg")));
+
+		recordFileService.uploadRecordFiles(1L, 1L, files, "user");
+
+		verify(recordStorage, times(1)).store(anyString(), any(), anyLong(), anyString());
+		verify(recordStorage, never()).store(eq("records/" + dogHash + ".jpg"), any(), anyLong(),
+				anyString());
+		verify(storedFileService).acquire(dogHash, "records/" + dogHash + ".jpg",
+				"https://bucket/dog.jpg", false);
+		assertEquals(1, meterRegistry.get("record.file.upload").tag("result", "duplicate")
+				.timer().count());
+	}
+
+	@Test
+	@DisplayName("하나라도 실패하면 업로드된 파일 삭제, 저장하지 않음")
+	void upload_fail_cleanup() {
+		willThrow(new IllegalStateException("fail")).given(recordStorage)
+				.store(anyString(), any(), eq(2L), anyString());
+
+		FileException e = assertThrows(FileException.class,
+				() -> recordFileService.uploadRecordFiles(1L, 1L, files, "user"));
+
+		assertEquals(ErrorCode.FILE_UPLOAD_ERROR, e.getErrorCode());
+		// 바로 지우지 않고 삭제 대기열에 추가 (같은 내용을 동시에 올린 요청이 있을 수 있음)
+		verify(storedFileService).scheduleDeletion(argThat(keys -> keys.size() == 1));
+		verify(recordStorage, never()).delete(anyString());
+		verify(recordFileRepository, never()).saveAll(anyList());
+		verify(applicationEventPublisher, never()).publishEvent(any());
+		assertEquals(1, meterRegistry.get("record.file.upload").tag("result", "failure")
+				.timer().count());
+	}
+
+	@Test
+	@DisplayName("StoredFile 생성이 충돌하면 RecordFile 을 새로 만들어 한 번 더 저장")
+	void upload_retry_with_new_entities() {
+		given(recordFileRepository.saveAll(anyList()))
+				.willThrow(new DataIntegrityViolationException("duplicate"))
+				.willAnswer(invocation -> invocation.getArgument(0));
+
+		recordFileService.uploadRecordFiles(1L, 1L, files.subList(0, 1), "user");
+
+		ArgumentCaptor<List<RecordFile>> captor = ArgumentCaptor.forClass(List.class);
+		verify(recordFileRepository, times(2)).saveAll(captor.capture());
+		assertNotSame(captor.getAllValues().get(0).get(0), captor.getAllValues().get(1).get(0));
+		verify(storedFileService, times(2)).acquire(anyString(), anyString(), anyString(),
+				eq(true));
+		verify(storedFileService, never()).scheduleDeletion(anyList());
+	}
+
+	@Test
+	@DisplayName("파일 개수 초과")
+	void upload_limit_exceeded() {
+		List<MultipartFile> tooMany = Collections.nCopies(11, files.get(0));
+
+		FileException e = assertThrows(FileException.class,
+				() -> recordFileService.uploadRecordFiles(1L, 1L, tooMany, "user"));
+
+		assertEquals(ErrorCode.FILE_LIMIT_EXCEEDED, e.getErrorCode());
+		verify(recordStorage, never()).store(anyString(), any(), anyLong(), anyString());
+	}
+
+	@Test
+	@DisplayName("업로드는 uploadExecutor 를 주입받음 (@Primary executor 아님)")
+	void upload_executor_qualifier() {
+		Parameter executorParameter = Arrays.stream(
+						RecordFileService.class.getConstructors()[0].getParameters())
+				.filter(parameter -> parameter.getType() == Executor.class)
+				.findFirst()
+				.orElseThrow();
+
+		Qualifier qualifier = executorParameter.getAnnotation(Qualifier.class);
+		assertNotNull(qualifier);
+		assertEquals("uploadExecutor", qualifier.value());
+	}
+}
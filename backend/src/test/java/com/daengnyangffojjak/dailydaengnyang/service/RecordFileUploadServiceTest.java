@@ -0,0 +1,244 @@
+package com.daengnyangffojjak.dailydaengnyang.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.daengnyangffojjak.dailydaengnyang.domain.dto.record.RecordFileResponse;
+import com.daengnyangffojjak.dailydaengnyang.domain.dto.record.UploadSessionResponse;
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.Record;
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.RecordFile;
+import com.daengnyangffojjak.dailydaengnyang.exception.ErrorCode;
+import com.daengnyangffojjak.dailydaengnyang.exception.FileException;
+import com.daengnyangffojjak.dailydaengnyang.repository.RecordFileRepository;
+import com.daengnyangffojjak.dailydaengnyang.utils.Validator;
+import com.daengnyangffojjak.dailydaengnyang.utils.event.RecordFileUploadEvent;
+import com.daengnyangffojjak.dailydaengnyang.utils.storage.ChunkedUploadStore;
+import com.daengnyangffojjak.dailydaengnyang.utils.storage.UploadSession;
+import com.daengnyangffojjak.dailydaengnyang.utils.storage.UploadSession.State;
+import com.daengnyangffojjak.dailydaengnyang.utils.storage.UploadSessionStore;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class RecordFileUploadServiceTest {
+
+	private final Validator validator = mock(Validator.class);
+	private final RecordFileRepository recordFileRepository = mock(RecordFileRepository.class);
+	private final ChunkedUploadStore chunkedUploadStore = mock(ChunkedUploadStore.class);
+	private final UploadSessionStore uploadSessionStore = mock(UploadSessionStore.class);
+	private final StoredFileService storedFileService = mock(StoredFileService.class);
+	private final ApplicationEventPublisher applicationEventPublisher = mock(
+			ApplicationEventPublisher.class);
+
+	private final RecordFileUploadService recordFileUploadService = new RecordFileUploadService(
+			validator, recordFileRepository, chunkedUploadStore, uploadSessionStore,
+			new TransactionTemplate(mock(PlatformTransactionManager.class)), storedFileService,
+			applicationEventPublisher);
+
+	private final long MB = 1024 * 1024;
+
+	// 12MB 파일, 5MB 청크 -> 5MB, 5MB, 2MB
+	private UploadSession session(Map<Integer, String> partETags) {
+		return session(partETags, State.UPLOADING);
+	}
+
+	private UploadSession session(Map<Integer, String> partETags, State state) {
+		return UploadSession.builder().id("upload").recordId(1L).userName("user")
+				.key("records/video.mp4").storeUploadId("s3-upload").fileName("video.mp4")
+				.contentType("video/mp4").totalSize(12 * MB).chunkSize(5 * MB)
+				.partETags(partETags).state(state).build();
+	}
+
+	private Map<Integer, String> allParts() {
+		return new HashMap<>(Map.of(1, "e1", 2, "e2", 3, "e3"));
+	}
+
+	@Test
+	@DisplayName("청크 업로드 - 받은 위치까지 offset 반환")
+	void upload_chunk() {
+		given(uploadSessionStore.find("upload")).willReturn(
+				Optional.of(session(new HashMap<>(Map.of(1, "e1")))));
+		InputStream body = new ByteArrayInputStream(new byte[0]);
+		given(chunkedUploadStore.uploadPart("records/video.mp4", "s3-upload", 2, body, 5 * MB))
+				.willReturn("e2");
+		given(uploadSessionStore.savePart("upload", 2, "e2")).willReturn(true);
+
+		UploadSessionResponse response = recordFileUploadService.uploadChunk(1L, "upload", 2, body,
+				5 * MB, "user");
+
+		assertEquals(3, response.getPartCount());
+		assertEquals(10 * MB, response.getOffset());
+		assertEquals(List.of(1, 2), response.getUploadedParts());
+		verify(uploadSessionStore).savePart("upload", 2, "e2");
+	}
+
+	@Test
+	@DisplayName("청크를 올리는 중에 세션이 만료되면 세션 없음")
+	void upload_chunk_session_expired() {
+		given(uploadSessionStore.find("upload")).willReturn(Optional.of(session(new HashMap<>())));
+		InputStream body = new ByteArrayInputStream(new byte[0]);
+		given(chunkedUploadStore.uploadPart("records/video.mp4", "s3-upload", 1, body, 5 * MB))
+				.willReturn("e1");
+		given(uploadSessionStore.savePart("upload", 1, "e1")).willReturn(false);
+
+		FileException e = assertThrows(FileException.class,
+				() -> recordFileUploadService.uploadChunk(1L, "upload", 1, body, 5 * MB, "user"));
+
+		assertEquals(ErrorCode.UPLOAD_SESSION_NOT_FOUND, e.getErrorCode());
+	}
+
+	@Test
+	@DisplayName("청크 크기가 다르면 저장소에 보내지 않음")
+	void upload_chunk_wrong_size() {
+		given(uploadSessionStore.find("upload")).willReturn(Optional.of(session(new HashMap<>())));
+
+		FileException e = assertThrows(FileException.class,
+				() -> recordFileUploadService.uploadChunk(1L, "upload", 3,
+						new ByteArrayInputStream(new byte[0]), 5 * MB, "user"));
+
+		assertEquals(ErrorCode.INVALID_CHUNK, e.getErrorCode());
+		verify(chunkedUploadStore, never()).uploadPart(anyString(), anyString(), anyInt(), any(),
+				anyLong());
+	}
+
+	@Test
+	@DisplayName("다른 유저의 세션")
+	void upload_chunk_other_user() {
+		given(uploadSessionStore.find("upload")).willReturn(Optional.of(session(new HashMap<>())));
+
+		FileException e = assertThrows(FileException.class,
+				() -> recordFileUploadService.getStatus(1L, "upload", "other"));
+
+		assertEquals(ErrorCode.INVALID_PERMISSION, e.getErrorCode());
+	}
+
+	@Test
+	@DisplayName("모든 청크를 받기 전에는 완료 불가")
+	void complete_incomplete() {
+		given(uploadSessionStore.find("upload")).willReturn(
+				Optional.of(session(new HashMap<>(Map.of(1, "e1", 3, "e3")))));
+
+		FileException e = assertThrows(FileException.class,
+				() -> recordFileUploadService.complete(1L, "upload", "user"));
+
+		assertEquals(ErrorCode.UPLOAD_INCOMPLETE, e.getErrorCode());
+	}
+
+	@Test
+	@DisplayName("완료 - part 순서대로 합치고 RecordFile 저장, 세션은 완료 상태로 남기고 저장 후 이벤트 발행")
+	void complete() {
+		given(uploadSessionStore.find("upload")).willReturn(Optional.of(session(allParts())));
+		given(validator.getRecordById(1L)).willReturn(Record.builder().id(1L).build());
+		given(uploadSessionStore.startCompletion("upload")).willReturn(true);
+		given(chunkedUploadStore.complete("records/video.mp4", "s3-upload",
+				List.of("e1", "e2", "e3"))).willReturn("https://bucket/records/video.mp4");
+		given(recordFileRepository.save(any(RecordFile.class)))
+				.willReturn(RecordFile.builder().id(10L).build());
+
+		RecordFileResponse response = recordFileUploadService.complete(1L, "upload", "user");
+
+		assertEquals(List.of("video.mp4"), response.getS3StoredFileName());
+		verify(uploadSessionStore).finishCompletion("upload");
+		verify(uploadSessionStore, never()).delete(anyString());
+		ArgumentCaptor<RecordFileUploadEvent> event = ArgumentCaptor.forClass(
+				RecordFileUploadEvent.class);
+		verify(applicationEventPublisher).publishEvent(event.capture());
+		assertEquals(List.of(10L), event.getValue().getRecordFileIds());
+	}
+
+	@Test
+	@DisplayName("이미 완료된 세션에 다시 완료 요청 - 저장하지 않고 같은 결과로 응답")
+	void complete_repeated() {
+		given(uploadSessionStore.find("upload")).willReturn(
+				Optional.of(session(allParts(), State.COMPLETED)));
+
+		RecordFileResponse response = recordFileUploadService.complete(1L, "upload", "user");
+
+		assertEquals(List.of("video.mp4"), response.getS3StoredFileName());
+		verify(uploadSessionStore, never()).startCompletion(anyString());
+		verifyNoInteractions(chunkedUploadStore, recordFileRepository, applicationEventPublisher);
+	}
+
+	@Test
+	@DisplayName("다른 요청이 완료하는 중이면 합치지 않고 충돌")
+	void complete_concurrent() {
+		given(uploadSessionStore.find("upload")).willReturn(Optional.of(session(allParts())),
+				Optional.of(session(allParts(), State.COMPLETING)));
+		given(validator.getRecordById(1L)).willReturn(Record.builder().id(1L).build());
+		given(uploadSessionStore.startCompletion("upload")).willReturn(false);
+
+		FileException e = assertThrows(FileException.class,
+				() -> recordFileUploadService.complete(1L, "upload", "user"));
+
+		assertEquals(ErrorCode.UPLOAD_COMPLETING, e.getErrorCode());
+		verifyNoInteractions(chunkedUploadStore, recordFileRepository);
+	}
+
+	@Test
+	@DisplayName("청크를 합치지 못하면 다시 완료 요청할 수 있도록 되돌림")
+	void complete_store_failed() {
+		given(uploadSessionStore.find("upload")).willReturn(Optional.of(session(allParts())));
+		given(validator.getRecordById(1L)).willReturn(Record.builder().id(1L).build());
+		given(uploadSessionStore.startCompletion("upload")).willReturn(true);
+		given(chunkedUploadStore.complete(anyString(), anyString(), any()))
+				.willThrow(new IllegalStateException("s3"));
+
+		assertThrows(IllegalStateException.class,
+				() -> recordFileUploadService.complete(1L, "upload", "user"));
+
+		verify(uploadSessionStore).cancelCompletion("upload");
+		verifyNoInteractions(recordFileRepository, storedFileService);
+	}
+
+	@Test
+	@DisplayName("합친 후 DB 저장에 실패하면 합쳐진 객체를 삭제 대기열에 추가")
+	void complete_save_failed() {
+		given(uploadSessionStore.find("upload")).willReturn(Optional.of(session(allParts())));
+		given(validator.getRecordById(1L)).willReturn(Record.builder().id(1L).build());
+		given(uploadSessionStore.startCompletion("upload")).willReturn(true);
+		given(chunkedUploadStore.complete(anyString(), anyString(), any()))
+				.willReturn("https://bucket/records/video.mp4");
+		given(recordFileRepository.save(any(RecordFile.class)))
+				.willThrow(new DataAccessResourceFailureException("db"));
+
+		assertThrows(DataAccessResourceFailureException.class,
+				() -> recordFileUploadService.complete(1L, "upload", "user"));
+
+		verify(storedFileService).scheduleDeletion(List.of("records/video.mp4"));
+		verify(uploadSessionStore).delete("upload");
+		verify(uploadSessionStore, never()).finishCompletion(anyString());
+		verifyNoInteractions(applicationEventPublisher);
+	}
+
+	@Test
+	@DisplayName("완료하는 중인 세션에는 청크를 올릴 수 없음")
+	void upload_chunk_completing() {
+		given(uploadSessionStore.find("upload")).willReturn(
+				Optional.of(session(new HashMap<>(), State.COMPLETING)));
+
+		FileException e = assertThrows(FileException.class,
+				() -> recordFileUploadService.uploadChunk(1L, "upload", 1,
+						new ByteArrayInputStream(new byte[0]), 5 * MB, "user"));
+
+		assertEquals(ErrorCode.UPLOAD_COMPLETING, e.getErrorCode());
+	}
+}
@@ -0,0 +1,103 @@
+package com.daengnyangffojjak.dailydaengnyang.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.RecordFile;
+import com.daengnyangffojjak.dailydaengnyang.repository.RecordFileRepository;
+import com.daengnyangffojjak.dailydaengnyang.utils.storage.RecordStorage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RecordImageServiceTest {
+
+	private final RecordStorage recordStorage = mock(RecordStorage.class);
+	private final RecordFileRepository recordFileRepository = mock(RecordFileRepository.class);
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final RecordImageService recordImageService = new RecordImageService(recordStorage,
+			recordFileRepository, meterRegistry, 4_000_000);
+
+	@Test
+	@DisplayName("이미지 축소본 생성 - 원본 key 기준 고정 key 로 저장")
+	void create_variants() throws Exception {
+		RecordFile recordFile = RecordFile.builder().id(1L).uploadFilename("dog.png")
+				.storedFileKey("records/dog.png").storedFileUrl("/files/records/dog.png").build();
+		given(recordFileRepository.findAllById(List.of(1L))).willReturn(List.of(recordFile));
+		given(recordStorage.open("records/dog.png")).willReturn(
+				new ByteArrayInputStream(png(2000, 1000)));
+
+		recordImageService.createVariants(List.of(1L));
+
+		verify(recordStorage).store(eq("records/dog_thumb.jpg"), any(), anyLong(),
+				eq("image/jpeg"));
+		verify(recordStorage).store(eq("records/dog_medium.jpg"), any(), anyLong(),
+				eq("image/jpeg"));
+		verify(recordFileRepository).updateVariantKeys(1L, "records/dog_thumb.jpg",
+				"records/dog_medium.jpg");
+		verify(recordFileRepository, never()).saveAll(anyList());
+	}
+
+	@Test
+	@DisplayName("가로 x 세로가 maxPixels 를 넘으면 디코딩하지 않고 변환 생략")
+	void skip_too_large() throws Exception {
+		RecordFile recordFile = RecordFile.builder().id(1L).uploadFilename("dog.png")
+				.storedFileKey("records/dog.png").storedFileUrl("/files/records/dog.png").build();
+		given(recordFileRepository.findAllById(List.of(1L))).willReturn(List.of(recordFile));
+		given(recordStorage.open("records/dog.png")).willReturn(
+				new ByteArrayInputStream(png(3000, 2000)));
+
+		recordImageService.createVariants(List.of(1L));
+
+		verify(recordStorage, never()).store(anyString(), any(), anyLong(), anyString());
+		verify(recordFileRepository, never()).updateVariantKeys(any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("동영상은 변환하지 않음")
+	void skip_video() {
+		RecordFile recordFile = RecordFile.makeRecordFile("walk.mp4", "records/walk.mp4",
+				"/files/records/walk.mp4", null);
+		given(recordFileRepository.findAllById(List.of(1L))).willReturn(List.of(recordFile));
+
+		recordImageService.createVariants(List.of(1L));
+
+		verify(recordStorage, never()).open(anyString());
+		verify(recordFileRepository, never()).updateVariantKeys(any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("가로 기준 비율 유지 축소, 작은 이미지는 확대하지 않음")
+	void resize() {
+		BufferedImage resized = RecordImageService.resize(
+				new BufferedImage(4000, 3000, BufferedImage.TYPE_INT_RGB), 320);
+		BufferedImage small = RecordImageService.resize(
+				new BufferedImage(200, 100, BufferedImage.TYPE_INT_RGB), 320);
+
+		assertEquals(320, resized.getWidth());
+		assertEquals(240, resized.getHeight());
+		assertEquals(200, small.getWidth());
+		assertEquals(100, small.getHeight());
+	}
+
+	private byte[] png(int width, int height) throws Exception {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png",
+				outputStream);
+		return outputStream.toByteArray();
+	}
+}
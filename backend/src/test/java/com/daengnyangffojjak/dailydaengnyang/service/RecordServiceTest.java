@@ -2,7 +2,10 @@ package com.daengnyangffojjak.dailydaengnyang.service;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 import com.daengnyangffojjak.dailydaengnyang.domain.dto.record.RecordResponse;
 import com.daengnyangffojjak.dailydaengnyang.domain.dto.record.RecordWorkRequest;
@@ -18,13 +21,21 @@ import com.daengnyangffojjak.dailydaengnyang.domain.entity.enums.Species;
 import com.daengnyangffojjak.dailydaengnyang.repository.RecordFileRepository;
 import com.daengnyangffojjak.dailydaengnyang.repository.RecordRepository;
 import com.daengnyangffojjak.dailydaengnyang.utils.Validator;
+import com.daengnyangffojjak.dailydaengnyang.utils.cache.FeedSegmentCache;
+import com.daengnyangffojjak.dailydaengnyang.utils.cache.FeedTimeline;
+import com.daengnyangffojjak.dailydaengnyang.utils.storage.RecordStorage;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort.Direction;
 
 class RecordServiceTest {
 
@@ -34,9 +45,17 @@ class RecordServiceTest {
 	private final ApplicationEventPublisher applicationEventPublisher = mock(
 			ApplicationEventPublisher.class);
 
+	private final RecordStorage recordStorage = mock(RecordStorage.class);
+	private final RecordFeedAssembler recordFeedAssembler = new RecordFeedAssembler(
+			recordFileRepository, recordStorage);
+	private final FeedSegmentCache feedSegmentCache = mock(FeedSegmentCache.class);
+	private final FeedTimeline feedTimeline = mock(FeedTimeline.class);
+	private final StoredFileService storedFileService = mock(StoredFileService.class);
+
 	private RecordService recordService = new RecordService(recordRepository, recordFileRepository,
 			validator,
-			applicationEventPublisher);
+			applicationEventPublisher, recordFeedAssembler, feedSegmentCache, feedTimeline,
+			recordStorage, storedFileService);
 
 	User user = User.builder().id(1L).userName("user").password("password").email("@.")
 			.role(UserRole.ROLE_USER).build();
@@ -146,4 +165,41 @@ class RecordServiceTest {
 		}
 	}
 
+	@Nested
+	@DisplayName("전체 피드 조회")
+	class Get_AllRecords {
+
+		Pageable pageable = PageRequest.of(0, 2, Direction.DESC, "createdAt");
+		Record newer = new Record(2L, user, pet, tag, "새 제목", "본문", true);
+
+		@Test
+		@DisplayName("타임라인 순서대로 조회")
+		void success_timeline() {
+
+			given(feedTimeline.size()).willReturn(3L);
+			given(feedTimeline.range(0, 2)).willReturn(List.of(2L, 1L));
+			given(recordRepository.findFeedByIdIn(List.of(2L, 1L))).willReturn(
+					List.of(record, newer));
+
+			Page<RecordResponse> responses = assertDoesNotThrow(
+					() -> recordService.getAllRecords(pageable));
+
+			assertEquals(3L, responses.getTotalElements());
+			assertEquals(2L, responses.getContent().get(0).getId());
+			assertEquals(1L, responses.getContent().get(1).getId());
+			verify(recordRepository, never()).findFeedByIsPublicTrue(any());
+		}
+
+		@Test
+		@DisplayName("타임라인이 비어있으면 DB 조회")
+		void success_empty_timeline() {
+
+			given(feedTimeline.size()).willReturn(0L);
+			given(recordRepository.findFeedByIsPublicTrue(pageable)).willReturn(Page.empty(pageable));
+
+			assertDoesNotThrow(() -> recordService.getAllRecords(pageable));
+
+			verify(recordRepository).findFeedByIsPublicTrue(pageable);
+		}
+	}
 }
@@ -0,0 +1,101 @@
+package com.daengnyangffojjak.dailydaengnyang.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.PendingObjectDeletion;
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.RecordFile;
+import com.daengnyangffojjak.dailydaengnyang.exception.ErrorCode;
+import com.daengnyangffojjak.dailydaengnyang.exception.FileException;
+import com.daengnyangffojjak.dailydaengnyang.repository.PendingObjectDeletionRepository;
+import com.daengnyangffojjak.dailydaengnyang.repository.StoredFileRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class StoredFileServiceTest {
+
+	private final StoredFileRepository storedFileRepository = mock(StoredFileRepository.class);
+	private final PendingObjectDeletionRepository pendingObjectDeletionRepository = mock(
+			PendingObjectDeletionRepository.class);
+
+	private final StoredFileService storedFileService = new StoredFileService(
+			storedFileRepository, pendingObjectDeletionRepository);
+
+	@Test
+	@DisplayName("이미 있는 객체는 refCount 만 증가")
+	void acquire_existing() {
+		given(storedFileRepository.increaseRefCount("hash")).willReturn(1);
+
+		storedFileService.acquire("hash", "records/hash.jpg", "url", false);
+
+		verify(storedFileRepository, never()).saveAndFlush(any());
+	}
+
+	@Test
+	@DisplayName("처음 올린 객체는 refCount 1 로 생성")
+	void acquire_new() {
+		given(storedFileRepository.increaseRefCount("hash")).willReturn(0);
+
+		storedFileService.acquire("hash", "records/hash.jpg", "url", true);
+
+		verify(pendingObjectDeletionRepository).cancelByStoredFileKey("records/hash.jpg");
+		verify(storedFileRepository).saveAndFlush(any());
+	}
+
+	@Test
+	@DisplayName("재사용하려던 객체가 지워졌으면 실패")
+	void acquire_released() {
+		given(storedFileRepository.increaseRefCount("hash")).willReturn(0);
+
+		FileException e = assertThrows(FileException.class,
+				() -> storedFileService.acquire("hash", "records/hash.jpg", "url", false));
+
+		assertEquals(ErrorCode.FILE_UPLOAD_ERROR, e.getErrorCode());
+	}
+
+	@Test
+	@DisplayName("업로드 후 저장에 실패한 객체는 바로 지우지 않고 늦춰서 삭제 대기열에 추가")
+	void schedule_deletion() {
+		storedFileService.scheduleDeletion(List.of("records/hash.jpg"));
+
+		ArgumentCaptor<List<PendingObjectDeletion>> captor = ArgumentCaptor.forClass(List.class);
+		verify(pendingObjectDeletionRepository).saveAll(captor.capture());
+		PendingObjectDeletion deletion = captor.getValue().get(0);
+		assertEquals("records/hash.jpg", deletion.getStoredFileKey());
+		assertTrue(deletion.getNextAttemptAt().isAfter(LocalDateTime.now().plusMinutes(5)));
+	}
+
+	@Test
+	@DisplayName("마지막 참조가 지워진 객체만 삭제 대기열에 추가")
+	void release() {
+		RecordFile shared = RecordFile.makeRecordFile("a.jpg", "records/shared.jpg", "url",
+				"shared", null);
+		RecordFile last = RecordFile.makeRecordFile("b.jpg", "records/last.jpg", "url", "last",
+				null);
+		RecordFile chunked = RecordFile.makeRecordFile("c.mp4", "records/c.mp4", "url", null);
+		RecordFile legacy = RecordFile.makeRecordFile("d.png",
+				"https://bucket.s3.ap-northeast-2.amazonaws.com/records/d.png", null);
+		given(storedFileRepository.deleteIfUnreferenced("shared")).willReturn(0);
+		given(storedFileRepository.deleteIfUnreferenced("last")).willReturn(1);
+
+		storedFileService.release(List.of(shared, last, chunked, legacy));
+
+		verify(storedFileRepository).decreaseRefCount("shared");
+		verify(storedFileRepository).decreaseRefCount("last");
+		ArgumentCaptor<List<PendingObjectDeletion>> captor = ArgumentCaptor.forClass(List.class);
+		verify(pendingObjectDeletionRepository).saveAll(captor.capture());
+		assertEquals(List.of("records/last.jpg", "records/c.mp4", "records/d.png"),
+				captor.getValue().stream().map(PendingObjectDeletion::getStoredFileKey)
+						.collect(Collectors.toList()));
+	}
+}
@@ -1,36 +1,49 @@
 package com.daengnyangffojjak.dailydaengnyang.service;
 
+import com.daengnyangffojjak.dailydaengnyang.domain.dto.token.TokenInfo;
+import com.daengnyangffojjak.dailydaengnyang.domain.dto.token.TokenRequest;
 import com.daengnyangffojjak.dailydaengnyang.domain.dto.user.UserJoinRequest;
 import com.daengnyangffojjak.dailydaengnyang.domain.dto.user.UserJoinResponse;
 import com.daengnyangffojjak.dailydaengnyang.domain.entity.User;
 import com.daengnyangffojjak.dailydaengnyang.exception.ErrorCode;
+import com.daengnyangffojjak.dailydaengnyang.exception.SecurityCustomException;
 import com.daengnyangffojjak.dailydaengnyang.exception.UserException;
 import com.daengnyangffojjak.dailydaengnyang.repository.UserRepository;
 import com.daengnyangffojjak.dailydaengnyang.utils.JwtTokenUtil;
+import com.daengnyangffojjak.dailydaengnyang.utils.token.RefreshTokenStore;
+import com.daengnyangffojjak.dailydaengnyang.utils.token.RefreshTokenStore.Rotation;
+import com.daengnyangffojjak.dailydaengnyang.utils.token.RevokedTokenRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 
 class UserServiceTest {
     private UserService userService;
     private final UserRepository userRepository = mock(UserRepository.class);
+    private final JwtTokenUtil jwtTokenUtil = mock(JwtTokenUtil.class);
+    private final RefreshTokenStore refreshTokenStore = mock(RefreshTokenStore.class);
+    private final RevokedTokenRegistry revokedTokenRegistry = mock(RevokedTokenRegistry.class);
 
     @BeforeEach
     void setUp() {
-        userService = new UserService(userRepository, mock(BCryptPasswordEncoder.class),mock(AuthenticationManagerBuilder.class),mock(JwtTokenUtil.class), mock(
-                RedisTemplate.class));
+        userService = new UserService(userRepository, mock(BCryptPasswordEncoder.class),mock(AuthenticationManagerBuilder.class),jwtTokenUtil,
+                refreshTokenStore, revokedTokenRegistry);
     }
 
     @Nested
@@ -66,4 +79,71 @@ class UserServiceTest {
             assertEquals(ErrorCode.INVALID_EMAIL, e.getErrorCode());
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("토큰 재발급")
+    class GenerateNewToken {
+        private final TokenRequest tokenRequest = new TokenRequest("access", "refreshToken=refresh");
+        private final Authentication authentication = new UsernamePasswordAuthenticationToken("user", "");
+        private final TokenInfo tokenInfo = new TokenInfo("newAccess", "newRefresh", 1000);
+
+        @BeforeEach
+        void setUp() {
+            given(jwtTokenUtil.getAuthentication("access")).willReturn(authentication);
+            given(jwtTokenUtil.validateToken("refresh")).willReturn(true);
+            given(jwtTokenUtil.getFamilyId("refresh")).willReturn("f1");
+            given(jwtTokenUtil.createToken(authentication, "f1")).willReturn(tokenInfo);
+        }
+
+        @Test
+        @DisplayName("성공 - 저장된 refreshToken 을 새 토큰으로 교체")
+        void success() {
+            given(refreshTokenStore.rotate("user", "f1", "refresh", "newRefresh", 1000))
+                    .willReturn(Rotation.ROTATED);
+
+            assertEquals(tokenInfo, userService.generateNewToken(tokenRequest));
+        }
+
+        @Test
+        @DisplayName("다른 탭에서 방금 재발급 - 토큰은 그대로 두고 실패")
+        void fail_stale() {
+            given(refreshTokenStore.rotate("user", "f1", "refresh", "newRefresh", 1000))
+                    .willReturn(Rotation.STALE);
+
+            assertThrows(SecurityCustomException.class,
+                    () -> userService.generateNewToken(tokenRequest));
+            verify(refreshTokenStore, never()).delete(any(), any());
+            verify(revokedTokenRegistry, never()).revoke(any(), anyLong());
+        }
+
+        @Test
+        @DisplayName("이미 교체된 refreshToken 재사용 - accessToken 도 로그아웃 처리")
+        void fail_reused() {
+            given(refreshTokenStore.rotate("user", "f1", "refresh", "newRefresh", 1000))
+                    .willReturn(Rotation.REUSED);
+            given(jwtTokenUtil.getRemainingTime("access")).willReturn(500L);
+
+            SecurityCustomException e = assertThrows(SecurityCustomException.class,
+                    () -> userService.generateNewToken(tokenRequest));
+            assertEquals(ErrorCode.INVALID_TOKEN, e.getErrorCode());
+            verify(revokedTokenRegistry).revoke("access", 500L);
+        }
+    }
+
+    @Nested
+    @DisplayName("로그아웃")
+    class Logout {
+        @Test
+        @DisplayName("이 기기(family)의 refreshToken 만 삭제하고 accessToken 은 블랙리스트에 저장")
+        void success() {
+            given(jwtTokenUtil.getUserName("access")).willReturn("user");
+            given(jwtTokenUtil.getFamilyId("access")).willReturn("f1");
+            given(jwtTokenUtil.getExpiration("access")).willReturn(500L);
+
+            userService.logout(new TokenRequest("access", null));
+
+            verify(refreshTokenStore).delete("user", "f1");
+            verify(revokedTokenRegistry).revoke("access", 500L);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.daengnyangffojjak.dailydaengnyang.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.daengnyangffojjak.dailydaengnyang.domain.dto.token.TokenInfo;
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.User;
+import com.daengnyangffojjak.dailydaengnyang.exception.SecurityCustomException;
+import com.daengnyangffojjak.dailydaengnyang.fixture.UserFixture;
+import com.daengnyangffojjak.dailydaengnyang.security.JwtPrincipal;
+import com.daengnyangffojjak.dailydaengnyang.utils.cache.CacheType;
+import com.daengnyangffojjak.dailydaengnyang.utils.cache.TokenClaimsCache;
+import com.daengnyangffojjak.dailydaengnyang.utils.cache.UserPrincipalCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+class JwtTokenUtilTest {
+
+	private final UserDetailsService userDetailsService = mock(UserDetailsService.class);
+	private final CacheManager cacheManager = mock(CacheManager.class);
+	private UserPrincipalCache userPrincipalCache;
+	private JwtTokenUtil jwtTokenUtil;
+	private final User user = UserFixture.get();
+
+	@BeforeEach
+	void setUp() {
+		given(cacheManager.getCache(CacheType.USER_PRINCIPAL.getCacheName())).willReturn(
+				new CaffeineCache(CacheType.USER_PRINCIPAL.getCacheName(),
+						Caffeine.newBuilder().maximumSize(10).build()));
+		userPrincipalCache = new UserPrincipalCache(cacheManager);
+		jwtTokenUtil = new JwtTokenUtil(userDetailsService, userPrincipalCache,
+				new TokenClaimsCache(new SimpleMeterRegistry(), 100, 300),
+				"secretKeyForJwtTokenUtilTestMustBeLongEnough", true);
+	}
+
+	@Test
+	@DisplayName("access/refresh token 모두 같은 refresh token family id 를 가짐")
+	void createToken_family() {
+		TokenInfo tokenInfo = jwtTokenUtil.createToken(
+				new UsernamePasswordAuthenticationToken("user", "", List.of()), "family1");
+
+		assertEquals("family1", jwtTokenUtil.getFamilyId(tokenInfo.getAccessToken()));
+		assertEquals("family1", jwtTokenUtil.getFamilyId(tokenInfo.getRefreshToken()));
+		assertNull(jwtTokenUtil.getFamilyId(
+				jwtTokenUtil.generateAccessToken("user", List.of("ROLE_USER"))));
+	}
+
+	@Test
+	@DisplayName("claim 만으로 로그인 유저 생성 - DB 조회 없음")
+	void getUserDetails_claims() {
+		String token = jwtTokenUtil.generateAccessToken("user", List.of("ROLE_USER"));
+
+		UserDetails userDetails = jwtTokenUtil.getUserDetails(token);
+
+		assertTrue(userDetails instanceof JwtPrincipal);
+		assertEquals("user", userDetails.getUsername());
+		assertEquals("ROLE_USER", userDetails.getAuthorities().iterator().next().getAuthority());
+		verify(userDetailsService, never()).loadUserByUsername(any());
+	}
+
+	@Test
+	@DisplayName("전체 User 는 캐시에 없을 때만 조회하고, 무효화되면 다시 조회")
+	void getAuthentication_cached() {
+		given(userDetailsService.loadUserByUsername(user.getUsername())).willReturn(user);
+		String token = jwtTokenUtil.generateAccessToken(user.getUsername(), List.of("ROLE_USER"));
+
+		assertSame(user, jwtTokenUtil.getAuthentication(token).getPrincipal());
+		jwtTokenUtil.getAuthentication(token);
+		verify(userDetailsService, times(1)).loadUserByUsername(user.getUsername());
+
+		userPrincipalCache.evict(user.getUsername());
+		jwtTokenUtil.getAuthentication(token);
+		verify(userDetailsService, times(2)).loadUserByUsername(user.getUsername());
+	}
+
+	@Test
+	@DisplayName("변조된 token 은 캐시와 관계없이 거부")
+	void getUserDetails_invalid() {
+		String token = jwtTokenUtil.generateAccessToken("user", List.of("ROLE_USER"));
+		jwtTokenUtil.getUserDetails(token);
+
+		assertThrows(SecurityCustomException.class,
+				() -> jwtTokenUtil.getUserDetails(token.substring(0, token.length() - 2) + "xx"));
+	}
+}
@@ -12,7 +12,7 @@ import com.daengnyangffojjak.dailydaengnyang.domain.entity.Disease;
 import com.daengnyangffojjak.dailydaengnyang.domain.entity.Group;
 import com.daengnyangffojjak.dailydaengnyang.domain.entity.Monitoring;
 import com.daengnyangffojjak.dailydaengnyang.domain.entity.Notification;
-import com.daengnyangffojjak.dailydaengnyang.domain.entity.NotificationUser;
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.NotificationInbox;
 import com.daengnyangffojjak.dailydaengnyang.domain.entity.Pet;
 import com.daengnyangffojjak.dailydaengnyang.domain.entity.Record;
 import com.daengnyangffojjak.dailydaengnyang.domain.entity.Tag;
@@ -35,8 +35,8 @@ import com.daengnyangffojjak.dailydaengnyang.repository.CommentRepository;
 import com.daengnyangffojjak.dailydaengnyang.repository.DiseaseRepository;
 import com.daengnyangffojjak.dailydaengnyang.repository.GroupRepository;
 import com.daengnyangffojjak.dailydaengnyang.repository.MonitoringRepository;
+import com.daengnyangffojjak.dailydaengnyang.repository.NotificationInboxRepository;
 import com.daengnyangffojjak.dailydaengnyang.repository.NotificationRepository;
-import com.daengnyangffojjak.dailydaengnyang.repository.NotificationUserRepository;
 import com.daengnyangffojjak.dailydaengnyang.repository.PetRepository;
 import com.daengnyangffojjak.dailydaengnyang.repository.RecordFileRepository;
 import com.daengnyangffojjak.dailydaengnyang.repository.RecordRepository;
@@ -65,8 +65,8 @@ class ValidatorTest {
 	private final RecordFileRepository recordFileRepository = mock(RecordFileRepository.class);
 	private final NotificationRepository notificationRepository = mock(
 			NotificationRepository.class);
-	private final NotificationUserRepository notificationUserRepository = mock(
-			NotificationUserRepository.class);
+	private final NotificationInboxRepository notificationInboxRepository = mock(
+			NotificationInboxRepository.class);
 
 	User user = User.builder().id(1L).userName("user").password("password").email("@.")
 			.role(UserRole.ROLE_USER).build();
@@ -77,7 +77,8 @@ class ValidatorTest {
 			.isPublic(true).build();
 
 	Notification notification = NotificationFixture.get();
-	NotificationUser notificationUser = new NotificationUser(1L,notification,user);
+	NotificationInbox notificationInbox = NotificationInbox.builder().userId(1L).notificationId(1L)
+			.title("제목").body("내용").build();
 
 
 	private Validator validator;
@@ -88,7 +89,7 @@ class ValidatorTest {
 				petRepository, monitoringRepository, recordRepository, tagRepository,
 				diseaseRepository,
 				recordFileRepository, commentRepository, notificationRepository,
-				notificationUserRepository);
+				notificationInboxRepository);
 	}
 
 	@Nested
@@ -408,29 +409,28 @@ class ValidatorTest {
 	}
 
 	@Nested
-	@DisplayName("로그인유저와 알람 유저가 같은지 검증")
-	class ValidateNotificationUser {
+	@DisplayName("로그인유저 알림함에서 알람 반환")
+	class GetNotificationInbox {
 
 
 		@Test
 		@DisplayName("성공")
 		void success() {
-			given(notificationUserRepository.findByNotificationIdAndUserId(1L,1L)).willReturn(Optional.of(notificationUser));
+			given(notificationInboxRepository.findByUserIdAndNotificationId(1L,1L)).willReturn(Optional.of(notificationInbox));
 
-			NotificationUser result = assertDoesNotThrow(() -> validator.validateNotificationUser(1L,1L));
-			assertEquals(notificationUser.getId(), result.getId());
-			assertEquals(notificationUser.getNotification(), result.getNotification());
-			assertEquals(notificationUser.getUser(), result.getUser());
+			NotificationInbox result = assertDoesNotThrow(() -> validator.getNotificationInbox(1L,1L));
+			assertEquals(notificationInbox.getNotificationId(), result.getNotificationId());
+			assertEquals(notificationInbox.getUserId(), result.getUserId());
 
 		}
 
 		@Test
-		@DisplayName("실패 - 로그인유저와 알람 유저가 다름")
+		@DisplayName("실패 - 로그인유저 알림함에 없는 알람")
 		void fail() {
-			given(notificationUserRepository.findByNotificationIdAndUserId(1L,100L)).willReturn(Optional.empty());
+			given(notificationInboxRepository.findByUserIdAndNotificationId(100L,1L)).willReturn(Optional.empty());
 
-			NotificationException e = assertThrows(NotificationException.class, () -> validator.validateNotificationUser(1L,100L));
-			assertEquals(ErrorCode.INVALID_PERMISSION, e.getErrorCode());
+			NotificationException e = assertThrows(NotificationException.class, () -> validator.getNotificationInbox(1L,100L));
+			assertEquals(ErrorCode.NOTIFICATION_NOT_FOUND, e.getErrorCode());
 		}
 	}
 }
\ No newline at end of file
@@ -0,0 +1,58 @@
+package com.daengnyangffojjak.dailydaengnyang.utils.cache;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class FeedResponseCacheTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final FeedResponseCache feedResponseCache = new FeedResponseCache(new ObjectMapper(),
+			meterRegistry, true, 1024 * 1024, 300);
+
+	@Test
+	@DisplayName("두 번째 요청은 직렬화된 바이트를 그대로 응답")
+	void write_hit() throws Exception {
+		AtomicInteger loadCount = new AtomicInteger();
+
+		MockHttpServletResponse first = new MockHttpServletResponse();
+		feedResponseCache.write("0:20", () -> {
+			loadCount.incrementAndGet();
+			return Map.of("resultCode", "SUCCESS");
+		}, first);
+
+		MockHttpServletResponse second = new MockHttpServletResponse();
+		feedResponseCache.write("0:20", () -> {
+			loadCount.incrementAndGet();
+			return Map.of("resultCode", "SUCCESS");
+		}, second);
+
+		assertEquals(1, loadCount.get());
+		assertEquals("{\"resultCode\":\"SUCCESS\"}", second.getContentAsString());
+		assertArrayEquals(first.getContentAsByteArray(), second.getContentAsByteArray());
+		assertEquals(1, meterRegistry.get("feed.response.cache.hit").timer().count());
+		assertTrue(meterRegistry.get("feed.response.cache.size").gauge().value() > 0);
+	}
+
+	@Test
+	@DisplayName("무효화 후에는 다시 로드")
+	void invalidate_all() throws Exception {
+		AtomicInteger loadCount = new AtomicInteger();
+
+		feedResponseCache.write("0:20", () -> loadCount.incrementAndGet(),
+				new MockHttpServletResponse());
+		feedResponseCache.invalidateAll();
+		feedResponseCache.write("0:20", () -> loadCount.incrementAndGet(),
+				new MockHttpServletResponse());
+
+		assertEquals(2, loadCount.get());
+	}
+}
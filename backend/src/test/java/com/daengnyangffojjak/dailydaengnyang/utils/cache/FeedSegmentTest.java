@@ -0,0 +1,53 @@
+package com.daengnyangffojjak.dailydaengnyang.utils.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.daengnyangffojjak.dailydaengnyang.domain.dto.record.RecordResponse;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class FeedSegmentTest {
+
+	private List<RecordResponse> records(long from, long to) {
+		return LongStream.rangeClosed(to, from).map(id -> from + to - id)
+				.mapToObj(id -> RecordResponse.builder().id(id).build()).toList();
+	}
+
+	@Test
+	@DisplayName("head 구간 - 상한 없음")
+	void head_segment() {
+		FeedSegment head = FeedSegment.of(null, 3, records(30, 28));
+
+		assertTrue(head.isHead());
+		assertEquals(28L, head.getNextRecordId());
+		assertTrue(head.contains(31L));
+		assertTrue(head.contains(28L));
+		assertFalse(head.contains(27L));
+	}
+
+	@Test
+	@DisplayName("중간 구간 - [다음 커서, lastRecordId)")
+	void middle_segment() {
+		FeedSegment segment = FeedSegment.of(28L, 3, records(27, 25));
+
+		assertFalse(segment.contains(28L));
+		assertTrue(segment.contains(26L));
+		assertTrue(segment.contains(25L));
+		assertFalse(segment.contains(24L));
+	}
+
+	@Test
+	@DisplayName("마지막 구간 - 하한 없음")
+	void last_segment() {
+		FeedSegment last = FeedSegment.of(5L, 3, records(4, 3));
+
+		assertNull(last.getNextRecordId());
+		assertTrue(last.contains(1L));
+		assertFalse(last.contains(5L));
+	}
+}
@@ -0,0 +1,85 @@
+package com.daengnyangffojjak.dailydaengnyang.utils.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.daengnyangffojjak.dailydaengnyang.repository.RecordRepository;
+import com.daengnyangffojjak.dailydaengnyang.repository.RecordRepository.TimelineEntry;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.TimeZone;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+class FeedTimelineTest {
+
+	private final RedisTemplate redisTemplate = mock(RedisTemplate.class);
+	private final ZSetOperations zSetOperations = mock(ZSetOperations.class);
+	private final RecordRepository recordRepository = mock(RecordRepository.class);
+
+	private final FeedTimeline feedTimeline = new FeedTimeline(redisTemplate, recordRepository);
+
+	@Test
+	@DisplayName("score 는 서버 기본 시간대와 상관없이 한국 시간 기준 epoch millis")
+	void add_score_fixed_zone() {
+		given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+		TimeZone defaultZone = TimeZone.getDefault();
+		try {
+			TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+
+			feedTimeline.add(1L, LocalDateTime.of(2023, 1, 1, 9, 0));
+		} finally {
+			TimeZone.setDefault(defaultZone);
+		}
+
+		double expected = Instant.parse("2023-01-01T00:00:00Z").toEpochMilli();
+		verify(zSetOperations).add(eq(FeedTimeline.KEY), eq("1"), eq(expected));
+		// rebuild 중이면 임시 키에도
+		verify(redisTemplate).execute(any(RedisScript.class),
+				eq(List.of("feed:timeline:rebuild")), eq(String.valueOf(expected)), eq("1"));
+	}
+
+	@Test
+	@DisplayName("rebuild - 마지막 묶음 이후 rename 전에 커밋된 일기는 rename 후 다시 읽어 추가")
+	void rebuild_catch_up_after_rename() {
+		given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+		given(recordRepository.findTimelineEntries(eq(0L), any()))
+				.willReturn(List.of(entry(1L), entry(2L)));
+		// rebuild 가 마지막으로 읽을 때는 없었지만 rename 후 다시 읽을 때는 있음
+		given(recordRepository.findTimelineEntries(eq(2L), any()))
+				.willReturn(List.of(), List.of(entry(3L)));
+		given(recordRepository.findTimelineEntries(eq(3L), any())).willReturn(List.of());
+
+		assertEquals(3, feedTimeline.rebuild());
+
+		InOrder inOrder = inOrder(zSetOperations, redisTemplate);
+		inOrder.verify(zSetOperations).add(eq("feed:timeline:rebuild"), anySet());
+		inOrder.verify(redisTemplate).rename("feed:timeline:rebuild", FeedTimeline.KEY);
+		inOrder.verify(zSetOperations).add(eq(FeedTimeline.KEY), anySet());
+	}
+
+	private TimelineEntry entry(Long id) {
+		return new TimelineEntry() {
+			@Override
+			public Long getId() {
+				return id;
+			}
+
+			@Override
+			public LocalDateTime getCreatedAt() {
+				return LocalDateTime.of(2023, 1, 1, 9, 0);
+			}
+		};
+	}
+}
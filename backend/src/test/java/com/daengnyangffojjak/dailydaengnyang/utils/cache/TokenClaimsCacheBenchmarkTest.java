@@ -0,0 +1,73 @@
+package com.daengnyangffojjak.dailydaengnyang.utils.cache;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Date;
+import java.util.function.Function;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+/**
+ * 서명 검증(cold) 과 캐시 조회(cached) 시간 측정
+ * 실행 환경마다 결과가 달라 기본 test 에서는 빠지고 ./gradlew benchmark 로만 실행한다.
+ **/
+@Tag("benchmark")
+class TokenClaimsCacheBenchmarkTest {
+
+	private static final int ITERATIONS = 5_000;
+	private static final int WARMUP = 1_000;
+
+	private final Key key = Keys.hmacShaKeyFor(
+			"secretKeyForTokenClaimsCacheTestMustBeLong".getBytes(StandardCharsets.UTF_8));
+	private final JwtParser jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
+	private final TokenClaimsCache tokenClaimsCache = new TokenClaimsCache(
+			new SimpleMeterRegistry(), ITERATIONS, 300);
+
+	@Test
+	@DisplayName("cold vs cached 조회 시간 측정")
+	void cold_vs_cached(TestReporter reporter) {
+		String[] tokens = new String[ITERATIONS];
+		for (int i = 0; i < ITERATIONS; i++) {
+			tokens[i] = token(i);
+		}
+		Function<String, Claims> verifier = t -> jwtParser.parseClaimsJws(t).getBody();
+		for (int i = 0; i < WARMUP; i++) {
+			verifier.apply(tokens[i]);
+		}
+
+		// cold - 처음 보는 token 이라 매번 서명 검증 + 저장
+		long coldStart = System.nanoTime();
+		for (String token : tokens) {
+			tokenClaimsCache.get(token, verifier);
+		}
+		long cold = System.nanoTime() - coldStart;
+
+		// cached - 같은 token 재요청
+		String hot = tokens[ITERATIONS - 1];
+		long cachedStart = System.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++) {
+			tokenClaimsCache.get(hot, verifier);
+		}
+		long cached = System.nanoTime() - cachedStart;
+
+		reporter.publishEntry("cold ns/op", String.valueOf(cold / ITERATIONS));
+		reporter.publishEntry("cached ns/op", String.valueOf(cached / ITERATIONS));
+	}
+
+	private String token(int seq) {
+		return Jwts.builder()
+				.claim("userName", "user")
+				.claim("seq", seq)
+				.setExpiration(new Date(System.currentTimeMillis() + 60_000))
+				.signWith(key, SignatureAlgorithm.HS256)
+				.compact();
+	}
+}
@@ -0,0 +1,73 @@
+package com.daengnyangffojjak.dailydaengnyang.utils.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TokenClaimsCacheTest {
+
+	private final Key key = Keys.hmacShaKeyFor(
+			"secretKeyForTokenClaimsCacheTestMustBeLong".getBytes(StandardCharsets.UTF_8));
+	private final JwtParser jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
+	private final TokenClaimsCache tokenClaimsCache = new TokenClaimsCache(
+			new SimpleMeterRegistry(), 100, 300);
+
+	@Test
+	@DisplayName("같은 token 은 한 번만 검증")
+	void get_cached() {
+		String token = token(60_000, 0);
+		AtomicInteger verified = new AtomicInteger();
+		Function<String, Claims> verifier = t -> {
+			verified.incrementAndGet();
+			return jwtParser.parseClaimsJws(t).getBody();
+		};
+
+		Claims first = tokenClaimsCache.get(token, verifier);
+		Claims second = tokenClaimsCache.get(token, verifier);
+
+		assertSame(first, second);
+		assertEquals(1, verified.get());
+	}
+
+	@Test
+	@DisplayName("검증에 실패한 token 은 저장하지 않음")
+	void get_invalid_not_cached() {
+		assertThrows(IllegalArgumentException.class, () -> tokenClaimsCache.get("invalid", t -> {
+			throw new IllegalArgumentException();
+		}));
+		assertEquals(0, tokenClaimsCache.size());
+	}
+
+	@Test
+	@DisplayName("token 만료 시각이 지나면 캐시에서도 만료")
+	void expire_with_token() {
+		Claims expired = Jwts.claims().setExpiration(new Date(System.currentTimeMillis() - 1000));
+
+		tokenClaimsCache.get("expired", t -> expired);
+
+		assertEquals(0, tokenClaimsCache.size());
+	}
+
+	private String token(long expireMillis, int seq) {
+		return Jwts.builder()
+				.claim("userName", "user")
+				.claim("seq", seq)
+				.setExpiration(new Date(System.currentTimeMillis() + expireMillis))
+				.signWith(key, SignatureAlgorithm.HS256)
+				.compact();
+	}
+}
@@ -0,0 +1,156 @@
+package com.daengnyangffojjak.dailydaengnyang.utils.notification;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.daengnyangffojjak.dailydaengnyang.domain.dto.notification.PushMessage;
+import com.daengnyangffojjak.dailydaengnyang.utils.notification.FcmPushSender.Result;
+import com.google.firebase.messaging.MessagingErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class FcmPushSenderTest {
+
+	private final FakeFcmClient fcm = new FakeFcmClient();
+	private final FcmTokenResolver fcmTokenResolver = mock(FcmTokenResolver.class);
+
+	private final FcmPushSender fcmPushSender = new FcmPushSender(fcm, fcmTokenResolver,
+			Runnable::run, new SimpleMeterRegistry(), 500, 4, 2, 0, 1_000_000);
+
+	@Test
+	@DisplayName("1200건은 500건씩 3번에 나눠서 전송")
+	void send_chunked() {
+		List<Result> results = fcmPushSender.send(messages(1200));
+
+		assertEquals(List.of(500, 500, 200), fcm.batchSizes);
+		assertEquals(1200, results.size());
+		assertTrue(results.stream().allMatch(result -> result == Result.SENT));
+		verify(fcmTokenResolver, never()).evict(any());
+	}
+
+	@Test
+	@DisplayName("일시적인 오류는 실패한 메세지만 다시 전송")
+	void send_retry() {
+		fcm.failures.put("token1", List.of(MessagingErrorCode.UNAVAILABLE));
+
+		List<Result> results = fcmPushSender.send(messages(3));
+
+		assertEquals(List.of(3, 1), fcm.batchSizes);
+		assertEquals(List.of(Result.SENT, Result.SENT, Result.SENT), results);
+	}
+
+	@Test
+	@DisplayName("재시도 횟수를 넘기면 실패")
+	void send_retry_exhausted() {
+		fcm.failures.put("token0", List.of(MessagingErrorCode.QUOTA_EXCEEDED,
+				MessagingErrorCode.QUOTA_EXCEEDED, MessagingErrorCode.QUOTA_EXCEEDED));
+
+		List<Result> results = fcmPushSender.send(messages(1));
+
+		assertEquals(List.of(1, 1, 1), fcm.batchSizes);
+		assertEquals(List.of(Result.FAILED), results);
+	}
+
+	@Test
+	@DisplayName("만료된 토큰은 재시도하지 않고 Redis 에서 삭제")
+	void send_prune_unregistered() {
+		fcm.failures.put("token2", List.of(MessagingErrorCode.UNREGISTERED));
+
+		List<Result> results = fcmPushSender.send(messages(3));
+
+		assertEquals(List.of(3), fcm.batchSizes);
+		assertEquals(List.of(Result.SENT, Result.SENT, Result.INVALID_TOKEN), results);
+		verify(fcmTokenResolver).evict(Map.of("user2", List.of("token2")));
+	}
+
+	@Test
+	@DisplayName("다른 프로젝트의 토큰도 Redis 에서 삭제")
+	void send_prune_sender_id_mismatch() {
+		fcm.failures.put("token1", List.of(MessagingErrorCode.SENDER_ID_MISMATCH));
+
+		List<Result> results = fcmPushSender.send(messages(2));
+
+		assertEquals(List.of(Result.SENT, Result.INVALID_TOKEN), results);
+		verify(fcmTokenResolver).evict(Map.of("user1", List.of("token1")));
+	}
+
+	@Test
+	@DisplayName("메세지 단위 INVALID_ARGUMENT 는 토큰을 삭제하지 않고 재시도 없이 실패 처리")
+	void send_invalid_argument_not_pruned() {
+		fcm.failures.put("token1", List.of(MessagingErrorCode.INVALID_ARGUMENT));
+
+		List<Result> results = fcmPushSender.send(messages(2));
+
+		assertEquals(List.of(2), fcm.batchSizes);
+		assertEquals(List.of(Result.SENT, Result.FAILED), results);
+		verify(fcmTokenResolver, never()).evict(any());
+	}
+
+	@Test
+	@DisplayName("요청 자체가 실패하면 토큰을 삭제하지 않고 실패 처리")
+	void send_request_invalid_argument() {
+		fcm.requestFailures.add(MessagingErrorCode.INVALID_ARGUMENT);
+
+		List<Result> results = fcmPushSender.send(messages(3));
+
+		assertEquals(List.of(3), fcm.batchSizes);
+		assertEquals(List.of(Result.FAILED, Result.FAILED, Result.FAILED), results);
+		verify(fcmTokenResolver, never()).evict(any());
+	}
+
+	@Test
+	@DisplayName("요청 단위의 일시적인 오류는 전체를 다시 전송")
+	void send_request_retry() {
+		fcm.requestFailures.add(MessagingErrorCode.UNAVAILABLE);
+
+		List<Result> results = fcmPushSender.send(messages(3));
+
+		assertEquals(List.of(3, 3), fcm.batchSizes);
+		assertEquals(List.of(Result.SENT, Result.SENT, Result.SENT), results);
+	}
+
+	private List<PushMessage> messages(int count) {
+		return IntStream.range(0, count)
+				.mapToObj(i -> new PushMessage("user" + i, "token" + i, "title", "body", "tag"))
+				.collect(Collectors.toList());
+	}
+
+	// 토큰별로 정해둔 에러를 순서대로 한 번씩 돌려주는 가짜 FCM (requestFailures 는 요청 단위 실패)
+	private static class FakeFcmClient implements FcmClient {
+
+		private final List<Integer> batchSizes = new ArrayList<>();
+		private final Map<String, List<MessagingErrorCode>> failures = new HashMap<>();
+		private final Map<String, Integer> calls = new HashMap<>();
+		private final Deque<MessagingErrorCode> requestFailures = new ArrayDeque<>();
+
+		@Override
+		public synchronized List<MessagingErrorCode> sendAll(List<PushMessage> messages) {
+			batchSizes.add(messages.size());
+			if (!requestFailures.isEmpty()) {
+				throw new FcmRequestException(requestFailures.poll(),
+						new IllegalStateException("request failed"));
+			}
+			List<MessagingErrorCode> results = new ArrayList<>();
+			for (PushMessage message : messages) {
+				int call = calls.merge(message.getToken(), 1, Integer::sum) - 1;
+				List<MessagingErrorCode> errors = failures.getOrDefault(message.getToken(),
+						List.of());
+				results.add(call < errors.size() ? errors.get(call) : null);
+			}
+			return results;
+		}
+	}
+}
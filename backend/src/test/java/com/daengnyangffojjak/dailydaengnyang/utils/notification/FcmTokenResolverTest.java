@@ -0,0 +1,135 @@
+package com.daengnyangffojjak.dailydaengnyang.utils.notification;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+class FcmTokenResolverTest {
+
+	private final RedisTemplate redisTemplate = mock(RedisTemplate.class);
+	private final ValueOperations valueOperations = mock(ValueOperations.class);
+	private final HashOperations hashOperations = mock(HashOperations.class);
+
+	private final FcmTokenResolver fcmTokenResolver = new FcmTokenResolver(redisTemplate, 30);
+
+	long now = System.currentTimeMillis();
+	String recent = String.valueOf(now);
+	String stale = String.valueOf(now - TimeUnit.DAYS.toMillis(31));
+
+	@Test
+	@DisplayName("50명 그룹 - 유저별 조회 대신 pipeline 1회, 로그아웃 유저/오래된 기기 제외")
+	void resolve_group_in_one_round_trip() {
+		List<String> members = IntStream.rangeClosed(1, 50).mapToObj(i -> "user" + i)
+				.collect(Collectors.toList());
+		// 짝수 번 유저만 로그인 상태 (휴대폰 + 한 달 넘게 안 쓴 노트북)
+		List<Object> results = new ArrayList<>();
+		IntStream.rangeClosed(1, 50).forEach(i -> {
+			results.add(i % 2 == 0 ? Map.of("phone" + i, recent, "laptop" + i, stale) : Map.of());
+			results.add(null);
+		});
+		given(redisTemplate.executePipelined(any(SessionCallback.class))).willReturn(results);
+
+		Map<String, List<String>> tokensByName = fcmTokenResolver.resolve(members);
+
+		verify(redisTemplate, times(1)).executePipelined(any(SessionCallback.class));
+		verify(redisTemplate, never()).opsForHash();
+		assertEquals(25, tokensByName.size());
+		assertEquals(List.of("phone2"), tokensByName.get("user2"));
+		assertNull(tokensByName.get("user1"));
+	}
+
+	@Test
+	@DisplayName("이전 형식(fcm:userName)으로 저장된 토큰도 함께 조회")
+	void resolve_legacy_token() {
+		List<Object> results = new ArrayList<>();
+		results.add(Map.of("phone", recent));
+		results.add("legacy");
+		given(redisTemplate.executePipelined(any(SessionCallback.class))).willReturn(results);
+
+		assertEquals(List.of("phone", "legacy"), fcmTokenResolver.resolve("user"));
+	}
+
+	@Test
+	@DisplayName("받는 사람이 없으면 Redis 호출 안 함")
+	void resolve_empty() {
+		assertEquals(Map.of(), fcmTokenResolver.resolve(List.of()));
+		verify(redisTemplate, never()).executePipelined(any(SessionCallback.class));
+	}
+
+	@Test
+	@DisplayName("기기별로 등록하고 접속할 때마다 만료 시간 갱신, 이전 형식 토큰은 옮김")
+	void register() {
+		given(redisTemplate.opsForValue()).willReturn(valueOperations);
+		given(redisTemplate.opsForHash()).willReturn(hashOperations);
+		given(valueOperations.getAndDelete("fcm:user")).willReturn("legacy");
+
+		fcmTokenResolver.register("user", "laptop");
+
+		verify(hashOperations).put(eq("fcm:devices:user"), eq("legacy"), any());
+		verify(hashOperations).put(eq("fcm:devices:user"), eq("laptop"), any());
+		verify(redisTemplate).expire("fcm:devices:user", TimeUnit.DAYS.toSeconds(30),
+				TimeUnit.SECONDS);
+	}
+
+	@Test
+	@DisplayName("만료된 토큰은 해당 기기만 삭제, 이전 형식은 값이 같을 때만 삭제")
+	void evict() {
+		given(redisTemplate.opsForHash()).willReturn(hashOperations);
+
+		fcmTokenResolver.evict(Map.of("user1", List.of("token1")));
+
+		verify(hashOperations).delete("fcm:devices:user1", "token1");
+		verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("fcm:user1")),
+				eq("token1"));
+	}
+
+	@Test
+	@DisplayName("로그아웃 - 이 기기 토큰만 삭제하고 다른 기기 key 는 그대로")
+	void unregister() {
+		given(redisTemplate.opsForHash()).willReturn(hashOperations);
+
+		fcmTokenResolver.unregister("user1", "token1");
+
+		verify(hashOperations).delete("fcm:devices:user1", "token1");
+		verify(redisTemplate, never()).delete(anyList());
+	}
+
+	@Test
+	@DisplayName("오래 접속하지 않은 기기 토큰만 삭제")
+	void sweep() {
+		Cursor cursor = mock(Cursor.class);
+		given(cursor.hasNext()).willReturn(true, false);
+		given(cursor.next()).willReturn("fcm:devices:user");
+		given(redisTemplate.scan(any())).willReturn(cursor);
+		given(redisTemplate.opsForHash()).willReturn(hashOperations);
+		given(hashOperations.entries("fcm:devices:user"))
+				.willReturn(Map.of("phone", recent, "laptop", stale));
+		given(hashOperations.delete("fcm:devices:user", "laptop")).willReturn(1L);
+
+		assertEquals(1, fcmTokenResolver.sweep(now));
+		verify(hashOperations, never()).delete(eq("fcm:devices:user"), eq("phone"));
+		verify(cursor).close();
+	}
+}
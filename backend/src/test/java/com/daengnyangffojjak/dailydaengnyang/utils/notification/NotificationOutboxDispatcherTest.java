@@ -0,0 +1,195 @@
+package com.daengnyangffojjak.dailydaengnyang.utils.notification;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.daengnyangffojjak.dailydaengnyang.domain.dto.notification.PushMessage;
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.Notification;
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.NotificationOutbox;
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.enums.NotificationType;
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.enums.OutboxStatus;
+import com.daengnyangffojjak.dailydaengnyang.repository.NotificationOutboxRepository;
+import com.daengnyangffojjak.dailydaengnyang.utils.notification.FcmPushSender.Result;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class NotificationOutboxDispatcherTest {
+
+	private final NotificationOutboxRepository notificationOutboxRepository = mock(
+			NotificationOutboxRepository.class);
+	private final FcmPushSender fcmPushSender = mock(FcmPushSender.class);
+	private final FcmTokenResolver fcmTokenResolver = mock(FcmTokenResolver.class);
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final NotificationOutboxDispatcher dispatcher = new NotificationOutboxDispatcher(
+			notificationOutboxRepository, fcmPushSender, fcmTokenResolver,
+			new TransactionTemplate(mock(PlatformTransactionManager.class)), meterRegistry, 500,
+			3, 60);
+
+	LocalDateTime now = LocalDateTime.of(2023, 1, 1, 12, 0);
+	Notification notification = Notification.builder().id(1L).title("일정등록")
+			.body("user님이 산책 일정을 등록했습니다.").notificationType(NotificationType.SCHEDULE_CREATE)
+			.build();
+	NotificationOutbox loggedIn = NotificationOutbox.of(notification, "member1");
+	NotificationOutbox loggedOut = NotificationOutbox.of(notification, "member2");
+
+	@BeforeEach
+	void setUp() {
+		given(notificationOutboxRepository.findDueIds(eq(OutboxStatus.PENDING), eq(now), any()))
+				.willReturn(List.of(1L, 2L));
+		given(notificationOutboxRepository.lease(anyList(), anyString(), any(), eq(now),
+				eq(OutboxStatus.PENDING))).willReturn(2);
+		given(notificationOutboxRepository.findByLockOwnerOrderByIdAsc(anyString()))
+				.willReturn(List.of(loggedIn, loggedOut));
+		given(fcmTokenResolver.resolve(List.of("member1", "member2")))
+				.willReturn(Map.of("member1", List.of("token1")));
+	}
+
+	@Test
+	@DisplayName("lease 를 잡은 항목만 전송, 로그아웃 유저는 전송 생략")
+	void dispatch_success() {
+		given(fcmPushSender.send(anyList())).willReturn(List.of(Result.SENT));
+
+		int dispatched = dispatcher.dispatchBatch(now);
+
+		assertEquals(2, dispatched);
+		ArgumentCaptor<List<PushMessage>> captor = ArgumentCaptor.forClass(List.class);
+		verify(fcmPushSender).send(captor.capture());
+		assertEquals(1, captor.getValue().size());
+		assertEquals("token1", captor.getValue().get(0).getToken());
+		assertEquals("notification-1", captor.getValue().get(0).getTag());
+		assertEquals(OutboxStatus.SENT, loggedIn.getStatus());
+		assertEquals(OutboxStatus.SKIPPED, loggedOut.getStatus());
+		verify(notificationOutboxRepository).complete(anyList(), anyString(),
+				eq(OutboxStatus.SENT), eq(0), any());
+		verify(notificationOutboxRepository).complete(anyList(), anyString(),
+				eq(OutboxStatus.SKIPPED), eq(0), any());
+		verify(notificationOutboxRepository, never()).saveAll(anyList());
+	}
+
+	@Test
+	@DisplayName("전송 실패 시 재시도 예약, 횟수 초과하면 실패 처리")
+	void dispatch_fail_retry() {
+		given(fcmPushSender.send(anyList())).willReturn(List.of(Result.FAILED));
+
+		dispatcher.dispatchBatch(now);
+
+		assertEquals(OutboxStatus.PENDING, loggedIn.getStatus());
+		assertEquals(1, loggedIn.getAttempts());
+		assertEquals(now.plusSeconds(10), loggedIn.getNextAttemptAt());
+
+		loggedIn.retryLater(now, 3);
+		assertEquals(now.plusSeconds(20), loggedIn.getNextAttemptAt());
+		loggedIn.retryLater(now, 3);
+		assertEquals(OutboxStatus.FAILED, loggedIn.getStatus());
+	}
+
+	@Test
+	@DisplayName("기기가 여러 대면 모두에게 전송, 하나라도 받으면 전송 완료")
+	void dispatch_multi_device() {
+		given(fcmTokenResolver.resolve(List.of("member1", "member2")))
+				.willReturn(Map.of("member1", List.of("phone", "laptop")));
+		given(fcmPushSender.send(anyList())).willReturn(List.of(Result.FAILED, Result.SENT));
+
+		dispatcher.dispatchBatch(now);
+
+		ArgumentCaptor<List<PushMessage>> captor = ArgumentCaptor.forClass(List.class);
+		verify(fcmPushSender).send(captor.capture());
+		assertEquals(List.of("phone", "laptop"), captor.getValue().stream()
+				.map(PushMessage::getToken).collect(Collectors.toList()));
+		assertEquals(OutboxStatus.SENT, loggedIn.getStatus());
+		assertEquals(OutboxStatus.SKIPPED, loggedOut.getStatus());
+	}
+
+	@Test
+	@DisplayName("만료된 토큰이면 재시도하지 않고 전송 생략")
+	void dispatch_invalid_token() {
+		given(fcmPushSender.send(anyList())).willReturn(List.of(Result.INVALID_TOKEN));
+
+		dispatcher.dispatchBatch(now);
+
+		assertEquals(OutboxStatus.SKIPPED, loggedIn.getStatus());
+		assertEquals(0, loggedIn.getAttempts());
+	}
+
+	@Test
+	@DisplayName("다른 dispatcher 가 먼저 lease 를 잡으면 전송하지 않음")
+	void dispatch_lease_lost() {
+		given(notificationOutboxRepository.lease(anyList(), anyString(), any(), eq(now),
+				eq(OutboxStatus.PENDING))).willReturn(0);
+
+		assertEquals(0, dispatcher.dispatchBatch(now));
+		verify(fcmPushSender, never()).send(anyList());
+	}
+
+	@Test
+	@DisplayName("전송하는 동안 lease 가 끝나 다른 dispatcher 가 가져간 항목은 결과를 저장하지 않음")
+	void dispatch_lease_expired_before_record() {
+		given(fcmPushSender.send(anyList())).willReturn(List.of(Result.SENT));
+		given(notificationOutboxRepository.complete(anyList(), anyString(),
+				eq(OutboxStatus.SENT), eq(0), any())).willReturn(0);
+		given(notificationOutboxRepository.complete(anyList(), anyString(),
+				eq(OutboxStatus.SKIPPED), eq(0), any())).willReturn(1);
+
+		dispatcher.dispatchBatch(now);
+
+		ArgumentCaptor<String> leaseOwner = ArgumentCaptor.forClass(String.class);
+		verify(notificationOutboxRepository).lease(anyList(), leaseOwner.capture(), any(),
+				eq(now), eq(OutboxStatus.PENDING));
+		verify(notificationOutboxRepository).complete(anyList(), eq(leaseOwner.getValue()),
+				eq(OutboxStatus.SENT), eq(0), any());
+		assertEquals(1, meterRegistry.get("notification.outbox.lease.lost").counter().count());
+	}
+
+	@Test
+	@DisplayName("같은 그룹에서 연속으로 등록된 일정은 유저별로 묶음 알림 하나로 전송")
+	void dispatch_digest() {
+		NotificationOutbox first = digestOutbox(11L, "member1", "user1");
+		NotificationOutbox second = digestOutbox(12L, "member1", "user1");
+		NotificationOutbox third = digestOutbox(13L, "member1", "user2");
+		given(notificationOutboxRepository.findByLockOwnerOrderByIdAsc(anyString()))
+				.willReturn(List.of(first, second, third));
+		given(fcmTokenResolver.resolve(List.of("member1", "member1", "member1")))
+				.willReturn(Map.of("member1", List.of("token1")));
+
+		given(fcmPushSender.send(anyList())).willReturn(List.of(Result.SENT));
+
+		dispatcher.dispatchBatch(now);
+
+		ArgumentCaptor<List<PushMessage>> captor = ArgumentCaptor.forClass(List.class);
+		verify(fcmPushSender).send(captor.capture());
+		assertEquals(1, captor.getValue().size());
+		PushMessage digest = captor.getValue().get(0);
+		assertEquals("token1", digest.getToken());
+		assertEquals("digest-1:SCHEDULE_CREATE-11", digest.getTag());
+		assertEquals("user1님 외 1명이 일정 3개를 등록했습니다.", digest.getBody());
+		assertTrue(List.of(first, second, third).stream()
+				.allMatch(outbox -> outbox.getStatus() == OutboxStatus.SENT));
+	}
+
+	private NotificationOutbox digestOutbox(Long id, String userName, String senderName) {
+		return NotificationOutbox.builder().id(id).notificationId(id).userName(userName)
+				.notificationType(NotificationType.SCHEDULE_CREATE).title("일정등록")
+				.body(senderName + "님이 일정을 등록했습니다.").senderName(senderName)
+				.coalesceKey("1:SCHEDULE_CREATE").status(OutboxStatus.PENDING)
+				.nextAttemptAt(now).build();
+	}
+}
@@ -0,0 +1,97 @@
+package com.daengnyangffojjak.dailydaengnyang.utils.notification;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.enums.OutboxStatus;
+import com.daengnyangffojjak.dailydaengnyang.repository.NotificationOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class NotificationOutboxPurgerTest {
+
+	private final NotificationOutboxRepository notificationOutboxRepository = mock(
+			NotificationOutboxRepository.class);
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final NotificationOutboxPurger purger = new NotificationOutboxPurger(
+			notificationOutboxRepository,
+			new TransactionTemplate(mock(PlatformTransactionManager.class)), meterRegistry, 7, 2,
+			3);
+
+	LocalDateTime before = LocalDateTime.of(2023, 1, 1, 0, 0);
+
+	@Test
+	@DisplayName("처리가 끝난 항목만 batchSize 개씩 삭제")
+	void purge_batch() {
+		given(notificationOutboxRepository.findFinishedIds(anyCollection(), eq(before), any()))
+				.willReturn(List.of(1L, 2L));
+		given(notificationOutboxRepository.deleteFinished(eq(List.of(1L, 2L)), anyCollection()))
+				.willReturn(2);
+
+		assertEquals(2, purger.purgeBatch(before));
+
+		ArgumentCaptor<Set<OutboxStatus>> statuses = ArgumentCaptor.forClass(Set.class);
+		ArgumentCaptor<Pageable> page = ArgumentCaptor.forClass(Pageable.class);
+		verify(notificationOutboxRepository).findFinishedIds(statuses.capture(), eq(before),
+				page.capture());
+		assertEquals(Set.of(OutboxStatus.SENT, OutboxStatus.SKIPPED, OutboxStatus.FAILED),
+				statuses.getValue());
+		assertEquals(2, page.getValue().getPageSize());
+		assertEquals(2, meterRegistry.get("notification.outbox.purged").counter().count());
+	}
+
+	@Test
+	@DisplayName("지울 항목이 없으면 삭제 요청하지 않음")
+	void purge_batch_empty() {
+		given(notificationOutboxRepository.findFinishedIds(anyCollection(), any(), any()))
+				.willReturn(List.of());
+
+		assertEquals(0, purger.purgeBatch(before));
+		verify(notificationOutboxRepository, never()).deleteFinished(anyCollection(),
+				anyCollection());
+	}
+
+	@Test
+	@DisplayName("한 번 실행에 maxBatchesPerRun 번까지만 삭제")
+	void purge_max_batches() {
+		given(notificationOutboxRepository.findFinishedIds(anyCollection(), any(), any()))
+				.willReturn(List.of(1L, 2L));
+		given(notificationOutboxRepository.deleteFinished(anyCollection(), anyCollection()))
+				.willReturn(2);
+
+		purger.purge();
+
+		verify(notificationOutboxRepository, times(3)).deleteFinished(anyCollection(),
+				anyCollection());
+	}
+
+	@Test
+	@DisplayName("batchSize 보다 적게 지워지면 이번 실행은 끝")
+	void purge_until_drained() {
+		given(notificationOutboxRepository.findFinishedIds(anyCollection(), any(), any()))
+				.willReturn(List.of(1L, 2L), List.of(3L));
+		given(notificationOutboxRepository.deleteFinished(anyCollection(), anyCollection()))
+				.willReturn(2, 1);
+
+		purger.purge();
+
+		verify(notificationOutboxRepository, times(2)).deleteFinished(anyCollection(),
+				anyCollection());
+	}
+}
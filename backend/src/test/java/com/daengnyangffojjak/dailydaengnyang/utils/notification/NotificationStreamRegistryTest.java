@@ -0,0 +1,55 @@
+package com.daengnyangffojjak.dailydaengnyang.utils.notification;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.daengnyangffojjak.dailydaengnyang.domain.dto.notification.NotificationStreamEvent;
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.enums.NotificationType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class NotificationStreamRegistryTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final NotificationStreamRegistry notificationStreamRegistry =
+			new NotificationStreamRegistry(meterRegistry, 30, 2);
+
+	@Test
+	@DisplayName("유저당 연결 수를 넘으면 가장 오래된 연결을 닫음")
+	void connect_evict_oldest() {
+		notificationStreamRegistry.connect("user");
+		notificationStreamRegistry.connect("user");
+		notificationStreamRegistry.connect("user");
+		notificationStreamRegistry.connect("other");
+
+		assertEquals(3, notificationStreamRegistry.connectionCount());
+		assertEquals(3.0, meterRegistry.get("notification.stream.connections").gauge().value());
+	}
+
+	@Test
+	@DisplayName("받는 유저의 연결(탭)마다 전송")
+	void deliver() {
+		notificationStreamRegistry.connect("user");
+		notificationStreamRegistry.connect("user");
+		notificationStreamRegistry.connect("other");
+
+		notificationStreamRegistry.deliver(new NotificationStreamEvent("user", 1L, "제목", "내용",
+				NotificationType.SCHEDULE_CREATE, LocalDateTime.now()));
+
+		assertEquals(2, meterRegistry.get("notification.stream.send.latency").timer().count());
+	}
+
+	@Test
+	@DisplayName("heartbeat 를 보내지 못한 연결은 정리")
+	void heartbeat_remove_closed() {
+		SseEmitter closed = notificationStreamRegistry.connect("user");
+		notificationStreamRegistry.connect("user");
+		closed.complete();
+
+		notificationStreamRegistry.heartbeat();
+
+		assertEquals(1, notificationStreamRegistry.connectionCount());
+	}
+}
@@ -0,0 +1,92 @@
+package com.daengnyangffojjak.dailydaengnyang.utils.notification;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Map;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * 안 읽은 알림 수 다시 계산을 실제 Redis 에서 실행 (Docker 가 없으면 건너뜀)
+ **/
+@Testcontainers(disabledWithoutDocker = true)
+class UnreadNotificationCounterRedisTest {
+
+	@Container
+	private static final GenericContainer<?> REDIS = new GenericContainer<>(
+			DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+	private static LettuceConnectionFactory connectionFactory;
+	private static RedisTemplate<String, String> redisTemplate;
+
+	private final UnreadNotificationCounter counter = new UnreadNotificationCounter(
+			redisTemplate);
+
+	@BeforeAll
+	static void connect() {
+		connectionFactory = new LettuceConnectionFactory(
+				new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+		connectionFactory.afterPropertiesSet();
+		// 운영과 같은 String serializer
+		redisTemplate = new RedisTemplate<>();
+		redisTemplate.setConnectionFactory(connectionFactory);
+		redisTemplate.setKeySerializer(new StringRedisSerializer());
+		redisTemplate.setValueSerializer(new StringRedisSerializer());
+		redisTemplate.afterPropertiesSet();
+	}
+
+	@AfterAll
+	static void disconnect() {
+		connectionFactory.destroy();
+	}
+
+	@BeforeEach
+	void setUp() {
+		redisTemplate.execute(connection -> {
+			connection.serverCommands().flushDb();
+			return null;
+		}, true);
+	}
+
+	@Test
+	@DisplayName("읽어 둔 뒤 바뀌지 않은 key 만 교체, 계산하는 동안 들어온 알림은 그대로")
+	void replace_unchanged_only() {
+		counter.initialize("user1", 5);
+		counter.initialize("user2", 3);
+		Map<String, String> snapshot = counter.snapshot();
+		assertEquals(Map.of("user1", "5", "user2", "3"), snapshot);
+
+		// 다시 계산하는 동안 user2 에게 새 알림
+		counter.increment(Map.of("user2", 1L));
+
+		long replaced = counter.replaceAll(snapshot, Map.of("user1", 4L, "user2", 2L));
+
+		assertEquals(1, replaced);
+		assertEquals(4L, counter.get("user1"));
+		assertEquals(4L, counter.get("user2"));
+	}
+
+	@Test
+	@DisplayName("안 읽은 알림이 없으면 key 삭제, key 가 없던 유저는 만들지 않음")
+	void replace_delete_and_skip_missing() {
+		counter.initialize("user1", 2);
+		Map<String, String> snapshot = counter.snapshot();
+
+		counter.replaceAll(snapshot, Map.of("user3", 7L));
+
+		assertNull(counter.get("user1"));
+		assertNull(counter.get("user3"));
+	}
+}
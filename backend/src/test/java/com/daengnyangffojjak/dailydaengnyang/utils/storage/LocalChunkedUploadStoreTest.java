@@ -0,0 +1,54 @@
+package com.daengnyangffojjak.dailydaengnyang.utils.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.daengnyangffojjak.dailydaengnyang.exception.ErrorCode;
+import com.daengnyangffojjak.dailydaengnyang.exception.FileException;
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LocalChunkedUploadStoreTest {
+
+	@TempDir
+	Path rootDir;
+
+	@Test
+	@DisplayName("청크를 순서대로 이어 붙여 파일 완성")
+	void upload_and_complete() throws Exception {
+		LocalChunkedUploadStore store = new LocalChunkedUploadStore(
+				new LocalRecordStorage(rootDir.toString(), "/files/"));
+		String uploadId = store.begin("records/video.mp4", "video/mp4");
+
+		// 순서와 상관없이 도착
+		store.uploadPart("records/video.mp4", uploadId, 2, new ByteArrayInputStream(new byte[]{3}), 1);
+		store.uploadPart("records/video.mp4", uploadId, 1,
+				new ByteArrayInputStream(new byte[]{1, 2}), 2);
+		String url = store.complete("records/video.mp4", uploadId, List.of("2", "1"));
+
+		assertEquals("/files/records/video.mp4", url);
+		assertArrayEquals(new byte[]{1, 2, 3}, Files.readAllBytes(rootDir.resolve("records/video.mp4")));
+		assertFalse(Files.exists(rootDir.resolve("parts").resolve(uploadId)));
+	}
+
+	@Test
+	@DisplayName("받은 크기가 다르면 실패")
+	void upload_wrong_length() {
+		LocalChunkedUploadStore store = new LocalChunkedUploadStore(
+				new LocalRecordStorage(rootDir.toString(), "/files/"));
+		String uploadId = store.begin("records/video.mp4", "video/mp4");
+
+		FileException e = assertThrows(FileException.class,
+				() -> store.uploadPart("records/video.mp4", uploadId, 1,
+						new ByteArrayInputStream(new byte[]{1}), 2));
+
+		assertEquals(ErrorCode.INVALID_CHUNK, e.getErrorCode());
+	}
+}
@@ -0,0 +1,72 @@
+package com.daengnyangffojjak.dailydaengnyang.utils.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.RecordFile;
+import com.daengnyangffojjak.dailydaengnyang.exception.FileException;
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LocalRecordStorageTest {
+
+	@TempDir
+	Path rootDir;
+
+	@Test
+	@DisplayName("저장, url, 삭제")
+	void store_and_delete() throws Exception {
+		LocalRecordStorage storage = new LocalRecordStorage(rootDir.toString(), "/files/");
+
+		storage.store("records/dog.png", new ByteArrayInputStream(new byte[]{1, 2}), 2, "image/png");
+
+		assertArrayEquals(new byte[]{1, 2}, Files.readAllBytes(rootDir.resolve("records/dog.png")));
+		assertEquals("/files/records/dog.png", storage.urlOf("records/dog.png"));
+
+		storage.delete("records/dog.png");
+		assertFalse(Files.exists(rootDir.resolve("records/dog.png")));
+	}
+
+	@Test
+	@DisplayName("key 가 있는 파일만 현재 저장소 url 로 응답")
+	void resolve_url() {
+		LocalRecordStorage storage = new LocalRecordStorage(rootDir.toString(), "/files/");
+		RecordFile legacy = RecordFile.makeRecordFile("old.png", "https://bucket/records/old.png",
+				null);
+		RecordFile stored = RecordFile.makeRecordFile("new.png", "records/new.png",
+				"https://bucket/records/new.png", null);
+
+		storage.resolveUrl(legacy);
+		storage.resolveUrl(stored);
+
+		assertEquals("https://bucket/records/old.png", legacy.getStoredFileUrl());
+		assertEquals("/files/records/new.png", stored.getStoredFileUrl());
+	}
+
+	@Test
+	@DisplayName("축소본은 저장된 key 로 현재 저장소 url 계산")
+	void resolve_variant_url() {
+		LocalRecordStorage storage = new LocalRecordStorage(rootDir.toString(), "/files/");
+		RecordFile converted = RecordFile.builder().storedFileKey("records/dog.png")
+				.thumbnailKey("records/dog_thumb.jpg").mediumKey("records/dog_medium.jpg").build();
+
+		storage.resolveUrl(converted);
+
+		assertEquals("/files/records/dog_thumb.jpg", converted.getThumbnailUrl());
+		assertEquals("/files/records/dog_medium.jpg", converted.getMediumUrl());
+	}
+
+	@Test
+	@DisplayName("저장 경로 밖의 key 거절")
+	void resolve_outside_root() {
+		LocalRecordStorage storage = new LocalRecordStorage(rootDir.toString(), "/files/");
+
+		assertThrows(FileException.class, () -> storage.resolve("../etc/passwd"));
+	}
+}
@@ -0,0 +1,109 @@
+package com.daengnyangffojjak.dailydaengnyang.utils.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.daengnyangffojjak.dailydaengnyang.domain.entity.PendingObjectDeletion;
+import com.daengnyangffojjak.dailydaengnyang.repository.PendingObjectDeletionRepository;
+import com.daengnyangffojjak.dailydaengnyang.repository.StoredFileRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class OrphanObjectReaperTest {
+
+	private final RecordStorage recordStorage = mock(RecordStorage.class);
+	private final PendingObjectDeletionRepository pendingObjectDeletionRepository = mock(
+			PendingObjectDeletionRepository.class);
+	private final StoredFileRepository storedFileRepository = mock(StoredFileRepository.class);
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final PlatformTransactionManager transactionManager = mock(
+			PlatformTransactionManager.class);
+
+	private final OrphanObjectReaper orphanObjectReaper = new OrphanObjectReaper(recordStorage,
+			pendingObjectDeletionRepository, storedFileRepository,
+			new TransactionTemplate(transactionManager), meterRegistry, 10, 3000);
+
+	LocalDateTime now = LocalDateTime.of(2023, 1, 1, 0, 0);
+
+	@Test
+	@DisplayName("원본과 축소본을 한 번에 삭제, 실패한 항목만 다시 시도")
+	void reap_batch() {
+		PendingObjectDeletion deleted = PendingObjectDeletion.of("records/a.jpg");
+		PendingObjectDeletion failed = PendingObjectDeletion.of("records/b.jpg");
+		PendingObjectDeletion referenced = PendingObjectDeletion.of("records/c.jpg");
+		given(pendingObjectDeletionRepository.findByNextAttemptAtLessThanEqualOrderByIdAsc(
+				any(), any())).willReturn(List.of(deleted, failed, referenced));
+		given(storedFileRepository.findReferencedKeys(anyList()))
+				.willReturn(List.of("records/c.jpg"));
+		given(recordStorage.deleteAll(anyList())).willReturn(List.of("records/b_thumb.jpg"));
+
+		int rows = orphanObjectReaper.reapBatch(now);
+
+		assertEquals(3, rows);
+		verify(recordStorage).deleteAll(List.of(
+				"records/a.jpg", "records/a_thumb.jpg", "records/a_medium.jpg",
+				"records/b.jpg", "records/b_thumb.jpg", "records/b_medium.jpg"));
+		verify(pendingObjectDeletionRepository).deleteAllInBatch(List.of(deleted, referenced));
+		verify(pendingObjectDeletionRepository).saveAll(List.of(failed));
+		assertEquals(1, failed.getAttempts());
+		assertEquals(now.plusMinutes(1), failed.getNextAttemptAt());
+		assertEquals(5, meterRegistry.get("record.storage.orphan.deleted").counter().count());
+		assertEquals(1, meterRegistry.get("record.storage.orphan.failed").counter().count());
+	}
+
+	@Test
+	@DisplayName("저장소 요청 자체가 실패하면 모두 다시 시도")
+	void reap_batch_storage_error() {
+		PendingObjectDeletion deletion = PendingObjectDeletion.of("records/a.jpg");
+		given(pendingObjectDeletionRepository.findByNextAttemptAtLessThanEqualOrderByIdAsc(
+				any(), any())).willReturn(List.of(deletion));
+		given(recordStorage.deleteAll(anyList())).willThrow(new IllegalStateException("s3"));
+
+		orphanObjectReaper.reapBatch(now);
+
+		verify(pendingObjectDeletionRepository).saveAll(List.of(deletion));
+		assertEquals(1, deletion.getAttempts());
+	}
+
+	@Test
+	@DisplayName("잠근 대기열 행을 다시 확인하고 삭제한 뒤 같은 트랜잭션에서 제거")
+	void reap_batch_single_transaction() {
+		PendingObjectDeletion deletion = PendingObjectDeletion.of("records/a.jpg");
+		given(pendingObjectDeletionRepository.findByNextAttemptAtLessThanEqualOrderByIdAsc(
+				any(), any())).willReturn(List.of(deletion));
+		given(recordStorage.deleteAll(anyList())).willReturn(List.of());
+
+		orphanObjectReaper.reapBatch(now);
+
+		InOrder inOrder = inOrder(transactionManager, pendingObjectDeletionRepository,
+				storedFileRepository, recordStorage);
+		inOrder.verify(transactionManager).getTransaction(any());
+		inOrder.verify(pendingObjectDeletionRepository)
+				.findByNextAttemptAtLessThanEqualOrderByIdAsc(any(), any());
+		inOrder.verify(storedFileRepository).findReferencedKeys(anyList());
+		inOrder.verify(recordStorage).deleteAll(anyList());
+		inOrder.verify(pendingObjectDeletionRepository).deleteAllInBatch(List.of(deletion));
+		inOrder.verify(transactionManager).commit(any());
+		verify(transactionManager, times(1)).getTransaction(any());
+	}
+
+	@Test
+	@DisplayName("한 번의 요청은 1000개 이하")
+	void batch_size() {
+		assertTrue(OrphanObjectReaper.ROWS_PER_BATCH * 3 <= 1000);
+	}
+}
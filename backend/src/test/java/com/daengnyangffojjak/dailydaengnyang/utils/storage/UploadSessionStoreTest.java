@@ -0,0 +1,108 @@
+package com.daengnyangffojjak.dailydaengnyang.utils.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+class UploadSessionStoreTest {
+
+	private final RedisTemplate redisTemplate = mock(RedisTemplate.class);
+	private final HashOperations hashOperations = mock(HashOperations.class);
+
+	private final UploadSessionStore uploadSessionStore = new UploadSessionStore(redisTemplate);
+
+	@Test
+	@DisplayName("contentType 이 없으면 필드를 만들지 않고, 조회하면 null")
+	void save_without_content_type() {
+		given(redisTemplate.opsForHash()).willReturn(hashOperations);
+		UploadSession session = UploadSession.builder().id("upload").recordId(1L).userName("user")
+				.key("records/video.mp4").storeUploadId("s3-upload").fileName("video.mp4")
+				.totalSize(100).chunkSize(10).build();
+
+		uploadSessionStore.save(session);
+
+		ArgumentCaptor<Map<String, String>> fields = ArgumentCaptor.forClass(Map.class);
+		verify(hashOperations).putAll(eq("upload:session:upload"), fields.capture());
+		assertFalse(fields.getValue().containsKey("contentType"));
+		assertFalse(fields.getValue().containsValue(null));
+
+		given(hashOperations.entries("upload:session:upload")).willReturn(fields.getValue());
+		UploadSession found = uploadSessionStore.find("upload").orElseThrow();
+		assertNull(found.getContentType());
+		assertEquals(100, found.getTotalSize());
+	}
+
+	@Test
+	@DisplayName("필수 필드 없이 part 만 남은 hash 는 세션 없음")
+	void find_parts_only() {
+		given(redisTemplate.opsForHash()).willReturn(hashOperations);
+		given(hashOperations.entries("upload:session:upload")).willReturn(Map.of("part:1", "e1"));
+
+		assertEquals(Optional.empty(), uploadSessionStore.find("upload"));
+	}
+
+	@Test
+	@DisplayName("세션이 만료됐으면 part 를 기록하지 않음")
+	void save_part_expired() {
+		given(redisTemplate.execute(any(RedisScript.class), eq(List.of("upload:session:upload")),
+				eq("part:1"), eq("e1"), anyString())).willReturn(0L);
+
+		assertFalse(uploadSessionStore.savePart("upload", 1, "e1"));
+		verify(redisTemplate, never()).opsForHash();
+	}
+
+	@Test
+	@DisplayName("세션이 있으면 part 기록")
+	void save_part() {
+		given(redisTemplate.execute(any(RedisScript.class), eq(List.of("upload:session:upload")),
+				eq("part:1"), eq("e1"), anyString())).willReturn(1L);
+
+		assertTrue(uploadSessionStore.savePart("upload", 1, "e1"));
+	}
+
+	@Test
+	@DisplayName("완료 시작은 먼저 잡은 요청 하나만")
+	void start_completion() {
+		given(redisTemplate.execute(any(RedisScript.class), eq(List.of("upload:session:upload")),
+				eq("state"), eq("COMPLETING"))).willReturn(1L, 0L);
+
+		assertTrue(uploadSessionStore.startCompletion("upload"));
+		assertFalse(uploadSessionStore.startCompletion("upload"));
+	}
+
+	@Test
+	@DisplayName("state 필드가 없으면 업로드 중, 있으면 그 상태로 조회")
+	void find_state() {
+		given(redisTemplate.opsForHash()).willReturn(hashOperations);
+		Map<String, String> fields = new HashMap<>(Map.of("recordId", "1",
+				"userName", "user", "key", "records/video.mp4", "storeUploadId", "s3-upload",
+				"totalSize", "100", "chunkSize", "10"));
+		given(hashOperations.entries("upload:session:upload")).willReturn(fields);
+
+		assertEquals(UploadSession.State.UPLOADING,
+				uploadSessionStore.find("upload").orElseThrow().getState());
+
+		fields.put("state", "COMPLETED");
+		assertEquals(UploadSession.State.COMPLETED,
+				uploadSessionStore.find("upload").orElseThrow().getState());
+	}
+}
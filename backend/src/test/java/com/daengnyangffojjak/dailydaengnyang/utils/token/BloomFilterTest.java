@@ -0,0 +1,44 @@
+package com.daengnyangffojjak.dailydaengnyang.utils.token;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+
+	@Test
+	@DisplayName("넣은 값은 항상 있다고 나오고, 오탐률은 목표 근처")
+	void mightContain() {
+		BloomFilter bloomFilter = new BloomFilter(10_000, 0.01);
+		for (int i = 0; i < 10_000; i++) {
+			bloomFilter.put(TokenDigest.of("revoked-" + i));
+		}
+
+		for (int i = 0; i < 10_000; i++) {
+			assertTrue(bloomFilter.mightContain(TokenDigest.of("revoked-" + i)));
+		}
+		int falsePositives = 0;
+		for (int i = 0; i < 10_000; i++) {
+			if (bloomFilter.mightContain(TokenDigest.of("valid-" + i))) {
+				falsePositives++;
+			}
+		}
+		assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+		// bit 가 모두 겹친 digest 는 세지 않으므로 근사값
+		assertTrue(bloomFilter.entries() > 9_900, "entries: " + bloomFilter.entries());
+		assertTrue(bloomFilter.expectedFalsePositiveRate() < 0.03);
+	}
+
+	@Test
+	@DisplayName("같은 digest 를 다시 넣으면 entries 가 늘지 않음")
+	void put_duplicate() {
+		BloomFilter bloomFilter = new BloomFilter(1000, 0.001);
+
+		assertTrue(bloomFilter.put(TokenDigest.of("revoked")));
+		assertFalse(bloomFilter.put(TokenDigest.of("revoked")));
+		assertEquals(1, bloomFilter.entries());
+	}
+}
@@ -0,0 +1,219 @@
+package com.daengnyangffojjak.dailydaengnyang.utils.token;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.daengnyangffojjak.dailydaengnyang.utils.redis.RedisKeys;
+import com.daengnyangffojjak.dailydaengnyang.utils.token.RefreshTokenStore.Rotation;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * 재발급 Lua script 를 실제 Redis 에서 실행 (Docker 가 없으면 건너뜀)
+ **/
+@Testcontainers(disabledWithoutDocker = true)
+class RefreshTokenStoreRedisTest {
+
+	private static final String USER = "user";
+	private static final String FAMILY = "family1";
+	private static final String OTHER_FAMILY = "family2";
+	private static final String OTHER_DEVICE_REFRESH_TOKEN = "header.payload5.signature5";
+	private static final String REFRESH_TOKEN = "header.payload.signature";
+	private static final String NEW_REFRESH_TOKEN = "header.payload2.signature2";
+	private static final String STOLEN_REFRESH_TOKEN = "header.payload3.signature3";
+	private static final long TTL = 60_000;
+
+	@Container
+	private static final GenericContainer<?> REDIS = new GenericContainer<>(
+			DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+	private static LettuceConnectionFactory connectionFactory;
+	private static RedisTemplate<String, String> redisTemplate;
+
+	private final RefreshTokenStore refreshTokenStore = new RefreshTokenStore(redisTemplate, true,
+			10);
+
+	@BeforeAll
+	static void connect() {
+		connectionFactory = new LettuceConnectionFactory(
+				new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+		connectionFactory.afterPropertiesSet();
+		// 운영과 같은 String serializer
+		redisTemplate = new RedisTemplate<>();
+		redisTemplate.setConnectionFactory(connectionFactory);
+		redisTemplate.setKeySerializer(new StringRedisSerializer());
+		redisTemplate.setValueSerializer(new StringRedisSerializer());
+		redisTemplate.afterPropertiesSet();
+	}
+
+	@AfterAll
+	static void disconnect() {
+		connectionFactory.destroy();
+	}
+
+	@BeforeEach
+	void setUp() {
+		redisTemplate.delete(List.of(RedisKeys.refreshToken(USER, FAMILY),
+				RedisKeys.previousRefreshToken(USER, FAMILY),
+				RedisKeys.refreshToken(USER, OTHER_FAMILY),
+				RedisKeys.previousRefreshToken(USER, OTHER_FAMILY),
+				RedisKeys.refreshToken(USER, null), RedisKeys.previousRefreshToken(USER, null),
+				RedisKeys.legacyRefreshToken(USER)));
+	}
+
+	@Test
+	@DisplayName("다른 기기에서 로그인해도 이 기기의 재발급은 성공, 로그아웃은 자기 family 만 삭제")
+	void other_device_login() {
+		refreshTokenStore.save(USER, FAMILY, REFRESH_TOKEN, TTL);
+		refreshTokenStore.save(USER, OTHER_FAMILY, OTHER_DEVICE_REFRESH_TOKEN, TTL);
+
+		assertEquals(Rotation.ROTATED,
+				refreshTokenStore.rotate(USER, FAMILY, REFRESH_TOKEN, NEW_REFRESH_TOKEN, TTL));
+		assertEquals(digest(OTHER_DEVICE_REFRESH_TOKEN),
+				get(RedisKeys.refreshToken(USER, OTHER_FAMILY)));
+
+		refreshTokenStore.delete(USER, FAMILY);
+
+		assertFalse(redisTemplate.hasKey(RedisKeys.refreshToken(USER, FAMILY)));
+		assertTrue(redisTemplate.hasKey(RedisKeys.refreshToken(USER, OTHER_FAMILY)));
+	}
+
+	@Test
+	@DisplayName("재사용이 감지되면 그 family 만 삭제")
+	void reused_keeps_other_family() {
+		refreshTokenStore.save(USER, FAMILY, REFRESH_TOKEN, TTL);
+		refreshTokenStore.save(USER, OTHER_FAMILY, OTHER_DEVICE_REFRESH_TOKEN, TTL);
+
+		assertEquals(Rotation.REUSED,
+				refreshTokenStore.rotate(USER, FAMILY, STOLEN_REFRESH_TOKEN, NEW_REFRESH_TOKEN,
+						TTL));
+
+		assertFalse(redisTemplate.hasKey(RedisKeys.refreshToken(USER, FAMILY)));
+		assertTrue(redisTemplate.hasKey(RedisKeys.refreshToken(USER, OTHER_FAMILY)));
+	}
+
+	@Test
+	@DisplayName("저장된 token 이면 새 token 으로 교체하고 직전 token 은 잠시 보관")
+	void rotated() {
+		refreshTokenStore.save(USER, FAMILY, REFRESH_TOKEN, TTL);
+
+		assertEquals(Rotation.ROTATED,
+				refreshTokenStore.rotate(USER, FAMILY, REFRESH_TOKEN, NEW_REFRESH_TOKEN, TTL));
+
+		assertEquals(digest(NEW_REFRESH_TOKEN), get(RedisKeys.refreshToken(USER, FAMILY)));
+		assertEquals(digest(REFRESH_TOKEN), get(RedisKeys.previousRefreshToken(USER, FAMILY)));
+		long graceMillis = redisTemplate.getExpire(RedisKeys.previousRefreshToken(USER, FAMILY),
+				TimeUnit.MILLISECONDS);
+		assertTrue(graceMillis > 0 && graceMillis <= 10_000);
+	}
+
+	@Test
+	@DisplayName("다른 탭이 방금 교체한 token 이면 삭제하지 않음")
+	void stale_within_grace() {
+		refreshTokenStore.save(USER, FAMILY, REFRESH_TOKEN, TTL);
+		refreshTokenStore.rotate(USER, FAMILY, REFRESH_TOKEN, NEW_REFRESH_TOKEN, TTL);
+
+		assertEquals(Rotation.STALE,
+				refreshTokenStore.rotate(USER, FAMILY, REFRESH_TOKEN, STOLEN_REFRESH_TOKEN, TTL));
+
+		assertEquals(digest(NEW_REFRESH_TOKEN), get(RedisKeys.refreshToken(USER, FAMILY)));
+	}
+
+	@Test
+	@DisplayName("보관 시간이 지난 이전 token 을 다시 쓰면 family 의 rt: key 삭제")
+	void reused_after_grace() {
+		refreshTokenStore.save(USER, FAMILY, REFRESH_TOKEN, TTL);
+		refreshTokenStore.rotate(USER, FAMILY, REFRESH_TOKEN, NEW_REFRESH_TOKEN, TTL);
+		// 보관 시간이 지남
+		redisTemplate.delete(RedisKeys.previousRefreshToken(USER, FAMILY));
+
+		assertEquals(Rotation.REUSED,
+				refreshTokenStore.rotate(USER, FAMILY, REFRESH_TOKEN, STOLEN_REFRESH_TOKEN, TTL));
+
+		assertFalse(redisTemplate.hasKey(RedisKeys.refreshToken(USER, FAMILY)));
+		assertFalse(redisTemplate.hasKey(RedisKeys.previousRefreshToken(USER, FAMILY)));
+	}
+
+	@Test
+	@DisplayName("모르는 token 이면 직전 token 이 남아 있어도 family 의 rt: key 삭제")
+	void reused_unknown() {
+		refreshTokenStore.save(USER, FAMILY, REFRESH_TOKEN, TTL);
+		refreshTokenStore.rotate(USER, FAMILY, REFRESH_TOKEN, NEW_REFRESH_TOKEN, TTL);
+
+		assertEquals(Rotation.REUSED,
+				refreshTokenStore.rotate(USER, FAMILY, STOLEN_REFRESH_TOKEN, "header.payload4.sig",
+						TTL));
+
+		assertFalse(redisTemplate.hasKey(RedisKeys.refreshToken(USER, FAMILY)));
+		assertFalse(redisTemplate.hasKey(RedisKeys.previousRefreshToken(USER, FAMILY)));
+	}
+
+	@Test
+	@DisplayName("저장된 token 이 없으면 (로그아웃/만료) 아무것도 바꾸지 않음")
+	void missing() {
+		assertEquals(Rotation.MISSING,
+				refreshTokenStore.rotate(USER, FAMILY, REFRESH_TOKEN, NEW_REFRESH_TOKEN, TTL));
+
+		assertFalse(redisTemplate.hasKey(RedisKeys.refreshToken(USER, FAMILY)));
+	}
+
+	@Test
+	@DisplayName("이전 형식(userName: token 원문)은 재발급하면서 새 형식으로 옮김")
+	void legacy_migrated_on_rotate() {
+		redisTemplate.opsForValue().set(RedisKeys.legacyRefreshToken(USER), REFRESH_TOKEN, TTL,
+				TimeUnit.MILLISECONDS);
+
+		assertEquals(Rotation.ROTATED,
+				refreshTokenStore.rotate(USER, null, REFRESH_TOKEN, NEW_REFRESH_TOKEN, TTL));
+
+		assertEquals(digest(NEW_REFRESH_TOKEN), get(RedisKeys.refreshToken(USER, null)));
+		assertFalse(redisTemplate.hasKey(RedisKeys.legacyRefreshToken(USER)));
+	}
+
+	@Test
+	@DisplayName("이전 형식과 다른 token 이면 재사용으로 보고 이전 key 도 삭제")
+	void legacy_mismatch() {
+		redisTemplate.opsForValue().set(RedisKeys.legacyRefreshToken(USER), REFRESH_TOKEN, TTL,
+				TimeUnit.MILLISECONDS);
+
+		assertEquals(Rotation.REUSED,
+				refreshTokenStore.rotate(USER, null, STOLEN_REFRESH_TOKEN, NEW_REFRESH_TOKEN, TTL));
+
+		assertFalse(redisTemplate.hasKey(RedisKeys.legacyRefreshToken(USER)));
+		assertFalse(redisTemplate.hasKey(RedisKeys.refreshToken(USER, null)));
+	}
+
+	@Test
+	@DisplayName("직전 token 보관 시간이 0 이면 보관하지 않음")
+	void rotated_without_grace() {
+		RefreshTokenStore noGrace = new RefreshTokenStore(redisTemplate, true, 0);
+		noGrace.save(USER, FAMILY, REFRESH_TOKEN, TTL);
+
+		assertEquals(Rotation.ROTATED,
+				noGrace.rotate(USER, FAMILY, REFRESH_TOKEN, NEW_REFRESH_TOKEN, TTL));
+
+		assertFalse(redisTemplate.hasKey(RedisKeys.previousRefreshToken(USER, FAMILY)));
+	}
+
+	private String get(String key) {
+		return redisTemplate.opsForValue().get(key);
+	}
+
+	private static String digest(String refreshToken) {
+		return TokenDigest.encode(TokenDigest.shortOf(refreshToken));
+	}
+}
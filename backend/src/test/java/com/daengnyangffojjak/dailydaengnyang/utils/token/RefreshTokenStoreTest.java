@@ -0,0 +1,109 @@
+package com.daengnyangffojjak.dailydaengnyang.utils.token;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.daengnyangffojjak.dailydaengnyang.utils.token.RefreshTokenStore.Rotation;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+class RefreshTokenStoreTest {
+
+	private static final String REFRESH_TOKEN = "header.payload.signature";
+	private static final String NEW_REFRESH_TOKEN = "header.payload2.signature2";
+
+	private final RedisTemplate redisTemplate = mock(RedisTemplate.class);
+	private final ValueOperations valueOperations = mock(ValueOperations.class);
+	private final RefreshTokenStore refreshTokenStore = new RefreshTokenStore(redisTemplate, true,
+			10);
+
+	@BeforeEach
+	void setUp() {
+		given(redisTemplate.opsForValue()).willReturn(valueOperations);
+	}
+
+	@Test
+	@DisplayName("로그인 - rt:userName:familyId 에 token 원문 대신 22자 digest 저장, 다른 family 는 그대로")
+	void save() {
+		refreshTokenStore.save("user", "f1", REFRESH_TOKEN, 1000);
+
+		String digest = TokenDigest.encode(TokenDigest.shortOf(REFRESH_TOKEN));
+		assertEquals(22, digest.length());
+		verify(valueOperations).set("rt:user:f1", digest, 1000, TimeUnit.MILLISECONDS);
+		verify(redisTemplate, never()).delete(anyList());
+	}
+
+	@Test
+	@DisplayName("재발급 - family 의 key 에서 script 한 번으로 비교/교체, 이전 형식은 읽지 않음")
+	void rotate() {
+		givenScriptReturns(1L);
+
+		assertEquals(Rotation.ROTATED,
+				refreshTokenStore.rotate("user", "f1", REFRESH_TOKEN, NEW_REFRESH_TOKEN, 1000));
+		verify(redisTemplate).execute(any(RedisScript.class),
+				eq(List.of("rt:user:f1", "rt:user:f1:prev", "user")),
+				eq(TokenDigest.encode(TokenDigest.shortOf(REFRESH_TOKEN))),
+				eq(TokenDigest.encode(TokenDigest.shortOf(NEW_REFRESH_TOKEN))), eq("1000"),
+				eq("10000"), eq("0"), eq(""));
+	}
+
+	@Test
+	@DisplayName("family 없는 이전 세션 재발급 - rt:userName, 이전 형식도 읽음")
+	void rotate_without_family() {
+		givenScriptReturns(1L);
+
+		refreshTokenStore.rotate("user", null, REFRESH_TOKEN, NEW_REFRESH_TOKEN, 1000);
+
+		verify(redisTemplate).execute(any(RedisScript.class),
+				eq(List.of("rt:user", "rt:user:prev", "user")), any(), any(), eq("1000"),
+				eq("10000"), eq("1"), eq(REFRESH_TOKEN));
+	}
+
+	@Test
+	@DisplayName("재발급 - script 결과 코드")
+	void rotate_status() {
+		givenScriptReturns(0L);
+		assertEquals(Rotation.MISSING,
+				refreshTokenStore.rotate("user", "f1", REFRESH_TOKEN, NEW_REFRESH_TOKEN, 1000));
+		givenScriptReturns(2L);
+		assertEquals(Rotation.REUSED,
+				refreshTokenStore.rotate("user", "f1", REFRESH_TOKEN, NEW_REFRESH_TOKEN, 1000));
+		givenScriptReturns(3L);
+		assertEquals(Rotation.STALE,
+				refreshTokenStore.rotate("user", "f1", REFRESH_TOKEN, NEW_REFRESH_TOKEN, 1000));
+	}
+
+	@Test
+	@DisplayName("로그아웃 - 이 세션의 family 만 삭제")
+	void delete() {
+		refreshTokenStore.delete("user", "f1");
+
+		verify(redisTemplate).delete(List.of("rt:user:f1", "rt:user:f1:prev"));
+	}
+
+	@Test
+	@DisplayName("family 없는 이전 세션 로그아웃 - 두 형식 모두 삭제")
+	void delete_without_family() {
+		refreshTokenStore.delete("user", null);
+
+		verify(redisTemplate).delete(List.of("rt:user", "rt:user:prev", "user"));
+	}
+
+	@SuppressWarnings("unchecked")
+	private void givenScriptReturns(Long status) {
+		given(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any(), any(),
+				any(), any())).willReturn(status);
+	}
+}
@@ -0,0 +1,197 @@
+package com.daengnyangffojjak.dailydaengnyang.utils.token;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.daengnyangffojjak.dailydaengnyang.utils.redis.RedisKeys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+class RevokedTokenRegistryTest {
+
+	private final RedisTemplate redisTemplate = mock(RedisTemplate.class);
+	private final ValueOperations valueOperations = mock(ValueOperations.class);
+	private final ZSetOperations zSetOperations = mock(ZSetOperations.class);
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private RevokedTokenRegistry revokedTokenRegistry;
+
+	@BeforeEach
+	void setUp() {
+		given(redisTemplate.opsForValue()).willReturn(valueOperations);
+		given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+		revokedTokenRegistry = new RevokedTokenRegistry(redisTemplate,
+				mock(RedisMessageListenerContainer.class), meterRegistry, 1000, 0.001, false);
+	}
+
+	@Test
+	@DisplayName("filter 를 만들기 전에는 매번 Redis 에서 확인")
+	void isRevoked_not_ready() {
+		assertFalse(revokedTokenRegistry.isRevoked("token"));
+		verify(valueOperations).get(RedisKeys.blacklist("token"));
+	}
+
+	@Test
+	@DisplayName("filter 에 없는 token 은 Redis 조회 생략")
+	void isRevoked_skip_redis() {
+		given(zSetOperations.range(RedisKeys.BLACKLIST_INDEX, 0, -1)).willReturn(Set.of());
+		revokedTokenRegistry.rebuild();
+
+		assertFalse(revokedTokenRegistry.isRevoked("token"));
+		verify(valueOperations, never()).get(RedisKeys.blacklist("token"));
+		assertEquals(1.0, meterRegistry.get("token.revocation.redis.skipped").counter().count());
+	}
+
+	@Test
+	@DisplayName("시작할 때 Redis index 의 로그아웃 token 으로 filter 생성")
+	void rebuild_from_index() {
+		String revoked = TokenDigest.encode(TokenDigest.shortOf("revoked"));
+		given(zSetOperations.range(RedisKeys.BLACKLIST_INDEX, 0, -1))
+				.willReturn(Set.of(revoked));
+		given(valueOperations.get(RedisKeys.blacklist("revoked"))).willReturn("1");
+
+		revokedTokenRegistry.load();
+
+		assertTrue(revokedTokenRegistry.isReady());
+		verify(zSetOperations).removeRangeByScore(eq(RedisKeys.BLACKLIST_INDEX), eq(0.0),
+				anyDouble());
+		assertTrue(revokedTokenRegistry.isRevoked("revoked"));
+		assertEquals(1.0, meterRegistry.get("token.revocation.filter.entries").gauge().value());
+	}
+
+	@Test
+	@DisplayName("로그아웃 - 블랙리스트/index 저장 후 다른 서버에 전파")
+	void revoke() {
+		given(zSetOperations.range(RedisKeys.BLACKLIST_INDEX, 0, -1)).willReturn(Set.of());
+		revokedTokenRegistry.rebuild();
+		given(valueOperations.get(RedisKeys.blacklist("token"))).willReturn("1");
+		given(valueOperations.increment(RedisKeys.BLACKLIST_VERSION)).willReturn(7L);
+
+		revokedTokenRegistry.revoke("token", 1000);
+
+		String encoded = TokenDigest.encode(TokenDigest.shortOf("token"));
+		verify(valueOperations).set(RedisKeys.blacklist("token"), "1", 1000,
+				TimeUnit.MILLISECONDS);
+		verify(zSetOperations).add(eq(RedisKeys.BLACKLIST_INDEX), eq(encoded), anyDouble());
+		verify(redisTemplate).convertAndSend(RevokedTokenRegistry.CHANNEL, "7:" + encoded);
+		assertTrue(revokedTokenRegistry.isRevoked("token"));
+
+		// 자기가 보낸 메세지를 다시 받아도 한 번만 셈
+		revokedTokenRegistry.onMessage(message("7:" + encoded), null);
+		assertEquals(1.0, meterRegistry.get("token.revocation.filter.entries").gauge().value());
+	}
+
+	@Test
+	@DisplayName("다른 서버의 로그아웃을 pub/sub 로 받아서 filter 에 반영")
+	void onMessage() {
+		given(zSetOperations.range(RedisKeys.BLACKLIST_INDEX, 0, -1)).willReturn(Set.of());
+		revokedTokenRegistry.rebuild();
+		given(valueOperations.get(RedisKeys.blacklist("token"))).willReturn("1");
+
+		revokedTokenRegistry.onMessage(
+				message("1:" + TokenDigest.encode(TokenDigest.shortOf("token"))), null);
+
+		assertTrue(revokedTokenRegistry.isRevoked("token"));
+	}
+
+	@Test
+	@DisplayName("재연결 중에 놓친 로그아웃이 있으면 bl:version 을 보고 filter 를 다시 만듦")
+	void checkVersion_missed() {
+		given(valueOperations.get(RedisKeys.BLACKLIST_VERSION)).willReturn("3", "4", "4");
+		given(zSetOperations.range(RedisKeys.BLACKLIST_INDEX, 0, -1)).willReturn(Set.of());
+		revokedTokenRegistry.rebuild();
+
+		// 메세지가 늦게 오는 중일 수 있으므로 처음에는 기다림
+		revokedTokenRegistry.checkVersion();
+		verify(zSetOperations, times(1)).range(RedisKeys.BLACKLIST_INDEX, 0, -1);
+
+		revokedTokenRegistry.checkVersion();
+		verify(zSetOperations, times(2)).range(RedisKeys.BLACKLIST_INDEX, 0, -1);
+	}
+
+	@Test
+	@DisplayName("메세지를 모두 받았으면 다시 만들지 않음")
+	void checkVersion_up_to_date() {
+		given(valueOperations.get(RedisKeys.BLACKLIST_VERSION)).willReturn("3", "4", "4");
+		given(zSetOperations.range(RedisKeys.BLACKLIST_INDEX, 0, -1)).willReturn(Set.of());
+		revokedTokenRegistry.rebuild();
+
+		revokedTokenRegistry.checkVersion();
+		revokedTokenRegistry.onMessage(
+				message("4:" + TokenDigest.encode(TokenDigest.shortOf("token"))), null);
+		revokedTokenRegistry.checkVersion();
+
+		verify(zSetOperations, times(1)).range(RedisKeys.BLACKLIST_INDEX, 0, -1);
+	}
+
+	@Test
+	@DisplayName("마이그레이션 전 - 이전 index(32 byte digest)와 이전 블랙리스트 key 도 확인")
+	void legacy_read() {
+		RevokedTokenRegistry legacyRegistry = new RevokedTokenRegistry(redisTemplate,
+				mock(RedisMessageListenerContainer.class), new SimpleMeterRegistry(), 1000, 0.001,
+				true);
+		given(zSetOperations.range(RedisKeys.BLACKLIST_INDEX, 0, -1)).willReturn(Set.of());
+		given(zSetOperations.range(RedisKeys.LEGACY_BLACKLIST_INDEX, 0, -1))
+				.willReturn(Set.of(TokenDigest.encode(TokenDigest.of("token"))));
+		given(valueOperations.multiGet(List.of(RedisKeys.blacklist("token"), "token")))
+				.willReturn(Arrays.asList(null, "logout"));
+
+		legacyRegistry.rebuild();
+
+		assertTrue(legacyRegistry.isRevoked("token"));
+	}
+
+	@Test
+	@DisplayName("마이그레이션 전 - index 없이 저장된 이전 로그아웃 key 도 filter 없이 Redis 에서 확인")
+	void legacy_read_baseline_key() {
+		RevokedTokenRegistry legacyRegistry = new RevokedTokenRegistry(redisTemplate,
+				mock(RedisMessageListenerContainer.class), new SimpleMeterRegistry(), 1000, 0.001,
+				true);
+		String accessToken = "eyJhbGciOiJIUzI1NiJ9.eyJ1c2VyTmFtZSI6InVzZXIifQ.signature";
+		given(zSetOperations.range(RedisKeys.BLACKLIST_INDEX, 0, -1)).willReturn(Set.of());
+		given(zSetOperations.range(RedisKeys.LEGACY_BLACKLIST_INDEX, 0, -1)).willReturn(Set.of());
+		// 기존 UserService.logout 형식 - access token 원문 key, value "logout", index 없음
+		given(valueOperations.multiGet(List.of(RedisKeys.blacklist(accessToken), accessToken)))
+				.willReturn(Arrays.asList(null, "logout"));
+
+		legacyRegistry.rebuild();
+
+		assertTrue(legacyRegistry.isReady());
+		assertTrue(legacyRegistry.isRevoked(accessToken));
+	}
+
+	@Test
+	@DisplayName("Redis 장애로 filter 를 못 만들면 Redis 확인 유지")
+	void rebuild_fail() {
+		given(zSetOperations.removeRangeByScore(eq(RedisKeys.BLACKLIST_INDEX), anyDouble(),
+				anyDouble())).willThrow(new IllegalStateException("redis down"));
+
+		revokedTokenRegistry.rebuild();
+
+		assertFalse(revokedTokenRegistry.isReady());
+	}
+
+	private DefaultMessage message(String body) {
+		return new DefaultMessage(RevokedTokenRegistry.CHANNEL.getBytes(StandardCharsets.UTF_8),
+				body.getBytes(StandardCharsets.UTF_8));
+	}
+}